@@ -0,0 +1,205 @@
+package de.uol.swp.benchmarks;
+
+import de.uol.swp.common.chat.request.SendUserLobbyChatMessageRequest;
+import de.uol.swp.common.chat.server_message.RetrieveAllChatMessagesServerMessage;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.map.City;
+import de.uol.swp.common.map.MapSlot;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.map.MapTypeCache;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.AIPlayer;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.role.RoleAbility;
+import de.uol.swp.common.role.RoleCard;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.Color;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Creates the objects the benchmarks work on.
+ * <p>
+ * The game has the size of the original board: 48 cities, 4 plagues and 4 players.
+ * </p>
+ */
+public final class BenchmarkFixtures {
+
+    public static final int NUMBER_OF_CITIES = 48;
+    public static final int NUMBER_OF_PLAGUES = 4;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates a user named after the given index
+     *
+     * @param index index of the user
+     * @return new user
+     */
+    public static UserDTO createUser(final int index) {
+        return new UserDTO("user" + index, "password" + index, "user" + index + "@mail.com");
+    }
+
+    /**
+     * Creates the plagues of the benchmark map
+     *
+     * @return {@value #NUMBER_OF_PLAGUES} plagues
+     */
+    public static List<Plague> createPlagues() {
+        final List<Plague> plagues = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_PLAGUES; i++) {
+            plagues.add(new Plague("plague" + i, new Color(60 * i, 255 - 60 * i, 100)));
+        }
+        return plagues;
+    }
+
+    /**
+     * Creates a map of {@value #NUMBER_OF_CITIES} cities
+     *
+     * @param plagues plagues assigned to the cities in equal parts
+     * @return new map type
+     * @see #createMapType(List, int)
+     */
+    public static MapType createMapType(final List<Plague> plagues) {
+        return createMapType(plagues, NUMBER_OF_CITIES);
+    }
+
+    /**
+     * Creates a map of the given number of cities. Every city is connected to its neighbors
+     * on a ring and to the city on the opposite side of the ring.
+     *
+     * @param plagues plagues assigned to the cities in equal parts
+     * @param numberOfCities number of cities of the map
+     * @return new map type
+     */
+    public static MapType createMapType(final List<Plague> plagues, final int numberOfCities) {
+        final List<City> cities = new ArrayList<>();
+        for (int i = 0; i < numberOfCities; i++) {
+            cities.add(new City("city" + i, "Information about city " + i));
+        }
+        final List<MapSlot> mapSlots = new ArrayList<>();
+        for (int i = 0; i < numberOfCities; i++) {
+            final List<City> connectedCities = List.of(
+                    cities.get((i + 1) % numberOfCities),
+                    cities.get((i + numberOfCities - 1) % numberOfCities),
+                    cities.get((i + numberOfCities / 2) % numberOfCities));
+            final Plague plague = plagues.get(i * plagues.size() / numberOfCities);
+            mapSlots.add(new MapSlot(cities.get(i), connectedCities, plague, i % 12 * 100, i / 12 * 100));
+        }
+        return new MapType("benchmark", mapSlots, cities.get(0));
+    }
+
+    /**
+     * Creates a started game with the given number of players
+     *
+     * @param numberOfPlayers number of players, the first one is a user and the others are AIs
+     * @return new game with its first turn
+     */
+    public static Game createGame(final int numberOfPlayers) {
+        return createGame(numberOfPlayers, false);
+    }
+
+    /**
+     * Creates a started game with the given number of players on a map type registered in the {@link MapTypeCache},
+     * so that the map type is only referenced by its content hash on serialization
+     *
+     * @param numberOfPlayers number of players, the first one is a user and the others are AIs
+     * @return new game with its first turn
+     */
+    public static Game createGameOnRegisteredMapType(final int numberOfPlayers) {
+        return createGame(numberOfPlayers, true);
+    }
+
+    /**
+     * Creates a started game with four players on the given map type
+     *
+     * @param mapType map type of the game
+     * @param plagues plagues of the game
+     * @param numberOfPlagueCubesPerColor number of plague cubes of every plague
+     * @return new game with its first turn
+     */
+    public static Game createGame(final MapType mapType, final List<Plague> plagues, final int numberOfPlagueCubesPerColor) {
+        final Game game = new Game(createLobby(), mapType, createPlayers(4), plagues,
+                Game.DEFAULT_MAX_NUMBER_OF_HAND_CARDS,
+                numberOfPlagueCubesPerColor,
+                Game.DEFAULT_NUMBER_OF_RESEARCH_LABORATORIES,
+                GameDifficulty.getDefault(),
+                Game.DEFAULT_NUMBER_OF_INFECTION_CARDS_DRAWN_PER_PHASE_OF_INITIAL_PLAGUE_CUBE_DISTRIBUTION,
+                Game.DEFAULT_NUMBER_OF_PLAGUE_CUBES_ADDED_TO_EVERY_FIELD_IN_FIRST_PHASE_OF_INITIAL_PLAGUE_CUBE_DISTRIBUTION,
+                Game.DEFAULT_MAX_NUMBER_OF_PLAGUE_CUBES_PER_FIELD,
+                Game.DEFAULT_NUMBER_OF_ACTIONS_PER_TURN,
+                Game.DEFAULT_NUMBER_OF_PLAYER_CARD_TO_DRAW_PER_TURN);
+        game.setId(1);
+        game.addPlayerTurn(new PlayerTurn(game, game.getCurrentPlayer(), 4, 2, 2));
+        return game;
+    }
+
+    private static Game createGame(final int numberOfPlayers, final boolean registeredMapType) {
+        final List<Plague> plagues = createPlagues();
+        final MapType mapType = registeredMapType ? MapTypeCache.getDefault().register(createMapType(plagues)) : createMapType(plagues);
+        final Game game = new Game(createLobby(), mapType, createPlayers(numberOfPlayers), plagues, GameDifficulty.getDefault());
+        game.setId(1);
+        game.addPlayerTurn(new PlayerTurn(game, game.getCurrentPlayer(), 4, 2, 2));
+        return game;
+    }
+
+    /**
+     * Creates players with a role each
+     *
+     * @param numberOfPlayers number of players, the first one is a user and the others are AIs
+     * @return new players
+     */
+    public static List<Player> createPlayers(final int numberOfPlayers) {
+        final List<Player> players = new ArrayList<>();
+        players.add(new UserPlayer(createUser(0)));
+        for (int i = 1; i < numberOfPlayers; i++) {
+            players.add(new AIPlayer("ai" + i));
+        }
+        players.forEach(player -> player.setRole(new RoleCard("role", new Color(10, 20, 30),
+                new RoleAbility(new HashMap<>(), new ArrayList<>(), new ArrayList<>()))));
+        return players;
+    }
+
+    /**
+     * Creates a lobby with four users
+     *
+     * @return new lobby
+     */
+    public static LobbyDTO createLobby() {
+        final LobbyDTO lobby = new LobbyDTO("benchmark lobby", createUser(0));
+        for (int i = 1; i < 4; i++) {
+            lobby.joinUser(createUser(i));
+        }
+        return lobby;
+    }
+
+    /**
+     * Creates the message a user sends to the chat of a lobby
+     *
+     * @return new chat request
+     */
+    public static SendUserLobbyChatMessageRequest createChatRequest() {
+        return new SendUserLobbyChatMessageRequest(createLobby(), createUser(1), "Who takes care of the outbreak in city12?", LocalTime.of(18, 30, 12));
+    }
+
+    /**
+     * Creates the message containing the chat history
+     *
+     * @return new chat history message
+     */
+    public static RetrieveAllChatMessagesServerMessage createChatHistory() {
+        final List<String> chatMessages = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            chatMessages.add("[18:" + (10 + i % 50) + "] user" + i % 4 + ": message number " + i);
+        }
+        return new RetrieveAllChatMessagesServerMessage(chatMessages);
+    }
+}
@@ -0,0 +1,57 @@
+package de.uol.swp.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the command line options of JMH and exports the results as JSON.
+ * <p>
+ * Unless other options are given, the results are written to {@value #DEFAULT_RESULT_FILE} and every fork
+ * runs with a fixed heap and garbage collector, so that runs on different machines and of different commits
+ * can be compared. The JSON file can be loaded into tools like the JMH Visualizer to track regressions.
+ * </p>
+ * <p>
+ * Run with {@code java -jar benchmarks/target/benchmarks-1.0-SNAPSHOT-jar-with-dependencies.jar [JMH options]},
+ * e.g. {@code -rf csv -rff result.csv} for another format or a regular expression to select benchmarks.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private static final String[] DEFAULT_JVM_ARGS = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC"};
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        if (!commandLineOptions.getJvmArgsAppend().hasValue()) {
+            options.jvmArgsAppend(DEFAULT_JVM_ARGS);
+        }
+
+        final Runner runner = new Runner(options.build());
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
@@ -0,0 +1,115 @@
+package de.uol.swp.benchmarks.card;
+
+import de.uol.swp.benchmarks.BenchmarkFixtures;
+import de.uol.swp.common.card.InfectionCard;
+import de.uol.swp.common.card.stack.CardStack;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.util.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations of a {@link CardStack} used by the turns of a game: shuffling a deck,
+ * drawing from the top onto a discard stack, drawing from the bottom during an epidemic and
+ * putting the shuffled discard stack back on top of the draw stack.
+ * <p>
+ * The stacks hold the infection cards of a map with the given number of cities. 48 is the size
+ * of the infection deck of the original board.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CardStackBenchmark {
+
+    @Param({"48", "1000"})
+    private int numberOfCards;
+
+    private CardStack<InfectionCard> drawStack;
+    private CardStack<InfectionCard> discardStack;
+    private GameRandom random;
+
+    @Setup
+    public void setUp() {
+        final List<Plague> plagues = BenchmarkFixtures.createPlagues();
+        final MapType mapType = BenchmarkFixtures.createMapType(plagues, numberOfCards);
+        final Game game = BenchmarkFixtures.createGame(mapType, plagues, Game.DEFAULT_NUMBER_OF_PLAGUE_CUBES);
+
+        drawStack = new CardStack<>();
+        drawStack.addAll(game.getInfectionDrawStack());
+        drawStack.addAll(game.getInfectionDiscardStack());
+        discardStack = new CardStack<>();
+        random = new GameRandom(numberOfCards);
+    }
+
+    @Benchmark
+    public CardStack<InfectionCard> shuffle() {
+        drawStack.shuffle(random);
+        return drawStack;
+    }
+
+    @Benchmark
+    public InfectionCard drawFromTheTop() {
+        if (drawStack.isEmpty()) {
+            swapStacks();
+        }
+        final InfectionCard card = drawStack.pop();
+        discardStack.push(card);
+        return card;
+    }
+
+    @Benchmark
+    public InfectionCard drawFromTheBottom() {
+        if (drawStack.isEmpty()) {
+            swapStacks();
+        }
+        final InfectionCard card = drawStack.removeFirstCard();
+        discardStack.push(card);
+        return card;
+    }
+
+    @Benchmark
+    public List<InfectionCard> topCards() {
+        return drawStack.getTopCards(6);
+    }
+
+    /**
+     * Draws the whole draw stack onto the discard stack, then shuffles the discard stack
+     * and puts it back on top of the draw stack like an epidemic does
+     */
+    @Benchmark
+    public int drawAllAndReshuffle() {
+        while (!drawStack.isEmpty()) {
+            discardStack.push(drawStack.pop());
+        }
+        discardStack.shuffle(random);
+        for (final InfectionCard card : discardStack) {
+            drawStack.push(card);
+        }
+        discardStack.clear();
+        return drawStack.size();
+    }
+
+    private void swapStacks() {
+        final CardStack<InfectionCard> emptyStack = drawStack;
+        drawStack = discardStack;
+        discardStack = emptyStack;
+    }
+}
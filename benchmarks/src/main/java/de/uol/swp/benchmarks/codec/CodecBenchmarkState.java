@@ -0,0 +1,30 @@
+package de.uol.swp.benchmarks.codec;
+
+import de.uol.swp.benchmarks.BenchmarkFixtures;
+import de.uol.swp.common.codec.BinaryMessageCodec;
+import de.uol.swp.common.codec.JavaSerializationCodec;
+import de.uol.swp.common.codec.MessageCodec;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Codecs and messages compared by the codec benchmarks.
+ */
+final class CodecBenchmarkState {
+
+    static final Map<String, Supplier<MessageCodec>> CODECS = Map.of(
+            "java", JavaSerializationCodec::new,
+            "binary", BinaryMessageCodec::new);
+
+    static final Map<String, Supplier<Serializable>> MESSAGES = Map.of(
+            "game", () -> BenchmarkFixtures.createGame(4),
+            "gameCachedMap", () -> BenchmarkFixtures.createGameOnRegisteredMapType(4),
+            "lobby", BenchmarkFixtures::createLobby,
+            "chatRequest", BenchmarkFixtures::createChatRequest,
+            "chatHistory", BenchmarkFixtures::createChatHistory);
+
+    private CodecBenchmarkState() {
+    }
+}
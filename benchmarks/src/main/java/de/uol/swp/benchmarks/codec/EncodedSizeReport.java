@@ -0,0 +1,41 @@
+package de.uol.swp.benchmarks.codec;
+
+import de.uol.swp.common.codec.MessageCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Prints the encoded size of the benchmark messages for every codec.
+ * <p>
+ * Run with {@code java -cp benchmarks/target/benchmarks-1.0-SNAPSHOT-jar-with-dependencies.jar
+ * de.uol.swp.benchmarks.codec.EncodedSizeReport}
+ * </p>
+ *
+ * @see MessageCodecBenchmark
+ */
+public class EncodedSizeReport {
+
+    public static void main(String[] args) {
+        System.out.printf("%-12s %10s %10s %7s%n", "message", "java", "binary", "ratio");
+        for (final Map.Entry<String, java.util.function.Supplier<Serializable>> message : new TreeMap<>(CodecBenchmarkState.MESSAGES).entrySet()) {
+            final Serializable payload = message.getValue().get();
+            final int javaSize = encodedSize(CodecBenchmarkState.CODECS.get("java").get(), payload);
+            final int binarySize = encodedSize(CodecBenchmarkState.CODECS.get("binary").get(), payload);
+            System.out.printf("%-12s %10d %10d %6.1f%%%n", message.getKey(), javaSize, binarySize, 100.0 * binarySize / javaSize);
+        }
+    }
+
+    private static int encodedSize(final MessageCodec codec, final Serializable payload) {
+        final EmbeddedChannel channel = new EmbeddedChannel(codec.createEncoder());
+        channel.writeOutbound(payload);
+        final ByteBuf encoded = channel.readOutbound();
+        final int size = encoded.readableBytes();
+        encoded.release();
+        channel.finishAndReleaseAll();
+        return size;
+    }
+}
@@ -0,0 +1,77 @@
+package de.uol.swp.benchmarks.codec;
+
+import de.uol.swp.common.codec.MessageCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time the codecs need to encode and decode messages through their Netty handlers.
+ *
+ * @see EncodedSizeReport
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageCodecBenchmark {
+
+    @Param({"java", "binary"})
+    private String codec;
+
+    @Param({"game", "gameCachedMap", "lobby", "chatRequest", "chatHistory"})
+    private String message;
+
+    private Serializable payload;
+    private EmbeddedChannel encoderChannel;
+    private EmbeddedChannel decoderChannel;
+    private ByteBuf encoded;
+
+    @Setup
+    public void setUp() {
+        final MessageCodec messageCodec = CodecBenchmarkState.CODECS.get(codec).get();
+        payload = CodecBenchmarkState.MESSAGES.get(message).get();
+        encoderChannel = new EmbeddedChannel(messageCodec.createEncoder());
+        decoderChannel = new EmbeddedChannel(messageCodec.createDecoder());
+        encoderChannel.writeOutbound(payload);
+        encoded = encoderChannel.readOutbound();
+    }
+
+    @TearDown
+    public void tearDown() {
+        encoded.release();
+        encoderChannel.finishAndReleaseAll();
+        decoderChannel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int encode() {
+        encoderChannel.writeOutbound(payload);
+        final ByteBuf buffer = encoderChannel.readOutbound();
+        final int size = buffer.readableBytes();
+        buffer.release();
+        return size;
+    }
+
+    @Benchmark
+    public Object decode() {
+        decoderChannel.writeInbound(encoded.retainedDuplicate());
+        return decoderChannel.readInbound();
+    }
+}
@@ -0,0 +1,107 @@
+package de.uol.swp.benchmarks.communication;
+
+import de.uol.swp.benchmarks.BenchmarkFixtures;
+import de.uol.swp.common.codec.BinaryMessageCodec;
+import de.uol.swp.common.codec.MessageCodec;
+import de.uol.swp.common.codec.SharedMessageEncoding;
+import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
+import de.uol.swp.common.message.MessageContext;
+import de.uol.swp.common.message.response.ResponseMessage;
+import de.uol.swp.common.message.server_message.ServerMessage;
+import de.uol.swp.server.communication.ServerHandler;
+import de.uol.swp.server.game.GameExecutor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.greenrobot.eventbus.EventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the {@link ServerHandler} needs to send a server message to all connected clients.
+ * <p>
+ * Every client writes the frame shared by all receivers like a Netty channel with a known codec does,
+ * so the message is encoded once per fan-out and the benchmark shows the cost per additional receiver.
+ * The clients only count the written bytes instead of writing to a socket.
+ * </p>
+ *
+ * @see de.uol.swp.benchmarks.netty.TransportBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ServerHandlerFanOutBenchmark {
+
+    @Param({"4", "64", "512"})
+    private int numberOfClients;
+
+    @Param({"game", "chatHistory"})
+    private String message;
+
+    private ServerHandler serverHandler;
+    private ServerMessage serverMessage;
+
+    @Setup
+    public void setUp() {
+        serverHandler = new ServerHandler(new EventBus(), new GameExecutor());
+        final MessageCodec codec = new BinaryMessageCodec();
+        for (int i = 0; i < numberOfClients; i++) {
+            serverHandler.newClientConnected(new CountingMessageContext(codec));
+        }
+        serverMessage = message.equals("game")
+                ? new RetrieveUpdatedGameServerMessage(BenchmarkFixtures.createGame(4))
+                : BenchmarkFixtures.createChatHistory();
+    }
+
+    @Benchmark
+    public ServerMessage fanOut() {
+        serverHandler.onServerMessage(serverMessage);
+        return serverMessage;
+    }
+
+    /**
+     * Client that writes the shared frame of a server message and only counts its bytes
+     */
+    private static class CountingMessageContext implements MessageContext {
+        private final transient MessageCodec codec;
+        private long writtenBytes;
+
+        CountingMessageContext(final MessageCodec codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public void writeAndFlush(final ResponseMessage message) {
+            throw new UnsupportedOperationException("Only server messages are sent by the benchmark");
+        }
+
+        @Override
+        public void writeAndFlush(final ServerMessage message) {
+            throw new UnsupportedOperationException("Server messages are only sent with their shared encoding");
+        }
+
+        @Override
+        public void writeAndFlush(final ServerMessage message, final SharedMessageEncoding encoding) {
+            try {
+                final ByteBuf frame = encoding.retainedFrame(codec, UnpooledByteBufAllocator.DEFAULT);
+                writtenBytes += frame.readableBytes();
+                frame.release();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
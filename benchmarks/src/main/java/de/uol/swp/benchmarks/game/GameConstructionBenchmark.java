@@ -0,0 +1,70 @@
+package de.uol.swp.benchmarks.game;
+
+import de.uol.swp.benchmarks.BenchmarkFixtures;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.server.map.OriginalGameMapType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the start of a game: the {@link Game} constructor builds the map, the player and infection decks
+ * with their epidemic cards, deals the hand cards and distributes the initial plague cubes.
+ * <p>
+ * The players are created for every game, as the constructor deals cards to them and places them on the map.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameConstructionBenchmark {
+
+    @Param({"original", "synthetic1000"})
+    private String map;
+
+    @Param({"2", "4"})
+    private int numberOfPlayers;
+
+    @Param({"EASY", "HARD"})
+    private GameDifficulty difficulty;
+
+    private MapType mapType;
+    private List<Plague> plagues;
+    private LobbyDTO lobby;
+
+    @Setup
+    public void setUp() {
+        if (map.equals("original")) {
+            mapType = OriginalGameMapType.getMapType();
+            plagues = new ArrayList<>(mapType.getUniquePlagues());
+        } else {
+            plagues = BenchmarkFixtures.createPlagues();
+            mapType = BenchmarkFixtures.createMapType(plagues, 1000);
+        }
+        lobby = BenchmarkFixtures.createLobby();
+    }
+
+    @Benchmark
+    public Game createGame() {
+        return new Game(lobby, mapType, BenchmarkFixtures.createPlayers(numberOfPlayers), plagues, difficulty);
+    }
+}
@@ -0,0 +1,181 @@
+package de.uol.swp.benchmarks.journal;
+
+import de.uol.swp.benchmarks.BenchmarkFixtures;
+import de.uol.swp.common.codec.BinarySerializer;
+import de.uol.swp.common.codec.BinaryTypeRegistry;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.server.game.GameStateSynchronizer;
+import de.uol.swp.server.game.journal.GameJournal;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the throughput of appending changes to the {@link GameJournal} and the time needed to replay
+ * the journal of {@value #NUMBER_OF_TURNS} turns on top of the snapshot of a game.
+ * <p>
+ * Every turn consists of {@value #ACTIONS_PER_TURN} actions that change the plague cubes on a field,
+ * followed by the start of the next turn. Appending is measured with one thread and with four threads,
+ * like four games whose lanes append at the same time. The background thread syncs the journal meanwhile.
+ * </p>
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameJournalBenchmark {
+
+    static final int NUMBER_OF_TURNS = 1000;
+    static final int ACTIONS_PER_TURN = 4;
+
+    /**
+     * Journal in a temporary directory and a typical change of an action
+     */
+    @State(Scope.Benchmark)
+    public static class AppendState {
+        private Path directory;
+        private GameJournal journal;
+        private GameDelta delta;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-benchmark");
+            journal = new GameJournal(directory, 16 * 1024 * 1024);
+
+            final Game game = BenchmarkFixtures.createGame(4);
+            final GameStateSynchronizer gameStateSynchronizer = new GameStateSynchronizer();
+            gameStateSynchronizer.registerGame(game);
+            playAction(game, 1);
+            delta = gameStateSynchronizer.createGameUpdateMessage(game).getDelta();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            journal.sync();
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Journal of {@value #NUMBER_OF_TURNS} turns and the snapshot of the game it was written from
+     */
+    @State(Scope.Thread)
+    public static class ReplayState {
+        private Path directory;
+        private GameJournal journal;
+        private byte[] snapshot;
+        private Game game;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-benchmark");
+            final GameJournal writingJournal = new GameJournal(directory, 16 * 1024 * 1024);
+            final GameStateSynchronizer gameStateSynchronizer = new GameStateSynchronizer(writingJournal);
+
+            final Game playedGame = BenchmarkFixtures.createGame(4);
+            gameStateSynchronizer.registerGame(playedGame);
+            snapshot = encode(playedGame);
+            for (int turn = 0; turn < NUMBER_OF_TURNS; turn++) {
+                for (int action = 0; action < ACTIONS_PER_TURN; action++) {
+                    playAction(playedGame, turn * ACTIONS_PER_TURN + action);
+                    gameStateSynchronizer.createGameUpdateMessage(playedGame);
+                }
+                playedGame.setIndexOfCurrentPlayer((playedGame.getIndexOfCurrentPlayer() + 1) % playedGame.getPlayersInTurnOrder().size());
+                playedGame.addPlayerTurn(new PlayerTurn(playedGame, playedGame.getCurrentPlayer(), 4, 2, 2));
+                gameStateSynchronizer.createGameUpdateMessage(playedGame);
+            }
+            writingJournal.sync();
+            journal = new GameJournal(directory, 16 * 1024 * 1024);
+        }
+
+        @Setup(Level.Invocation)
+        public void restoreGame() {
+            game = decode(snapshot);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void append(final AppendState state) {
+        state.journal.append(state.delta);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(4)
+    public void appendConcurrently(final AppendState state) {
+        state.journal.append(state.delta);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Set<Game> replayThousandTurns(final ReplayState state) {
+        return state.journal.replay(List.of(state.game));
+    }
+
+    private static void playAction(final Game game, final int actionNumber) {
+        final List<Field> fields = game.getFields();
+        final Field field = fields.get(actionNumber % fields.size());
+        field.setNumberOfPlagueCubes(field.getPlague(), actionNumber % 3);
+    }
+
+    private static byte[] encode(final Game game) throws IOException {
+        final ByteBuf buffer = Unpooled.buffer();
+        try {
+            new BinarySerializer(BinaryTypeRegistry.getDefault()).serialize(game, buffer);
+            final byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+            return bytes;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static Game decode(final byte[] bytes) {
+        try {
+            return (Game) new BinarySerializer(BinaryTypeRegistry.getDefault()).deserialize(Unpooled.wrappedBuffer(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteDirectory(final Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package de.uol.swp.benchmarks.map;
+
+import de.uol.swp.benchmarks.BenchmarkFixtures;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.map.City;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.map.MapSlot;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.server.map.OriginalGameMapType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the neighbor lookups of a {@link de.uol.swp.common.map.GameMap} and outbreak chains on the original world
+ * map, on a synthetic map of 1000 cities and on a map of 200 cities that are all connected to each other.
+ * <p>
+ * For an outbreak chain every field holds the maximum number of plague cubes, so infecting the first field starts
+ * outbreaks until the outbreak marker reaches its maximum level. On the complete map every outbreak then still
+ * visits all other fields, which is the worst case of an outbreak chain.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OutbreakBenchmark {
+
+    @Param({"original", "synthetic1000", "complete200"})
+    private String map;
+
+    private MapType mapType;
+    private List<Plague> plagues;
+    private Game game;
+
+    /**
+     * Game whose fields are all full, created for every invocation as the outbreak chain changes it
+     */
+    @State(Scope.Thread)
+    public static class FullGame {
+        private Game game;
+        private Field firstField;
+
+        @Setup(Level.Invocation)
+        public void setUp(final OutbreakBenchmark benchmark) {
+            game = benchmark.createGame();
+            for (final Field field : game.getMap().getFields()) {
+                while (field.isInfectable(field.getPlague())) {
+                    field.infectField(game.getPlagueCubeOfPlague(field.getPlague()), new ArrayList<>());
+                }
+            }
+            firstField = game.getMap().getFields().get(0);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        if (map.equals("original")) {
+            mapType = OriginalGameMapType.getMapType();
+            plagues = new ArrayList<>(mapType.getUniquePlagues());
+        } else if (map.equals("synthetic1000")) {
+            plagues = BenchmarkFixtures.createPlagues();
+            mapType = BenchmarkFixtures.createMapType(plagues, 1000);
+        } else {
+            plagues = BenchmarkFixtures.createPlagues();
+            mapType = createCompleteMapType(plagues, 200);
+        }
+        game = createGame();
+    }
+
+    @Benchmark
+    public int neighborsOfAllFields() {
+        int numberOfNeighbors = 0;
+        for (final Field field : game.getMap().getFields()) {
+            numberOfNeighbors += field.getNeighborFields().size();
+        }
+        return numberOfNeighbors;
+    }
+
+    @Benchmark
+    public List<Field> outbreakChain(final FullGame fullGame) {
+        final List<Field> infectedFields = new ArrayList<>();
+        final Field firstField = fullGame.firstField;
+        firstField.infectField(fullGame.game.getPlagueCubeOfPlague(firstField.getPlague()), infectedFields);
+        return infectedFields;
+    }
+
+    private static MapType createCompleteMapType(final List<Plague> plagues, final int numberOfCities) {
+        final List<City> cities = new ArrayList<>();
+        for (int i = 0; i < numberOfCities; i++) {
+            cities.add(new City("city" + i, ""));
+        }
+        final List<MapSlot> mapSlots = new ArrayList<>();
+        for (int i = 0; i < numberOfCities; i++) {
+            final City city = cities.get(i);
+            final List<City> connectedCities = cities.stream().filter(other -> other != city).toList();
+            mapSlots.add(new MapSlot(city, connectedCities, plagues.get(i * plagues.size() / numberOfCities), i, 0));
+        }
+        return new MapType("complete", mapSlots, cities.get(0));
+    }
+
+    private Game createGame() {
+        return BenchmarkFixtures.createGame(mapType, plagues, Game.DEFAULT_MAX_NUMBER_OF_PLAGUE_CUBES_PER_FIELD * mapType.getMap().size());
+    }
+}
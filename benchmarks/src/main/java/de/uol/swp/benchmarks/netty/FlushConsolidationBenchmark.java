@@ -0,0 +1,151 @@
+package de.uol.swp.benchmarks.netty;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the requests per second a server pipeline answers over loopback TCP, with and without consolidating the
+ * flushes of all messages written while handling one request, like the server does for the responses, chat
+ * messages and game updates of a single request.
+ * <p>
+ * Every flush that reaches the head of the pipeline is a write syscall. The {@code flushes} counter is reported as
+ * rate next to the requests, so {@code flushes / requests} is the number of write syscalls per processed request.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FlushConsolidationBenchmark {
+
+    private static final int MESSAGE_SIZE = 256;
+
+    @Param({"false", "true"})
+    private boolean consolidateFlushes;
+
+    @Param({"1", "4", "16"})
+    private int messagesPerRequest;
+
+    private final AtomicLong flushes = new AtomicLong();
+    private EventLoopGroup group;
+    private Channel serverChannel;
+    private Socket socket;
+    private OutputStream out;
+    private InputStream in;
+    private byte[] response;
+
+    /**
+     * Number of flushes that reached the head of the pipeline
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Syscalls {
+        public long flushes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            flushes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws InterruptedException, IOException {
+        group = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(final SocketChannel ch) {
+                        ch.pipeline().addLast(new FlushCounter());
+                        if (consolidateFlushes) {
+                            ch.pipeline().addLast(new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
+                        }
+                        ch.pipeline().addLast(new Responder());
+                    }
+                })
+                .bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+        socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(serverChannel.localAddress());
+        out = socket.getOutputStream();
+        in = socket.getInputStream();
+        response = new byte[MESSAGE_SIZE * messagesPerRequest];
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        socket.close();
+        serverChannel.close().sync();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    public int request(final Syscalls syscalls) throws IOException {
+        out.write(1);
+        out.flush();
+        final int read = in.readNBytes(response, 0, response.length);
+        syscalls.flushes += flushes.getAndSet(0);
+        return read;
+    }
+
+    /**
+     * Counts the flushes at the head of the pipeline
+     */
+    private final class FlushCounter extends ChannelOutboundHandlerAdapter {
+        @Override
+        public void flush(final ChannelHandlerContext ctx) {
+            flushes.incrementAndGet();
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Answers every received byte with {@link #messagesPerRequest} messages, each written and flushed on its own
+     */
+    private final class Responder extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            final ByteBuf request = (ByteBuf) msg;
+            final int requests = request.readableBytes();
+            request.release();
+            for (int i = 0; i < requests * messagesPerRequest; i++) {
+                ctx.writeAndFlush(ctx.alloc().buffer(MESSAGE_SIZE).writeZero(MESSAGE_SIZE));
+            }
+        }
+    }
+}
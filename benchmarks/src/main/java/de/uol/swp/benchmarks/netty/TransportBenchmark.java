@@ -0,0 +1,138 @@
+package de.uol.swp.benchmarks.netty;
+
+import de.uol.swp.common.transport.NettyTransport;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the requests per second a server answers over loopback TCP with the NIO and the native epoll transport.
+ * <p>
+ * Eight clients send requests concurrently, each answered with four messages like a game update, and the server
+ * pipeline consolidates the flushes like the server does. The {@code workerThreads} parameter is passed to the
+ * event loop group of the accepted connections, 0 being the default of Netty.
+ * </p>
+ *
+ * @see NettyTransport
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+
+    private static final int MESSAGE_SIZE = 256;
+    private static final int MESSAGES_PER_REQUEST = 4;
+
+    @Param({"NIO", "EPOLL"})
+    private NettyTransport transport;
+
+    @Param({"1", "0"})
+    private int workerThreads;
+
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private Channel serverChannel;
+
+    /**
+     * Connection of one benchmark thread
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        private Socket socket;
+        private OutputStream out;
+        private InputStream in;
+        private final byte[] response = new byte[MESSAGE_SIZE * MESSAGES_PER_REQUEST];
+
+        @Setup
+        public void connect(final TransportBenchmark benchmark) throws IOException {
+            socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(benchmark.serverChannel.localAddress());
+            out = socket.getOutputStream();
+            in = socket.getInputStream();
+        }
+
+        @TearDown
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        if (transport == NettyTransport.EPOLL && !Epoll.isAvailable()) {
+            throw new IllegalStateException("Native epoll transport is not available", Epoll.unavailabilityCause());
+        }
+        bossGroup = transport.createEventLoopGroup(1);
+        workerGroup = transport.createEventLoopGroup(workerThreads);
+        serverChannel = transport.configure(new ServerBootstrap().group(bossGroup, workerGroup))
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(final SocketChannel ch) {
+                        ch.pipeline().addLast(new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
+                        ch.pipeline().addLast(new Responder());
+                    }
+                })
+                .bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        serverChannel.close().sync();
+        bossGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        workerGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    public int request(final Client client) throws IOException {
+        client.out.write(1);
+        client.out.flush();
+        return client.in.readNBytes(client.response, 0, client.response.length);
+    }
+
+    /**
+     * Answers every received byte with {@link #MESSAGES_PER_REQUEST} messages
+     */
+    private static final class Responder extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            final ByteBuf request = (ByteBuf) msg;
+            final int requests = request.readableBytes();
+            request.release();
+            for (int i = 0; i < requests * MESSAGES_PER_REQUEST; i++) {
+                ctx.writeAndFlush(ctx.alloc().buffer(MESSAGE_SIZE).writeZero(MESSAGE_SIZE));
+            }
+        }
+    }
+}
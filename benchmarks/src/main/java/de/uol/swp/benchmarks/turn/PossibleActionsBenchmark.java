@@ -0,0 +1,101 @@
+package de.uol.swp.benchmarks.turn;
+
+import de.uol.swp.benchmarks.BenchmarkFixtures;
+import de.uol.swp.common.action.Action;
+import de.uol.swp.common.action.ActionFactory;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.role.RoleCard;
+import de.uol.swp.server.role.RoleManagement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of the possible actions of a {@link PlayerTurn} for every role.
+ * <p>
+ * {@link #createPossibleActions()} creates the actions and determines their availability like
+ * {@link PlayerTurn#executeCommand(de.uol.swp.common.util.Command)} does after every command.
+ * {@link #createActions()} only creates the actions of the role, and {@link #createActionsByReflection()}
+ * creates them the way the {@link ActionFactory} did before it cached generated constructor suppliers:
+ * filtering the scanned action classes and calling {@code newInstance} for every action.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PossibleActionsBenchmark {
+
+    @Param({"Arzt", "Logistiker", "Betriebsexperte", "Wissenschaftler", "Forscherin"})
+    private String role;
+
+    private ActionFactory actionFactory;
+    private Player player;
+    private PlayerTurn playerTurn;
+
+    @Setup
+    public void setUp() {
+        final RoleCard roleCard = new RoleManagement().getAllRoles().stream()
+                .filter(card -> card.getName().equals(role))
+                .findFirst()
+                .orElseThrow();
+
+        final Game game = BenchmarkFixtures.createGame(4);
+        player = game.getCurrentPlayer();
+        player.setRole(roleCard);
+        playerTurn = game.getCurrentTurn();
+        actionFactory = new ActionFactory();
+    }
+
+    @Benchmark
+    public List<Action> createPossibleActions() {
+        playerTurn.refreshPossibleActions();
+        return playerTurn.getPossibleActions();
+    }
+
+    @Benchmark
+    public List<Action> createActions() {
+        return actionFactory.createAllGeneralActionsExcludingSomeAndIncludingSomeRoleActions(
+                player.getRoleSpecificUnavailableActionClasses(),
+                player.getRoleSpecificAdditionallyAvailableActionClasses()
+        );
+    }
+
+    @Benchmark
+    public List<Action> createActionsByReflection() {
+        final Set<Class<? extends Action>> actionClasses = new HashSet<>(
+                actionFactory.getAllInstantiableNonRoleActionClassesWithPublicDefaultConstructor()
+        );
+        actionClasses.removeAll(player.getRoleSpecificUnavailableActionClasses());
+        actionClasses.addAll(player.getRoleSpecificAdditionallyAvailableActionClasses());
+
+        final List<Action> actions = new ArrayList<>();
+        for (final Class<? extends Action> actionClass : actionClasses) {
+            try {
+                actions.add(actionClass.getDeclaredConstructor().newInstance());
+            } catch (final InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+                // ignore
+            }
+        }
+        return actions;
+    }
+}
@@ -0,0 +1,119 @@
+package de.uol.swp.classindex;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.reflections.Reflections;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the subtypes of types annotated with {@link IndexSubclasses} in the class index written at compile time.
+ * <p>
+ * The index of a type is read once from all resources {@value #INDEX_DIRECTORY}{@code <binary name of the type>}
+ * on the classpath and the result is cached, so looking up the subtypes again does not load any resource.
+ * If there is no index for a type, e.g. because the classes were compiled without annotation processing,
+ * the given package is scanned with {@link Reflections} instead.
+ * </p>
+ *
+ * @see ClassIndexProcessor
+ */
+public final class ClassIndex {
+
+    /**
+     * Directory of the index resources
+     */
+    public static final String INDEX_DIRECTORY = "META-INF/class-index/";
+
+    private static final Logger LOG = LogManager.getLogger(ClassIndex.class);
+
+    private static final Map<Class<?>, Set<String>> INDEX_ENTRIES = new ConcurrentHashMap<>();
+    private static final Map<SubTypeQuery, Set<? extends Class<?>>> SUB_TYPES = new ConcurrentHashMap<>();
+
+    private ClassIndex() {
+    }
+
+    /**
+     * Type and package of a lookup of subtypes
+     *
+     * @param type the type whose subtypes are looked up
+     * @param packageName the package the subtypes are in
+     */
+    private record SubTypeQuery(Class<?> type, String packageName) {
+    }
+
+    /**
+     * Returns all subtypes of the given type in the given package and its subpackages.
+     * <p>
+     * The given type itself is not included, just like in {@link Reflections#getSubTypesOf(Class)}.
+     * </p>
+     *
+     * @param type the type annotated with {@link IndexSubclasses}
+     * @param packageName the package to return the subtypes of
+     * @param <T> the type whose subtypes are returned
+     * @return unmodifiable {@link Set} of the subtypes of {@code type} in {@code packageName}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Set<Class<? extends T>> getSubTypesOf(final Class<T> type, final String packageName) {
+        return (Set<Class<? extends T>>) SUB_TYPES.computeIfAbsent(new SubTypeQuery(type, packageName),
+                query -> findSubTypes(type, packageName));
+    }
+
+    private static <T> Set<Class<? extends T>> findSubTypes(final Class<T> type, final String packageName) {
+        final Set<String> indexEntries = INDEX_ENTRIES.computeIfAbsent(type, ClassIndex::readIndexEntries);
+        if (indexEntries.isEmpty()) {
+            LOG.warn("No class index for {} found, scanning package {}", type.getName(), packageName);
+            return Collections.unmodifiableSet(new Reflections(packageName).getSubTypesOf(type));
+        }
+
+        final String packagePrefix = packageName.isEmpty() ? "" : packageName + ".";
+        final Set<Class<? extends T>> subTypes = new HashSet<>();
+        for (final String binaryName : indexEntries) {
+            if (!binaryName.startsWith(packagePrefix)) {
+                continue;
+            }
+            try {
+                final Class<?> subType = Class.forName(binaryName, false, getClassLoader(type));
+                if (type.isAssignableFrom(subType) && subType != type) {
+                    subTypes.add(subType.asSubclass(type));
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOG.debug("Class {} of the class index for {} could not be loaded", binaryName, type.getName());
+            }
+        }
+        return Collections.unmodifiableSet(subTypes);
+    }
+
+    private static Set<String> readIndexEntries(final Class<?> type) {
+        final Set<String> indexEntries = new HashSet<>();
+        try {
+            final Enumeration<URL> resources = getClassLoader(type).getResources(INDEX_DIRECTORY + type.getName());
+            while (resources.hasMoreElements()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty())
+                            .forEach(indexEntries::add);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the class index for " + type.getName(), e);
+        }
+        return indexEntries;
+    }
+
+    private static ClassLoader getClassLoader(final Class<?> type) {
+        final ClassLoader classLoader = type.getClassLoader();
+        return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+    }
+}
@@ -0,0 +1,156 @@
+package de.uol.swp.classindex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing the class index.
+ * <p>
+ * For every type annotated with {@link IndexSubclasses} the binary names of all compiled subtypes are written
+ * to the resource {@value ClassIndex#INDEX_DIRECTORY}{@code <binary name of the annotated type>}, one name per line.
+ * The processor is registered as a service, so it runs whenever a module having this module on its classpath
+ * is compiled.
+ * </p>
+ * <p>
+ * On an incremental build only the changed types are compiled, so the entries of an already existing index are kept
+ * as long as their types still exist.
+ * </p>
+ *
+ * @see ClassIndex
+ */
+@SupportedAnnotationTypes("*")
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Binary names of the subtypes found so far, by the binary name of their annotated supertype
+     */
+    private final Map<String, Set<String>> subTypesOfIndexedTypes = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeIndices();
+        } else {
+            for (final Element element : roundEnvironment.getRootElements()) {
+                indexType(element);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the given type and all of its member types to the index of every annotated supertype
+     *
+     * @param element the element to index if it is a type
+     */
+    private void indexType(final Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        final Set<TypeElement> indexedSupertypes = new HashSet<>();
+        collectIndexedSupertypes(type.asType(), new HashSet<>(), indexedSupertypes);
+        final String binaryName = getBinaryName(type);
+        for (final TypeElement indexedSupertype : indexedSupertypes) {
+            subTypesOfIndexedTypes.computeIfAbsent(getBinaryName(indexedSupertype), key -> new TreeSet<>()).add(binaryName);
+        }
+        for (final Element enclosedElement : type.getEnclosedElements()) {
+            indexType(enclosedElement);
+        }
+    }
+
+    /**
+     * Collects all direct and indirect supertypes of the given type that are annotated with {@link IndexSubclasses}
+     *
+     * @param type the type whose supertypes are collected
+     * @param visitedTypes the supertypes already visited
+     * @param indexedSupertypes the annotated supertypes found so far
+     */
+    private void collectIndexedSupertypes(final TypeMirror type, final Set<TypeElement> visitedTypes, final Set<TypeElement> indexedSupertypes) {
+        for (final TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (!(supertype instanceof DeclaredType declaredSupertype)) {
+                continue;
+            }
+            final TypeElement supertypeElement = (TypeElement) declaredSupertype.asElement();
+            if (!visitedTypes.add(supertypeElement)) {
+                continue;
+            }
+            if (supertypeElement.getAnnotation(IndexSubclasses.class) != null) {
+                indexedSupertypes.add(supertypeElement);
+            }
+            collectIndexedSupertypes(supertype, visitedTypes, indexedSupertypes);
+        }
+    }
+
+    /**
+     * Writes the index of every annotated type, merged with the still existing entries of its previous index
+     */
+    private void writeIndices() {
+        for (final Map.Entry<String, Set<String>> entry : subTypesOfIndexedTypes.entrySet()) {
+            final String resourceName = ClassIndex.INDEX_DIRECTORY + entry.getKey();
+            final Set<String> subTypes = new TreeSet<>(entry.getValue());
+            subTypes.addAll(readExistingEntries(resourceName));
+            try {
+                final FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+                try (Writer writer = resource.openWriter()) {
+                    for (final String subType : subTypes) {
+                        writer.write(subType);
+                        writer.write('\n');
+                    }
+                }
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write class index " + resourceName + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads the entries of the index written by a previous build whose types still exist
+     *
+     * @param resourceName the name of the index resource
+     * @return the binary names of the still existing types, empty if there is no previous index
+     */
+    private Set<String> readExistingEntries(final String resourceName) {
+        final Set<String> existingEntries = new TreeSet<>();
+        try {
+            final FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+            try (BufferedReader reader = new BufferedReader(resource.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String binaryName = line.trim();
+                    if (!binaryName.isEmpty() && processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null) {
+                        existingEntries.add(binaryName);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // there is no previous index
+        }
+        return existingEntries;
+    }
+
+    private String getBinaryName(final TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+}
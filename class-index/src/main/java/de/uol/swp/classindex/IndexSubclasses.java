@@ -0,0 +1,24 @@
+package de.uol.swp.classindex;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or interface whose subtypes are written to the class index at compile time.
+ * <p>
+ * Every class or interface compiled with the {@link ClassIndexProcessor} that directly or indirectly extends or
+ * implements the annotated type is listed in the index of the annotated type, so that its subtypes can be
+ * found by {@link ClassIndex#getSubTypesOf(Class, String)} without scanning the classpath.
+ * </p>
+ *
+ * @see ClassIndexProcessor
+ * @see ClassIndex
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface IndexSubclasses {
+}
@@ -8,6 +8,7 @@ import de.uol.swp.client.communication.ClientConnectionFactory;
 import de.uol.swp.client.communication.ConnectionListener;
 import de.uol.swp.client.di.ClientModule;
 import de.uol.swp.client.di.FXMLLoaderProvider;
+import de.uol.swp.client.game.GameStateCache;
 import de.uol.swp.client.user.ClientUserService;
 import de.uol.swp.common.env.EnvReader;
 import de.uol.swp.common.user.User;
@@ -69,6 +70,7 @@ public class ClientApp extends Application implements ConnectionListener {
 
 		eventBus = injector.getInstance(EventBus.class);
 		eventBus.register(this);
+		injector.getInstance(GameStateCache.class);
 
 		envReader = injector.getInstance(EnvReader.class);
 		host = envReader.readString("HOST");
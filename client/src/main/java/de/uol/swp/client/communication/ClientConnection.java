@@ -2,20 +2,19 @@ package de.uol.swp.client.communication;
 
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
-import de.uol.swp.common.MyObjectDecoder;
-import de.uol.swp.common.MyObjectEncoder;
+import de.uol.swp.common.codec.ClientCodecHandshakeHandler;
+import de.uol.swp.common.codec.CodecHandshake;
+import de.uol.swp.common.env.EnvReader;
 import de.uol.swp.common.message.Message;
 import de.uol.swp.common.message.request.RequestMessage;
 import de.uol.swp.common.message.response.ExceptionResponseMessage;
+import de.uol.swp.common.transport.NettyTransport;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.serialization.ClassResolvers;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.greenrobot.eventbus.EventBus;
@@ -37,8 +36,13 @@ public class ClientConnection {
 
 	private static final Logger LOG = LogManager.getLogger(ClientConnection.class);
 
+	public static final String NATIVE_TRANSPORT = "NATIVE_TRANSPORT";
+	public static final String EVENT_LOOP_THREADS = "EVENT_LOOP_THREADS";
+
 	private final String host;
 	private final int port;
+	private final NettyTransport transport;
+	private final int eventLoopThreads;
 	private final List<ConnectionListener> connectionListener = new CopyOnWriteArrayList<>();
 	private EventLoopGroup group;
 	private EventBus eventBus;
@@ -49,11 +53,15 @@ public class ClientConnection {
 	 *
 	 * @param host The server name or IP to connect to
 	 * @param port The server port to connect to
+	 * @param eventBus The EventBus used throughout the client
+	 * @param envReader The reader of the environment, used for the optional transport settings
 	 */
 	@Inject
-	public ClientConnection(@Assisted String host, @Assisted int port, EventBus eventBus) {
+	public ClientConnection(@Assisted String host, @Assisted int port, EventBus eventBus, EnvReader envReader) {
 		this.host = host;
 		this.port = port;
+		this.transport = NettyTransport.select(envReader.readBoolean(NATIVE_TRANSPORT, true));
+		this.eventLoopThreads = envReader.readInt(EVENT_LOOP_THREADS, 1);
 		setEventBus(eventBus);
 	}
 
@@ -81,16 +89,17 @@ public class ClientConnection {
 	 * @implNote If no ChannelHandler is added, communication will not be possible
 	 */
 	public void start() throws InterruptedException {
-		group = new NioEventLoopGroup();
+		LOG.debug("Using {} transport", transport);
+		group = transport.createEventLoopGroup(eventLoopThreads);
 		try {
 			Bootstrap b = new Bootstrap();
-			b.group(group).channel(NioSocketChannel.class).remoteAddress(new InetSocketAddress(host, port))
+			transport.configure(b.group(group)).remoteAddress(new InetSocketAddress(host, port))
 					.handler(new ChannelInitializer<SocketChannel>() {
 
 						@Override
 						protected void initChannel(SocketChannel ch) {
-							ch.pipeline().addLast(new MyObjectEncoder());
-							ch.pipeline().addLast(new MyObjectDecoder(ClassResolvers.cacheDisabled(null)));
+							// the encoder and decoder of the agreed codec are added by the handshake handler
+							ch.pipeline().addLast(new ClientCodecHandshakeHandler(CodecHandshake.supportedCodecs()));
 							ch.pipeline().addLast(new ClientHandler(ClientConnection.this));
 						}
 					});
@@ -41,7 +41,6 @@ import de.uol.swp.common.game.turn.PlayerTurn;
 import de.uol.swp.common.marker.AntidoteMarker;
 import de.uol.swp.common.message.Message;
 import de.uol.swp.common.plague.Plague;
-import de.uol.swp.common.plague.PlagueCube;
 import de.uol.swp.common.player.Player;
 import de.uol.swp.common.player.server_message.SendMessageByPlayerServerMessage;
 import de.uol.swp.common.triggerable.ManualTriggerable;
@@ -342,13 +341,12 @@ public class GamePresenter extends AbstractPresenter {
     private void addRemainingPlagueCubesToRemainingComponentsComponent() {
         int columnIndex = 1;
 
-        for (Map.Entry<Plague, List<PlagueCube>> mapEntry : game.getPlagueCubes().entrySet()) {
-            Plague plague = mapEntry.getKey();
+        for (Plague plague : game.getPlagueCubes().getPlagues()) {
             boolean isForeignPlagueCube = false;
 
             PlagueCubeIcon plagueCubeIcon = new PlagueCubeIcon(PLAGUE_CUBE_MARKER_SIZE, isForeignPlagueCube, plague);
             createRemainingComponentsPresenter(
-                    g -> g.getPlagueCubes().get(plague).size(),
+                    g -> g.getPlagueCubes().get(plague),
                     plagueCubeIcon
             );
             addComponentToRemainingComponents(plagueCubeIcon, columnIndex);
@@ -1194,7 +1192,7 @@ public class GamePresenter extends AbstractPresenter {
         antidoteButtons = new HashMap<>();
         antidoteButtonCheckMarks = new HashMap<>();
 
-        List<Plague> plagues = new ArrayList<>(game.getPlagueCubes().keySet());
+        List<Plague> plagues = new ArrayList<>(game.getPlagueCubes().getPlagues());
 
         for (int plagueCounter = 0; plagueCounter < plagues.size(); plagueCounter++) {
             Plague plague = plagues.get(plagueCounter);
@@ -3,6 +3,7 @@ package de.uol.swp.client.game;
 import com.google.inject.Inject;
 import de.uol.swp.common.game.GameDifficulty;
 import de.uol.swp.common.game.request.CreateGameRequest;
+import de.uol.swp.common.game.turn.request.RetrieveTurnHistoryRequest;
 import de.uol.swp.common.lobby.Lobby;
 import de.uol.swp.common.map.MapType;
 import de.uol.swp.common.plague.Plague;
@@ -39,4 +40,17 @@ public class GameService {
         CreateGameRequest createGameRequest = new CreateGameRequest(lobby, mapType, plagueList, difficulty);
         eventBus.post(createGameRequest);
     }
+
+    /**
+     * Posts a request to retrieve a page of the completed turns of a game on the EventBus
+     *
+     * @param gameId The id of the game whose turn history is to be retrieved
+     * @param offset The index of the first completed turn to retrieve
+     * @param limit The maximum number of completed turns to retrieve
+     * @see de.uol.swp.common.game.turn.request.RetrieveTurnHistoryRequest
+     */
+    public void retrieveTurnHistory(int gameId, int offset, int limit) {
+        RetrieveTurnHistoryRequest retrieveTurnHistoryRequest = new RetrieveTurnHistoryRequest(gameId, offset, limit);
+        eventBus.post(retrieveTurnHistoryRequest);
+    }
 }
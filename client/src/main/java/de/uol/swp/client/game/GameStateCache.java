@@ -0,0 +1,124 @@
+package de.uol.swp.client.game;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.delta.GameDeltaApplier;
+import de.uol.swp.common.game.request.RetrieveFullGameRequest;
+import de.uol.swp.common.game.server_message.CreateGameServerMessage;
+import de.uol.swp.common.game.server_message.RetrieveGameDeltaServerMessage;
+import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.greenrobot.eventbus.EventBus;
+import org.greenrobot.eventbus.Subscribe;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the local copy of every {@link Game} the client takes part in.
+ * <p>
+ * The server only sends the complete {@link Game} on creation and on request.
+ * Afterwards it sends {@link GameDelta}s, which are applied to the local copy here.
+ * After a {@link GameDelta} was applied, a {@link RetrieveUpdatedGameServerMessage} with the
+ * local copy is posted on the {@link EventBus}, so that presenters can handle updates as before.
+ * If a {@link GameDelta} cannot be applied, the complete {@link Game} is requested from the server.
+ * </p>
+ */
+@Singleton
+public class GameStateCache {
+
+    private static final Logger LOG = LogManager.getLogger(GameStateCache.class);
+
+    private final EventBus eventBus;
+    private final Map<Integer, Game> games = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param eventBus The EventBus set in ClientModule
+     * @see de.uol.swp.client.di.ClientModule
+     */
+    @Inject
+    public GameStateCache(final EventBus eventBus) {
+        this.eventBus = eventBus;
+        eventBus.register(this);
+    }
+
+    /**
+     * Returns the local copy of the {@link Game} with the given id.
+     *
+     * @param gameId id of the {@link Game}
+     * @return {@link Optional} of the local copy, empty if the client does not take part in the {@link Game}
+     */
+    public Optional<Game> getGame(final int gameId) {
+        return Optional.ofNullable(games.get(gameId));
+    }
+
+    /**
+     * Stores the {@link Game} of a {@link CreateGameServerMessage} as local copy.
+     *
+     * @param message {@link CreateGameServerMessage} from the server
+     */
+    @Subscribe
+    public void onCreateGameServerMessage(final CreateGameServerMessage message) {
+        games.put(message.getGame().getId(), message.getGame());
+    }
+
+    /**
+     * Replaces the local copy with the complete {@link Game} of a {@link RetrieveUpdatedGameServerMessage}.
+     *
+     * @param message {@link RetrieveUpdatedGameServerMessage} from the server or reposted by this cache
+     */
+    @Subscribe
+    public void onRetrieveUpdatedGameServerMessage(final RetrieveUpdatedGameServerMessage message) {
+        final Game game = message.getGame();
+        if (game.isGameLost() || game.isGameWon()) {
+            games.remove(game.getId());
+        } else {
+            games.put(game.getId(), game);
+        }
+    }
+
+    /**
+     * Applies the {@link GameDelta} of a {@link RetrieveGameDeltaServerMessage} to the local copy
+     * and posts a {@link RetrieveUpdatedGameServerMessage} with the updated local copy.
+     * Deltas of unknown games are ignored, as the client does not take part in them.
+     *
+     * @param message {@link RetrieveGameDeltaServerMessage} from the server
+     * @see GameDeltaApplier#apply(Game, GameDelta)
+     */
+    @Subscribe
+    public void onRetrieveGameDeltaServerMessage(final RetrieveGameDeltaServerMessage message) {
+        final GameDelta delta = message.getDelta();
+        final Game game = games.get(delta.getGameId());
+        if (game == null || delta.getVersion() <= game.getVersion()) {
+            return;
+        }
+        if (!delta.isApplicableTo(game.getVersion())) {
+            LOG.warn("Missed update of game {} from version {} to {}", game.getId(), game.getVersion(), delta.getBaseVersion());
+            requestFullGame(game.getId());
+            return;
+        }
+        try {
+            GameDeltaApplier.apply(game, delta);
+        } catch (RuntimeException e) {
+            LOG.error("Could not apply update of game {} to version {}: {}", game.getId(), delta.getVersion(), e.getMessage());
+            requestFullGame(game.getId());
+            return;
+        }
+        eventBus.post(new RetrieveUpdatedGameServerMessage(game));
+    }
+
+    /**
+     * Posts a {@link RetrieveFullGameRequest} for the {@link Game} with the given id.
+     *
+     * @param gameId id of the {@link Game} to request
+     */
+    private void requestFullGame(final int gameId) {
+        eventBus.post(new RetrieveFullGameRequest(gameId));
+    }
+}
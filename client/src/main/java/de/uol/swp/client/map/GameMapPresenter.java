@@ -334,7 +334,7 @@ public class GameMapPresenter extends AbstractPresenter {
      * @param isLastField Flag indicating if this is the last field to process.
      */
     private void processField(Field field, Game game, boolean isLastField) {
-        final List<Plague> plagues = new ArrayList<>(field.getPlagueCubes().keySet());
+        final List<Plague> plagues = new ArrayList<>(field.getPlagueCubes().getPlagues());
         final int plaguesSize = plagues.size();
         for (int i = 0; i < plaguesSize; i++) {
             final Plague plague = plagues.get(i);
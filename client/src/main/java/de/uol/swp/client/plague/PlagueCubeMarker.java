@@ -54,8 +54,7 @@ public class PlagueCubeMarker extends Group {
      * @param width width of the PlagueCubeMarker
      */
     public PlagueCubeMarker(Field field, double width) {
-        List<PlagueCube> plagueCubesOfAssociatedPlague = field.getPlagueCubesOfPlague(field.getPlague());
-        this.numberOfAssociatedPlagueCubes = plagueCubesOfAssociatedPlague.size();
+        this.numberOfAssociatedPlagueCubes = field.getNumberOfPlagueCubes(field.getPlague());
 
         this.width = width;
         this.height = width * 0.6;
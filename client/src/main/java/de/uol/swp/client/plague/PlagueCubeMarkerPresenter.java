@@ -11,7 +11,6 @@ import javafx.scene.transform.Scale;
 import javafx.util.Duration;
 import lombok.Getter;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -126,8 +125,7 @@ public class PlagueCubeMarkerPresenter extends AbstractPresenter {
      * Updates the displayed {@link PlagueCubeIcon}s on the {@link PlagueCubeMarker}
      */
     public void updateMarker() {
-        List<de.uol.swp.common.plague.PlagueCube> plagueCubesOfAssociatedPlague = field.getPlagueCubesOfPlague(field.getPlague());
-        int numberOfAssociatedPlagueCubes = plagueCubesOfAssociatedPlague.size();
+        int numberOfAssociatedPlagueCubes = field.getNumberOfPlagueCubes(field.getPlague());
         plagueCubeMarker.setNumberOfAssociatedPlagueCubes(numberOfAssociatedPlagueCubes);
 
         updateAssociatedPlagueCubes();
@@ -655,7 +655,7 @@ public class PlayerPanePresenter extends AbstractPresenter {
 
         Game game = this.gameSupplier.get();
         CardStack<InfectionCard> infectionDrawStack = game.getInfectionDrawStack();
-        List<InfectionCard> topCards = infectionDrawStack.getTopCards(NUMBER_OF_TOP_CARDS);
+        List<InfectionCard> topCards = infectionDrawStack.peekTopCards(NUMBER_OF_TOP_CARDS);
 
         listDialogPresenter.initialize(topCards);
         return listDialogPresenter;
@@ -3,6 +3,7 @@ package de.uol.swp.client.game;
 import de.uol.swp.client.EventBusBasedTest;
 import de.uol.swp.common.game.GameDifficulty;
 import de.uol.swp.common.game.request.CreateGameRequest;
+import de.uol.swp.common.game.turn.request.RetrieveTurnHistoryRequest;
 import de.uol.swp.common.lobby.Lobby;
 import de.uol.swp.common.lobby.LobbyDTO;
 import de.uol.swp.common.map.City;
@@ -61,8 +62,27 @@ public class GameServiceTest extends EventBusBasedTest {
         assertEquals(lobby, createGameRequest.getLobby());
     }
 
+    @Test
+    void retrieveTurnHistory() throws InterruptedException {
+        gameService.retrieveTurnHistory(42, 10, 5);
+
+        waitForLock();
+
+        assertInstanceOf(RetrieveTurnHistoryRequest.class, event);
+
+        final RetrieveTurnHistoryRequest retrieveTurnHistoryRequest = (RetrieveTurnHistoryRequest) event;
+        assertEquals(42, retrieveTurnHistoryRequest.getGameId());
+        assertEquals(10, retrieveTurnHistoryRequest.getOffset());
+        assertEquals(5, retrieveTurnHistoryRequest.getLimit());
+    }
+
     @Subscribe
     public void onEvent(final CreateGameRequest createGameRequest) {
         handleEvent(createGameRequest);
     }
+
+    @Subscribe
+    public void onEvent(final RetrieveTurnHistoryRequest retrieveTurnHistoryRequest) {
+        handleEvent(retrieveTurnHistoryRequest);
+    }
 }
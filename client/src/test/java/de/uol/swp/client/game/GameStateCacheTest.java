@@ -0,0 +1,126 @@
+package de.uol.swp.client.game;
+
+import de.uol.swp.client.EventBusBasedTest;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.delta.GameStateSnapshot;
+import de.uol.swp.common.game.request.RetrieveFullGameRequest;
+import de.uol.swp.common.game.server_message.CreateGameServerMessage;
+import de.uol.swp.common.game.server_message.RetrieveGameDeltaServerMessage;
+import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.map.City;
+import de.uol.swp.common.map.MapSlot;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.AIPlayer;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.role.RoleAbility;
+import de.uol.swp.common.role.RoleCard;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.Color;
+import org.greenrobot.eventbus.Subscribe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStateCacheTest extends EventBusBasedTest {
+
+    private GameStateCache gameStateCache;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        gameStateCache = new GameStateCache(getBus());
+
+        final Plague plague = new Plague("plague", new Color(1, 2, 3));
+        final City city0 = new City("city0", "");
+        final List<City> connectedCities = new ArrayList<>();
+        final List<MapSlot> mapSlots = new ArrayList<>();
+        for (int i = 1; i < 15; i++) {
+            final City city = new City("city" + i, "");
+            connectedCities.add(city);
+            mapSlots.add(new MapSlot(city, List.of(city0), plague, i, i));
+        }
+        mapSlots.add(new MapSlot(city0, connectedCities, plague, 0, 0));
+        final MapType mapType = new MapType("map", mapSlots, city0);
+
+        final UserDTO user = new UserDTO("user", "password", "");
+        final List<Player> players = new ArrayList<>();
+        players.add(new UserPlayer(user));
+        players.add(new AIPlayer("ai"));
+        players.forEach(player -> player.setRole(new RoleCard("role", new Color(), new RoleAbility(new HashMap<>(), new ArrayList<>(), new ArrayList<>()))));
+
+        game = new Game(new LobbyDTO("lobby", user), mapType, players, List.of(plague), GameDifficulty.getDefault());
+        game.setId(3);
+        game.addPlayerTurn(new PlayerTurn(game, game.getCurrentPlayer(), 4, 2, 2));
+    }
+
+    @Test
+    void onCreateGameServerMessage() {
+        post(new CreateGameServerMessage(game));
+
+        assertSame(game, gameStateCache.getGame(3).orElseThrow());
+    }
+
+    @Test
+    void onRetrieveGameDeltaServerMessage_applied() throws InterruptedException {
+        post(new CreateGameServerMessage(game));
+        final Map<String, Serializable> previous = GameStateSnapshot.capture(game);
+        final int outbreakLevel = game.getOutbreakMarker().getLevel();
+        game.getOutbreakMarker().increaseLevel();
+        final GameDelta delta = GameDelta.between(3, 0, 1, previous, GameStateSnapshot.capture(game));
+        game.getOutbreakMarker().setLevel(outbreakLevel);
+
+        post(new RetrieveGameDeltaServerMessage(delta));
+        waitForLock();
+
+        assertInstanceOf(RetrieveUpdatedGameServerMessage.class, event);
+        final Game updatedGame = ((RetrieveUpdatedGameServerMessage) event).getGame();
+        assertSame(game, updatedGame);
+        assertEquals(1, updatedGame.getVersion());
+        assertEquals(outbreakLevel + 1, updatedGame.getOutbreakMarker().getLevel());
+    }
+
+    @Test
+    void onRetrieveGameDeltaServerMessage_missedVersion() throws InterruptedException {
+        post(new CreateGameServerMessage(game));
+        final Map<String, Serializable> snapshot = GameStateSnapshot.capture(game);
+
+        post(new RetrieveGameDeltaServerMessage(GameDelta.between(3, 1, 2, snapshot, snapshot)));
+        waitForLock();
+
+        assertInstanceOf(RetrieveFullGameRequest.class, event);
+        assertEquals(3, ((RetrieveFullGameRequest) event).getGameId());
+    }
+
+    @Test
+    void onRetrieveGameDeltaServerMessage_unknownGame() {
+        final Map<String, Serializable> snapshot = GameStateSnapshot.capture(game);
+
+        post(new RetrieveGameDeltaServerMessage(GameDelta.between(3, 0, 1, snapshot, snapshot)));
+
+        assertNull(event);
+        assertTrue(gameStateCache.getGame(3).isEmpty());
+    }
+
+    @Subscribe
+    public void onEvent(final RetrieveUpdatedGameServerMessage message) {
+        handleEvent(message);
+    }
+
+    @Subscribe
+    public void onEvent(final RetrieveFullGameRequest request) {
+        handleEvent(request);
+    }
+}
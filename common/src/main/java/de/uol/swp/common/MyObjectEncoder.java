@@ -32,4 +32,17 @@ public class MyObjectEncoder extends ObjectEncoder {
             LOG.trace("{} to {}",msg,out);
         }
     }
+
+    /**
+     * Writes the frame of the given message, exactly as it would be written to a channel.
+     * Used to encode a message sent to several clients only once.
+     *
+     * @param msg the message to encode
+     * @param out the buffer to write the frame to
+     * @throws Exception if the message could not be encoded
+     * @see de.uol.swp.common.codec.SharedMessageEncoding
+     */
+    public void encodeFrame(Serializable msg, ByteBuf out) throws Exception {
+        encode(null, msg, out);
+    }
 }
@@ -1,16 +1,24 @@
 package de.uol.swp.common.action;
 
+import de.uol.swp.classindex.IndexSubclasses;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.GameInitializable;
 import de.uol.swp.common.player.Player;
 import de.uol.swp.common.util.Command;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Represents an action that can be executed by a player within a game.
  * Actions are executed within the context of a game and involve a player performing
  * an operation that modifies the game state. This interface provides methods to set
  * and retrieve the player and game involved in the action.
+ * <p>
+ * All implementations are written to the class index at compile time, see {@link ActionFactory}.
+ * </p>
  */
+@IndexSubclasses
 public interface Action extends Command, GameInitializable {
 
     /**
@@ -68,4 +76,21 @@ public interface Action extends Command, GameInitializable {
      * @return true if the action is available for execution, false otherwise.
      */
     boolean isExecutable();
+
+    /**
+     * <p>
+     * Returns the parts of the game state the result of {@link #isAvailable()} depends on.
+     * The availability of this action only has to be determined again if one of them changed.
+     * </p>
+     *
+     * <p>
+     * Depends on all parts by default.
+     * </p>
+     *
+     * @return {@link Set} of the parts of the game state this action depends on
+     * @see ActionDependency
+     */
+    default Set<ActionDependency> getDependencies() {
+        return EnumSet.allOf(ActionDependency.class);
+    }
 }
@@ -0,0 +1,45 @@
+package de.uol.swp.common.action;
+
+/**
+ * Represents the parts of the state of a game the availability of an {@link Action} depends on.
+ * <p>
+ * After a change of the game, only the actions depending on a changed part have to determine their availability again.
+ * </p>
+ *
+ * @see Action#getDependencies()
+ */
+public enum ActionDependency {
+    /**
+     * The field the executing player is on
+     */
+    CURRENT_FIELD,
+    /**
+     * The hand cards of all players
+     */
+    HAND_CARDS,
+    /**
+     * The fields with a research laboratory
+     */
+    RESEARCH_LABORATORIES,
+    /**
+     * The fields all players are on
+     */
+    PLAYER_POSITIONS,
+    /**
+     * The plague cubes on the field the executing player is on
+     */
+    PLAGUE_CUBES,
+    /**
+     * The antidote markers of the game and the plagues that are exterminated
+     */
+    ANTIDOTE_MARKERS,
+    /**
+     * The commands executed during the current turn
+     */
+    EXECUTED_COMMANDS,
+    /**
+     * The version of the game, which changes with every change of the game.
+     * Actions that depend on parts of the state not listed here depend on it.
+     */
+    GAME_VERSION
+}
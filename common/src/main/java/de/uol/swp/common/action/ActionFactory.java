@@ -1,10 +1,21 @@
 package de.uol.swp.common.action;
 
-import org.reflections.Reflections;
+import de.uol.swp.classindex.ClassIndex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -13,12 +24,59 @@ import java.util.stream.Collectors;
  * The {@code ActionFactory} provides utility methods to dynamically retrieve, instantiate,
  * and manipulate subclasses of {@link Action}, including filtering and handling exceptions during creation.
  * </p>
+ *
+ * <p>
+ *     The action classes are looked up in the {@link ClassIndex} written at compile time when the factory is created. For every instantiable {@link Action} class
+ *     a {@link Supplier} calling its public default constructor is generated at that time, and the suppliers of
+ *     every combination of excluded general actions and included role actions are cached on first use,
+ *     so that creating the actions of a {@link de.uol.swp.common.game.turn.PlayerTurn} does not use reflection.
+ * </p>
  */
 public class ActionFactory {
+
+    private static final Logger LOG = LogManager.getLogger(ActionFactory.class);
+
+    /**
+     * Suppliers calling the public default constructor of every instantiable {@link Action} class
+     */
+    private final Map<Class<? extends Action>, Supplier<? extends Action>> actionSuppliers;
+    /**
+     * Suppliers of all actions to create for a combination of excluded general actions and included role actions
+     */
+    private final Map<ActionSelection, List<Supplier<? extends Action>>> actionSuppliersOfSelection = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * <p>
+     *     Looks up the action classes and creates a {@link Supplier} for every instantiable {@link Action} class
+     *     with a public default constructor.
+     * </p>
+     *
+     * @see #getAllInstantiableActionClassesWithPublicDefaultConstructor()
+     */
+    public ActionFactory() {
+        final Map<Class<? extends Action>, Supplier<? extends Action>> suppliers = new HashMap<>();
+        for (final Class<? extends Action> actionClass : getAllInstantiableActionClassesWithPublicDefaultConstructor()) {
+            try {
+                suppliers.put(actionClass, createActionSupplier(actionClass));
+            } catch (final ReflectiveOperationException | LambdaConversionException e) {
+                LOG.debug("No supplier generated for {}, it is created by reflection", actionClass.getName(), e);
+            }
+        }
+        this.actionSuppliers = Map.copyOf(suppliers);
+    }
+
     /**
-     * {@link Reflections} object for the package {@link Action} is in
+     * Combination of excluded general actions and included role actions, usually the one of a
+     * {@link de.uol.swp.common.role.RoleCard}
+     *
+     * @param excludedGeneralActions general actions of which no instance is created
+     * @param includedRoleActions role actions of which an instance is created
      */
-    private final Reflections actionPackageReflections = new Reflections(Action.class.getPackageName());
+    private record ActionSelection(Set<Class<? extends GeneralAction>> excludedGeneralActions,
+                                   Set<Class<? extends RoleAction>> includedRoleActions) {
+    }
 
     /**
      * <p>
@@ -37,15 +95,98 @@ public class ActionFactory {
             final Collection<Class<? extends GeneralAction>> excludedGeneralActions,
             final Collection<Class<? extends RoleAction>> includedRoleActions
     ) {
+        final ActionSelection selection = new ActionSelection(
+                Set.copyOf(excludedGeneralActions),
+                Set.copyOf(includedRoleActions)
+        );
+        final List<Supplier<? extends Action>> suppliers = actionSuppliersOfSelection.computeIfAbsent(
+                selection,
+                this::getActionSuppliersOfSelection
+        );
+
+        final List<Action> actions = new ArrayList<>(suppliers.size());
+        for (final Supplier<? extends Action> supplier : suppliers) {
+            actions.add(supplier.get());
+        }
+        return actions;
+    }
+
+    /**
+     * Returns the suppliers of all actions to create for the given {@link ActionSelection}
+     *
+     * <p>
+     *     Classes that cannot be instantiated are ignored just like in {@link #createActions(Collection)}.
+     * </p>
+     *
+     * @param selection {@link ActionSelection} to resolve the action classes of
+     * @return unmodifiable {@link List} of suppliers of the actions
+     */
+    private List<Supplier<? extends Action>> getActionSuppliersOfSelection(final ActionSelection selection) {
         final Set<Class<? extends Action>> actionClasses = new HashSet<>(
                 getAllInstantiableNonRoleActionClassesWithPublicDefaultConstructor()
         );
 
-        actionClasses.removeAll(excludedGeneralActions);
+        actionClasses.removeAll(selection.excludedGeneralActions());
 
-        actionClasses.addAll(includedRoleActions);
+        actionClasses.addAll(selection.includedRoleActions());
 
-        return createActions(actionClasses);
+        final List<Supplier<? extends Action>> suppliers = new ArrayList<>();
+        for (final Class<? extends Action> actionClass : actionClasses) {
+            final Supplier<? extends Action> supplier = actionSuppliers.get(actionClass);
+            if (supplier != null) {
+                suppliers.add(supplier);
+            } else if (canBeCreated(actionClass)) {
+                suppliers.add(() -> createAction(actionClass));
+            }
+        }
+        return List.copyOf(suppliers);
+    }
+
+    /**
+     * Returns whether an instance of the given {@link Action} {@link Class} can be created by {@link #createAction(Class)},
+     * i.e. whether it is a public, concrete class with a public default constructor
+     */
+    private boolean canBeCreated(final Class<? extends Action> actionClass) {
+        if (!Modifier.isPublic(actionClass.getModifiers()) || Modifier.isAbstract(actionClass.getModifiers())) {
+            return false;
+        }
+        try {
+            final Constructor<? extends Action> constructor = actionClass.getDeclaredConstructor();
+            return Modifier.isPublic(constructor.getModifiers());
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Generates a {@link Supplier} that calls the public default constructor of the given {@link Action} {@link Class}
+     *
+     * @param actionClass {@link Class} object of the {@link Action} to create a {@link Supplier} for
+     * @return {@link Supplier} creating a new instance of {@code actionClass} on every call
+     * @throws ReflectiveOperationException if the constructor cannot be found or accessed
+     * @throws LambdaConversionException     if the {@link Supplier} cannot be generated
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<? extends Action> createActionSupplier(final Class<? extends Action> actionClass)
+            throws ReflectiveOperationException, LambdaConversionException {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle constructor = lookup.findConstructor(actionClass, MethodType.methodType(void.class));
+        final CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                constructor,
+                MethodType.methodType(actionClass)
+        );
+        try {
+            return (Supplier<? extends Action>) callSite.getTarget().invokeExact();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            // the target of the call site only returns the generated supplier and declares no checked exceptions
+            throw new LambdaConversionException("Supplier of " + actionClass.getName() + " could not be created", e);
+        }
     }
 
     /**
@@ -109,12 +250,13 @@ public class ActionFactory {
      * <p>
      *     Returns a {@link Set} of all {@link Class} objects for public subtypes of {@link Action}.
      *     Both {@code class} and {@code interface} Types are included in that {@link Set}.
+     *     They are taken from the {@link ClassIndex} of the package {@link Action} is in.
      * </p>
      *
      * @return {@link Set} of all {@link Class} objects for public subtypes of {@link Action}
      */
     public Set<Class<? extends Action>> getPublicActionClasses() {
-        return actionPackageReflections.getSubTypesOf(Action.class).stream()
+        return ClassIndex.getSubTypesOf(Action.class, Action.class.getPackageName()).stream()
                 .filter(actionClass -> Modifier.isPublic(actionClass.getModifiers()))
                 .collect(Collectors.toSet());
     }
@@ -155,6 +297,7 @@ public class ActionFactory {
      * </p>
      *
      * <p>
+     *     Uses the {@link Supplier} generated for {@code actionClass} if there is one and reflection otherwise.
      *     If any {@link Exception} occurs, a new {@link RuntimeException} is created and thrown.
      * </p>
      *
@@ -164,6 +307,10 @@ public class ActionFactory {
      * @throws RuntimeException if an error occurs during instantiation of action
      */
     public <T extends Action> T createAction(final Class<T> actionClass) {
+        final Supplier<? extends Action> supplier = actionSuppliers.get(actionClass);
+        if (supplier != null) {
+            return actionClass.cast(supplier.get());
+        }
         try {
             return actionClass.getDeclaredConstructor().newInstance();
         } catch (final InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
@@ -1,5 +1,6 @@
 package de.uol.swp.common.action.advanced.build_research_laboratory;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.action.DiscardCardsAction;
 import de.uol.swp.common.action.advanced.AdvancedAction;
 import de.uol.swp.common.card.CityCard;
@@ -10,6 +11,7 @@ import de.uol.swp.common.player.Player;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * The {@code BuildResearchLaboratoryAction} class represents an action where a player builds a research laboratory
@@ -150,4 +152,9 @@ public class BuildResearchLaboratoryAction extends AdvancedAction implements Dis
 
         return cityCardsWithCurrentFieldLimitedTo1;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Set<ActionDependency> getDependencies() {
+        return Set.of(ActionDependency.CURRENT_FIELD, ActionDependency.HAND_CARDS, ActionDependency.RESEARCH_LABORATORIES);
+    }
+}
@@ -1,5 +1,6 @@
 package de.uol.swp.common.action.advanced.cure_plague;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.action.advanced.AdvancedAction;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.map.Field;
@@ -9,6 +10,8 @@ import de.uol.swp.common.player.Player;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Set;
+
 /**
  * Represents an action that allows a player to cure the plague on a given field.
  * This action can either remove one plague cube or all plague cubes from the field,
@@ -118,4 +121,9 @@ public class CurePlagueAction extends AdvancedAction {
             removeOnePlagueCube();
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Set<ActionDependency> getDependencies() {
+        return Set.of(ActionDependency.CURRENT_FIELD, ActionDependency.PLAGUE_CUBES, ActionDependency.ANTIDOTE_MARKERS);
+    }
+}
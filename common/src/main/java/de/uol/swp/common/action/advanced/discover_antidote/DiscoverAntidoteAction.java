@@ -1,5 +1,6 @@
 package de.uol.swp.common.action.advanced.discover_antidote;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.action.DiscardCardsAction;
 import de.uol.swp.common.action.advanced.AdvancedAction;
 import de.uol.swp.common.card.CityCard;
@@ -15,6 +16,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /** The {@code DiscoverAntidoteAction} class represents an advanced action where a player attempts to discover an antidote
  * by discarding a specified number of {@link CityCard}s. It extends {@link AdvancedAction}.
@@ -197,4 +199,10 @@ public class DiscoverAntidoteAction extends AdvancedAction implements DiscardCar
                 .map(card -> getExecutingPlayer().getHandCardForGivenPlayerCard(card))
                 .toList();
     }
+
+    @Override
+    public Set<ActionDependency> getDependencies() {
+        return Set.of(ActionDependency.CURRENT_FIELD, ActionDependency.HAND_CARDS, ActionDependency.RESEARCH_LABORATORIES,
+                ActionDependency.ANTIDOTE_MARKERS);
+    }
 }
@@ -1,5 +1,6 @@
 package de.uol.swp.common.action.advanced.transfer_card;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.action.advanced.AdvancedAction;
 import de.uol.swp.common.approvable.Approvable;
 import de.uol.swp.common.card.CityCard;
@@ -13,6 +14,7 @@ import lombok.Setter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The {@code ShareKnowledgeAction} class represents an advanced action where a player shares
@@ -270,4 +272,9 @@ public abstract class ShareKnowledgeAction extends AdvancedAction implements App
             throw new IllegalStateException("Error creating instance of " + clazz.getName(), e);
         }
     }
+
+    @Override
+    public Set<ActionDependency> getDependencies() {
+        return Set.of(ActionDependency.CURRENT_FIELD, ActionDependency.HAND_CARDS, ActionDependency.PLAYER_POSITIONS);
+    }
 }
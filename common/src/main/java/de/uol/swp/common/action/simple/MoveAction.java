@@ -1,12 +1,15 @@
 package de.uol.swp.common.action.simple;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.map.Field;
 import de.uol.swp.common.player.Player;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The {@code MoveAction} class serves as a base class for actions that involve moving to a target field.
@@ -32,6 +35,26 @@ public abstract class MoveAction extends SimpleAction {
         return !getAvailableFields().isEmpty();
     }
 
+    /**
+     * <p>
+     *     Depends on the current field of the moved player and the dependencies of {@link #getAvailableFields()}.
+     *     The current field of a moved ally is part of {@link ActionDependency#PLAYER_POSITIONS}.
+     * </p>
+     *
+     * {@inheritDoc}
+     *
+     * @see #getAvailableFieldsDependencies()
+     */
+    @Override
+    public Set<ActionDependency> getDependencies() {
+        final Set<ActionDependency> dependencies = EnumSet.of(ActionDependency.CURRENT_FIELD);
+        dependencies.addAll(getAvailableFieldsDependencies());
+        if (this instanceof MoveAllyAction) {
+            dependencies.add(ActionDependency.PLAYER_POSITIONS);
+        }
+        return dependencies;
+    }
+
     @Override
     public boolean isExecutable() {
         return isAvailable() && getAvailableFields().contains(targetField) &&
@@ -93,4 +116,15 @@ public abstract class MoveAction extends SimpleAction {
      * @return a list of available fields
      */
     public abstract List<Field> getAvailableFields();
+
+    /**
+     * <p>
+     * Returns the parts of the game state {@link #getAvailableFields()} depends on besides the current field.
+     * </p>
+     *
+     * @return {@link Set} of the parts of the game state the available fields depend on
+     */
+    protected Set<ActionDependency> getAvailableFieldsDependencies() {
+        return Set.of();
+    }
 }
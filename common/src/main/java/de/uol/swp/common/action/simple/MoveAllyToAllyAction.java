@@ -1,5 +1,6 @@
 package de.uol.swp.common.action.simple;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.map.Field;
 import de.uol.swp.common.player.Player;
@@ -8,6 +9,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Action representing the movement of one ally to another ally in the game.
@@ -86,4 +88,9 @@ public class MoveAllyToAllyAction extends MoveAction implements MoveAllyAction {
                 .filter(field -> !field.equals(getCurrentField()))
                 .toList();
     }
+
+    @Override
+    protected Set<ActionDependency> getAvailableFieldsDependencies() {
+        return Set.of(ActionDependency.PLAYER_POSITIONS);
+    }
 }
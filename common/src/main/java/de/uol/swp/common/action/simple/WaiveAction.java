@@ -1,5 +1,9 @@
 package de.uol.swp.common.action.simple;
 
+import de.uol.swp.common.action.ActionDependency;
+
+import java.util.Set;
+
 /**
  * The {@code WaiveAction} class represents an action that a player chooses to waive or forgo.
  * It extends {@link SimpleAction}.
@@ -52,5 +56,16 @@ public class WaiveAction extends SimpleAction {
             getGame().getCurrentTurn().setNumberOfActionsToDo(0);
         }
     }
-}
 
+    /**
+     * <p>
+     * Does not depend on the game state as it is always available
+     * </p>
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<ActionDependency> getDependencies() {
+        return Set.of();
+    }
+}
@@ -1,5 +1,6 @@
 package de.uol.swp.common.action.simple.charter_flight;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.action.DiscardCardsAction;
 import de.uol.swp.common.action.simple.MoveAction;
 import de.uol.swp.common.card.CityCard;
@@ -9,6 +10,7 @@ import de.uol.swp.common.map.Field;
 import de.uol.swp.common.player.Player;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class represent and realized the charter flight action.
@@ -77,4 +79,9 @@ public class CharterFlightAction extends MoveAction implements DiscardCardsActio
         }
         return List.of();
     }
+
+    @Override
+    protected Set<ActionDependency> getAvailableFieldsDependencies() {
+        return Set.of(ActionDependency.HAND_CARDS);
+    }
 }
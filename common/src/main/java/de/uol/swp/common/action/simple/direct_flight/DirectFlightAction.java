@@ -1,5 +1,6 @@
 package de.uol.swp.common.action.simple.direct_flight;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.action.DiscardCardsAction;
 import de.uol.swp.common.action.simple.MoveAction;
 import de.uol.swp.common.card.CityCard;
@@ -8,6 +9,7 @@ import de.uol.swp.common.map.Field;
 import de.uol.swp.common.player.Player;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class represent and realized the direct flight action.
@@ -66,4 +68,9 @@ public class DirectFlightAction extends MoveAction implements DiscardCardsAction
                 .filter(field -> !field.equals(getCurrentField()))
                 .toList();
     }
+
+    @Override
+    protected Set<ActionDependency> getAvailableFieldsDependencies() {
+        return Set.of(ActionDependency.HAND_CARDS);
+    }
 }
@@ -1,5 +1,6 @@
 package de.uol.swp.common.action.simple.shuttle_flight;
 
+import de.uol.swp.common.action.ActionDependency;
 import de.uol.swp.common.action.simple.MoveAction;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.map.Field;
@@ -7,6 +8,7 @@ import de.uol.swp.common.map.research_laboratory.ResearchLaboratory;
 import de.uol.swp.common.player.Player;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class represent and realized the shuttle flight action.
@@ -52,4 +54,9 @@ public class ShuttleFlightAction extends MoveAction {
             return List.of();
         }
     }
+
+    @Override
+    protected Set<ActionDependency> getAvailableFieldsDependencies() {
+        return Set.of(ActionDependency.RESEARCH_LABORATORIES);
+    }
 }
@@ -2,6 +2,7 @@ package de.uol.swp.common.approvable.request;
 
 import de.uol.swp.common.approvable.Approvable;
 import de.uol.swp.common.approvable.ApprovableMessageStatus;
+import de.uol.swp.common.game.request.GameRequest;
 import de.uol.swp.common.message.Message;
 import de.uol.swp.common.message.request.AbstractRequestMessage;
 import de.uol.swp.common.player.Player;
@@ -17,11 +18,16 @@ import lombok.Getter;
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Getter
-public class ApprovableRequest extends AbstractRequestMessage {
+public class ApprovableRequest extends AbstractRequestMessage implements GameRequest {
     private final ApprovableMessageStatus status;
     private final Approvable approvable;
     private final Message onApproved;
     private final Player onApprovedPlayer;
     private final Message onRejected;
     private final Player onRejectedPlayer;
+
+    @Override
+    public int getGameId() {
+        return approvable.getGame().getId();
+    }
 }
@@ -1,6 +1,6 @@
 package de.uol.swp.common.card.event_card;
 
-
+import de.uol.swp.classindex.IndexSubclasses;
 import de.uol.swp.common.card.PlayerCard;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.player.Player;
@@ -12,7 +12,9 @@ import lombok.Setter;
 /**
  * Abstract class representing an event card in the game.
  * This class provides common properties and methods for all event cards.
+ * All subclasses are written to the class index at compile time, see {@link EventCardFactory}.
  */
+@IndexSubclasses
 @Getter
 public abstract class EventCard extends PlayerCard implements ManualTriggerable {
 
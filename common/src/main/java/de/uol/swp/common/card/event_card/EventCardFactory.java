@@ -1,40 +1,42 @@
 package de.uol.swp.common.card.event_card;
 
+import de.uol.swp.classindex.ClassIndex;
 import lombok.NoArgsConstructor;
-import org.reflections.Reflections;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Factory class for creating instances of {@link EventCard}.
  * <p>
- * This class dynamically scans for all subclasses of {@link EventCard} in its package
+ * This class looks up all subclasses of {@link EventCard} in its package
  * and provides methods to create instances of these event cards.
+ * The subclasses are taken from the {@link ClassIndex} written at compile time and resolved only once,
+ * as a factory is created for every game.
  * </p>
  */
 @NoArgsConstructor
 public class EventCardFactory {
 
-    private final Reflections reflections = new Reflections(EventCard.class.getPackageName());
+    private static final List<Class<? extends EventCard>> EVENT_CARD_CLASSES = ClassIndex.getSubTypesOf(EventCard.class, EventCard.class.getPackageName()).stream()
+            .filter(eventCard -> !Modifier.isAbstract(eventCard.getModifiers()))
+            .collect(Collectors.toUnmodifiableList());
 
     /**
      * Creates a list of all concrete {@link EventCard} subclasses.
      * <p>
-     * The method scans the package for all non-abstract subclasses of {@link EventCard}
-     * and creates one instance for each class.
+     * The method creates one instance for each non-abstract subclass of {@link EventCard} in the package.
      * </p>
      *
      * @return A list of instantiated {@link EventCard} objects.
      */
     public List<EventCard> createEventCards() {
         List<EventCard> eventCards = new ArrayList<>();
-        for (Class<? extends EventCard> eventCard : this.reflections.getSubTypesOf(EventCard.class)) {
-            if (!Modifier.isAbstract(eventCard.getModifiers())) {
-                eventCards.add(createEventCard(eventCard));
-            }
+        for (Class<? extends EventCard> eventCard : EVENT_CARD_CLASSES) {
+            eventCards.add(createEventCard(eventCard));
         }
         return eventCards;
     }
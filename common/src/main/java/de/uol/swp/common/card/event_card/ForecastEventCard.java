@@ -31,15 +31,7 @@ public class ForecastEventCard extends EventCard {
     public void trigger() {
         CardStack<InfectionCard> infectionCardStack = game.getInfectionDrawStack();
         if (reorderedInfectionCards != null && !reorderedInfectionCards.isEmpty()) {
-            int reorderedInfectionCardsSize = reorderedInfectionCards.size();
-            for (int removedCards = 0; removedCards < reorderedInfectionCardsSize; removedCards++) {
-                infectionCardStack.pop();
-            }
-
-            for (int insertIndex = reorderedInfectionCardsSize - 1; insertIndex >= 0; insertIndex--) {
-                InfectionCard reorderedInfectionCard = reorderedInfectionCards.get(insertIndex);
-                infectionCardStack.push(reorderedInfectionCard);
-            }
+            infectionCardStack.rearrangeTopCards(reorderedInfectionCards);
         }
     }
 
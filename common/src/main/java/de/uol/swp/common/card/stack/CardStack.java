@@ -1,30 +1,114 @@
 package de.uol.swp.common.card.stack;
 
 import de.uol.swp.common.card.Card;
+import de.uol.swp.common.util.GameRandom;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.*;
 
 /**
- * A stack of cards that extends the functionality of the standard {@link Stack} class.
+ * A stack of cards with the operations of a {@link Stack}, backed by a circular array.
+ * <p>
+ * The card at index 0 is the bottom card and the card at index {@code size() - 1} is the top card, like in a {@link Stack}.
+ * Unlike a {@link Stack}, the operations are not synchronized and cards are drawn from both the top
+ * and the bottom without shifting the other cards. The top cards can be looked at and rearranged without copying them.
+ * </p>
  *
  * @param <C> the type of card that this stack will hold, which must extend the {@link Card} class
  */
-public class CardStack<C extends Card> extends Stack<C> {
+public class CardStack<C extends Card> extends AbstractList<C> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private transient Object[] cards;
+    private transient int bottom;
+    private transient int size;
+
+    /**
+     * Constructs an empty stack of cards.
+     */
+    public CardStack() {
+        this.cards = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Puts the given card on top of this stack.
+     *
+     * @param card the card to put on top
+     * @return the given card
+     */
+    public C push(C card) {
+        ensureCapacity(size + 1);
+        cards[slot(size)] = card;
+        size++;
+        modCount++;
+        return card;
+    }
+
+    /**
+     * Removes and returns the top card of this stack.
+     *
+     * @return the top card
+     * @throws EmptyStackException if this stack is empty
+     */
+    public C pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        size--;
+        final int slot = slot(size);
+        final C card = cardAt(slot);
+        cards[slot] = null;
+        modCount++;
+        return card;
+    }
+
+    /**
+     * Returns the top card of this stack without removing it.
+     *
+     * @return the top card
+     * @throws EmptyStackException if this stack is empty
+     */
+    public C peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Returns the card at the given depth from the top of this stack without removing it.
+     *
+     * @param depth the number of cards above the returned card, 0 for the top card
+     * @return the card at {@code depth}
+     * @throws IndexOutOfBoundsException if {@code depth} is negative or not less than the size of this stack
+     */
+    public C peek(int depth) {
+        Objects.checkIndex(depth, size);
+        return get(size - 1 - depth);
+    }
 
     /**
-     * Shuffles the cards in this stack using a default source of randomness.
+     * Shuffles the cards in this stack using the given source of randomness.
+     *
+     * @param random the source of randomness of the game this stack belongs to
+     * @see de.uol.swp.common.game.Game#getRandom()
      */
-    public void shuffle() {
-        Collections.shuffle(this, new Random());
+    public void shuffle(GameRandom random) {
+        random.shuffle(this);
     }
 
     /**
      * Removes and returns the first card from the stack.
      *
      * @return the first card from the stack
+     * @throws IndexOutOfBoundsException if this stack is empty
      */
     public C removeFirstCard() {
-       return this.remove(0);
+        return remove(0);
     }
 
     /**
@@ -34,18 +118,179 @@ public class CardStack<C extends Card> extends Stack<C> {
      * @param numberOfCards The number of cards to retrieve from the top of the list.
      * @return A list containing up to {@code numberOfCards} cards from the top.
      * @throws IllegalArgumentException If {@code numberOfCards} is negative.
+     * @see #peekTopCards(int)
      */
     public List<C> getTopCards(int numberOfCards) {
+        return new ArrayList<>(peekTopCards(numberOfCards));
+    }
+
+    /**
+     * Returns a view of the top {@code numberOfCards} cards, starting with the top card, without copying them.
+     * If {@code numberOfCards} is greater than the current size, the view contains all cards.
+     * <p>
+     * The view reflects later changes of this stack and must not be used after cards were added or removed.
+     * </p>
+     *
+     * @param numberOfCards The number of cards to look at from the top of this stack.
+     * @return unmodifiable view of up to {@code numberOfCards} cards, starting with the top card
+     * @throws IllegalArgumentException If {@code numberOfCards} is negative.
+     */
+    public List<C> peekTopCards(int numberOfCards) {
         if (numberOfCards < 0) {
             throw new IllegalArgumentException("Number of cards to peek cannot be negative.");
         }
+        final int count = Math.min(numberOfCards, size);
+        final int expectedModCount = modCount;
+        return new AbstractList<>() {
+            @Override
+            public C get(int index) {
+                if (CardStack.this.modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                Objects.checkIndex(index, count);
+                return CardStack.this.get(CardStack.this.size - 1 - index);
+            }
 
-        int currentSize = this.size();
-        int count = Math.min(numberOfCards, currentSize);
-        int startIndex = currentSize - count;
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
 
-        List<C> topCards = new ArrayList<>(this.subList(startIndex, currentSize));
-        Collections.reverse(topCards);
-        return topCards;
+    /**
+     * Rearranges the top cards of this stack in place, so that the first given card becomes the top card.
+     * The given cards replace as many cards from the top, they are expected to be these cards in a new order.
+     *
+     * @param cardsFromTop the new order of the top cards, starting with the new top card
+     * @throws IllegalArgumentException if more cards are given than this stack contains
+     */
+    public void rearrangeTopCards(List<? extends C> cardsFromTop) {
+        final int count = cardsFromTop.size();
+        if (count > size) {
+            throw new IllegalArgumentException("Cannot rearrange more cards than the stack contains.");
+        }
+        for (int depth = 0; depth < count; depth++) {
+            cards[slot(size - 1 - depth)] = cardsFromTop.get(depth);
+        }
+    }
+
+    @Override
+    public C get(int index) {
+        Objects.checkIndex(index, size);
+        return cardAt(slot(index));
+    }
+
+    @Override
+    public C set(int index, C card) {
+        Objects.checkIndex(index, size);
+        final int slot = slot(index);
+        final C previousCard = cardAt(slot);
+        cards[slot] = card;
+        return previousCard;
+    }
+
+    @Override
+    public void add(int index, C card) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            push(card);
+            return;
+        }
+        ensureCapacity(size + 1);
+        if (index == 0) {
+            bottom = bottom == 0 ? cards.length - 1 : bottom - 1;
+        } else {
+            for (int i = size; i > index; i--) {
+                cards[slot(i)] = cards[slot(i - 1)];
+            }
+        }
+        cards[slot(index)] = card;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public C remove(int index) {
+        Objects.checkIndex(index, size);
+        if (index == size - 1) {
+            return pop();
+        }
+        final C card = get(index);
+        if (index == 0) {
+            cards[bottom] = null;
+            bottom = slot(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                cards[slot(i)] = cards[slot(i + 1)];
+            }
+            cards[slot(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return card;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(cards, null);
+        bottom = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes all cards from this stack, like {@link java.util.Vector#removeAllElements()} did before
+     * this stack was backed by its own array
+     *
+     * @see #clear()
+     */
+    public void removeAllElements() {
+        clear();
+    }
+
+    private int slot(int index) {
+        final int slot = bottom + index;
+        return slot >= cards.length ? slot - cards.length : slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private C cardAt(int slot) {
+        return (C) cards[slot];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= cards.length) {
+            return;
+        }
+        final Object[] grownCards = new Object[Math.max(capacity, cards.length * 2)];
+        for (int i = 0; i < size; i++) {
+            grownCards[i] = cards[slot(i)];
+        }
+        cards = grownCards;
+        bottom = 0;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeObject(cards[slot(i)]);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final int numberOfCards = in.readInt();
+        cards = new Object[Math.max(DEFAULT_CAPACITY, numberOfCards)];
+        for (int i = 0; i < numberOfCards; i++) {
+            cards[i] = in.readObject();
+        }
+        size = numberOfCards;
     }
 }
@@ -0,0 +1,128 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants and primitive read/write helpers of the binary wire format.
+ * <p>
+ * Every value that is not a primitive field starts with one of the tags below.
+ * Integers are written as variable length integers, so small values like ids,
+ * levels and sizes only take a single byte.
+ * </p>
+ *
+ * @see BinaryObjectWriter
+ * @see BinaryObjectReader
+ */
+final class BinaryFormat {
+
+    static final byte NULL = 0;
+    static final byte REFERENCE = 1;
+    static final byte STRING = 2;
+    static final byte OBJECT = 3;
+    static final byte ENUM = 4;
+    static final byte TRUE = 5;
+    static final byte FALSE = 6;
+    static final byte INT = 7;
+    static final byte LONG = 8;
+    static final byte DOUBLE = 9;
+    static final byte FLOAT = 10;
+    static final byte SHORT = 11;
+    static final byte BYTE = 12;
+    static final byte CHAR = 13;
+    static final byte ARRAY = 14;
+    static final byte COLLECTION = 15;
+    static final byte MAP = 16;
+    static final byte LIST_VIEW = 17;
+    static final byte SET_VIEW = 18;
+    static final byte MAP_VIEW = 19;
+    static final byte CLASS = 20;
+    static final byte LOCAL_TIME = 21;
+    static final byte LOCAL_DATE = 22;
+    static final byte LOCAL_DATE_TIME = 23;
+    static final byte INSTANT = 24;
+    static final byte UUID = 25;
+    static final byte JAVA_SERIALIZED = 26;
+
+    /**
+     * Type id announcing that the name of a type not known to the {@link BinaryTypeRegistry} follows.
+     */
+    static final int NEW_TYPE = 0;
+
+    private BinaryFormat() {
+    }
+
+    static void writeVarInt(final ByteBuf out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(final ByteBuf in) throws StreamCorruptedException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable length int");
+    }
+
+    static void writeVarLong(final ByteBuf out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(final ByteBuf in) throws StreamCorruptedException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable length long");
+    }
+
+    static void writeSignedVarInt(final ByteBuf out, final int value) {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    static int readSignedVarInt(final ByteBuf in) throws StreamCorruptedException {
+        final int value = readVarInt(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeSignedVarLong(final ByteBuf out, final long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readSignedVarLong(final ByteBuf in) throws StreamCorruptedException {
+        final long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeUtf8(final ByteBuf out, final String value) {
+        writeVarInt(out, ByteBufUtil.utf8Bytes(value));
+        ByteBufUtil.writeUtf8(out, value);
+    }
+
+    static String readUtf8(final ByteBuf in) throws StreamCorruptedException {
+        final int length = readVarInt(in);
+        if (length < 0 || length > in.readableBytes()) {
+            throw new StreamCorruptedException("Invalid string length " + length);
+        }
+        return in.readCharSequence(length, StandardCharsets.UTF_8).toString();
+    }
+}
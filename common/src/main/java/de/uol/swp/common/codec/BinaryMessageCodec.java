@@ -0,0 +1,64 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+
+import java.io.Serializable;
+
+/**
+ * Codec using the compact binary format of the {@link BinarySerializer}.
+ */
+public class BinaryMessageCodec implements MessageCodec {
+
+    public static final byte ID = 1;
+
+    private final BinarySerializer serializer;
+    private final BinaryMessageEncoder frameEncoder;
+    private final long fingerprint;
+
+    /**
+     * Constructor
+     * <p>
+     * Uses the {@link BinaryTypeRegistry#getDefault() default registry} of the common module.
+     * </p>
+     */
+    public BinaryMessageCodec() {
+        this(BinaryTypeRegistry.getDefault());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param registry registry of the type ids to use
+     */
+    public BinaryMessageCodec(final BinaryTypeRegistry registry) {
+        this.serializer = new BinarySerializer(registry);
+        this.frameEncoder = new BinaryMessageEncoder(serializer);
+        this.fingerprint = registry.getFingerprint();
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public ChannelHandler createEncoder() {
+        return new BinaryMessageEncoder(serializer);
+    }
+
+    @Override
+    public ChannelHandler createDecoder() {
+        return new BinaryMessageDecoder(serializer);
+    }
+
+    @Override
+    public void encode(Serializable message, ByteBuf out) throws Exception {
+        frameEncoder.encodeFrame(message, out);
+    }
+}
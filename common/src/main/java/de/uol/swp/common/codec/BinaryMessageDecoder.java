@@ -0,0 +1,53 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Decodes length prefixed frames of the binary format into objects.
+ *
+ * @see BinaryMessageEncoder
+ */
+public class BinaryMessageDecoder extends LengthFieldBasedFrameDecoder {
+
+    private static final Logger LOG = LogManager.getLogger(BinaryMessageDecoder.class);
+    private static final int MAX_FRAME_LENGTH = 1048576;
+
+    private final BinarySerializer serializer;
+
+    /**
+     * Constructor
+     *
+     * @param serializer the serializer reading the objects
+     */
+    public BinaryMessageDecoder(final BinarySerializer serializer) {
+        super(MAX_FRAME_LENGTH, 0, Integer.BYTES, 0, Integer.BYTES);
+        this.serializer = serializer;
+    }
+
+    @Override
+    protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+        final ByteBuf frame = (ByteBuf) super.decode(ctx, in);
+        if (frame == null) {
+            return null;
+        }
+        try {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Trying to decode {}", frame);
+            }
+            final Object decoded = serializer.deserialize(frame);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("{} to {}", frame, decoded);
+            }
+            return decoded;
+        } catch (Exception e) {
+            LOG.error(e);
+            throw e;
+        } finally {
+            frame.release();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Serializable;
+
+/**
+ * Encodes objects into length prefixed frames of the binary format.
+ *
+ * @see BinaryMessageDecoder
+ */
+public class BinaryMessageEncoder extends MessageToByteEncoder<Serializable> {
+
+    private static final Logger LOG = LogManager.getLogger(BinaryMessageEncoder.class);
+
+    private final BinarySerializer serializer;
+
+    /**
+     * Constructor
+     *
+     * @param serializer the serializer writing the objects
+     */
+    public BinaryMessageEncoder(final BinarySerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Serializable msg, ByteBuf out) throws Exception {
+        encodeFrame(msg, out);
+    }
+
+    /**
+     * Writes the frame of the given message, exactly as it would be written to a channel.
+     * Used to encode a message sent to several clients only once.
+     *
+     * @param msg the message to encode
+     * @param out the buffer to write the frame to
+     * @throws Exception if the message could not be encoded
+     * @see SharedMessageEncoding
+     */
+    public void encodeFrame(Serializable msg, ByteBuf out) throws Exception {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Trying to encode {}", msg);
+        }
+        final int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+        try {
+            serializer.serialize(msg, out);
+        } catch (Exception e) {
+            LOG.error(e);
+            throw e;
+        }
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex - Integer.BYTES);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{} to {}", msg, out);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static de.uol.swp.common.codec.BinaryFormat.*;
+
+/**
+ * Reads one object graph written by a {@link BinaryObjectWriter}.
+ * <p>
+ * Sets and maps are filled after the complete graph was read, as the hash codes of their
+ * elements may depend on objects that are still being read. A new reader has to be used for every message.
+ * </p>
+ */
+final class BinaryObjectReader {
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
+            "int", int.class, "long", long.class, "boolean", boolean.class, "byte", byte.class,
+            "short", short.class, "char", char.class, "float", float.class, "double", double.class,
+            "void", void.class);
+
+    private final BinaryTypeRegistry registry;
+    private final ByteBuf in;
+    private final List<Object> handles = new ArrayList<>();
+    private final List<Class<?>> namedTypes = new ArrayList<>();
+    private final List<Runnable> deferredFills = new ArrayList<>();
+
+    /**
+     * Constructor
+     *
+     * @param registry registry of the type ids to use
+     * @param in       buffer to read from
+     */
+    BinaryObjectReader(final BinaryTypeRegistry registry, final ByteBuf in) {
+        this.registry = registry;
+        this.in = in;
+    }
+
+    /**
+     * Reads a complete object graph.
+     *
+     * @return the root object of the graph
+     * @throws IOException if the graph could not be read
+     */
+    Object readGraph() throws IOException {
+        final Object root = readObject();
+        for (int i = deferredFills.size() - 1; i >= 0; i--) {
+            deferredFills.get(i).run();
+        }
+        return root;
+    }
+
+    private Object readObject() throws IOException {
+        final byte tag = in.readByte();
+        return switch (tag) {
+            case NULL -> null;
+            case REFERENCE -> readReference();
+            case STRING -> addHandle(readUtf8(in));
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case INT -> readSignedVarInt(in);
+            case LONG -> readSignedVarLong(in);
+            case DOUBLE -> in.readDouble();
+            case FLOAT -> in.readFloat();
+            case SHORT -> (short) readSignedVarInt(in);
+            case BYTE -> in.readByte();
+            case CHAR -> (char) readVarInt(in);
+            case LOCAL_TIME -> LocalTime.ofNanoOfDay(readVarLong(in));
+            case LOCAL_DATE -> LocalDate.ofEpochDay(readSignedVarLong(in));
+            case LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(readSignedVarLong(in)), LocalTime.ofNanoOfDay(readVarLong(in)));
+            case INSTANT -> Instant.ofEpochSecond(readSignedVarLong(in), readVarInt(in));
+            case BinaryFormat.UUID -> new UUID(in.readLong(), in.readLong());
+            case ENUM -> readEnum();
+            case CLASS -> readType();
+            case OBJECT -> readPlainObject();
+            case ARRAY -> readArray();
+            case COLLECTION -> readCollection();
+            case MAP -> readMap();
+            case LIST_VIEW -> readListView();
+            case SET_VIEW -> readSetView();
+            case MAP_VIEW -> readMapView();
+            case JAVA_SERIALIZED -> readJavaSerialized();
+            default -> throw new StreamCorruptedException("Unknown tag " + tag);
+        };
+    }
+
+    private Object readReference() throws IOException {
+        final int handle = readVarInt(in);
+        if (handle < 0 || handle >= handles.size()) {
+            throw new StreamCorruptedException("Invalid handle " + handle);
+        }
+        return handles.get(handle);
+    }
+
+    private Object readEnum() throws IOException {
+        final Class<?> type = readType();
+        final Object[] constants = type.getEnumConstants();
+        final int ordinal = readVarInt(in);
+        if (constants == null || ordinal < 0 || ordinal >= constants.length) {
+            throw new InvalidClassException(type.getName(), "No enum constant " + ordinal);
+        }
+        return constants[ordinal];
+    }
+
+    private Object readPlainObject() throws IOException {
+        final ClassSchema schema = readSchema(ClassSchema.Kind.OBJECT);
+        final Object instance = schema.newInstance();
+        final int handle = handles.size();
+        handles.add(instance);
+        try {
+            for (final ClassSchema.SerialField serialField : schema.getFields()) {
+                final java.lang.reflect.Field field = serialField.getField();
+                switch (serialField.getTypeCode()) {
+                    case 'I' -> field.setInt(instance, readSignedVarInt(in));
+                    case 'J' -> field.setLong(instance, readSignedVarLong(in));
+                    case 'Z' -> field.setBoolean(instance, in.readBoolean());
+                    case 'B' -> field.setByte(instance, in.readByte());
+                    case 'S' -> field.setShort(instance, (short) readSignedVarInt(in));
+                    case 'C' -> field.setChar(instance, (char) readVarInt(in));
+                    case 'F' -> field.setFloat(instance, in.readFloat());
+                    case 'D' -> field.setDouble(instance, in.readDouble());
+                    default -> field.set(instance, readObject());
+                }
+            }
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            throw new InvalidClassException(schema.getType().getName(), e.getMessage());
+        }
+        final Object resolved = schema.resolve(instance);
+        handles.set(handle, resolved);
+        return resolved;
+    }
+
+    private Object readArray() throws IOException {
+        final Class<?> arrayType = readType();
+        if (!arrayType.isArray()) {
+            throw new InvalidClassException(arrayType.getName(), "Not an array");
+        }
+        final int length = readLength();
+        final Object array = addHandle(Array.newInstance(arrayType.getComponentType(), length));
+        if (array instanceof byte[] bytes) {
+            in.readBytes(bytes);
+        } else if (array instanceof int[] ints) {
+            for (int i = 0; i < length; i++) {
+                ints[i] = readSignedVarInt(in);
+            }
+        } else if (array instanceof Object[] objects) {
+            for (int i = 0; i < length; i++) {
+                objects[i] = readObject();
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                Array.set(array, i, readObject());
+            }
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readCollection() throws IOException {
+        final Collection<Object> collection = (Collection<Object>) readSchema(ClassSchema.Kind.COLLECTION).newInstance();
+        addHandle(collection);
+        if (collection instanceof Set) {
+            final List<Object> elements = readElements();
+            deferredFills.add(() -> collection.addAll(elements));
+        } else {
+            final int size = readLength();
+            for (int i = 0; i < size; i++) {
+                collection.add(readObject());
+            }
+        }
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readMap() throws IOException {
+        final Map<Object, Object> map = (Map<Object, Object>) readSchema(ClassSchema.Kind.MAP).newInstance();
+        addHandle(map);
+        readEntries(map);
+        return map;
+    }
+
+    private Object readListView() throws IOException {
+        final List<Object> backingList = new ArrayList<>();
+        final Object view = addHandle(Collections.unmodifiableList(backingList));
+        final int size = readLength();
+        for (int i = 0; i < size; i++) {
+            backingList.add(readObject());
+        }
+        return view;
+    }
+
+    private Object readSetView() throws IOException {
+        final Set<Object> backingSet = new LinkedHashSet<>();
+        final Object view = addHandle(Collections.unmodifiableSet(backingSet));
+        final List<Object> elements = readElements();
+        deferredFills.add(() -> backingSet.addAll(elements));
+        return view;
+    }
+
+    private Object readMapView() throws IOException {
+        final Map<Object, Object> backingMap = new LinkedHashMap<>();
+        final Object view = addHandle(Collections.unmodifiableMap(backingMap));
+        readEntries(backingMap);
+        return view;
+    }
+
+    private List<Object> readElements() throws IOException {
+        final int size = readLength();
+        final List<Object> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(readObject());
+        }
+        return elements;
+    }
+
+    private void readEntries(final Map<Object, Object> map) throws IOException {
+        final int size = readLength();
+        final Object[] entries = new Object[size * 2];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = readObject();
+        }
+        deferredFills.add(() -> {
+            for (int i = 0; i < entries.length; i += 2) {
+                map.put(entries[i], entries[i + 1]);
+            }
+        });
+    }
+
+    private Object readJavaSerialized() throws IOException {
+        final int length = in.readInt();
+        if (length < 0 || length > in.readableBytes()) {
+            throw new StreamCorruptedException("Invalid length " + length);
+        }
+        try (ObjectInputStream objectIn = new ObjectInputStream(new ByteBufInputStream(in.readSlice(length)))) {
+            objectIn.setObjectInputFilter(registry.createJavaSerializationFilter(length));
+            return addHandle(objectIn.readObject());
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+
+    private ClassSchema readSchema(final ClassSchema.Kind expectedKind) throws IOException {
+        final Class<?> type = readType();
+        final ClassSchema schema = registry.getSchema(type);
+        if (schema.getKind() != expectedKind) {
+            throw new InvalidClassException(type.getName(), "Expected " + expectedKind + " but is " + schema.getKind());
+        }
+        return schema;
+    }
+
+    private Class<?> readType() throws IOException {
+        final int id = readVarInt(in);
+        if (id != NEW_TYPE) {
+            final Class<?> type = id <= registry.size() ? registry.getType(id) : namedType(id - registry.size() - 1);
+            if (type == null) {
+                throw new StreamCorruptedException("Unknown type id " + id);
+            }
+            return type;
+        }
+        final String name = readUtf8(in);
+        Class<?> type = PRIMITIVE_TYPES.get(name);
+        if (type == null) {
+            type = registry.resolve(name);
+        }
+        namedTypes.add(type);
+        return type;
+    }
+
+    private Class<?> namedType(final int index) {
+        return index >= 0 && index < namedTypes.size() ? namedTypes.get(index) : null;
+    }
+
+    private int readLength() throws IOException {
+        final int length = readVarInt(in);
+        if (length < 0 || length > in.readableBytes()) {
+            throw new StreamCorruptedException("Invalid length " + length);
+        }
+        return length;
+    }
+
+    private <T> T addHandle(final T object) {
+        handles.add(object);
+        return object;
+    }
+}
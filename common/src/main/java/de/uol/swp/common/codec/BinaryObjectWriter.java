@@ -0,0 +1,278 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static de.uol.swp.common.codec.BinaryFormat.*;
+
+/**
+ * Writes one object graph into a {@link ByteBuf}.
+ * <p>
+ * Every object and string is written only once per graph. Further occurrences, e.g. the
+ * {@link de.uol.swp.common.map.Field}s referenced by players and by the map of a game, are written
+ * as a reference to the handle of the first occurrence. A new writer has to be used for every message.
+ * </p>
+ *
+ * @see BinaryObjectReader
+ */
+final class BinaryObjectWriter {
+
+    private final BinaryTypeRegistry registry;
+    private final ByteBuf out;
+    private final Map<Object, Integer> handles = new IdentityHashMap<>();
+    private final Map<String, Integer> stringHandles = new HashMap<>();
+    private final Map<Class<?>, Integer> namedTypes = new HashMap<>();
+    private int nextHandle;
+
+    /**
+     * Constructor
+     *
+     * @param registry registry of the type ids to use
+     * @param out      buffer to write to
+     */
+    BinaryObjectWriter(final BinaryTypeRegistry registry, final ByteBuf out) {
+        this.registry = registry;
+        this.out = out;
+    }
+
+    /**
+     * Writes the given value and everything reachable from it.
+     *
+     * @param value value to write, may be {@code null}
+     * @throws IOException if a reachable object is not serializable
+     */
+    void writeObject(final Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String string) {
+            writeString(string);
+        } else if (!writeValueType(value)) {
+            final Integer handle = handles.get(value);
+            if (handle != null) {
+                out.writeByte(REFERENCE);
+                writeVarInt(out, handle);
+            } else if (value instanceof Enum<?> constant) {
+                out.writeByte(ENUM);
+                writeType(constant.getDeclaringClass());
+                writeVarInt(out, constant.ordinal());
+            } else if (value instanceof Class<?> type) {
+                out.writeByte(CLASS);
+                writeType(type);
+            } else if (value.getClass().isArray()) {
+                writeArray(value);
+            } else {
+                writeReplaceable(value);
+            }
+        }
+    }
+
+    private boolean writeValueType(final Object value) {
+        if (value instanceof Integer integer) {
+            out.writeByte(INT);
+            writeSignedVarInt(out, integer);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(bool ? TRUE : FALSE);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(LONG);
+            writeSignedVarLong(out, longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Float floatValue) {
+            out.writeByte(FLOAT);
+            out.writeFloat(floatValue);
+        } else if (value instanceof Short shortValue) {
+            out.writeByte(SHORT);
+            writeSignedVarInt(out, shortValue);
+        } else if (value instanceof Byte byteValue) {
+            out.writeByte(BYTE);
+            out.writeByte(byteValue);
+        } else if (value instanceof Character character) {
+            out.writeByte(CHAR);
+            writeVarInt(out, character);
+        } else if (value instanceof LocalTime time) {
+            out.writeByte(LOCAL_TIME);
+            writeVarLong(out, time.toNanoOfDay());
+        } else if (value instanceof LocalDate date) {
+            out.writeByte(LOCAL_DATE);
+            writeSignedVarLong(out, date.toEpochDay());
+        } else if (value instanceof LocalDateTime dateTime) {
+            out.writeByte(LOCAL_DATE_TIME);
+            writeSignedVarLong(out, dateTime.toLocalDate().toEpochDay());
+            writeVarLong(out, dateTime.toLocalTime().toNanoOfDay());
+        } else if (value instanceof Instant instant) {
+            out.writeByte(INSTANT);
+            writeSignedVarLong(out, instant.getEpochSecond());
+            writeVarInt(out, instant.getNano());
+        } else if (value instanceof UUID uuid) {
+            out.writeByte(BinaryFormat.UUID);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void writeString(final String value) {
+        final Integer handle = stringHandles.get(value);
+        if (handle != null) {
+            out.writeByte(REFERENCE);
+            writeVarInt(out, handle);
+        } else {
+            stringHandles.put(value, nextHandle++);
+            out.writeByte(STRING);
+            writeUtf8(out, value);
+        }
+    }
+
+    private void writeReplaceable(final Object value) throws IOException {
+        final ClassSchema schema = registry.getSchema(value.getClass());
+        final Object replacement = schema.replace(value);
+        if (replacement == value) {
+            writeNew(value, schema);
+            return;
+        }
+        if (replacement != null && replacement.getClass() == value.getClass()) {
+            writeNew(replacement, schema);
+        } else {
+            writeObject(replacement);
+        }
+        final Integer handle = handles.get(replacement);
+        if (handle != null) {
+            handles.put(value, handle);
+        }
+    }
+
+    private void writeNew(final Object value, final ClassSchema schema) throws IOException {
+        if (!schema.supports(value)) {
+            writeJavaSerialized(value);
+            return;
+        }
+        switch (schema.getKind()) {
+            case OBJECT -> writePlainObject(value, schema);
+            case COLLECTION -> writeContainer(COLLECTION, value, ((Collection<?>) value).size());
+            case MAP -> writeContainer(MAP, value, ((Map<?, ?>) value).size());
+            case LIST_VIEW -> writeView(LIST_VIEW, value, ((Collection<?>) value).size());
+            case SET_VIEW -> writeView(SET_VIEW, value, ((Collection<?>) value).size());
+            case MAP_VIEW -> writeView(MAP_VIEW, value, ((Map<?, ?>) value).size());
+            case JAVA_SERIALIZED -> writeJavaSerialized(value);
+            default -> throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+
+    private void writePlainObject(final Object value, final ClassSchema schema) throws IOException {
+        handles.put(value, nextHandle++);
+        out.writeByte(OBJECT);
+        writeType(value.getClass());
+        try {
+            for (final ClassSchema.SerialField serialField : schema.getFields()) {
+                final java.lang.reflect.Field field = serialField.getField();
+                switch (serialField.getTypeCode()) {
+                    case 'I' -> writeSignedVarInt(out, field.getInt(value));
+                    case 'J' -> writeSignedVarLong(out, field.getLong(value));
+                    case 'Z' -> out.writeBoolean(field.getBoolean(value));
+                    case 'B' -> out.writeByte(field.getByte(value));
+                    case 'S' -> writeSignedVarInt(out, field.getShort(value));
+                    case 'C' -> writeVarInt(out, field.getChar(value));
+                    case 'F' -> out.writeFloat(field.getFloat(value));
+                    case 'D' -> out.writeDouble(field.getDouble(value));
+                    default -> writeObject(field.get(value));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new NotSerializableException(value.getClass().getName() + ": " + e.getMessage());
+        }
+    }
+
+    private void writeContainer(final byte tag, final Object container, final int size) throws IOException {
+        handles.put(container, nextHandle++);
+        out.writeByte(tag);
+        writeType(container.getClass());
+        writeContent(container, size);
+    }
+
+    private void writeView(final byte tag, final Object view, final int size) throws IOException {
+        handles.put(view, nextHandle++);
+        out.writeByte(tag);
+        writeContent(view, size);
+    }
+
+    private void writeContent(final Object container, final int size) throws IOException {
+        writeVarInt(out, size);
+        if (container instanceof Map<?, ?> map) {
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                writeObject(entry.getKey());
+                writeObject(entry.getValue());
+            }
+        } else {
+            for (final Object element : (Collection<?>) container) {
+                writeObject(element);
+            }
+        }
+    }
+
+    private void writeArray(final Object array) throws IOException {
+        handles.put(array, nextHandle++);
+        out.writeByte(ARRAY);
+        writeType(array.getClass());
+        final int length = Array.getLength(array);
+        writeVarInt(out, length);
+        if (array instanceof byte[] bytes) {
+            out.writeBytes(bytes);
+        } else if (array instanceof int[] ints) {
+            for (final int element : ints) {
+                writeSignedVarInt(out, element);
+            }
+        } else if (array instanceof Object[] objects) {
+            for (final Object element : objects) {
+                writeObject(element);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                writeObject(Array.get(array, i));
+            }
+        }
+    }
+
+    private void writeJavaSerialized(final Object value) throws IOException {
+        handles.put(value, nextHandle++);
+        out.writeByte(JAVA_SERIALIZED);
+        final int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(new ByteBufOutputStream(out))) {
+            objectOut.writeObject(value);
+        }
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex - Integer.BYTES);
+    }
+
+    private void writeType(final Class<?> type) {
+        final int id = registry.getId(type);
+        if (id != NEW_TYPE) {
+            writeVarInt(out, id);
+            return;
+        }
+        final Integer namedId = namedTypes.get(type);
+        if (namedId != null) {
+            writeVarInt(out, namedId);
+            return;
+        }
+        namedTypes.put(type, registry.size() + namedTypes.size() + 1);
+        writeVarInt(out, NEW_TYPE);
+        writeUtf8(out, type.getName());
+    }
+}
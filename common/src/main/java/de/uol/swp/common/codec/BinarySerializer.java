@@ -0,0 +1,57 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Serializes object graphs into the compact binary format of the {@link BinaryMessageCodec}.
+ * <p>
+ * Compared to Java serialization, classes are written as type ids instead of class descriptors,
+ * field names are not written at all and numbers only take as many bytes as they need.
+ * Objects referenced several times are written once and referenced by a handle afterwards.
+ * </p>
+ *
+ * @see BinaryTypeRegistry
+ */
+public class BinarySerializer {
+
+    private final BinaryTypeRegistry registry;
+
+    /**
+     * Constructor
+     *
+     * @param registry registry of the type ids to use, has to be the same on both sides
+     */
+    public BinarySerializer(final BinaryTypeRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Writes the given object and everything reachable from it.
+     *
+     * @param object object to write
+     * @param out    buffer to write to
+     * @throws IOException if a reachable object is not serializable
+     */
+    public void serialize(final Serializable object, final ByteBuf out) throws IOException {
+        new BinaryObjectWriter(registry, out).writeObject(object);
+    }
+
+    /**
+     * Reads an object written by {@link #serialize(Serializable, ByteBuf)}.
+     *
+     * @param in buffer to read from
+     * @return the read object
+     * @throws IOException if the content of {@code in} is not a valid object graph
+     */
+    public Object deserialize(final ByteBuf in) throws IOException {
+        try {
+            return new BinaryObjectReader(registry, in).readGraph();
+        } catch (IndexOutOfBoundsException e) {
+            throw new EOFException("Unexpected end of object graph");
+        }
+    }
+}
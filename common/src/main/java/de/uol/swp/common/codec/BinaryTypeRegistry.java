@@ -0,0 +1,290 @@
+package de.uol.swp.common.codec;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns the type ids used by the binary codec.
+ * <p>
+ * Both sides of a connection scan the same classes of the common module, so every serializable
+ * class of it gets the same id on the client and the server without writing its name.
+ * Classes unknown to the registry are written by name once per message.
+ * Names are only resolved to classes of the common module, their arrays and plain classes of the JDK,
+ * so a peer cannot make the codec load or instantiate any other class.
+ * The fingerprint over all ids and field layouts is exchanged on the codec handshake, so that
+ * client and server only use the binary codec if they agree on it.
+ * </p>
+ *
+ * @see CodecHandshake
+ */
+public final class BinaryTypeRegistry {
+
+    private static final String COMMON_PACKAGE = "de.uol.swp.common";
+
+    private static final List<Class<?>> BUILT_IN_TYPES = List.of(
+            ArrayList.class, LinkedList.class, ArrayDeque.class, Vector.class, Stack.class,
+            HashSet.class, LinkedHashSet.class, TreeSet.class,
+            HashMap.class, LinkedHashMap.class, TreeMap.class);
+
+    private static final Set<String> ALLOWED_JDK_TYPES = Set.of(
+            "java.lang.Object", "java.lang.String", "java.lang.Number", "java.lang.Enum",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Boolean", "java.lang.Byte",
+            "java.lang.Short", "java.lang.Character", "java.lang.Float", "java.lang.Double");
+
+    private static final Set<String> PRIMITIVE_TYPE_NAMES = Set.of(
+            "int", "long", "boolean", "byte", "short", "char", "float", "double");
+
+    private static final Set<String> ALLOWED_JDK_PACKAGES = Set.of("java.util", "java.util.concurrent", "java.time");
+
+    /**
+     * Maximum depth of an object graph embedded using Java serialization
+     */
+    private static final int MAX_JAVA_SERIALIZED_DEPTH = 64;
+
+    /**
+     * Maximum number of references in an object graph embedded using Java serialization
+     */
+    private static final int MAX_JAVA_SERIALIZED_REFERENCES = 100_000;
+
+    private final List<Class<?>> types;
+    private final Map<Class<?>, Integer> ids = new HashMap<>();
+    private final Set<String> names = new HashSet<>();
+    private final Map<Class<?>, ClassSchema> schemas = new ConcurrentHashMap<>();
+    private final long fingerprint;
+
+    /**
+     * Constructor
+     *
+     * @param registeredTypes classes besides the built-in collections that get a fixed id, in id order
+     */
+    BinaryTypeRegistry(final Collection<Class<?>> registeredTypes) {
+        final List<Class<?>> allTypes = new ArrayList<>(BUILT_IN_TYPES);
+        allTypes.addAll(registeredTypes);
+        this.types = List.copyOf(allTypes);
+        for (int i = 0; i < types.size(); i++) {
+            ids.put(types.get(i), i + 1);
+            names.add(types.get(i).getName());
+        }
+        this.fingerprint = computeFingerprint();
+    }
+
+    /**
+     * Returns the registry of all serializable classes of the common module.
+     * The classpath is only scanned on the first call.
+     *
+     * @return registry shared by all binary codecs
+     */
+    public static BinaryTypeRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the fingerprint over all registered classes and their field layouts.
+     *
+     * @return fingerprint of this registry
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the id of the given class.
+     *
+     * @param type class to get the id of
+     * @return id of {@code type}, or {@link BinaryFormat#NEW_TYPE} if it is not registered
+     */
+    int getId(final Class<?> type) {
+        return ids.getOrDefault(type, BinaryFormat.NEW_TYPE);
+    }
+
+    /**
+     * Returns the class with the given id.
+     *
+     * @param id id of a registered class
+     * @return registered class with {@code id}, or {@code null} if there is none
+     */
+    Class<?> getType(final int id) {
+        return id > 0 && id <= types.size() ? types.get(id - 1) : null;
+    }
+
+    /**
+     * Resolves the name of a class that was written by name.
+     *
+     * @param name binary name of a class or array class
+     * @return the class named {@code name}
+     * @throws InvalidClassException if the class is not allowed or cannot be found
+     * @see #isAllowed(Class)
+     */
+    Class<?> resolve(final String name) throws InvalidClassException {
+        if (!isAllowedName(elementName(name))) {
+            throw new InvalidClassException(name, "Class is not allowed");
+        }
+        try {
+            return Class.forName(name, false, BinaryTypeRegistry.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(name, "Class not found");
+        }
+    }
+
+    /**
+     * Returns whether instances of the given class may be read.
+     * <p>
+     * Allowed are registered classes, all classes of the common module, primitive types, the boxed primitive
+     * types, {@link String} and the classes of {@code java.util}, {@code java.util.concurrent} and {@code java.time},
+     * as well as arrays of them.
+     * </p>
+     *
+     * @param type class to check
+     * @return {@code true} if {@code type} may be read
+     */
+    boolean isAllowed(final Class<?> type) {
+        Class<?> elementType = type;
+        while (elementType.isArray()) {
+            elementType = elementType.getComponentType();
+        }
+        return elementType.isPrimitive() || isAllowedName(elementType.getName());
+    }
+
+    /**
+     * Creates the filter of the streams that read objects embedded using Java serialization.
+     * It rejects every class that is not {@link #isAllowed(Class) allowed} and limits the size of the graph.
+     *
+     * @param maxBytes number of bytes the embedded object consists of
+     * @return filter for an {@link java.io.ObjectInputStream}
+     */
+    ObjectInputFilter createJavaSerializationFilter(final long maxBytes) {
+        return info -> {
+            if (info.depth() > MAX_JAVA_SERIALIZED_DEPTH
+                    || info.references() > MAX_JAVA_SERIALIZED_REFERENCES
+                    || info.streamBytes() > maxBytes
+                    || info.arrayLength() > maxBytes) {
+                return ObjectInputFilter.Status.REJECTED;
+            }
+            if (info.serialClass() == null) {
+                return ObjectInputFilter.Status.UNDECIDED;
+            }
+            return isAllowed(info.serialClass()) ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+        };
+    }
+
+    /**
+     * Returns the number of registered classes. Ids of classes written by name start after it.
+     *
+     * @return number of registered classes
+     */
+    int size() {
+        return types.size();
+    }
+
+    /**
+     * Returns the schema of the given class.
+     *
+     * @param type class to get the schema of
+     * @return cached schema of {@code type}
+     */
+    ClassSchema getSchema(final Class<?> type) {
+        return schemas.computeIfAbsent(type, ClassSchema::of);
+    }
+
+    private boolean isAllowedName(final String name) {
+        if (names.contains(name) || name.startsWith(COMMON_PACKAGE + ".")
+                || ALLOWED_JDK_TYPES.contains(name) || PRIMITIVE_TYPE_NAMES.contains(name)) {
+            return true;
+        }
+        final int lastDot = name.lastIndexOf('.');
+        return lastDot > 0 && ALLOWED_JDK_PACKAGES.contains(name.substring(0, lastDot));
+    }
+
+    /**
+     * Returns the name of the element class of an array class name, e.g. {@code java.lang.String} of
+     * {@code [[Ljava.lang.String;}, or {@code int} of {@code [I}.
+     *
+     * @param name binary name of a class or array class
+     * @return name of the element class, or {@code name} itself if it is no array class name
+     */
+    private static String elementName(final String name) {
+        final int dimensions = name.lastIndexOf('[') + 1;
+        if (dimensions == 0) {
+            return name;
+        }
+        final String elementDescriptor = name.substring(dimensions);
+        if (elementDescriptor.length() > 2 && elementDescriptor.charAt(0) == 'L' && elementDescriptor.endsWith(";")) {
+            return elementDescriptor.substring(1, elementDescriptor.length() - 1);
+        }
+        return switch (elementDescriptor) {
+            case "I" -> "int";
+            case "J" -> "long";
+            case "Z" -> "boolean";
+            case "B" -> "byte";
+            case "S" -> "short";
+            case "C" -> "char";
+            case "F" -> "float";
+            case "D" -> "double";
+            default -> elementDescriptor;
+        };
+    }
+
+    private long computeFingerprint() {
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (final Class<?> type : types) {
+            hasher.putString(type.getName(), StandardCharsets.UTF_8).putByte((byte) 0);
+            if (type.isEnum()) {
+                for (final Object constant : type.getEnumConstants()) {
+                    hasher.putString(((Enum<?>) constant).name(), StandardCharsets.UTF_8).putByte((byte) 0);
+                }
+            }
+            for (final ClassSchema.SerialField field : getSchema(type).getFields()) {
+                hasher.putString(field.getField().getName(), StandardCharsets.UTF_8)
+                        .putString(field.getField().getType().getName(), StandardCharsets.UTF_8)
+                        .putByte((byte) 0);
+            }
+        }
+        return hasher.hash().asLong();
+    }
+
+    private static BinaryTypeRegistry scanCommonPackage() {
+        final Reflections reflections = new Reflections(COMMON_PACKAGE, new SubTypesScanner(false));
+        final List<Class<?>> registeredTypes = new ArrayList<>();
+        for (final Class<?> type : reflections.getSubTypesOf(Object.class)) {
+            if (Serializable.class.isAssignableFrom(type)
+                    && !type.isInterface()
+                    && !type.isAnonymousClass()
+                    && !type.isLocalClass()
+                    && !type.isSynthetic()
+                    && (type.isEnum() || !Modifier.isAbstract(type.getModifiers()))) {
+                registeredTypes.add(type);
+            }
+        }
+        registeredTypes.sort(Comparator.comparing(Class::getName));
+        return new BinaryTypeRegistry(registeredTypes);
+    }
+
+    private static final class DefaultHolder {
+        private static final BinaryTypeRegistry INSTANCE = scanCommonPackage();
+    }
+}
@@ -0,0 +1,391 @@
+package de.uol.swp.common.codec;
+
+import lombok.Getter;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Describes how instances of a class are written by the binary codec.
+ * <p>
+ * Plain classes of this project are written field by field in a fixed order, using the same
+ * rules as Java serialization: static and transient fields are skipped, and fields of
+ * non-serializable superclasses are left to their no-arg constructor. Collections and maps are
+ * written by their content. Everything else, e.g. classes with a custom {@code writeObject},
+ * is embedded using Java serialization.
+ * </p>
+ */
+final class ClassSchema {
+
+    /**
+     * The way instances of a class are written
+     */
+    enum Kind {
+        OBJECT,
+        COLLECTION,
+        MAP,
+        LIST_VIEW,
+        SET_VIEW,
+        MAP_VIEW,
+        JAVA_SERIALIZED,
+        NOT_SERIALIZABLE
+    }
+
+    private static final List<String> VIEW_PREFIXES = List.of(
+            "java.util.ImmutableCollections$",
+            "java.util.Collections$Unmodifiable",
+            "java.util.Collections$Empty",
+            "java.util.Collections$Singleton");
+
+    @Getter
+    private final Class<?> type;
+    @Getter
+    private final Kind kind;
+    @Getter
+    private final List<SerialField> fields;
+    private final Constructor<?> constructor;
+    private final Method writeReplace;
+    private final Method readResolve;
+
+    private ClassSchema(final Class<?> type,
+                        final Kind kind,
+                        final List<SerialField> fields,
+                        final Constructor<?> constructor,
+                        final Method writeReplace,
+                        final Method readResolve) {
+        this.type = type;
+        this.kind = kind;
+        this.fields = fields;
+        this.constructor = constructor;
+        this.writeReplace = writeReplace;
+        this.readResolve = readResolve;
+    }
+
+    /**
+     * Creates the schema of the given class.
+     *
+     * @param type class to create the schema of
+     * @return schema of {@code type}
+     */
+    static ClassSchema of(final Class<?> type) {
+        if (!Serializable.class.isAssignableFrom(type)) {
+            return new ClassSchema(type, Kind.NOT_SERIALIZABLE, List.of(), null, null, null);
+        }
+        if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            return ofContainer(type);
+        }
+        if (Externalizable.class.isAssignableFrom(type) || hasCustomSerialization(type)) {
+            return javaSerialized(type);
+        }
+        final Constructor<?> constructor = serializationConstructor(type);
+        if (constructor == null) {
+            return javaSerialized(type);
+        }
+        return new ClassSchema(type, Kind.OBJECT, serialFields(type), constructor,
+                findMethod(type, "writeReplace"), findMethod(type, "readResolve"));
+    }
+
+    /**
+     * Returns whether the given instance can be written according to this schema.
+     * Sorted containers with a {@link Comparator} have to be embedded using Java serialization,
+     * as the comparator is not part of their content.
+     *
+     * @param instance instance of {@link #type}
+     * @return {@code true} if {@code instance} can be written according to this schema
+     */
+    boolean supports(final Object instance) {
+        if (kind != Kind.COLLECTION && kind != Kind.MAP) {
+            return true;
+        }
+        if (instance instanceof java.util.SortedSet<?> sortedSet) {
+            return sortedSet.comparator() == null;
+        }
+        if (instance instanceof java.util.SortedMap<?, ?> sortedMap) {
+            return sortedMap.comparator() == null;
+        }
+        return true;
+    }
+
+    /**
+     * Creates a new instance without calling a constructor of a serializable class.
+     *
+     * @return new instance of {@link #type}
+     * @throws IOException if the instance could not be created
+     */
+    Object newInstance() throws IOException {
+        try {
+            return constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new InvalidClassException(type.getName(), "Could not be instantiated: " + e);
+        }
+    }
+
+    /**
+     * Invokes {@code writeReplace} of the given instance, if the class declares it.
+     *
+     * @param instance instance of {@link #type}
+     * @return the replacement, or {@code instance} itself
+     * @throws IOException if {@code writeReplace} failed
+     */
+    Object replace(final Object instance) throws IOException {
+        return writeReplace == null ? instance : invoke(writeReplace, instance);
+    }
+
+    /**
+     * Invokes {@code readResolve} of the given instance, if the class declares it.
+     *
+     * @param instance instance of {@link #type}
+     * @return the resolved instance, or {@code instance} itself
+     * @throws IOException if {@code readResolve} failed
+     */
+    Object resolve(final Object instance) throws IOException {
+        return readResolve == null ? instance : invoke(readResolve, instance);
+    }
+
+    private Object invoke(final Method method, final Object instance) throws IOException {
+        try {
+            return method.invoke(instance);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new InvalidClassException(type.getName(), method.getName() + " failed: " + e);
+        }
+    }
+
+    private static ClassSchema ofContainer(final Class<?> type) {
+        if (VIEW_PREFIXES.stream().anyMatch(type.getName()::startsWith)) {
+            final Kind kind;
+            if (Map.class.isAssignableFrom(type)) {
+                kind = Kind.MAP_VIEW;
+            } else if (Set.class.isAssignableFrom(type)) {
+                kind = Kind.SET_VIEW;
+            } else {
+                kind = Kind.LIST_VIEW;
+            }
+            return new ClassSchema(type, kind, List.of(), null, null, null);
+        }
+        final Constructor<?> constructor = noArgConstructor(type);
+        if (constructor == null || !isContainerOnly(type)) {
+            return javaSerialized(type);
+        }
+        final Kind kind = Map.class.isAssignableFrom(type) ? Kind.MAP : Kind.COLLECTION;
+        return new ClassSchema(type, kind, List.of(), constructor, null, null);
+    }
+
+    private static ClassSchema javaSerialized(final Class<?> type) {
+        return new ClassSchema(type, Kind.JAVA_SERIALIZED, List.of(), null, null, null);
+    }
+
+    /**
+     * Containers of {@code java.util} are written by content. Subclasses of this project,
+     * e.g. {@link de.uol.swp.common.card.stack.CardStack}, are written by content as long
+     * as they do not add fields that would get lost.
+     */
+    private static boolean isContainerOnly(final Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final String packageName = current.getPackageName();
+            if (packageName.equals("java.util") || packageName.equals("java.util.concurrent")) {
+                return true;
+            }
+            if (isJdkType(current)) {
+                return false;
+            }
+            for (final Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasCustomSerialization(final Class<?> type) {
+        for (Class<?> current = type; current != null && Serializable.class.isAssignableFrom(current); current = current.getSuperclass()) {
+            if (isJdkType(current)
+                    || hasDeclaredMethod(current, "writeObject", ObjectOutputStream.class)
+                    || hasDeclaredMethod(current, "readObject", ObjectInputStream.class)
+                    || hasDeclaredMethod(current, "readObjectNoData")) {
+                return true;
+            }
+            try {
+                current.getDeclaredField("serialPersistentFields");
+                return true;
+            } catch (NoSuchFieldException e) {
+                // default field layout
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJdkType(final Class<?> type) {
+        final String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static boolean hasDeclaredMethod(final Class<?> type, final String name, final Class<?>... parameterTypes) {
+        try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Method findMethod(final Class<?> type, final String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                final Method method = current.getDeclaredMethod(name);
+                if (method.getReturnType() != Object.class
+                        || current != type && Modifier.isPrivate(method.getModifiers())) {
+                    return null;
+                }
+                method.setAccessible(true);
+                return method;
+            } catch (NoSuchMethodException e) {
+                // look at the superclass
+            }
+        }
+        return null;
+    }
+
+    private static Constructor<?> noArgConstructor(final Class<?> type) {
+        try {
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Constructor<?> serializationConstructor(final Class<?> type) {
+        Class<?> firstNonSerializable = type;
+        while (Serializable.class.isAssignableFrom(firstNonSerializable)) {
+            firstNonSerializable = firstNonSerializable.getSuperclass();
+        }
+        try {
+            final Constructor<?> superConstructor = firstNonSerializable.getDeclaredConstructor();
+            final Constructor<?> constructor = SerializationConstructors.create(type, superConstructor);
+            if (constructor == null) {
+                return null;
+            }
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Access to {@code sun.reflect.ReflectionFactory} of the module {@code jdk.unsupported}, which creates the
+     * constructors Java serialization uses to instantiate a class without calling its own constructors.
+     * <p>
+     * The JDK offers no supported API for this, so the factory is looked up reflectively and only used here.
+     * If it is not available, classes without a no-arg constructor fall back to Java serialization.
+     * </p>
+     */
+    private static final class SerializationConstructors {
+
+        private static final Object FACTORY;
+        private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+
+        static {
+            Object factory = null;
+            Method newConstructorForSerialization = null;
+            try {
+                final Class<?> factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+                factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+                newConstructorForSerialization = factoryClass.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                factory = null;
+                newConstructorForSerialization = null;
+            }
+            FACTORY = factory;
+            NEW_CONSTRUCTOR_FOR_SERIALIZATION = newConstructorForSerialization;
+        }
+
+        private SerializationConstructors() {
+        }
+
+        static Constructor<?> create(final Class<?> type, final Constructor<?> superConstructor) {
+            if (FACTORY == null) {
+                return null;
+            }
+            try {
+                return (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(FACTORY, type, superConstructor);
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+    }
+
+    private static List<SerialField> serialFields(final Class<?> type) {
+        final List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; Serializable.class.isAssignableFrom(current); current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        final List<SerialField> fields = new ArrayList<>();
+        for (final Class<?> current : hierarchy) {
+            final List<Field> declaredFields = new ArrayList<>(List.of(current.getDeclaredFields()));
+            declaredFields.sort(Comparator.comparing(Field::getName));
+            for (final Field field : declaredFields) {
+                final int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                    field.setAccessible(true);
+                    fields.add(new SerialField(field));
+                }
+            }
+        }
+        return List.copyOf(fields);
+    }
+
+    /**
+     * A field written by the binary codec
+     */
+    @Getter
+    static final class SerialField {
+
+        private final Field field;
+        private final char typeCode;
+
+        private SerialField(final Field field) {
+            this.field = field;
+            this.typeCode = typeCode(field.getType());
+        }
+
+        private static char typeCode(final Class<?> type) {
+            if (!type.isPrimitive()) {
+                return 'L';
+            }
+            if (type == int.class) {
+                return 'I';
+            } else if (type == long.class) {
+                return 'J';
+            } else if (type == boolean.class) {
+                return 'Z';
+            } else if (type == byte.class) {
+                return 'B';
+            } else if (type == short.class) {
+                return 'S';
+            } else if (type == char.class) {
+                return 'C';
+            } else if (type == float.class) {
+                return 'F';
+            }
+            return 'D';
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+
+/**
+ * Client side of the {@link CodecHandshake}.
+ * <p>
+ * Offers the codecs to the server when the connection is established and announces the channel
+ * as active to the following handlers once the server chose one of them.
+ * </p>
+ */
+public class ClientCodecHandshakeHandler extends ByteToMessageDecoder {
+
+    private static final Logger LOG = LogManager.getLogger(ClientCodecHandshakeHandler.class);
+
+    private final List<MessageCodec> codecs;
+
+    /**
+     * Constructor
+     *
+     * @param codecs codecs to offer to the server, in order of preference
+     */
+    public ClientCodecHandshakeHandler(final List<MessageCodec> codecs) {
+        this.codecs = codecs;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        final ByteBuf offer = ctx.alloc().buffer();
+        CodecHandshake.writeOffer(codecs, offer);
+        ctx.writeAndFlush(offer);
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (in.readableBytes() < CodecHandshake.REPLY_LENGTH) {
+            return;
+        }
+        if (in.readInt() != CodecHandshake.MAGIC) {
+            throw new DecoderException("Server did not answer the codec handshake");
+        }
+        final byte id = in.readByte();
+        final MessageCodec codec = CodecHandshake.findCodec(codecs, id);
+        if (codec == null) {
+            throw new DecoderException("Server chose unknown codec " + id);
+        }
+        LOG.debug("Using codec {}", id);
+        CodecHandshake.installCodec(ctx, codec);
+    }
+}
@@ -0,0 +1,94 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.util.AttributeKey;
+
+import java.util.List;
+
+/**
+ * The handshake agreeing on the {@link MessageCodec} of a connection.
+ * <p>
+ * After connecting, the client sends {@link #MAGIC} followed by the number of codecs it offers
+ * and the id and fingerprint of each of them, in order of preference. The server answers with
+ * {@link #MAGIC} and the id of the first offered codec it supports with the same fingerprint,
+ * or {@link JavaSerializationCodec#ID} if there is none. Clients that do not send the handshake
+ * are served with the {@link JavaSerializationCodec}.
+ * </p>
+ *
+ * @see ClientCodecHandshakeHandler
+ * @see ServerCodecHandshakeHandler
+ */
+public final class CodecHandshake {
+
+    /**
+     * The bytes "SWPC" starting every handshake message.
+     * No Java serialization frame starts with them, as they would announce a frame of more than a gigabyte.
+     */
+    static final int MAGIC = 0x53575043;
+    static final int OFFER_LENGTH = Byte.BYTES + Long.BYTES;
+    static final int REPLY_LENGTH = Integer.BYTES + Byte.BYTES;
+
+    static final String ENCODER_NAME = "messageEncoder";
+    static final String DECODER_NAME = "messageDecoder";
+
+    /**
+     * The agreed codec of a channel, set once the handshake is done
+     */
+    public static final AttributeKey<MessageCodec> CODEC = AttributeKey.valueOf("messageCodec");
+
+    private CodecHandshake() {
+    }
+
+    /**
+     * Returns all codecs supported by this version, in order of preference.
+     *
+     * @return the {@link BinaryMessageCodec} followed by the {@link JavaSerializationCodec}
+     */
+    public static List<MessageCodec> supportedCodecs() {
+        return List.of(new BinaryMessageCodec(), new JavaSerializationCodec());
+    }
+
+    /**
+     * Returns the codec with the given id.
+     *
+     * @param codecs codecs to search
+     * @param id     id of the codec
+     * @return codec with {@code id}, or {@code null} if {@code codecs} does not contain one
+     */
+    static MessageCodec findCodec(final List<MessageCodec> codecs, final int id) {
+        return codecs.stream().filter(codec -> codec.getId() == id).findFirst().orElse(null);
+    }
+
+    /**
+     * Writes the offer of the given codecs.
+     *
+     * @param codecs codecs to offer, in order of preference
+     * @param out    buffer to write to
+     */
+    static void writeOffer(final List<MessageCodec> codecs, final ByteBuf out) {
+        out.writeInt(MAGIC);
+        out.writeByte(codecs.size());
+        for (final MessageCodec codec : codecs) {
+            out.writeByte(codec.getId());
+            out.writeLong(codec.getFingerprint());
+        }
+    }
+
+    /**
+     * Adds the encoder and decoder of the agreed codec behind the handshake handler,
+     * announces the now usable channel to the following handlers and removes the handshake handler.
+     *
+     * @param ctx   context of the handshake handler
+     * @param codec agreed codec
+     */
+    static void installCodec(final ChannelHandlerContext ctx, final MessageCodec codec) {
+        ctx.channel().attr(CODEC).set(codec);
+        final ChannelPipeline pipeline = ctx.pipeline();
+        pipeline.addAfter(ctx.name(), ENCODER_NAME, codec.createEncoder());
+        pipeline.addAfter(ctx.name(), DECODER_NAME, codec.createDecoder());
+        ctx.fireChannelActive();
+        pipeline.remove(ctx.handler());
+    }
+}
@@ -0,0 +1,48 @@
+package de.uol.swp.common.codec;
+
+import de.uol.swp.common.MyObjectDecoder;
+import de.uol.swp.common.MyObjectEncoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+import java.io.Serializable;
+
+/**
+ * Codec using Java serialization via {@link MyObjectEncoder} and {@link MyObjectDecoder}.
+ * <p>
+ * It is used if the other side does not support the {@link BinaryMessageCodec}
+ * or does not take part in the {@link CodecHandshake} at all.
+ * </p>
+ */
+public class JavaSerializationCodec implements MessageCodec {
+
+    public static final byte ID = 0;
+
+    private final MyObjectEncoder frameEncoder = new MyObjectEncoder();
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public long getFingerprint() {
+        return 0;
+    }
+
+    @Override
+    public ChannelHandler createEncoder() {
+        return new MyObjectEncoder();
+    }
+
+    @Override
+    public ChannelHandler createDecoder() {
+        return new MyObjectDecoder(ClassResolvers.cacheDisabled(null));
+    }
+
+    @Override
+    public void encode(Serializable message, ByteBuf out) throws Exception {
+        frameEncoder.encodeFrame(message, out);
+    }
+}
@@ -0,0 +1,59 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+
+import java.io.Serializable;
+
+/**
+ * A codec for the messages exchanged between client and server.
+ * <p>
+ * The codec of a connection is agreed on in the {@link CodecHandshake} and
+ * its encoder and decoder are added to the pipeline afterwards.
+ * </p>
+ *
+ * @see JavaSerializationCodec
+ * @see BinaryMessageCodec
+ */
+public interface MessageCodec {
+
+    /**
+     * Returns the id of the codec sent in the handshake
+     *
+     * @return id of the codec
+     */
+    byte getId();
+
+    /**
+     * Returns a fingerprint of the classes the codec depends on.
+     * The codec is only used if client and server have the same fingerprint.
+     *
+     * @return fingerprint of the codec
+     */
+    long getFingerprint();
+
+    /**
+     * Creates the handler encoding outgoing messages
+     *
+     * @return new encoder
+     */
+    ChannelHandler createEncoder();
+
+    /**
+     * Creates the handler decoding incoming messages
+     *
+     * @return new decoder
+     */
+    ChannelHandler createDecoder();
+
+    /**
+     * Writes the frame the encoder of this codec would write for the given message.
+     * The decoder on the other side cannot tell the difference.
+     *
+     * @param message message to encode
+     * @param out     buffer to write the frame to
+     * @throws Exception if the message could not be encoded
+     * @see SharedMessageEncoding
+     */
+    void encode(Serializable message, ByteBuf out) throws Exception;
+}
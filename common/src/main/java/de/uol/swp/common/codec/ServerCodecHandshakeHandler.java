@@ -0,0 +1,79 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+
+/**
+ * Server side of the {@link CodecHandshake}.
+ * <p>
+ * The channel is only announced as active to the following handlers once the codec was agreed on,
+ * so that no message is sent before the encoder is in place.
+ * </p>
+ */
+public class ServerCodecHandshakeHandler extends ByteToMessageDecoder {
+
+    private static final Logger LOG = LogManager.getLogger(ServerCodecHandshakeHandler.class);
+
+    private final List<MessageCodec> codecs;
+
+    /**
+     * Constructor
+     *
+     * @param codecs codecs supported by the server, has to contain the {@link JavaSerializationCodec}
+     */
+    public ServerCodecHandshakeHandler(final List<MessageCodec> codecs) {
+        if (CodecHandshake.findCodec(codecs, JavaSerializationCodec.ID) == null) {
+            throw new IllegalArgumentException("Java serialization has to be supported as fallback");
+        }
+        this.codecs = codecs;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        // announced after the handshake
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (in.readableBytes() < Integer.BYTES) {
+            return;
+        }
+        final int start = in.readerIndex();
+        if (in.getInt(start) != CodecHandshake.MAGIC) {
+            LOG.debug("Client {} sent no codec handshake, using Java serialization", ctx.channel().remoteAddress());
+            CodecHandshake.installCodec(ctx, CodecHandshake.findCodec(codecs, JavaSerializationCodec.ID));
+            return;
+        }
+        if (in.readableBytes() < Integer.BYTES + Byte.BYTES) {
+            return;
+        }
+        final int numberOfOffers = in.getUnsignedByte(start + Integer.BYTES);
+        if (in.readableBytes() < Integer.BYTES + Byte.BYTES + numberOfOffers * CodecHandshake.OFFER_LENGTH) {
+            return;
+        }
+        in.skipBytes(Integer.BYTES + Byte.BYTES);
+        MessageCodec selected = null;
+        for (int i = 0; i < numberOfOffers; i++) {
+            final MessageCodec codec = CodecHandshake.findCodec(codecs, in.readByte());
+            final long fingerprint = in.readLong();
+            if (selected == null && codec != null && codec.getFingerprint() == fingerprint) {
+                selected = codec;
+            }
+        }
+        if (selected == null) {
+            selected = CodecHandshake.findCodec(codecs, JavaSerializationCodec.ID);
+        }
+        LOG.debug("Using codec {} for client {}", selected.getId(), ctx.channel().remoteAddress());
+
+        final ByteBuf reply = ctx.alloc().buffer(CodecHandshake.REPLY_LENGTH);
+        reply.writeInt(CodecHandshake.MAGIC);
+        reply.writeByte(selected.getId());
+        ctx.writeAndFlush(reply);
+        CodecHandshake.installCodec(ctx, selected);
+    }
+}
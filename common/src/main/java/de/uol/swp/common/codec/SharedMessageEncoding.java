@@ -0,0 +1,78 @@
+package de.uol.swp.common.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The encoded frames of one message that is sent to several clients.
+ * <p>
+ * The message is encoded only once per {@link MessageCodec} in use. Every client gets a retained
+ * duplicate of the same reference counted buffer, so the frame is released after it was written
+ * to the last client. {@link #close()} has to be called once all frames were handed out.
+ * Instances are not thread-safe and meant to be used by the thread sending the message.
+ * </p>
+ */
+public class SharedMessageEncoding implements AutoCloseable {
+
+    private final Serializable message;
+    private final Map<Byte, ByteBuf> framesByCodec = new HashMap<>();
+    private int numberOfEncodes;
+    private int numberOfFrames;
+
+    /**
+     * Constructor
+     *
+     * @param message the message sent to several clients
+     */
+    public SharedMessageEncoding(final Serializable message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns the frame of the message for the given codec. The message is only encoded
+     * on the first request per codec.
+     *
+     * @param codec     codec of the receiving channel
+     * @param allocator allocator of the receiving channel, used if the message is not encoded yet
+     * @return retained duplicate of the frame, released when it was written
+     * @throws Exception if the message could not be encoded
+     */
+    public ByteBuf retainedFrame(final MessageCodec codec, final ByteBufAllocator allocator) throws Exception {
+        ByteBuf frame = framesByCodec.get(codec.getId());
+        if (frame == null) {
+            frame = allocator.buffer();
+            try {
+                codec.encode(message, frame);
+            } catch (Exception e) {
+                frame.release();
+                throw e;
+            }
+            framesByCodec.put(codec.getId(), frame);
+            numberOfEncodes++;
+        }
+        numberOfFrames++;
+        return frame.retainedDuplicate();
+    }
+
+    /**
+     * Returns how often the message did not have to be encoded, as an already encoded frame was reused.
+     *
+     * @return number of saved encodes
+     */
+    public int getSavedEncodes() {
+        return numberOfFrames - numberOfEncodes;
+    }
+
+    /**
+     * Releases the frames. Frames that are still being written are released once they are written.
+     */
+    @Override
+    public void close() {
+        framesByCodec.values().forEach(ByteBuf::release);
+        framesByCodec.clear();
+    }
+}
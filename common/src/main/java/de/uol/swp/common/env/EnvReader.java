@@ -20,4 +20,29 @@ public interface EnvReader {
      * @return the value of the environment variable
      */
     int readInt(String key);
+
+    /**
+     * Reads an integer from the environment, falling back to a default if it is not set
+     *
+     * @param key the key of the environment variable
+     * @param defaultValue the value used if the environment variable is not set
+     * @return the value of the environment variable or {@code defaultValue}
+     */
+    default int readInt(String key, int defaultValue) {
+        final String value = readString(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Reads a boolean from the environment, falling back to a default if it is not set
+     *
+     * @param key the key of the environment variable
+     * @param defaultValue the value used if the environment variable is not set
+     * @return {@code true} if the environment variable is "true" ignoring case, {@code defaultValue} if it is not set,
+     *         {@code false} otherwise
+     */
+    default boolean readBoolean(String key, boolean defaultValue) {
+        final String value = readString(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
 }
@@ -19,10 +19,12 @@ import de.uol.swp.common.marker.InfectionMarker;
 import de.uol.swp.common.marker.OutbreakMarker;
 import de.uol.swp.common.plague.Plague;
 import de.uol.swp.common.plague.PlagueCube;
+import de.uol.swp.common.plague.PlagueCubeCounter;
 import de.uol.swp.common.plague.exception.NoPlagueCubesFoundException;
 import de.uol.swp.common.player.Player;
 import de.uol.swp.common.triggerable.Triggerable;
 import de.uol.swp.common.util.Color;
+import de.uol.swp.common.util.GameRandom;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -84,17 +86,18 @@ public class Game implements Serializable {
     @Getter
     private GameMap map;
     @Getter
+    @Setter
     private int indexOfCurrentPlayer;
     @Getter
     private List<Player> playersInTurnOrder;
     @Getter
     private List<Plague> plagues;
     @Getter
-    private Map<Plague, List<PlagueCube>> plagueCubes;
+    private PlagueCubeCounter plagueCubes;
     @Getter
     private List<ResearchLaboratory> researchLaboratories;
-    @Getter
     private List<AntidoteMarker> antidoteMarkers;
+    private long antidoteMarkerBits;
     @Getter
     private OutbreakMarker outbreakMarker;
     @Getter
@@ -107,7 +110,8 @@ public class Game implements Serializable {
     private CardStack<InfectionCard> infectionDrawStack;
     @Getter
     private CardStack<InfectionCard> infectionDiscardStack;
-    private List<PlayerTurn> turns;
+    private PlayerTurn currentTurn;
+    private int numberOfTurns;
     @Getter
     @Setter
     private boolean isGameWon;
@@ -120,6 +124,17 @@ public class Game implements Serializable {
     @Getter
     @Setter
     private boolean researchLaboratoryButtonClicked = false;
+    @Getter
+    @Setter
+    private long version;
+    @Getter
+    private GameRandom random;
+    /**
+     * Stream of the random choices of the AI players, split off {@link #random} so that they do not
+     * change the order in which the decks are reshuffled
+     */
+    @Getter
+    private GameRandom aiRandom;
 
     /**
      * Constructs a Game instance with a basic configuration.
@@ -131,6 +146,20 @@ public class Game implements Serializable {
      * @param difficulty the number of epidemic cards in the player deck
      */
     public Game (Lobby lobby, MapType type, List<Player> players, List<Plague> plagues, GameDifficulty difficulty) {
+        this(lobby, type, players, plagues, difficulty, GameRandom.withRandomSeed());
+    }
+
+    /**
+     * Constructs a Game instance with a basic configuration whose decks are shuffled with the given source of randomness.
+     *
+     * @param lobby the lobby where the game is hosted
+     * @param type the type of game map to be used
+     * @param players the list of players participating in the game
+     * @param plagues the list of plagues that will be present in the game
+     * @param difficulty the number of epidemic cards in the player deck
+     * @param random the source of randomness of the game, the game can be replayed from its seed
+     */
+    public Game (Lobby lobby, MapType type, List<Player> players, List<Plague> plagues, GameDifficulty difficulty, GameRandom random) {
         this(
             lobby,
             type,
@@ -144,7 +173,8 @@ public class Game implements Serializable {
             DEFAULT_NUMBER_OF_PLAGUE_CUBES_ADDED_TO_EVERY_FIELD_IN_FIRST_PHASE_OF_INITIAL_PLAGUE_CUBE_DISTRIBUTION,
             DEFAULT_MAX_NUMBER_OF_PLAGUE_CUBES_PER_FIELD,
             DEFAULT_NUMBER_OF_ACTIONS_PER_TURN,
-            DEFAULT_NUMBER_OF_PLAYER_CARD_TO_DRAW_PER_TURN
+            DEFAULT_NUMBER_OF_PLAYER_CARD_TO_DRAW_PER_TURN,
+            random
         );
     }
 
@@ -182,6 +212,61 @@ public class Game implements Serializable {
             int numberOfActionsPerTurn,
             int numberOfPlayerCardsToDrawPerTurn
     ) {
+        this(
+            lobby,
+            type,
+            players,
+            plagues,
+            maxHandCards,
+            numberOfPlagueCubesPerColor,
+            numberOfResearchLaboratories,
+            difficulty,
+            numberOfInfectionCardsDrawnPerPhaseOfInitialPlagueCubeDistribution,
+            numberOfPlagueCubesAddedToEveryFieldInFirstPhaseOfInitialPlagueCubesDistribution,
+            maxNumberOfPlagueCubesPerField,
+            numberOfActionsPerTurn,
+            numberOfPlayerCardsToDrawPerTurn,
+            GameRandom.withRandomSeed()
+        );
+    }
+
+    /**
+     * Constructs a Game instance with detailed configuration whose decks are shuffled with the given source of randomness.
+     *
+     * @param lobby the lobby where the game is hosted
+     * @param type the type of game map to be used
+     * @param players the list of players participating in the game
+     * @param plagues the list of plagues that will be present in the game
+     * @param maxHandCards the maximum number of cards a player can hold
+     * @param numberOfPlagueCubesPerColor the number of plague cubes per color
+     * @param numberOfResearchLaboratories the number of research laboratories in the game
+     * @param difficulty the number of epidemic cards in the player deck
+     * @param numberOfInfectionCardsDrawnPerPhaseOfInitialPlagueCubeDistribution
+     *        the number of infection cards drawn during initial setup
+     * @param numberOfPlagueCubesAddedToEveryFieldInFirstPhaseOfInitialPlagueCubesDistribution
+     *        the number of plague cubes added to each field in the first phase of setup
+     * @param maxNumberOfPlagueCubesPerField the maximum number of plague cubes allowed per field
+     * @param numberOfActionsPerTurn the number of actions a player can perform per turn
+     * @param numberOfPlayerCardsToDrawPerTurn the number of player cards drawn per turn
+     * @param random the source of randomness of the game, the game can be replayed from its seed
+     */
+    public Game (
+            Lobby lobby,
+            MapType type,
+            List<Player> players,
+            List<Plague> plagues,
+            int maxHandCards,
+            int numberOfPlagueCubesPerColor,
+            int numberOfResearchLaboratories,
+            GameDifficulty difficulty,
+            int numberOfInfectionCardsDrawnPerPhaseOfInitialPlagueCubeDistribution,
+            int numberOfPlagueCubesAddedToEveryFieldInFirstPhaseOfInitialPlagueCubesDistribution,
+            int maxNumberOfPlagueCubesPerField,
+            int numberOfActionsPerTurn,
+            int numberOfPlayerCardsToDrawPerTurn,
+            GameRandom random
+    ) {
+        this.random = random;
         this.lobby = lobby;
         this.playersInTurnOrder = players;
         this.plagues = plagues;
@@ -196,7 +281,7 @@ public class Game implements Serializable {
         this.maxNumberOfPlagueCubesPerField = maxNumberOfPlagueCubesPerField;
         this.numberOfActionsPerTurn = numberOfActionsPerTurn;
         this.numberOfPlayerCardsToDrawPerTurn = numberOfPlayerCardsToDrawPerTurn;
-        this.turns = new ArrayList<>();
+        this.numberOfTurns = 0;
         this.isGameWon = false;
         this.isGameLost = false;
         this.indexOfCurrentPlayer = 0;
@@ -211,7 +296,6 @@ public class Game implements Serializable {
 
         this.map = new GameMap(this, type);
 
-        this.plagueCubes = new HashMap<>();
         this.researchLaboratories = new ArrayList<>();
         this.requiresTextMessageMovingResearchLaboratory = true;
         this.researchLaboratoryButtonClicked = false;
@@ -226,6 +310,8 @@ public class Game implements Serializable {
 
         assignPlayersToStartingField();
         initializeStartResearchLaboratory();
+
+        this.aiRandom = random.split();
     }
 
     /**
@@ -244,15 +330,7 @@ public class Game implements Serializable {
      * This method generates the cubes that represent the spread of diseases.
      */
     private void createPlagueCubes () {
-        Set<Plague> plagueSet = map.getType().getUniquePlagues();
-        for (Plague plague : plagueSet) {
-            List<PlagueCube> plagueCubeList = new ArrayList<>();
-            for (int i = 0; i < numberOfPlagueCubesPerColor; i++) {
-                plagueCubeList.add(new PlagueCube(plague));
-            }
-            plagueCubes.put(plague, plagueCubeList);
-
-        }
+        this.plagueCubes = new PlagueCubeCounter(map.getType().getUniquePlagues(), numberOfPlagueCubesPerColor);
     }
 
     /**
@@ -315,7 +393,7 @@ public class Game implements Serializable {
             subStack.push(sourceStack.pop());
         }
         subStack.push(new EpidemicCard());
-        subStack.shuffle();
+        subStack.shuffle(random);
 
         return subStack;
     }
@@ -333,7 +411,7 @@ public class Game implements Serializable {
         EventCardFactory eventCardFactory = new EventCardFactory();
         this.playerDrawStack.addAll(eventCardFactory.createEventCards());
 
-        this.playerDrawStack.shuffle();
+        this.playerDrawStack.shuffle(random);
     }
 
     /**
@@ -383,7 +461,7 @@ public class Game implements Serializable {
     private void createInfectionDrawStack () {
         this.infectionDrawStack = new CardStack<>();
         this.infectionDrawStack.addAll(createInfectionCards());
-        this.infectionDrawStack.shuffle();
+        this.infectionDrawStack.shuffle(random);
     }
 
     /**
@@ -442,17 +520,14 @@ public class Game implements Serializable {
      * @return the PlagueCube object representing a cube of the specified plague
      */
     public PlagueCube getPlagueCubeOfPlague (Plague plague) {
-        List<PlagueCube> cubes = plagueCubes.get(plague);
-
-        if (cubes == null || cubes.isEmpty()) {
+        if (plagueCubes.get(plague) == 0) {
             throw new NoPlagueCubesFoundException(plague.getName());
         }
-        PlagueCube cube = cubes.remove(0);
 
-        if (cubes.isEmpty()) {
+        if (plagueCubes.decrement(plague) == 0) {
             setGameLost(true);
         }
-        return cube;
+        return new PlagueCube(plague);
     }
 
     /**
@@ -462,15 +537,7 @@ public class Game implements Serializable {
      * @param cube the plague cube to be added to the map
      */
     public void addPlagueCube(PlagueCube cube) {
-        Plague plague = cube.getPlague();
-        List<PlagueCube> cubes = plagueCubes.get(plague);
-        if (cubes != null) {
-            cubes.add(cube);
-        } else {
-            cubes = new ArrayList<>();
-            cubes.add(cube);
-            plagueCubes.put(plague, cubes);
-        }
+        plagueCubes.increment(cube.getPlague());
     }
 
     /**
@@ -491,6 +558,15 @@ public class Game implements Serializable {
         return !researchLaboratories.isEmpty();
     }
 
+    /**
+     * Returns the antidote markers discovered in this game.
+     *
+     * @return unmodifiable {@link List} of all antidote markers
+     */
+    public List<AntidoteMarker> getAntidoteMarkers() {
+        return Collections.unmodifiableList(this.antidoteMarkers);
+    }
+
     /**
      * Adds an antidote marker to the game.
      * This method is used to track the progress of finding a cure for a disease.
@@ -499,6 +575,18 @@ public class Game implements Serializable {
      */
     public void addAntidoteMarker (AntidoteMarker marker) {
         this.antidoteMarkers.add(marker);
+        final int index = antidoteMarkerBitOf(marker.getPlague());
+        if (index >= 0) {
+            this.antidoteMarkerBits |= 1L << index;
+        }
+    }
+
+    /**
+     * Removes all antidote markers from the game, e.g. before the antidote markers of a changed game state are added.
+     */
+    public void clearAntidoteMarkers() {
+        this.antidoteMarkers.clear();
+        this.antidoteMarkerBits = 0;
     }
 
     /**
@@ -506,10 +594,19 @@ public class Game implements Serializable {
      *     Returns whether an {@link AntidoteMarker} of the specified {@link Plague} already exists on this {@link Game}.
      * </p>
      *
+     * <p>
+     *     The antidote markers are kept as one bit per plague, indexed by the position of the plague in {@link #plagueCubes}.
+     *     Only plagues that are not part of the map are looked up in {@link #antidoteMarkers}.
+     * </p>
+     *
      * @param plague The {@link Plague} to look for
      * @return {@code true} if there is an {@link AntidoteMarker} of the specified {@link Plague}, {@code false} otherwise
      */
     public boolean hasAntidoteMarkerForPlague(final Plague plague) {
+        final int index = antidoteMarkerBitOf(plague);
+        if (index >= 0) {
+            return (this.antidoteMarkerBits & (1L << index)) != 0;
+        }
         for (final AntidoteMarker antidoteMarker : antidoteMarkers) {
             if (antidoteMarker.getPlague().equals(plague)) {
                 return true;
@@ -518,6 +615,46 @@ public class Game implements Serializable {
         return false;
     }
 
+    /**
+     * Returns whether there is an {@link AntidoteMarker} for every {@link Plague} of this {@link Game}, which wins the game.
+     *
+     * @return {@code true} if every plague in {@link #plagues} has an antidote marker, {@code false} otherwise
+     * @see #hasAntidoteMarkerForPlague(Plague)
+     */
+    public boolean hasAntidoteMarkersForAllPlagues() {
+        for (final Plague plague : plagues) {
+            if (!hasAntidoteMarkerForPlague(plague)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of {@link de.uol.swp.common.plague.PlagueCube}s of the given {@link Plague} on the whole board.
+     *
+     * @param plague The {@link Plague} to get the number of plague cubes of
+     * @return the number of plague cubes of the plague on all fields of the {@link #map}
+     * @see GameMap#getNumberOfPlagueCubesOnFields(Plague)
+     */
+    public int getNumberOfPlagueCubesOnBoard(final Plague plague) {
+        return this.map.getNumberOfPlagueCubesOnFields(plague);
+    }
+
+    /**
+     * Returns the bit of the given {@link Plague} in {@link #antidoteMarkerBits}.
+     *
+     * @param plague The {@link Plague} to get the bit of
+     * @return index of the bit, -1 if the plague has no bit
+     */
+    private int antidoteMarkerBitOf(final Plague plague) {
+        if (this.plagueCubes == null) {
+            return -1;
+        }
+        final int index = this.plagueCubes.indexOf(plague);
+        return index < Long.SIZE ? index : -1;
+    }
+
     /**
      * Triggers an outbreak in the game.
      * This method handles the logic for when a disease spreads beyond control.
@@ -539,22 +676,40 @@ public class Game implements Serializable {
         return this.infectionMarker.getLevelValue();
     }
 
+    /**
+     * Returns the number of player turns played so far, including the current one.
+     *
+     * @return the number of player turns
+     */
+    public int getNumberOfTurns() {
+        return this.numberOfTurns;
+    }
+
     /**
      * Retrieves the current player turn.
      *
      * @return the PlayerTurn object representing the current turn
+     * @throws IllegalStateException if no turn has been started yet
      */
     public PlayerTurn getCurrentTurn() {
-        return this.turns.get(this.turns.size() - 1);
+        if (this.currentTurn == null) {
+            throw new IllegalStateException("No player turn has been started yet");
+        }
+        return this.currentTurn;
     }
 
     /**
-     * Adds the given {@link PlayerTurn} to {@link #turns}.
+     * Replaces the {@link #currentTurn} with the given {@link PlayerTurn} and counts it.
+     * <p>
+     * Only the current turn is kept, completed turns are archived on the server as
+     * {@link de.uol.swp.common.game.turn.PlayerTurnRecord} so that the size of a game does not grow with its length.
+     * </p>
      *
      * @param playerTurn The newly started {@link PlayerTurn}
      */
     public void addPlayerTurn(final PlayerTurn playerTurn) {
-        this.turns.add(playerTurn);
+        this.currentTurn = playerTurn;
+        this.numberOfTurns++;
     }
 
     /**
@@ -648,9 +803,9 @@ public class Game implements Serializable {
      * @see Field#equals(Object)
      */
     public Optional<Field> findField(final Field field) {
-        return map.getFields().stream()
-                .filter(f -> f.equals(field))
-                .findFirst();
+        return Optional.ofNullable(field)
+                .flatMap(f -> map.findFieldOfCity(f.getCity()))
+                .filter(f -> f.equals(field));
     }
 
     /**
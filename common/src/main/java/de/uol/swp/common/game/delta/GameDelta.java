@@ -0,0 +1,107 @@
+package de.uol.swp.common.game.delta;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Patch that transforms the state of a {@link de.uol.swp.common.game.Game} from one version into the next.
+ * <p>
+ * A {@link GameDelta} only contains the entries of a {@link GameStateSnapshot} that changed between
+ * {@link #baseVersion} and {@link #version}. Every entry is an absolute value, so applying it twice or
+ * applying a newer entry after an older one always leads to the same state.
+ * </p>
+ *
+ * @see GameStateSnapshot
+ * @see GameDeltaApplier
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+public class GameDelta implements Serializable {
+
+    private final int gameId;
+    private final long baseVersion;
+    private final long version;
+    private final HashMap<String, Serializable> changes;
+
+    /**
+     * Creates a {@link GameDelta} containing every entry of {@code current} that differs from {@code previous}.
+     *
+     * @param gameId id of the {@link de.uol.swp.common.game.Game} both snapshots were captured of
+     * @param baseVersion version of the {@link de.uol.swp.common.game.Game} when {@code previous} was captured
+     * @param version version of the {@link de.uol.swp.common.game.Game} when {@code current} was captured
+     * @param previous previously captured snapshot
+     * @param current currently captured snapshot
+     * @return {@link GameDelta} from {@code previous} to {@code current}
+     * @throws IllegalArgumentException if both snapshots do not share the same keys
+     * @see GameStateSnapshot#capture(de.uol.swp.common.game.Game)
+     */
+    public static GameDelta between(final int gameId,
+                                    final long baseVersion,
+                                    final long version,
+                                    final Map<String, Serializable> previous,
+                                    final Map<String, Serializable> current) {
+        if (!previous.keySet().equals(current.keySet())) {
+            throw new IllegalArgumentException("Snapshots of game " + gameId + " do not share the same structure");
+        }
+        final HashMap<String, Serializable> changes = new HashMap<>();
+        for (final Map.Entry<String, Serializable> entry : current.entrySet()) {
+            if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                changes.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new GameDelta(gameId, baseVersion, version, changes);
+    }
+
+    /**
+     * Combines this {@link GameDelta} with the one directly following it into a single {@link GameDelta}.
+     * Entries changed by both are taken from {@code next}, as every entry is an absolute value.
+     *
+     * @param next {@link GameDelta} whose base version is the version of this {@link GameDelta}
+     * @return {@link GameDelta} from {@link #baseVersion} to the version of {@code next}
+     * @throws IllegalArgumentException if {@code next} does not directly follow this {@link GameDelta}
+     */
+    public GameDelta followedBy(final GameDelta next) {
+        if (next.gameId != gameId || next.baseVersion != version) {
+            throw new IllegalArgumentException("Delta to version " + next.version + " does not follow delta to version " + version);
+        }
+        final HashMap<String, Serializable> combinedChanges = new HashMap<>(changes);
+        combinedChanges.putAll(next.changes);
+        return new GameDelta(gameId, baseVersion, next.version, combinedChanges);
+    }
+
+    /**
+     * Returns an unmodifiable view of all changed entries.
+     *
+     * @return unmodifiable {@link Map} of changed state keys to their new values
+     */
+    public Map<String, Serializable> getChanges() {
+        return Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * Returns {@code true} if this {@link GameDelta} does not change anything.
+     *
+     * @return {@code true} if there are no changes, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns {@code true} if this {@link GameDelta} can be applied on top of the given version.
+     *
+     * @param currentVersion version of the local {@link de.uol.swp.common.game.Game}
+     * @return {@code true} if {@link #baseVersion} equals {@code currentVersion}, {@code false} otherwise
+     */
+    public boolean isApplicableTo(final long currentVersion) {
+        return baseVersion == currentVersion;
+    }
+}
@@ -0,0 +1,353 @@
+package de.uol.swp.common.game.delta;
+
+import de.uol.swp.common.card.Card;
+import de.uol.swp.common.card.InfectionCard;
+import de.uol.swp.common.card.PlayerCard;
+import de.uol.swp.common.card.stack.CardStack;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.map.research_laboratory.ResearchLaboratory;
+import de.uol.swp.common.marker.AntidoteMarker;
+import de.uol.swp.common.marker.LevelableMarker;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.Player;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static de.uol.swp.common.game.delta.GameStateKeys.*;
+
+/**
+ * Applies a {@link GameDelta} to a local copy of a {@link Game}.
+ * <p>
+ * The local {@link Game} has to be in the state of {@link GameDelta#getBaseVersion()}.
+ * Entries that are not part of the {@link GameDelta} are left untouched, as they did not change
+ * between {@link GameDelta#getBaseVersion()} and {@link GameDelta#getVersion()}.
+ * </p>
+ *
+ * @see GameDelta
+ * @see GameStateSnapshot
+ */
+public final class GameDeltaApplier {
+
+    private GameDeltaApplier() {}
+
+    /**
+     * Applies the given {@link GameDelta} to the given {@link Game} and sets its version to {@link GameDelta#getVersion()}.
+     *
+     * @param game {@link Game} to apply {@code delta} to
+     * @param delta {@link GameDelta} to apply
+     * @throws IllegalArgumentException if {@code delta} belongs to another {@link Game} or is not based on the version of {@code game}
+     * @throws IllegalStateException if {@code delta} references cities, players or cards unknown to {@code game}
+     */
+    public static void apply(final Game game, final GameDelta delta) {
+        if (delta.getGameId() != game.getId() || !delta.isApplicableTo(game.getVersion())) {
+            throw new IllegalArgumentException("Delta " + delta.getBaseVersion() + " -> " + delta.getVersion() +
+                    " of game " + delta.getGameId() + " cannot be applied to version " + game.getVersion() + " of game " + game.getId());
+        }
+        final Map<String, Serializable> changes = delta.getChanges();
+        final Map<String, Field> fieldsByCityName = indexFieldsByCityName(game);
+
+        applyGame(game, changes);
+        applyMarkers(game, changes);
+        applyFields(game, changes);
+        applyPlagues(game, changes);
+        applyPlayerPositions(game, changes, fieldsByCityName);
+        applyPlayerCards(game, changes);
+        applyInfectionCards(game, changes);
+        applyTurn(game, changes, fieldsByCityName);
+
+        game.setVersion(delta.getVersion());
+        if (game.getNumberOfTurns() > 0) {
+            game.getCurrentTurn().refreshPossibleActions();
+        }
+    }
+
+    private static void applyGame(final Game game, final Map<String, Serializable> changes) {
+        ifChanged(changes, INDEX_OF_CURRENT_PLAYER, Integer.class, game::setIndexOfCurrentPlayer);
+        ifChanged(changes, GAME_WON, Boolean.class, game::setGameWon);
+        ifChanged(changes, GAME_LOST, Boolean.class, game::setGameLost);
+        ifChanged(changes, REQUIRES_TEXT_MESSAGE_MOVING_RESEARCH_LABORATORY, Boolean.class, game::setRequiresTextMessageMovingResearchLaboratory);
+        ifChanged(changes, RESEARCH_LABORATORY_BUTTON_CLICKED, Boolean.class, game::setResearchLaboratoryButtonClicked);
+        ifChanged(changes, NUMBER_OF_RESEARCH_LABORATORIES, Integer.class, number -> {
+            final List<ResearchLaboratory> researchLaboratories = game.getResearchLaboratories();
+            while (researchLaboratories.size() > number) {
+                researchLaboratories.remove(researchLaboratories.size() - 1);
+            }
+            while (researchLaboratories.size() < number) {
+                researchLaboratories.add(new ResearchLaboratory());
+            }
+        });
+    }
+
+    private static void applyMarkers(final Game game, final Map<String, Serializable> changes) {
+        applyLevelableMarker(game.getOutbreakMarker(), OUTBREAK_MARKER_LEVEL, OUTBREAK_MARKER_PREVIOUS_LEVEL, changes);
+        applyLevelableMarker(game.getInfectionMarker(), INFECTION_MARKER_LEVEL, INFECTION_MARKER_PREVIOUS_LEVEL, changes);
+
+        ifChangedList(changes, ANTIDOTE_MARKERS, plagueNames -> {
+            game.clearAntidoteMarkers();
+            for (final Object plagueName : plagueNames) {
+                game.addAntidoteMarker(new AntidoteMarker(findPlague(game, (String) plagueName)));
+            }
+        });
+    }
+
+    private static void applyLevelableMarker(final LevelableMarker marker,
+                                             final String levelKey,
+                                             final String previousLevelKey,
+                                             final Map<String, Serializable> changes) {
+        ifChanged(changes, levelKey, Integer.class, marker::setLevel);
+        ifChanged(changes, previousLevelKey, Integer.class, marker::setPreviousLevel);
+    }
+
+    private static void applyFields(final Game game, final Map<String, Serializable> changes) {
+        final Set<Plague> plagues = game.getMap().getType().getUniquePlagues();
+        for (final Field field : game.getFields()) {
+            for (final Plague plague : plagues) {
+                ifChanged(changes, plagueCubesOnField(field, plague), Integer.class,
+                        number -> field.setNumberOfPlagueCubes(plague, number));
+            }
+            ifChanged(changes, researchLaboratoryOnField(field), Boolean.class, hasResearchLaboratory -> {
+                if (hasResearchLaboratory && !field.hasResearchLaboratory()) {
+                    field.buildResearchLaboratory(new ResearchLaboratory());
+                } else if (!hasResearchLaboratory && field.hasResearchLaboratory()) {
+                    field.removeResearchLaboratory();
+                }
+            });
+        }
+    }
+
+    private static void applyPlagues(final Game game, final Map<String, Serializable> changes) {
+        for (final Plague plague : game.getMap().getType().getUniquePlagues()) {
+            ifChanged(changes, plagueCubeSupply(plague), Integer.class,
+                    number -> game.getPlagueCubes().set(plague, number));
+        }
+        for (final Plague plague : game.getPlagues()) {
+            ifChanged(changes, plagueExterminated(plague), Boolean.class, isExterminated -> {
+                if (isExterminated) {
+                    plague.exterminate();
+                }
+            });
+        }
+    }
+
+    private static void applyPlayerPositions(final Game game,
+                                             final Map<String, Serializable> changes,
+                                             final Map<String, Field> fieldsByCityName) {
+        for (final Player player : game.getPlayersInTurnOrder()) {
+            final String key = playerField(player);
+            if (changes.containsKey(key)) {
+                final String cityName = (String) changes.get(key);
+                player.setCurrentField(cityName == null ? null : findField(fieldsByCityName, cityName));
+            }
+        }
+    }
+
+    private static void applyPlayerCards(final Game game, final Map<String, Serializable> changes) {
+        final Map<String, Collection<PlayerCard>> changedContainers = new LinkedHashMap<>();
+        for (final Player player : game.getPlayersInTurnOrder()) {
+            final String key = playerHandCards(player);
+            if (changes.containsKey(key)) {
+                changedContainers.put(key, player.getHandCards());
+            }
+        }
+        addIfChanged(changes, PLAYER_DRAW_STACK, game.getPlayerDrawStack(), changedContainers);
+        addIfChanged(changes, PLAYER_DISCARD_STACK, game.getPlayerDiscardStack(), changedContainers);
+
+        final Map<String, List<PlayerCard>> newContents = redistributeCards(changes, changedContainers);
+
+        for (final Player player : game.getPlayersInTurnOrder()) {
+            final List<PlayerCard> handCards = newContents.get(playerHandCards(player));
+            if (handCards != null) {
+                new ArrayList<>(player.getHandCards()).forEach(player::removeHandCard);
+                handCards.forEach(player::addHandCard);
+            }
+        }
+        replaceIfChanged(PLAYER_DRAW_STACK, game.getPlayerDrawStack(), newContents);
+        replaceIfChanged(PLAYER_DISCARD_STACK, game.getPlayerDiscardStack(), newContents);
+    }
+
+    private static void applyInfectionCards(final Game game, final Map<String, Serializable> changes) {
+        final Map<String, Collection<InfectionCard>> changedContainers = new LinkedHashMap<>();
+        addIfChanged(changes, INFECTION_DRAW_STACK, game.getInfectionDrawStack(), changedContainers);
+        addIfChanged(changes, INFECTION_DISCARD_STACK, game.getInfectionDiscardStack(), changedContainers);
+
+        final Map<String, List<InfectionCard>> newContents = redistributeCards(changes, changedContainers);
+
+        replaceIfChanged(INFECTION_DRAW_STACK, game.getInfectionDrawStack(), newContents);
+        replaceIfChanged(INFECTION_DISCARD_STACK, game.getInfectionDiscardStack(), newContents);
+    }
+
+    private static <C extends Card> void addIfChanged(final Map<String, Serializable> changes,
+                                                      final String key,
+                                                      final Collection<C> container,
+                                                      final Map<String, Collection<C>> changedContainers) {
+        if (changes.containsKey(key)) {
+            changedContainers.put(key, container);
+        }
+    }
+
+    private static <C extends Card> void replaceIfChanged(final String key,
+                                                          final CardStack<C> stack,
+                                                          final Map<String, List<C>> newContents) {
+        final List<C> cards = newContents.get(key);
+        if (cards != null) {
+            stack.clear();
+            stack.addAll(cards);
+        }
+    }
+
+    /**
+     * Redistributes the cards of all changed containers according to the titles in {@code changes}.
+     * <p>
+     * Cards only move between containers, so every card of a changed container can be found
+     * in the previous content of one of the changed containers.
+     * </p>
+     */
+    private static <C extends Card> Map<String, List<C>> redistributeCards(final Map<String, Serializable> changes,
+                                                                         final Map<String, Collection<C>> changedContainers) {
+        final Map<String, Deque<C>> cardsByTitle = new HashMap<>();
+        for (final Collection<C> container : changedContainers.values()) {
+            for (final C card : container) {
+                cardsByTitle.computeIfAbsent(card.getTitle(), title -> new ArrayDeque<>()).add(card);
+            }
+        }
+
+        final Map<String, List<C>> newContents = new HashMap<>();
+        for (final String key : changedContainers.keySet()) {
+            final List<?> titles = (List<?>) changes.get(key);
+            final List<C> cards = new ArrayList<>(titles.size());
+            for (final Object title : titles) {
+                final Deque<C> candidates = cardsByTitle.get(title);
+                if (candidates == null || candidates.isEmpty()) {
+                    throw new IllegalStateException("Card \"" + title + "\" of " + key + " could not be found");
+                }
+                cards.add(candidates.poll());
+            }
+            newContents.put(key, cards);
+        }
+        return newContents;
+    }
+
+    private static void applyTurn(final Game game,
+                                  final Map<String, Serializable> changes,
+                                  final Map<String, Field> fieldsByCityName) {
+        if (!changes.containsKey(TURN_NUMBER) && game.getNumberOfTurns() == 0) {
+            return;
+        }
+        final PlayerTurn currentTurn = game.getNumberOfTurns() > 0 ? game.getCurrentTurn() : null;
+        final int numberOfActionsToDo = valueOrCurrent(changes, TURN_NUMBER_OF_ACTIONS_TO_DO, currentTurn, PlayerTurn::getNumberOfActionsToDo);
+        final int numberOfPlayerCardsToDraw = valueOrCurrent(changes, TURN_NUMBER_OF_PLAYER_CARDS_TO_DRAW, currentTurn, PlayerTurn::getNumberOfPlayerCardsToDraw);
+        final int numberOfInfectionCardsToDraw = valueOrCurrent(changes, TURN_NUMBER_OF_INFECTION_CARDS_TO_DRAW, currentTurn, PlayerTurn::getNumberOfInfectionCardsToDraw);
+
+        final PlayerTurn turn;
+        final Integer turnNumber = (Integer) changes.get(TURN_NUMBER);
+        if (turnNumber != null && turnNumber != game.getNumberOfTurns()) {
+            final String playerName = valueOrCurrent(changes, TURN_PLAYER, currentTurn, t -> t.getPlayer().getName());
+            turn = new PlayerTurn(game, findPlayer(game, playerName), numberOfActionsToDo, numberOfPlayerCardsToDraw, numberOfInfectionCardsToDraw);
+            game.addPlayerTurn(turn);
+        } else {
+            turn = currentTurn;
+        }
+
+        turn.setNumberOfActionsToDo(numberOfActionsToDo);
+        turn.setNumberOfPlayerCardsToDraw(numberOfPlayerCardsToDraw);
+        turn.setNumberOfInfectionCardsToDraw(numberOfInfectionCardsToDraw);
+        turn.setPlayedCarrier(valueOrCurrent(changes, TURN_PLAYED_CARRIER, currentTurn, PlayerTurn::isPlayedCarrier));
+        turn.setCurrentAutoTriggerable(valueOrCurrent(changes, TURN_CURRENT_AUTO_TRIGGERABLE, currentTurn, PlayerTurn::getCurrentAutoTriggerable));
+        turn.setCurrentManualTriggerable(valueOrCurrent(changes, TURN_CURRENT_MANUAL_TRIGGERABLE, currentTurn, PlayerTurn::getCurrentManualTriggerable));
+        turn.setAreInteractionsBlocked(valueOrCurrent(changes, TURN_INTERACTIONS_BLOCKED, currentTurn, PlayerTurn::isAreInteractionsBlocked));
+
+        if (changes.containsKey(TURN_INFECTED_FIELDS) || turn != currentTurn) {
+            final List<List<Field>> infectedFieldsInTurn = turn.getInfectedFieldsInTurn();
+            infectedFieldsInTurn.clear();
+            final List<?> infectedCities = changes.containsKey(TURN_INFECTED_FIELDS) ?
+                    (List<?>) changes.get(TURN_INFECTED_FIELDS) :
+                    citiesOf(currentTurn);
+            for (final Object cities : infectedCities) {
+                final List<Field> fields = new ArrayList<>();
+                for (final Object cityName : (List<?>) cities) {
+                    fields.add(findField(fieldsByCityName, (String) cityName));
+                }
+                infectedFieldsInTurn.add(fields);
+            }
+        }
+    }
+
+    private static List<List<String>> citiesOf(final PlayerTurn turn) {
+        final List<List<String>> cities = new ArrayList<>();
+        if (turn != null) {
+            for (final List<Field> fields : turn.getInfectedFieldsInTurn()) {
+                cities.add(fields.stream().map(field -> field.getCity().getName()).toList());
+            }
+        }
+        return cities;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T valueOrCurrent(final Map<String, Serializable> changes,
+                                        final String key,
+                                        final PlayerTurn currentTurn,
+                                        final Function<PlayerTurn, T> currentValue) {
+        if (changes.containsKey(key)) {
+            return (T) changes.get(key);
+        }
+        if (currentTurn == null) {
+            throw new IllegalStateException("Missing " + key + " for the first player turn");
+        }
+        return currentValue.apply(currentTurn);
+    }
+
+    private static <T> void ifChanged(final Map<String, Serializable> changes,
+                                      final String key,
+                                      final Class<T> type,
+                                      final Consumer<T> consumer) {
+        if (changes.containsKey(key)) {
+            consumer.accept(type.cast(changes.get(key)));
+        }
+    }
+
+    private static void ifChangedList(final Map<String, Serializable> changes,
+                                      final String key,
+                                      final Consumer<List<?>> consumer) {
+        if (changes.containsKey(key)) {
+            consumer.accept((List<?>) changes.get(key));
+        }
+    }
+
+    private static Map<String, Field> indexFieldsByCityName(final Game game) {
+        final Map<String, Field> fieldsByCityName = new HashMap<>();
+        for (final Field field : game.getFields()) {
+            fieldsByCityName.put(field.getCity().getName(), field);
+        }
+        return fieldsByCityName;
+    }
+
+    private static Field findField(final Map<String, Field> fieldsByCityName, final String cityName) {
+        final Field field = fieldsByCityName.get(cityName);
+        if (field == null) {
+            throw new IllegalStateException("Field of city \"" + cityName + "\" could not be found");
+        }
+        return field;
+    }
+
+    private static Player findPlayer(final Game game, final String playerName) {
+        return game.getPlayersInTurnOrder().stream()
+                .filter(player -> player.getName().equals(playerName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Player \"" + playerName + "\" could not be found"));
+    }
+
+    private static Plague findPlague(final Game game, final String plagueName) {
+        return game.getPlagues().stream()
+                .filter(plague -> plague.getName().equals(plagueName))
+                .findFirst()
+                .or(() -> game.getMap().getType().getUniquePlagues().stream()
+                        .filter(plague -> plague.getName().equals(plagueName))
+                        .findFirst())
+                .orElseThrow(() -> new IllegalStateException("Plague \"" + plagueName + "\" could not be found"));
+    }
+}
@@ -0,0 +1,70 @@
+package de.uol.swp.common.game.delta;
+
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.Player;
+
+/**
+ * Keys of the entries captured by {@link GameStateSnapshot} and patched by {@link GameDeltaApplier}.
+ * <p>
+ * Every key addresses exactly one value of the mutable state of a {@link de.uol.swp.common.game.Game},
+ * so that a {@link GameDelta} can be described as a set of absolute values per key.
+ * </p>
+ */
+final class GameStateKeys {
+
+    static final String INDEX_OF_CURRENT_PLAYER = "game.indexOfCurrentPlayer";
+    static final String GAME_WON = "game.won";
+    static final String GAME_LOST = "game.lost";
+    static final String REQUIRES_TEXT_MESSAGE_MOVING_RESEARCH_LABORATORY = "game.requiresTextMessageMovingResearchLaboratory";
+    static final String RESEARCH_LABORATORY_BUTTON_CLICKED = "game.researchLaboratoryButtonClicked";
+    static final String NUMBER_OF_RESEARCH_LABORATORIES = "game.numberOfResearchLaboratories";
+
+    static final String OUTBREAK_MARKER_LEVEL = "marker.outbreak.level";
+    static final String OUTBREAK_MARKER_PREVIOUS_LEVEL = "marker.outbreak.previousLevel";
+    static final String INFECTION_MARKER_LEVEL = "marker.infection.level";
+    static final String INFECTION_MARKER_PREVIOUS_LEVEL = "marker.infection.previousLevel";
+    static final String ANTIDOTE_MARKERS = "marker.antidotes";
+
+    static final String PLAYER_DRAW_STACK = "stack.playerDraw";
+    static final String PLAYER_DISCARD_STACK = "stack.playerDiscard";
+    static final String INFECTION_DRAW_STACK = "stack.infectionDraw";
+    static final String INFECTION_DISCARD_STACK = "stack.infectionDiscard";
+
+    static final String TURN_NUMBER = "turn.number";
+    static final String TURN_PLAYER = "turn.player";
+    static final String TURN_NUMBER_OF_ACTIONS_TO_DO = "turn.numberOfActionsToDo";
+    static final String TURN_NUMBER_OF_PLAYER_CARDS_TO_DRAW = "turn.numberOfPlayerCardsToDraw";
+    static final String TURN_NUMBER_OF_INFECTION_CARDS_TO_DRAW = "turn.numberOfInfectionCardsToDraw";
+    static final String TURN_PLAYED_CARRIER = "turn.playedCarrier";
+    static final String TURN_CURRENT_AUTO_TRIGGERABLE = "turn.currentAutoTriggerable";
+    static final String TURN_CURRENT_MANUAL_TRIGGERABLE = "turn.currentManualTriggerable";
+    static final String TURN_INTERACTIONS_BLOCKED = "turn.interactionsBlocked";
+    static final String TURN_INFECTED_FIELDS = "turn.infectedFields";
+
+    private GameStateKeys() {}
+
+    static String plagueCubesOnField(final Field field, final Plague plague) {
+        return "field[" + field.getCity().getName() + "].plagueCubes[" + plague.getName() + "]";
+    }
+
+    static String researchLaboratoryOnField(final Field field) {
+        return "field[" + field.getCity().getName() + "].researchLaboratory";
+    }
+
+    static String plagueCubeSupply(final Plague plague) {
+        return "supply[" + plague.getName() + "]";
+    }
+
+    static String plagueExterminated(final Plague plague) {
+        return "plague[" + plague.getName() + "].exterminated";
+    }
+
+    static String playerField(final Player player) {
+        return "player[" + player.getName() + "].field";
+    }
+
+    static String playerHandCards(final Player player) {
+        return "player[" + player.getName() + "].handCards";
+    }
+}
@@ -0,0 +1,143 @@
+package de.uol.swp.common.game.delta;
+
+import de.uol.swp.common.card.Card;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.marker.AntidoteMarker;
+import de.uol.swp.common.marker.LevelableMarker;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.Player;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static de.uol.swp.common.game.delta.GameStateKeys.*;
+
+/**
+ * Captures the mutable state of a {@link Game} as a flat {@link Map} of keys to plain values.
+ * <p>
+ * The captured values only consist of numbers, booleans, names and titles, so that
+ * differences between two snapshots can be sent without the object graph of the {@link Game}.
+ * Static parts like the {@link de.uol.swp.common.map.MapType} are not captured.
+ * </p>
+ *
+ * @see GameDelta#between(int, long, long, Map, Map)
+ * @see GameDeltaApplier
+ */
+public final class GameStateSnapshot {
+
+    private GameStateSnapshot() {}
+
+    /**
+     * Captures the current state of the given {@link Game}.
+     *
+     * @param game {@link Game} to capture the state of
+     * @return unmodifiable {@link Map} of state keys to their current values
+     */
+    public static Map<String, Serializable> capture(final Game game) {
+        final Map<String, Serializable> state = new HashMap<>();
+        captureGame(game, state);
+        captureMarkers(game, state);
+        captureFields(game, state);
+        capturePlagues(game, state);
+        capturePlayers(game, state);
+        captureStacks(game, state);
+        if (game.getNumberOfTurns() > 0) {
+            captureTurn(game.getNumberOfTurns(), game.getCurrentTurn(), state);
+        }
+        return Collections.unmodifiableMap(state);
+    }
+
+    private static void captureGame(final Game game, final Map<String, Serializable> state) {
+        state.put(INDEX_OF_CURRENT_PLAYER, game.getIndexOfCurrentPlayer());
+        state.put(GAME_WON, game.isGameWon());
+        state.put(GAME_LOST, game.isGameLost());
+        state.put(REQUIRES_TEXT_MESSAGE_MOVING_RESEARCH_LABORATORY, game.isRequiresTextMessageMovingResearchLaboratory());
+        state.put(RESEARCH_LABORATORY_BUTTON_CLICKED, game.isResearchLaboratoryButtonClicked());
+        state.put(NUMBER_OF_RESEARCH_LABORATORIES, game.getResearchLaboratories().size());
+    }
+
+    private static void captureMarkers(final Game game, final Map<String, Serializable> state) {
+        captureLevelableMarker(game.getOutbreakMarker(), OUTBREAK_MARKER_LEVEL, OUTBREAK_MARKER_PREVIOUS_LEVEL, state);
+        captureLevelableMarker(game.getInfectionMarker(), INFECTION_MARKER_LEVEL, INFECTION_MARKER_PREVIOUS_LEVEL, state);
+
+        final ArrayList<String> antidotes = new ArrayList<>();
+        for (final AntidoteMarker antidoteMarker : game.getAntidoteMarkers()) {
+            antidotes.add(antidoteMarker.getPlague().getName());
+        }
+        state.put(ANTIDOTE_MARKERS, antidotes);
+    }
+
+    private static void captureLevelableMarker(final LevelableMarker marker,
+                                               final String levelKey,
+                                               final String previousLevelKey,
+                                               final Map<String, Serializable> state) {
+        state.put(levelKey, marker.getLevel());
+        state.put(previousLevelKey, marker.getPreviousLevel());
+    }
+
+    private static void captureFields(final Game game, final Map<String, Serializable> state) {
+        final Set<Plague> plagues = game.getMap().getType().getUniquePlagues();
+        for (final Field field : game.getFields()) {
+            for (final Plague plague : plagues) {
+                state.put(plagueCubesOnField(field, plague), field.getPlagueCubes().get(plague));
+            }
+            state.put(researchLaboratoryOnField(field), field.hasResearchLaboratory());
+        }
+    }
+
+    private static void capturePlagues(final Game game, final Map<String, Serializable> state) {
+        for (final Plague plague : game.getMap().getType().getUniquePlagues()) {
+            state.put(plagueCubeSupply(plague), game.getPlagueCubes().get(plague));
+        }
+        for (final Plague plague : game.getPlagues()) {
+            state.put(plagueExterminated(plague), plague.isExterminated());
+        }
+    }
+
+    private static void capturePlayers(final Game game, final Map<String, Serializable> state) {
+        for (final Player player : game.getPlayersInTurnOrder()) {
+            final Field currentField = player.getCurrentField();
+            state.put(playerField(player), currentField == null ? null : currentField.getCity().getName());
+            state.put(playerHandCards(player), titlesOf(player.getHandCards()));
+        }
+    }
+
+    private static void captureStacks(final Game game, final Map<String, Serializable> state) {
+        state.put(PLAYER_DRAW_STACK, titlesOf(game.getPlayerDrawStack()));
+        state.put(PLAYER_DISCARD_STACK, titlesOf(game.getPlayerDiscardStack()));
+        state.put(INFECTION_DRAW_STACK, titlesOf(game.getInfectionDrawStack()));
+        state.put(INFECTION_DISCARD_STACK, titlesOf(game.getInfectionDiscardStack()));
+    }
+
+    private static void captureTurn(final int turnNumber, final PlayerTurn turn, final Map<String, Serializable> state) {
+        state.put(TURN_NUMBER, turnNumber);
+        state.put(TURN_PLAYER, turn.getPlayer().getName());
+        state.put(TURN_NUMBER_OF_ACTIONS_TO_DO, turn.getNumberOfActionsToDo());
+        state.put(TURN_NUMBER_OF_PLAYER_CARDS_TO_DRAW, turn.getNumberOfPlayerCardsToDraw());
+        state.put(TURN_NUMBER_OF_INFECTION_CARDS_TO_DRAW, turn.getNumberOfInfectionCardsToDraw());
+        state.put(TURN_PLAYED_CARRIER, turn.isPlayedCarrier());
+        state.put(TURN_CURRENT_AUTO_TRIGGERABLE, turn.getCurrentAutoTriggerable());
+        state.put(TURN_CURRENT_MANUAL_TRIGGERABLE, turn.getCurrentManualTriggerable());
+        state.put(TURN_INTERACTIONS_BLOCKED, turn.isAreInteractionsBlocked());
+
+        final ArrayList<ArrayList<String>> infectedFields = new ArrayList<>();
+        for (final List<Field> fields : turn.getInfectedFieldsInTurn()) {
+            final ArrayList<String> cities = new ArrayList<>();
+            for (final Field field : fields) {
+                cities.add(field.getCity().getName());
+            }
+            infectedFields.add(cities);
+        }
+        state.put(TURN_INFECTED_FIELDS, infectedFields);
+    }
+
+    private static ArrayList<String> titlesOf(final Collection<? extends Card> cards) {
+        final ArrayList<String> titles = new ArrayList<>(cards.size());
+        for (final Card card : cards) {
+            titles.add(card.getTitle());
+        }
+        return titles;
+    }
+}
@@ -18,7 +18,12 @@ import lombok.NoArgsConstructor;
 @EqualsAndHashCode
 @Getter
 @NoArgsConstructor
-public class AbstractGameRequest extends AbstractRequestMessage {
+public class AbstractGameRequest extends AbstractRequestMessage implements GameRequest {
     protected Game game;
     protected Player player;
+
+    @Override
+    public int getGameId() {
+        return game.getId();
+    }
 }
@@ -0,0 +1,20 @@
+package de.uol.swp.common.game.request;
+
+import de.uol.swp.common.message.request.RequestMessage;
+
+/**
+ * A request that reads or changes exactly one {@link de.uol.swp.common.game.Game}.
+ * <p>
+ * The server processes all requests of the same game one after another,
+ * while requests of different games are processed in parallel.
+ * </p>
+ */
+public interface GameRequest extends RequestMessage {
+
+    /**
+     * Returns the id of the game this request belongs to
+     *
+     * @return id of the game
+     */
+    int getGameId();
+}
@@ -0,0 +1,19 @@
+package de.uol.swp.common.game.request;
+
+import de.uol.swp.common.message.request.AbstractRequestMessage;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Request sent by a client whose local copy of a {@link de.uol.swp.common.game.Game} is out of sync,
+ * e.g. because a {@link de.uol.swp.common.game.delta.GameDelta} could not be applied.
+ * The server answers with the complete {@link de.uol.swp.common.game.Game}.
+ */
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Getter
+public class RetrieveFullGameRequest extends AbstractRequestMessage implements GameRequest {
+
+    private int gameId;
+}
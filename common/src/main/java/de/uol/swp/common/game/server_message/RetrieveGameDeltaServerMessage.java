@@ -0,0 +1,22 @@
+package de.uol.swp.common.game.server_message;
+
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.message.server_message.AbstractServerMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Server message containing the changes of a {@link de.uol.swp.common.game.Game} since the previous update.
+ * <p>
+ * Sent instead of a {@link RetrieveUpdatedGameServerMessage} when the clients already know the previous
+ * version of the {@link de.uol.swp.common.game.Game}. The client applies the {@link GameDelta} to its local copy.
+ * </p>
+ *
+ * @see de.uol.swp.common.game.delta.GameDeltaApplier
+ */
+@AllArgsConstructor
+@Getter
+public class RetrieveGameDeltaServerMessage extends AbstractServerMessage {
+
+    private GameDelta delta;
+}
@@ -1,9 +1,12 @@
 package de.uol.swp.common.game.server_message;
 
 import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.delta.GameDelta;
 import de.uol.swp.common.message.server_message.AbstractServerMessage;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
 
 /**
  * Server message representing the retrieval of an updated game state.
@@ -11,10 +14,37 @@ import lombok.Getter;
  * This message is sent by the server to provide the clients with the latest {@link Game} object,
  * reflecting any updates or changes in the game state.
  * </p>
+ * <p>
+ * If a {@link GameDelta} is attached, only the delta is sent over the wire as a
+ * {@link RetrieveGameDeltaServerMessage}. Receivers on the server still get the complete {@link Game}.
+ * </p>
  */
-@AllArgsConstructor
 @Getter
 public class RetrieveUpdatedGameServerMessage extends AbstractServerMessage {
 
     private Game game;
+    @Setter
+    private transient GameDelta delta;
+
+    /**
+     * Constructor
+     *
+     * @param game the updated {@link Game}
+     */
+    public RetrieveUpdatedGameServerMessage(final Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Replaces this message with a {@link RetrieveGameDeltaServerMessage} on serialization if a {@link #delta} is attached.
+     *
+     * @return {@link RetrieveGameDeltaServerMessage} of {@link #delta} if present, this message otherwise
+     */
+    @Serial
+    private Object writeReplace() {
+        if (delta == null) {
+            return this;
+        }
+        return new RetrieveGameDeltaServerMessage(delta);
+    }
 }
@@ -0,0 +1,116 @@
+package de.uol.swp.common.game.turn;
+
+import de.uol.swp.common.action.ActionDependency;
+import de.uol.swp.common.card.PlayerCard;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Snapshot of the parts of the state of a {@link Game} the availability of actions depends on
+ *
+ * <p>
+ *     A {@link PlayerTurn} takes a snapshot whenever it determines the availability of its actions.
+ *     Comparing it with a later snapshot yields the {@link ActionDependency} values that changed in between,
+ *     so that only the actions depending on them have to be checked again.
+ * </p>
+ *
+ * @see ActionDependency
+ * @see PlayerTurn#getPossibleActions()
+ */
+final class ActionDependencySnapshot {
+
+    private final Field currentField;
+    private final List<Field> playerPositions;
+    private final List<List<PlayerCard>> handCards;
+    private final List<Field> researchLaboratoryFields;
+    private final int[] plagueCubesOnCurrentField;
+    private final boolean[] antidoteMarkers;
+    private final boolean[] exterminatedPlagues;
+    private final int numberOfExecutedCommands;
+    private final long version;
+
+    /**
+     * Constructor
+     *
+     * @param game the {@link Game} to take the snapshot of
+     * @param player the {@link Player} executing the actions
+     * @param numberOfExecutedCommands the number of commands executed during the current turn
+     */
+    ActionDependencySnapshot(final Game game, final Player player, final int numberOfExecutedCommands) {
+        this.currentField = player.getCurrentField();
+
+        final List<Player> players = game.getPlayersInTurnOrder();
+        this.playerPositions = new ArrayList<>(players.size());
+        this.handCards = new ArrayList<>(players.size());
+        for (final Player playerOfGame : players) {
+            playerPositions.add(playerOfGame.getCurrentField());
+            handCards.add(List.copyOf(playerOfGame.getHandCards()));
+        }
+
+        this.researchLaboratoryFields = new ArrayList<>();
+        for (final Field field : game.getFields()) {
+            if (field.hasResearchLaboratory()) {
+                researchLaboratoryFields.add(field);
+            }
+        }
+
+        final List<Plague> plagues = game.getPlagues();
+        this.plagueCubesOnCurrentField = new int[plagues.size()];
+        this.antidoteMarkers = new boolean[plagues.size()];
+        this.exterminatedPlagues = new boolean[plagues.size()];
+        for (int i = 0; i < plagues.size(); i++) {
+            if (currentField != null) {
+                plagueCubesOnCurrentField[i] = currentField.getNumberOfPlagueCubes(plagues.get(i));
+            }
+            antidoteMarkers[i] = game.hasAntidoteMarkerForPlague(plagues.get(i));
+            exterminatedPlagues[i] = plagues.get(i).isExterminated();
+        }
+
+        this.numberOfExecutedCommands = numberOfExecutedCommands;
+        this.version = game.getVersion();
+    }
+
+    /**
+     * Returns the parts of the game state that differ between this snapshot and the given earlier snapshot
+     *
+     * @param previous the earlier {@link ActionDependencySnapshot} of the same {@link Game} and {@link Player}
+     * @return {@link Set} of the changed {@link ActionDependency} values
+     */
+    Set<ActionDependency> getChangedDependencies(final ActionDependencySnapshot previous) {
+        final Set<ActionDependency> changedDependencies = EnumSet.noneOf(ActionDependency.class);
+        if (!Objects.equals(currentField, previous.currentField)) {
+            changedDependencies.add(ActionDependency.CURRENT_FIELD);
+        }
+        if (!playerPositions.equals(previous.playerPositions)) {
+            changedDependencies.add(ActionDependency.PLAYER_POSITIONS);
+        }
+        if (!handCards.equals(previous.handCards)) {
+            changedDependencies.add(ActionDependency.HAND_CARDS);
+        }
+        if (!researchLaboratoryFields.equals(previous.researchLaboratoryFields)) {
+            changedDependencies.add(ActionDependency.RESEARCH_LABORATORIES);
+        }
+        if (!Arrays.equals(plagueCubesOnCurrentField, previous.plagueCubesOnCurrentField)) {
+            changedDependencies.add(ActionDependency.PLAGUE_CUBES);
+        }
+        if (!Arrays.equals(antidoteMarkers, previous.antidoteMarkers) || !Arrays.equals(exterminatedPlagues, previous.exterminatedPlagues)) {
+            changedDependencies.add(ActionDependency.ANTIDOTE_MARKERS);
+        }
+        if (numberOfExecutedCommands != previous.numberOfExecutedCommands) {
+            changedDependencies.add(ActionDependency.EXECUTED_COMMANDS);
+        }
+        if (version != previous.version) {
+            changedDependencies.add(ActionDependency.GAME_VERSION);
+        }
+        return changedDependencies;
+    }
+}
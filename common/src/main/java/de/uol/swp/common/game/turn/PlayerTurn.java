@@ -26,26 +26,40 @@ public class PlayerTurn implements Serializable {
     private static final ActionFactory ACTION_FACTORY = new ActionFactory();
 
     private Game game;
+    /**
+     * The factory creating the actions of this turn, {@link #ACTION_FACTORY} if {@code null}
+     */
+    private transient ActionFactory actionFactory;
     @Getter
     private Player player;
     @Getter
     @Setter
     private int numberOfActionsToDo;
     @Getter
+    @Setter
     private int numberOfPlayerCardsToDraw;
     @Getter
     @Setter
     private int numberOfInfectionCardsToDraw;
+    @Getter
+    @Setter
     private boolean playedCarrier;
+    private transient List<Action> possibleActions;
+    private transient List<Class<? extends Action>> evaluatedActionClasses;
+    private transient boolean[] availabilityOfActions;
+    private transient ActionDependencySnapshot evaluatedSnapshot;
     @Getter
-    private List<Action> possibleActions;
+    @Setter
     private int currentAutoTriggerable;
     private List<AutoTriggerable> autoTriggerables;
+    @Getter
+    @Setter
     private int currentManualTriggerable;
     private List<ManualTriggerable> manualTriggerables;
     private List<Command> executedCommands;
     @Getter
     private List<List<Field>> infectedFieldsInTurn = new ArrayList<>();
+    @Getter
     @Setter
     private boolean areInteractionsBlocked;
 
@@ -58,29 +72,116 @@ public class PlayerTurn implements Serializable {
      * @param numberOfPlayerCardsToDraw the number of player cards to draw
      */
     public PlayerTurn(Game game, Player player, int numberOfActionsToDo, int numberOfPlayerCardsToDraw, int numberOfInfectionCardsToDraw) {
+        this(game, player, numberOfActionsToDo, numberOfPlayerCardsToDraw, numberOfInfectionCardsToDraw, null);
+    }
+
+    /**
+     * Constructor for creating a new PlayerTurn instance whose actions are created by the given factory.
+     *
+     * @param game the current game instance
+     * @param player the player whose turn it is
+     * @param numberOfActionsToDo the number of actions the player can perform
+     * @param numberOfPlayerCardsToDraw the number of player cards to draw
+     * @param numberOfInfectionCardsToDraw the number of infection cards to draw
+     * @param actionFactory the factory creating the actions of the turn
+     */
+    PlayerTurn(Game game, Player player, int numberOfActionsToDo, int numberOfPlayerCardsToDraw, int numberOfInfectionCardsToDraw, ActionFactory actionFactory) {
         this.game = game;
+        this.actionFactory = actionFactory;
         this.player = player;
         this.numberOfActionsToDo = numberOfActionsToDo;
         this.numberOfPlayerCardsToDraw = numberOfPlayerCardsToDraw;
         this.numberOfInfectionCardsToDraw = numberOfInfectionCardsToDraw;
         this.executedCommands = new ArrayList<>();
-        this.possibleActions = new ArrayList<>();
         this.autoTriggerables = new ArrayList<>();
         this.manualTriggerables = new ArrayList<>();
-        createPossibleActions();
         createTriggerables();
     }
 
     /**
-     * Creates a list of possible actions the player can perform during their turn.
+     * <p>
+     *     Returns the actions the player can currently perform during their turn.
+     * </p>
+     *
+     * <p>
+     *     The possible actions are not serialized with the turn. They are determined on the first call
+     *     and after every change of the state of {@link #game} on the next call,
+     *     so a client only evaluates them when it actually needs them.
+     * </p>
+     *
+     * @return {@link List} of the currently available actions
+     * @see #createPossibleActions()
+     */
+    public List<Action> getPossibleActions() {
+        if (this.possibleActions == null) {
+            createPossibleActions();
+        }
+        return this.possibleActions;
+    }
+
+    /**
+     * <p>
+     *     Creates a list of possible actions the player can perform during their turn.
+     * </p>
+     *
+     * <p>
+     *     New instances of all actions are created on every call, so that an action a caller changed is never
+     *     offered again. Only the result of {@link Action#isAvailable()} is kept between the calls:
+     *     it is determined again for the actions that depend on a part of the state of {@link #game}
+     *     that changed since their last evaluation.
+     * </p>
+     *
+     * @see Action#getDependencies()
+     * @see ActionDependencySnapshot#getChangedDependencies(ActionDependencySnapshot)
      */
     private void createPossibleActions() {
-        this.possibleActions.clear();
+        this.possibleActions = new ArrayList<>();
 
-        if (this.hasActionsToDo()) {
-            final List<Action> actions = createAllActions();
-            determineAvailabilityOfActions(actions);
+        if (!this.hasActionsToDo()) {
+            return;
+        }
+
+        final ActionDependencySnapshot snapshot = new ActionDependencySnapshot(game, player, executedCommands.size());
+        final List<Action> actions = createAllActionsForAllMovablePlayers();
+        final List<Class<? extends Action>> actionClasses = new ArrayList<>(actions.size());
+        actions.forEach(action -> actionClasses.add(action.getClass()));
+
+        final boolean evaluateAll = this.evaluatedSnapshot == null || !actionClasses.equals(this.evaluatedActionClasses);
+        final Set<ActionDependency> changedDependencies = evaluateAll ?
+                EnumSet.allOf(ActionDependency.class) :
+                snapshot.getChangedDependencies(this.evaluatedSnapshot);
+        if (evaluateAll) {
+            this.availabilityOfActions = new boolean[actions.size()];
+        }
+
+        for (int i = 0; i < actions.size(); i++) {
+            final Action action = actions.get(i);
+            if (evaluateAll || !Collections.disjoint(action.getDependencies(), changedDependencies)) {
+                availabilityOfActions[i] = determineAvailabilityOfAction(action);
+            } else {
+                initializeAction(action);
+            }
+            if (availabilityOfActions[i]) {
+                this.possibleActions.add(action);
+            }
         }
+        this.evaluatedActionClasses = actionClasses;
+        this.evaluatedSnapshot = snapshot;
+    }
+
+    /**
+     * <p>
+     *     Marks {@link #possibleActions} as outdated, so that they are evaluated against the current state of {@link #game}
+     *     on the next call of {@link #getPossibleActions()}.
+     * </p>
+     *
+     * <p>
+     *     Used when the state of {@link #game} was changed from outside of {@link #executeCommand(Command)},
+     *     e.g. when a client applied a {@link de.uol.swp.common.game.delta.GameDelta}.
+     * </p>
+     */
+    public void refreshPossibleActions() {
+        this.possibleActions = null;
     }
 
     /**
@@ -101,7 +202,7 @@ public class PlayerTurn implements Serializable {
     private List<Action> createAllActions() {
         final Set<Class<? extends RoleAction>> includeActionClasses = player.getRoleSpecificAdditionallyAvailableActionClasses();
         final Set<Class<? extends GeneralAction>> excludedActionClasses = player.getRoleSpecificUnavailableActionClasses();
-        return ACTION_FACTORY.createAllGeneralActionsExcludingSomeAndIncludingSomeRoleActions(
+        return getActionFactory().createAllGeneralActionsExcludingSomeAndIncludingSomeRoleActions(
                 excludedActionClasses,
                 includeActionClasses
         );
@@ -109,42 +210,43 @@ public class PlayerTurn implements Serializable {
 
     /**
      * <p>
-     *     Determines for a given {@link List} of actions which one of them is currently available to potentially be executed by {@link #player}.
+     *     Creates all actions by {@link #createAllActions()} and replaces every {@link MoveAllyAction}
+     *     by one copy for every {@link Player} it can move.
      * </p>
      *
-     * @param actions {@link List} of actions to check availability for
-     * @see #determineAvailabilityOfAction(Action)
+     * @return {@link List} of all actions of the turn
+     * @see #duplicateMoveAllyActionForEveryPlayer(MoveAllyAction, List)
      */
-    private void determineAvailabilityOfActions(final List<Action> actions) {
-        for (final Action action : actions) {
+    private List<Action> createAllActionsForAllMovablePlayers() {
+        final List<Action> allActions = new ArrayList<>();
+        for (final Action action : createAllActions()) {
             if (action instanceof MoveAllyAction moveAllyAction) {
-                determineAvailabilityOfMoveAllyAction(moveAllyAction);
+                allActions.addAll(duplicateMoveAllyActionForEveryPlayer(moveAllyAction, getMovablePlayers(moveAllyAction)));
             } else {
-                determineAvailabilityOfAction(action);
+                allActions.add(action);
             }
         }
+        return allActions;
     }
 
     /**
      * <p>
-     *     Determines for a given {@link MoveAllyAction} if it is currently available to potentially be executed by {@link #player}.
-     *     After duplicating the given {@link MoveAllyAction} for every {@link Player} in {@link #game} except {@link #player},
-     *     its availability is determined by {@link #determineAvailabilityOfAction(Action)}
+     *     Returns the players the given {@link MoveAllyAction} can move.
+     *     A {@link MoveAllyToAllyAction} can move every player, other actions every player except {@link #player}.
      * </p>
      *
-     * @param action {@link MoveAllyAction} to check availability for
-     * @see #duplicateMoveAllyActionForEveryPlayer(MoveAllyAction, List)
+     * @param action {@link MoveAllyAction} to get the movable players of
+     * @return {@link List} of players {@code action} can move
      * @see #getPlayersWithoutCurrentPlayer()
-     * @see #determineAvailabilityOfAction(Action)
      */
-    private void determineAvailabilityOfMoveAllyAction(final MoveAllyAction action) {
-        final List<Player> movablePlayers = action instanceof MoveAllyToAllyAction ?
+    private List<Player> getMovablePlayers(final MoveAllyAction action) {
+        return action instanceof MoveAllyToAllyAction ?
                 game.getPlayersInTurnOrder() :
                 getPlayersWithoutCurrentPlayer();
-        final List<MoveAllyAction> moveAllyActions = duplicateMoveAllyActionForEveryPlayer(action, movablePlayers);
-        for (final MoveAllyAction moveAllyAction : moveAllyActions) {
-            determineAvailabilityOfAction(moveAllyAction);
-        }
+    }
+
+    private ActionFactory getActionFactory() {
+        return actionFactory != null ? actionFactory : ACTION_FACTORY;
     }
 
     /**
@@ -189,7 +291,7 @@ public class PlayerTurn implements Serializable {
      * @return a copy of the given {@link MoveAllyAction} with {@code player} as moved ally
      */
     private MoveAllyAction duplicateMoveAllyActionForPlayer(final MoveAllyAction moveAllyAction, final Player player) {
-        final MoveAllyAction copy = ACTION_FACTORY.copyAction(moveAllyAction);
+        final MoveAllyAction copy = getActionFactory().copyAction(moveAllyAction);
         copy.setMovedAlly(player);
         if (player.equals(this.player)) {
             copy.approve();
@@ -200,7 +302,6 @@ public class PlayerTurn implements Serializable {
     /**
      * <p>
      *     Determines for a given {@link Action} if it is currently available to potentially be executed by {@link #player}.
-     *     If it is available, it gets added to {@link #possibleActions}.
      * </p>
      *
      * <p>
@@ -215,16 +316,24 @@ public class PlayerTurn implements Serializable {
      * </p>
      *
      * @param action {@link Action} to check availability for
+     * @return {@code true} if {@code action} is available, {@code false} otherwise
      * @see Action#setExecutingPlayer(Player)
      * @see Action#setGame(Game)
      * @see Action#isAvailable()
      */
-    private void determineAvailabilityOfAction(final Action action) {
+    private boolean determineAvailabilityOfAction(final Action action) {
+        initializeAction(action);
+        return action.isAvailable();
+    }
+
+    /**
+     * Sets {@link #player} as executing player and {@link #game} as game of the given {@link Action}
+     *
+     * @param action {@link Action} to initialize
+     */
+    private void initializeAction(final Action action) {
         action.setExecutingPlayer(player);
         action.setGame(game);
-        if (action.isAvailable()) {
-            this.possibleActions.add(action);
-        }
     }
 
     /**
@@ -235,7 +344,7 @@ public class PlayerTurn implements Serializable {
      * @return An {@code Optional} containing the first matching action if found, otherwise an empty {@code Optional}.
      */
     public <T extends Action> Optional<T> findActionOfType(final Class<T> type) {
-        return possibleActions.stream()
+        return getPossibleActions().stream()
                 .filter(type::isInstance)
                 .map(type::cast)
                 .findFirst();
@@ -377,9 +486,7 @@ public class PlayerTurn implements Serializable {
             reduceNumberOfActionsToDo();
         }
 
-        if (isInActionPhase()) {
-            createPossibleActions();
-        }
+        refreshPossibleActions();
     }
     /**
      * Fulfills the promise of a {@link DiscardCardsAction} by discarding the required card or cards after executing the action.
@@ -396,6 +503,15 @@ public class PlayerTurn implements Serializable {
         }
     }
 
+    /**
+     * Returns the commands executed during this turn in the order they were executed.
+     *
+     * @return unmodifiable {@link List} of the executed commands
+     */
+    public List<Command> getExecutedCommands() {
+        return Collections.unmodifiableList(this.executedCommands);
+    }
+
     /**
      * Executes the carrier action, if applicable, during the player's turn.
      */
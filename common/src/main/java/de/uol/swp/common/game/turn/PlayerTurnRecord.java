@@ -0,0 +1,81 @@
+package de.uol.swp.common.game.turn;
+
+import de.uol.swp.common.map.City;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.util.Command;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Immutable summary of a completed {@link PlayerTurn}.
+ * <p>
+ * A {@link de.uol.swp.common.game.Game} only keeps its current {@link PlayerTurn}.
+ * When a new turn starts, the completed turn is compacted into this record, which only holds names
+ * instead of references to the game, so that the turn history can be kept and sent apart from the game.
+ * </p>
+ *
+ * @see PlayerTurn
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class PlayerTurnRecord implements Serializable {
+    private final int turnNumber;
+    private final String playerName;
+    private final String roleName;
+    private final List<String> executedCommands;
+    private final List<String> infectedCityNames;
+
+    /**
+     * Constructor
+     *
+     * @param turnNumber the number of the turn, starting with 1 for the first turn of a game
+     * @param playerName the name of the player whose turn it was
+     * @param roleName the name of the role of that player, {@code null} if the player had no role
+     * @param executedCommands the names of the commands executed during the turn in order of execution
+     * @param infectedCityNames the names of the cities infected during the turn in order of infection
+     */
+    public PlayerTurnRecord(final int turnNumber,
+                            final String playerName,
+                            final String roleName,
+                            final List<String> executedCommands,
+                            final List<String> infectedCityNames) {
+        this.turnNumber = turnNumber;
+        this.playerName = playerName;
+        this.roleName = roleName;
+        this.executedCommands = List.copyOf(executedCommands);
+        this.infectedCityNames = List.copyOf(infectedCityNames);
+    }
+
+    /**
+     * Creates a record of the given completed {@link PlayerTurn}
+     *
+     * @param turnNumber the number of the given turn
+     * @param playerTurn the completed turn
+     * @return new {@link PlayerTurnRecord} of the given turn
+     */
+    public static PlayerTurnRecord of(final int turnNumber, final PlayerTurn playerTurn) {
+        final Player player = playerTurn.getPlayer();
+        final List<String> executedCommands = playerTurn.getExecutedCommands().stream()
+                .map(Command::getClass)
+                .map(Class::getSimpleName)
+                .toList();
+        final List<String> infectedCityNames = playerTurn.getInfectedFieldsInTurn().stream()
+                .flatMap(List::stream)
+                .map(Field::getCity)
+                .map(City::getName)
+                .toList();
+        return new PlayerTurnRecord(
+                turnNumber,
+                player.getName(),
+                player.getRole() != null ? player.getRole().getName() : null,
+                executedCommands,
+                infectedCityNames
+        );
+    }
+}
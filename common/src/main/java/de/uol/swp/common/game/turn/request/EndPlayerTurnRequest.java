@@ -1,6 +1,7 @@
 package de.uol.swp.common.game.turn.request;
 
 import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.request.GameRequest;
 import de.uol.swp.common.message.request.AbstractRequestMessage;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -12,6 +13,11 @@ import lombok.Getter;
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Getter
-public class EndPlayerTurnRequest extends AbstractRequestMessage {
+public class EndPlayerTurnRequest extends AbstractRequestMessage implements GameRequest {
     private final Game game;
+
+    @Override
+    public int getGameId() {
+        return game.getId();
+    }
 }
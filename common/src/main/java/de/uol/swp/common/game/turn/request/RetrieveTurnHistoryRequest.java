@@ -0,0 +1,23 @@
+package de.uol.swp.common.game.turn.request;
+
+import de.uol.swp.common.game.request.GameRequest;
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
+import de.uol.swp.common.message.request.AbstractRequestMessage;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Request sent by a client to page through the completed turns of a game.
+ * The server answers with up to {@link #limit} {@link PlayerTurnRecord}s, starting with the record at {@link #offset}.
+ *
+ * @see de.uol.swp.common.game.turn.response.RetrieveTurnHistoryResponse
+ */
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Getter
+public class RetrieveTurnHistoryRequest extends AbstractRequestMessage implements GameRequest {
+    private final int gameId;
+    private final int offset;
+    private final int limit;
+}
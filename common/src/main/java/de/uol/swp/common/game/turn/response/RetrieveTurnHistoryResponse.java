@@ -0,0 +1,39 @@
+package de.uol.swp.common.game.turn.response;
+
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
+import de.uol.swp.common.message.response.AbstractResponseMessage;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Response to a {@link de.uol.swp.common.game.turn.request.RetrieveTurnHistoryRequest}
+ * containing one page of the completed turns of a game.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class RetrieveTurnHistoryResponse extends AbstractResponseMessage {
+    private final int gameId;
+    private final int offset;
+    private final int numberOfCompletedTurns;
+    private final List<PlayerTurnRecord> turnRecords;
+
+    /**
+     * Constructor
+     *
+     * @param gameId the id of the game the turns belong to
+     * @param offset the index of the first returned record in the history of the game
+     * @param numberOfCompletedTurns the number of records in the history of the game
+     * @param turnRecords the requested page of records
+     */
+    public RetrieveTurnHistoryResponse(final int gameId,
+                                       final int offset,
+                                       final int numberOfCompletedTurns,
+                                       final List<PlayerTurnRecord> turnRecords) {
+        this.gameId = gameId;
+        this.offset = offset;
+        this.numberOfCompletedTurns = numberOfCompletedTurns;
+        this.turnRecords = List.copyOf(turnRecords);
+    }
+}
@@ -6,14 +6,13 @@ import de.uol.swp.common.map.exception.ResearchLaboratoryAlreadyBuiltOnFieldExce
 import de.uol.swp.common.map.research_laboratory.ResearchLaboratory;
 import de.uol.swp.common.plague.Plague;
 import de.uol.swp.common.plague.PlagueCube;
+import de.uol.swp.common.plague.PlagueCubeCounter;
 import de.uol.swp.common.player.Player;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -40,8 +39,7 @@ public class Field implements Serializable {
     private MapSlot mapSlot;
     private ResearchLaboratory researchLaboratory;
     @Getter
-    @Setter
-    private Map<Plague, List<PlagueCube>> plagueCubes;
+    private PlagueCubeCounter plagueCubes;
 
     /**
      * Constructor
@@ -52,9 +50,7 @@ public class Field implements Serializable {
     public Field(final GameMap map, final MapSlot mapSlot) {
         this.map = map;
         this.mapSlot = mapSlot;
-        this.plagueCubes = new HashMap<>();
-
-        initPlagueCubes();
+        this.plagueCubes = new PlagueCubeCounter(map.getType().getUniquePlagues());
     }
 
     @Override
@@ -62,16 +58,6 @@ public class Field implements Serializable {
         return mapSlot.toString();
     }
 
-    /**
-     * Initializes plagueCubes Map
-     */
-    private void initPlagueCubes() {
-        for (Plague plague : map.getType().getUniquePlagues()) {
-            List<PlagueCube> plagueList = new ArrayList<>();
-            plagueCubes.put(plague, plagueList);
-        }
-    }
-
     /**
      * @return X coordinate of the {@link #mapSlot}
      * @see MapSlot#getXCoordinate()
@@ -133,8 +119,8 @@ public class Field implements Serializable {
     public void infectField(final PlagueCube plagueCube, List<Field> infectedFields) {
         final Plague plague = plagueCube.getPlague();
         if (isInfectable(plague)) {
-            final List<PlagueCube> plagueCubeList = plagueCubes.get(plague);
-            plagueCubeList.add(plagueCube);
+            plagueCubes.increment(plague);
+            map.changeNumberOfPlagueCubesOnFields(plague, 1);
             infectedFields.add(this);
         } else {
             map.addPlagueCube(plagueCube);
@@ -155,13 +141,12 @@ public class Field implements Serializable {
      * @see GameMap#getMaxNumberOfPlagueCubesPerField()
      */
     public boolean isInfectable(final Plague plague) {
-        if (plagueCubes.containsKey(plague)) {
-            final List<PlagueCube> plagueCubeList = plagueCubes.get(plague);
+        if (plagueCubes.contains(plague)) {
             final int maxNumberOfPlagueCubesPerField = map.getMaxNumberOfPlagueCubesPerField();
-            return plagueCubeList.size() < maxNumberOfPlagueCubesPerField;
+            return plagueCubes.get(plague) < maxNumberOfPlagueCubesPerField;
         }
 
-        plagueCubes.put(plague, new ArrayList<>());
+        plagueCubes.add(plague);
         return true;
     }
 
@@ -180,18 +165,32 @@ public class Field implements Serializable {
      * @see PlagueCube
      */
     public PlagueCube cure(final Plague plague) throws NoPlagueCubesOfPlagueOnFieldException {
-        final List<PlagueCube> plagueCubeList = plagueCubes.getOrDefault(plague, List.of());
-
         if (!isCurable(plague)) {
             throw new NoPlagueCubesOfPlagueOnFieldException(plague.toString(), getCity().getName());
         }
 
-        final PlagueCube plagueCube = plagueCubeList.get(0);
-        plagueCubeList.remove(0);
+        plagueCubes.decrement(plague);
+        map.changeNumberOfPlagueCubesOnFields(plague, -1);
 
         map.isPlagueExterminated(plague);
 
-        return plagueCube;
+        return new PlagueCube(plague);
+    }
+
+    /**
+     * Sets the number of {@link PlagueCube}s of the given {@link Plague} on this field,
+     * e.g. when a changed game state is applied.
+     * The number of plague cubes on all fields of the {@link #map} is changed accordingly.
+     *
+     * @param plague {@link Plague} to set the number of plague cubes of
+     * @param number the new number of plague cubes
+     * @throws IllegalArgumentException if {@code number} is negative
+     * @see GameMap#getNumberOfPlagueCubesOnFields(Plague)
+     */
+    public void setNumberOfPlagueCubes(final Plague plague, final int number) {
+        final int difference = number - plagueCubes.get(plague);
+        plagueCubes.set(plague, number);
+        map.changeNumberOfPlagueCubesOnFields(plague, difference);
     }
 
     /**
@@ -203,8 +202,7 @@ public class Field implements Serializable {
      * @return {@code true} if there is at least one {@link PlagueCube}
      */
     public boolean isCurable(final Plague plague) {
-        final List<PlagueCube> plagueCubeList = plagueCubes.getOrDefault(plague, List.of());
-        return !plagueCubeList.isEmpty();
+        return plagueCubes.get(plague) > 0;
     }
 
     /**
@@ -301,12 +299,12 @@ public class Field implements Serializable {
     }
 
     /**
-     * Returns {@link List} of all {@link PlagueCube} of the given Plague found on the field
+     * Returns the number of {@link PlagueCube} of the given Plague found on the field
      *
-     * @param plague the {@link Plague} used to return the associated {@link PlagueCube} List
-     * @return {@link List} of all {@link PlagueCube} of the given Plague
+     * @param plague the {@link Plague} to count the {@link PlagueCube} of
+     * @return number of {@link PlagueCube} of the given Plague
      */
-    public List<PlagueCube> getPlagueCubesOfPlague(Plague plague){
+    public int getNumberOfPlagueCubes(Plague plague){
         return plagueCubes.get(plague);
     }
 
@@ -319,10 +317,8 @@ public class Field implements Serializable {
         int numberOfForeignPlagueTypes = 0;
         Plague associatedPlague = this.getPlague();
 
-        for (Map.Entry<Plague, List<PlagueCube>> entry : plagueCubes.entrySet()) {
-            List<PlagueCube> plagueCubeList = entry.getValue();
-
-            if (!entry.getKey().equals(associatedPlague) && plagueCubeList != null && !plagueCubeList.isEmpty()) {
+        for (Plague plague : plagueCubes.getPlagues()) {
+            if (!plague.equals(associatedPlague) && plagueCubes.get(plague) > 0) {
                 numberOfForeignPlagueTypes++;
             }
         }
@@ -336,12 +332,7 @@ public class Field implements Serializable {
      * @return {@link Map} of {@link Plague} and {@link Integer} for the amount of {@link PlagueCube} for each {@link Plague}
      */
     public Map<Plague, Integer> getPlagueCubeAmounts() {
-        Map<Plague, Integer> plagueCubeAmounts = new HashMap<>();
-
-        for (Map.Entry<Plague, List<PlagueCube>> entry : plagueCubes.entrySet()) {
-            plagueCubeAmounts.put(entry.getKey(), entry.getValue().size());
-        }
-        return plagueCubeAmounts;
+        return plagueCubes.toMap();
     }
     /**
      * Removes plague cubes of the specified type and returns them to the game's supply.
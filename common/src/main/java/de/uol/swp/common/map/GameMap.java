@@ -6,7 +6,7 @@ import de.uol.swp.common.map.exception.StartingFieldNotFoundException;
 import de.uol.swp.common.marker.AntidoteMarker;
 import de.uol.swp.common.plague.Plague;
 import de.uol.swp.common.plague.PlagueCube;
-import de.uol.swp.common.plague.exception.NoPlagueCubesFoundException;
+import de.uol.swp.common.plague.PlagueCubeCounter;
 import de.uol.swp.common.player.Player;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,6 +16,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 /**
@@ -37,8 +38,10 @@ public class GameMap implements Serializable {
     @EqualsAndHashCode.Exclude
     @Getter
     private List<Field> fields;
+    @EqualsAndHashCode.Exclude
+    private PlagueCubeCounter plagueCubesOnFields;
     @Setter
-    private transient BiConsumer<Game, Field> outbreakCallback;
+    private transient BiConsumer<Game, OutbreakReport> outbreakCallback;
 
     /**
      * Constructor
@@ -49,6 +52,7 @@ public class GameMap implements Serializable {
     public GameMap(final Game game, final MapType mapType) {
         this.game = game;
         this.type = mapType;
+        this.plagueCubesOnFields = new PlagueCubeCounter(mapType.getUniquePlagues());
         createFields();
     }
 
@@ -76,14 +80,11 @@ public class GameMap implements Serializable {
      * @throws StartingFieldNotFoundException when the starting field cannot be found
      */
     public Field getStartingField() throws StartingFieldNotFoundException {
-        final City startingCity = type.getStartingCity();
-        for (final Field field : this.fields) {
-            if (field.getCity().equals(startingCity)) {
-                return field;
-            }
+        final int startingIndex = type.getTopology().getStartingIndex();
+        if (startingIndex < 0) {
+            throw new StartingFieldNotFoundException(type.getStartingCity().getName());
         }
-
-        throw new StartingFieldNotFoundException(startingCity.getName());
+        return fields.get(startingIndex);
     }
 
     /**
@@ -121,76 +122,25 @@ public class GameMap implements Serializable {
      * Starts an outbreak chain on the given field with the specified plague.
      * This is the entry point for outbreak handling.
      *
+     * <p>
+     *     The chain is resolved by an {@link OutbreakResolver}. Each field has at most one outbreak per chain.
+     *     The {@link #outbreakCallback} is called once with the report of the whole chain if any outbreak happened.
+     * </p>
+     *
      * @param field Field where the outbreak starts
      * @param plague Type of plague causing the outbreak
      * @param infectedFields List to track all fields that get infected during this outbreak chain
+     * @return {@link OutbreakReport} of the resolved outbreak chain
+     * @see OutbreakResolver
      */
-    public void startOutbreak(final Field field, final Plague plague, List<Field> infectedFields) {
-        List<Field> fieldsWithOutbreak = new ArrayList<>();
-        startOutbreakRecursive(field, plague, infectedFields, fieldsWithOutbreak);
-    }
-
-    /**
-     * Recursively handles the outbreak chain, tracking both infected and outbreak fields.
-     * Prevents infinite loops by ensuring each field only outbreaks once per chain.
-     *
-     * @param field Current field experiencing an outbreak
-     * @param plague Type of plague causing the outbreak
-     * @param infectedFields Tracks all fields that get infected during this outbreak chain
-     * @param fieldsWithOutbreak Tracks fields that have already had an outbreak to prevent cycles
-     */
-    private void startOutbreakRecursive(Field field, Plague plague, List<Field> infectedFields, List<Field> fieldsWithOutbreak) {
-        if (fieldsWithOutbreak.contains(field)) {
-            return;
-        }
-
-        if (game.getOutbreakMarker().isAtMaximumLevel()) {
-            return;
-        }
-
-        if (outbreakCallback != null) {
-            outbreakCallback.accept(game, field);
-        }
-
-        fieldsWithOutbreak.add(field);
-        infectedFields.add(field);
-
-        game.startOutbreak();
-
-        if (game.isGameLost()) {
-            return;
-        }
+    public OutbreakReport startOutbreak(final Field field, final Plague plague, final List<Field> infectedFields) {
+        final OutbreakResolver resolver = new OutbreakResolver(game, fields, type.getTopology(), plague, infectedFields);
+        final OutbreakReport report = resolver.resolve(field);
 
-        List<Field> neighborFields = getNeighborFields(field);
-        processNeighborFieldsForOutbreak(neighborFields, plague, infectedFields, fieldsWithOutbreak);
-    }
-
-    /**
-     * Processes the neighboring fields of a field during an outbreak, infecting them if possible or handling recursive outbreaks.
-     * <p>
-     * For each neighboring field, this method checks if the field can be infected with the given plague. If infectable,
-     * the field is infected with a plague cube. If the field cannot be infected and is not already in the list of
-     * ongoing outbreaks, a recursive outbreak is started. If there are no plague cubes available, the processing stops.
-     * </p>
-     *
-     * @param neighborFields    The list of neighboring fields to process.
-     * @param plague            The plague spreading during the outbreak.
-     * @param infectedFields    The list of fields that have already been infected.
-     * @param fieldsWithOutbreak The list of fields where outbreaks are already occurring.
-     */
-    private void processNeighborFieldsForOutbreak(List<Field> neighborFields, Plague plague, List<Field> infectedFields, List<Field> fieldsWithOutbreak) {
-        for (Field neighborField : neighborFields) {
-            try {
-                if (neighborField.isInfectable(plague)) {
-                    PlagueCube plagueCube = game.getPlagueCubeOfPlague(plague);
-                    neighborField.infectField(plagueCube, infectedFields);
-                } else if (!fieldsWithOutbreak.contains(neighborField)) {
-                    startOutbreakRecursive(neighborField, plague, infectedFields, fieldsWithOutbreak);
-                }
-            } catch (NoPlagueCubesFoundException e) {
-                return;
-            }
+        if (outbreakCallback != null && !report.isEmpty()) {
+            outbreakCallback.accept(game, report);
         }
+        return report;
     }
 
     /**
@@ -211,20 +161,22 @@ public class GameMap implements Serializable {
      * Returns a {@link List} of all fields neighboring the given {@link Field}
      *
      * @param field {@link Field} to search neighbors for
-     * @return {@link List} of fields neighboring the given {@link Field}
+     * @return {@link List} of fields neighboring the given {@link Field}, empty if its {@link City} is not on this map
      * @see Field#getConnectedCities()
+     * @see MapTopology#getNeighbors(int)
      */
     public List<Field> getNeighborFields(final Field field) {
-        final List<Field> neighborFields = new ArrayList<>();
-
-        final List<City> neighborCities = field.getConnectedCities();
-
-        for (final Field f : this.fields) {
-            if (neighborCities.contains(f.getCity())) {
-                neighborFields.add(f);
-            }
+        final MapTopology topology = type.getTopology();
+        final int index = topology.indexOf(field.getCity());
+        if (index < 0) {
+            return new ArrayList<>();
         }
 
+        final int[] neighbors = topology.getNeighbors(index);
+        final List<Field> neighborFields = new ArrayList<>(neighbors.length);
+        for (final int neighbor : neighbors) {
+            neighborFields.add(fields.get(neighbor));
+        }
         return neighborFields;
     }
 
@@ -244,20 +196,39 @@ public class GameMap implements Serializable {
      * @return {@code true} if the given {@link Plague} is exterminated, {@code false} otherwise
      */
     public boolean isPlagueExterminated(final Plague plague) {
-        if (!game.hasAntidoteMarkerForPlague(plague)) {
+        if (!game.hasAntidoteMarkerForPlague(plague) || plagueCubesOnFields.get(plague) > 0) {
             return false;
         }
 
-        for (final Field field : fields) {
-            if (field.isCurable(plague)) {
-                return false;
-            }
-        }
-
         plague.exterminate();
         return true;
     }
 
+    /**
+     * Returns the number of {@link PlagueCube}s of the given {@link Plague} on all fields of this {@link GameMap}.
+     * <p>
+     *     The number is kept up to date by the fields whenever they are infected or cured,
+     *     so it does not have to be summed up over all fields.
+     * </p>
+     *
+     * @param plague {@link Plague} to get the number of plague cubes of
+     * @return the number of plague cubes of the given plague on all fields
+     */
+    public int getNumberOfPlagueCubesOnFields(final Plague plague) {
+        return plagueCubesOnFields.get(plague);
+    }
+
+    /**
+     * Changes the number of {@link PlagueCube}s of the given {@link Plague} on all fields by the given difference.
+     * Called by a {@link Field} of this map whenever its number of plague cubes changes.
+     *
+     * @param plague {@link Plague} whose number of plague cubes on a field has changed
+     * @param difference the change of the number of plague cubes, negative if plague cubes were removed
+     */
+    void changeNumberOfPlagueCubesOnFields(final Plague plague, final int difference) {
+        plagueCubesOnFields.set(plague, plagueCubesOnFields.get(plague) + difference);
+    }
+
     /**
      * Returns the {@link Field} of the {@link GameMap} that has the given {@link City} in its {@link MapSlot}
      *
@@ -266,12 +237,18 @@ public class GameMap implements Serializable {
      * @throws FieldOfCityNotFoundException {@link Field} for given {@link City} has not been found
      */
     public Field getFieldOfCity(City city){
-        for (Field field : fields) {
-            if (field.hasCity(city)) {
-                return field;
-            }
-        }
-        throw new FieldOfCityNotFoundException(city.getName());
+        return findFieldOfCity(city).orElseThrow(() -> new FieldOfCityNotFoundException(city.getName()));
+    }
+
+    /**
+     * Returns the {@link Field} of the {@link GameMap} that has the given {@link City} in its {@link MapSlot}
+     *
+     * @param city the {@link City} to get the associated {@link Field} for
+     * @return {@link Optional} of the {@link Field} associated with the given {@link City}, empty if there is none
+     */
+    public Optional<Field> findFieldOfCity(final City city) {
+        final int index = type.getTopology().indexOf(city);
+        return index < 0 ? Optional.empty() : Optional.of(fields.get(index));
     }
 
     /**
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
 
@@ -35,6 +36,17 @@ public class MapSlot implements Serializable {
         return city.getName();
     }
 
+    /**
+     * Replaces this MapSlot with a {@link MapSlotReference} on serialization if its {@link MapType} is registered in the {@link MapTypeCache}.
+     *
+     * @return {@link MapSlotReference} to this MapSlot if its {@link MapType} is registered, this MapSlot otherwise
+     */
+    @Serial
+    private Object writeReplace() {
+        final MapSlotReference reference = MapTypeCache.getDefault().getReference(this);
+        return reference != null ? reference : this;
+    }
+
     /**
      * <p>
      *     Returns {@code true} if given {@link Plague} is equal to {@link #plague}, {@code false} otherwise.
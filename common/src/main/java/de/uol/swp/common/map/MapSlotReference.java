@@ -0,0 +1,40 @@
+package de.uol.swp.common.map;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.InvalidObjectException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Serialized form of a {@link MapSlot} of a {@link MapType} registered in the {@link MapTypeCache}.
+ * It is resolved to the {@link MapSlot} at the same index of the cached {@link MapType} on deserialization.
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+public class MapSlotReference implements Serializable {
+
+    private final long mapTypeContentHash;
+    private final int index;
+
+    /**
+     * Replaces this reference with the {@link MapSlot} of the cached {@link MapType} on deserialization.
+     *
+     * @return the {@link MapSlot} at {@link #index}
+     * @throws InvalidObjectException if the {@link MapType} is not cached or has no such {@link MapSlot}
+     */
+    @Serial
+    private Object readResolve() throws InvalidObjectException {
+        final MapType mapType = MapTypeCache.getDefault().get(mapTypeContentHash)
+                .orElseThrow(() -> new InvalidObjectException("Unknown map type " + Long.toHexString(mapTypeContentHash)));
+        final List<MapSlot> slots = mapType.getMap();
+        if (index < 0 || index >= slots.size()) {
+            throw new InvalidObjectException("Map type " + mapType.getName() + " has no slot " + index);
+        }
+        return slots.get(index);
+    }
+}
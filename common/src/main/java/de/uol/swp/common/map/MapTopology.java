@@ -0,0 +1,100 @@
+package de.uol.swp.common.map;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the static structure of a {@link MapType}
+ *
+ * <p>
+ *     Every {@link MapSlot} is identified by its index in {@link MapType#getMap()}, which is also the index of its
+ *     {@link Field} in {@link GameMap#getFields()}. The topology maps every {@link City} to the index of its slot
+ *     and stores the indices of the neighbors of every slot, so that neighbor and city lookups do not have to scan
+ *     all slots. It is built once per {@link MapType} and shared by all games on it.
+ * </p>
+ *
+ * @see MapType#getTopology()
+ */
+public final class MapTopology {
+
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    private final Map<City, Integer> indexOfCity;
+    private final int[][] neighbors;
+    private final int startingIndex;
+
+    /**
+     * Constructor
+     *
+     * @param slots the slots of the {@link MapType}
+     * @param startingCity the city all players start in
+     */
+    MapTopology(final List<MapSlot> slots, final City startingCity) {
+        this.indexOfCity = new HashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            indexOfCity.putIfAbsent(slots.get(i).getCity(), i);
+        }
+        this.neighbors = new int[slots.size()][];
+        for (int i = 0; i < slots.size(); i++) {
+            neighbors[i] = createNeighbors(slots.get(i).getConnectedCities());
+        }
+        this.startingIndex = indexOf(startingCity);
+    }
+
+    /**
+     * Returns the index of the slot of the given {@link City}
+     *
+     * @param city the {@link City} to search
+     * @return the index of the slot of {@code city}, -1 if it is not on the map
+     */
+    public int indexOf(final City city) {
+        final Integer index = indexOfCity.get(city);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the indices of the slots connected to the slot with the given index, in ascending order.
+     * The returned array is shared and must not be modified.
+     *
+     * @param index the index of the slot
+     * @return the indices of the neighbors of the slot
+     */
+    public int[] getNeighbors(final int index) {
+        return neighbors[index];
+    }
+
+    /**
+     * Returns the index of the slot of the starting city
+     *
+     * @return the index of the slot of the starting city, -1 if it is not on the map
+     */
+    public int getStartingIndex() {
+        return startingIndex;
+    }
+
+    /**
+     * Returns the number of slots
+     *
+     * @return the number of slots of the {@link MapType}
+     */
+    public int size() {
+        return neighbors.length;
+    }
+
+    /**
+     * Returns the sorted indices of the given cities without duplicates, ignoring cities that are not on the map
+     */
+    private int[] createNeighbors(final List<City> connectedCities) {
+        if (connectedCities.isEmpty()) {
+            return NO_NEIGHBORS;
+        }
+        final int[] indices = connectedCities.stream()
+                .mapToInt(this::indexOf)
+                .filter(index -> index >= 0)
+                .sorted()
+                .distinct()
+                .toArray();
+        return indices.length == 0 ? NO_NEIGHBORS : indices;
+    }
+}
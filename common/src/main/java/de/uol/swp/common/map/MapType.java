@@ -4,7 +4,16 @@ import de.uol.swp.common.plague.Plague;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serial;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -28,9 +37,24 @@ public class MapType implements Serializable {
     private byte[] backgroundImage;
     private List<MapSlot> map;
     private City startingCity;
+    private transient long contentHash;
+    private transient MapTopology topology;
 
     public MapType(final String name, final List<MapSlot> map, final City startingCity) {
+        this(name, null, map, startingCity);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param name name of the map type
+     * @param backgroundImage image shown behind the map, may be {@code null}
+     * @param map the slots of all cities
+     * @param startingCity the city all players start in
+     */
+    public MapType(final String name, final byte[] backgroundImage, final List<MapSlot> map, final City startingCity) {
         this.name = name;
+        this.backgroundImage = backgroundImage;
         this.map = map;
         this.startingCity = startingCity;
     }
@@ -51,4 +75,83 @@ public class MapType implements Serializable {
         }
         return plaguesSet;
     }
+
+    /**
+     * <p>
+     *     Returns a hash of the static content of this MapType, i.e. its name, background image, slots and starting city.
+     *     The state of the plagues is not part of the content.
+     * </p>
+     *
+     * @return hash identifying MapTypes with the same content
+     * @see MapTypeCache
+     */
+    public long getContentHash() {
+        if (contentHash == 0) {
+            contentHash = computeContentHash();
+        }
+        return contentHash;
+    }
+
+    /**
+     * <p>
+     *     Returns the index of the cities and neighbors of this MapType, which is built on the first call.
+     * </p>
+     *
+     * @return {@link MapTopology} of this MapType
+     */
+    public MapTopology getTopology() {
+        MapTopology result = topology;
+        if (result == null) {
+            result = new MapTopology(map, startingCity);
+            topology = result;
+        }
+        return result;
+    }
+
+    /**
+     * Replaces this MapType with a {@link MapTypeReference} on serialization if it is registered in the {@link MapTypeCache}.
+     *
+     * @return {@link MapTypeReference} to this MapType if it is registered, this MapType otherwise
+     */
+    @Serial
+    private Object writeReplace() {
+        return MapTypeCache.getDefault().isRegistered(this) ? new MapTypeReference(getContentHash()) : this;
+    }
+
+    private long computeContentHash() {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            out.writeUTF(String.valueOf(name));
+            out.writeInt(backgroundImage == null ? -1 : backgroundImage.length);
+            if (backgroundImage != null) {
+                out.write(backgroundImage);
+            }
+            out.writeInt(map.size());
+            for (final MapSlot slot : map) {
+                writeCity(out, slot.getCity());
+                out.writeInt(slot.getConnectedCities().size());
+                for (final City connectedCity : slot.getConnectedCities()) {
+                    writeCity(out, connectedCity);
+                }
+                final Plague plague = slot.getPlague();
+                out.writeUTF(plague == null ? "" : plague.getName() + ";" + plague.getColor());
+                out.writeInt(slot.getXCoordinate());
+                out.writeInt(slot.getYCoordinate());
+            }
+            writeCity(out, startingCity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final long hash = ByteBuffer.wrap(digest.digest()).getLong();
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static void writeCity(final DataOutputStream out, final City city) throws IOException {
+        out.writeUTF(city == null ? "" : city.getName() + ";" + city.getInformation());
+    }
 }
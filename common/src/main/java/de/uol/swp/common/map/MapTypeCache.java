@@ -0,0 +1,153 @@
+package de.uol.swp.common.map;
+
+import java.io.InvalidObjectException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the {@link MapType}s both sides of a connection know, keyed by their content hash.
+ * <p>
+ * A registered {@link MapType} and its {@link MapSlot}s are serialized as {@link MapTypeReference}
+ * and {@link MapSlotReference} instead of their complete content. The server registers its map types
+ * on start and sends their {@link MapTypeDefinition}s to every client after the login. The client
+ * registers every received {@link MapTypeDefinition}, before any message referencing it is read.
+ * </p>
+ * <p>
+ * A client only has the connection to its server, so the cache of its process is the cache of that connection.
+ * The server shares its cache between all connections and therefore {@link #rejectDefinitions() rejects}
+ * definitions sent by clients that describe map types it does not know. At most {@value #MAX_MAP_TYPES}
+ * map types are cached.
+ * </p>
+ *
+ * @see MapType#getContentHash()
+ */
+public final class MapTypeCache {
+
+    /**
+     * Maximum number of cached map types
+     */
+    static final int MAX_MAP_TYPES = 64;
+
+    private static final MapTypeCache DEFAULT = new MapTypeCache();
+
+    private final Map<Long, MapType> mapTypes = new ConcurrentHashMap<>();
+    private volatile Map<MapSlot, MapSlotReference> slotReferences = new IdentityHashMap<>();
+    private volatile boolean acceptsDefinitions = true;
+
+    /**
+     * Constructor
+     */
+    MapTypeCache() {
+    }
+
+    /**
+     * Returns the cache used for the serialization of {@link MapType}s
+     *
+     * @return the cache of this process
+     */
+    public static MapTypeCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Registers a {@link MapType}. If a {@link MapType} with the same content was registered before,
+     * the previously registered one is kept.
+     *
+     * @param mapType the {@link MapType} to register
+     * @return the registered {@link MapType} with the content hash of {@code mapType}
+     * @throws IllegalStateException if {@value #MAX_MAP_TYPES} other map types are registered already
+     */
+    public synchronized MapType register(final MapType mapType) {
+        final MapType registered = mapTypes.get(mapType.getContentHash());
+        if (registered != null) {
+            return registered;
+        }
+        if (mapTypes.size() >= MAX_MAP_TYPES) {
+            throw new IllegalStateException("Cannot register more than " + MAX_MAP_TYPES + " map types");
+        }
+        mapTypes.put(mapType.getContentHash(), mapType);
+        final Map<MapSlot, MapSlotReference> references = new IdentityHashMap<>(slotReferences);
+        final List<MapSlot> slots = mapType.getMap();
+        for (int i = 0; i < slots.size(); i++) {
+            references.put(slots.get(i), new MapSlotReference(mapType.getContentHash(), i));
+        }
+        slotReferences = references;
+        return mapType;
+    }
+
+    /**
+     * Registers the {@link MapType} of a received {@link MapTypeDefinition}.
+     *
+     * @param mapType the described {@link MapType}
+     * @return the registered {@link MapType} with the content hash of {@code mapType}
+     * @throws InvalidObjectException if definitions are {@link #rejectDefinitions() rejected} and the map type
+     *                                is not registered yet, or if the cache is full
+     */
+    synchronized MapType registerDefinition(final MapType mapType) throws InvalidObjectException {
+        final MapType registered = mapTypes.get(mapType.getContentHash());
+        if (registered != null) {
+            return registered;
+        }
+        if (!acceptsDefinitions) {
+            throw new InvalidObjectException("Definition of unknown map type " + mapType.getName() + " is rejected");
+        }
+        if (mapTypes.size() >= MAX_MAP_TYPES) {
+            throw new InvalidObjectException("Cannot register more than " + MAX_MAP_TYPES + " map types");
+        }
+        return register(mapType);
+    }
+
+    /**
+     * Stops registering received {@link MapTypeDefinition}s of map types that are not registered yet.
+     * <p>
+     * Called by the server, which registers all map types itself and shares the cache between the connections
+     * of all clients.
+     */
+    public void rejectDefinitions() {
+        acceptsDefinitions = false;
+    }
+
+    /**
+     * Returns the registered {@link MapType} with the given content hash
+     *
+     * @param contentHash the content hash of the {@link MapType}
+     * @return {@link Optional} of the {@link MapType}, empty if it is not registered
+     */
+    public Optional<MapType> get(final long contentHash) {
+        return Optional.ofNullable(mapTypes.get(contentHash));
+    }
+
+    /**
+     * Returns all registered {@link MapType}s
+     *
+     * @return {@link Collection} of the registered {@link MapType}s
+     */
+    public Collection<MapType> getAll() {
+        return new ArrayList<>(mapTypes.values());
+    }
+
+    /**
+     * Checks if the given instance is registered. Other instances with the same content are not.
+     *
+     * @param mapType the {@link MapType} to check
+     * @return {@code true} if {@code mapType} is registered, {@code false} otherwise
+     */
+    boolean isRegistered(final MapType mapType) {
+        return mapTypes.get(mapType.getContentHash()) == mapType;
+    }
+
+    /**
+     * Returns the reference to the given {@link MapSlot} if it belongs to a registered {@link MapType}
+     *
+     * @param mapSlot the {@link MapSlot} to look up
+     * @return the reference to {@code mapSlot}, {@code null} if it does not belong to a registered {@link MapType}
+     */
+    MapSlotReference getReference(final MapSlot mapSlot) {
+        return slotReferences.get(mapSlot);
+    }
+}
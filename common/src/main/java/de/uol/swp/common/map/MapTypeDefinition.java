@@ -0,0 +1,103 @@
+package de.uol.swp.common.map;
+
+import de.uol.swp.common.plague.Plague;
+import lombok.Getter;
+
+import java.io.InvalidObjectException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Complete content of a {@link MapType}, sent once per connection.
+ * <p>
+ * Unlike a {@link MapType}, a {@link MapTypeDefinition} is never replaced by a reference on serialization.
+ * On deserialization the described {@link MapType} is registered in the {@link MapTypeCache},
+ * so that all following messages can reference it.
+ * </p>
+ */
+@Getter
+public class MapTypeDefinition implements Serializable {
+
+    private final long contentHash;
+    private final String name;
+    private final byte[] backgroundImage;
+    private final City startingCity;
+    private final List<City> cities;
+    private final List<List<City>> connectedCities;
+    private final List<Plague> plagues;
+    private final int[] xCoordinates;
+    private final int[] yCoordinates;
+
+    /**
+     * Constructor
+     *
+     * @param mapType the {@link MapType} to describe
+     */
+    public MapTypeDefinition(final MapType mapType) {
+        final List<MapSlot> slots = mapType.getMap();
+        this.contentHash = mapType.getContentHash();
+        this.name = mapType.getName();
+        this.backgroundImage = mapType.getBackgroundImage();
+        this.startingCity = mapType.getStartingCity();
+        this.cities = new ArrayList<>(slots.size());
+        this.connectedCities = new ArrayList<>(slots.size());
+        this.plagues = new ArrayList<>(slots.size());
+        this.xCoordinates = new int[slots.size()];
+        this.yCoordinates = new int[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            final MapSlot slot = slots.get(i);
+            cities.add(slot.getCity());
+            connectedCities.add(new ArrayList<>(slot.getConnectedCities()));
+            plagues.add(slot.getPlague());
+            xCoordinates[i] = slot.getXCoordinate();
+            yCoordinates[i] = slot.getYCoordinate();
+        }
+    }
+
+    /**
+     * Creates the described {@link MapType}
+     *
+     * @return new {@link MapType} with the content of this definition
+     */
+    public MapType toMapType() {
+        final List<MapSlot> slots = new ArrayList<>(cities.size());
+        final List<Plague> freshPlagues = new ArrayList<>();
+        for (int i = 0; i < cities.size(); i++) {
+            slots.add(new MapSlot(cities.get(i), new ArrayList<>(connectedCities.get(i)), freshPlague(plagues.get(i), freshPlagues), xCoordinates[i], yCoordinates[i]));
+        }
+        return new MapType(name, backgroundImage, slots, startingCity);
+    }
+
+    /**
+     * Registers the described {@link MapType} in the {@link MapTypeCache} on deserialization.
+     *
+     * @return this definition
+     * @throws InvalidObjectException if the content does not match the content hash or the cache does not accept it
+     * @see MapTypeCache#rejectDefinitions()
+     */
+    @Serial
+    private Object readResolve() throws InvalidObjectException {
+        final MapType mapType = toMapType();
+        if (mapType.getContentHash() != contentHash) {
+            throw new InvalidObjectException("Content of map type " + name + " does not match its hash");
+        }
+        MapTypeCache.getDefault().registerDefinition(mapType);
+        return this;
+    }
+
+    /**
+     * Returns a single not exterminated {@link Plague} per name, as the state of a plague is part of the game.
+     */
+    private static Plague freshPlague(final Plague plague, final List<Plague> freshPlagues) {
+        for (final Plague freshPlague : freshPlagues) {
+            if (freshPlague.equals(plague)) {
+                return freshPlague;
+            }
+        }
+        final Plague freshPlague = new Plague(plague.getName(), plague.getColor());
+        freshPlagues.add(freshPlague);
+        return freshPlague;
+    }
+}
@@ -0,0 +1,33 @@
+package de.uol.swp.common.map;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.InvalidObjectException;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Serialized form of a {@link MapType} registered in the {@link MapTypeCache}.
+ * It is resolved to the {@link MapType} with the same content hash on deserialization.
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+public class MapTypeReference implements Serializable {
+
+    private final long contentHash;
+
+    /**
+     * Replaces this reference with the cached {@link MapType} on deserialization.
+     *
+     * @return the {@link MapType} with {@link #contentHash}
+     * @throws InvalidObjectException if the {@link MapType} is not cached
+     */
+    @Serial
+    private Object readResolve() throws InvalidObjectException {
+        return MapTypeCache.getDefault().get(contentHash)
+                .orElseThrow(() -> new InvalidObjectException("Unknown map type " + Long.toHexString(contentHash)));
+    }
+}
@@ -0,0 +1,61 @@
+package de.uol.swp.common.map;
+
+import de.uol.swp.common.plague.Plague;
+import lombok.Getter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Result of one outbreak chain resolved by the {@link OutbreakResolver}
+ *
+ * <p>
+ *     Lists the fields that had an outbreak in the order the chain reached them, and the fields that received a
+ *     plague cube from a neighboring outbreak in the order the plague cubes were placed.
+ *     A field may receive several plague cubes during one chain, so it may appear several times in
+ *     {@link #getPlacements()}.
+ * </p>
+ *
+ * @see GameMap#startOutbreak(Field, Plague, List)
+ */
+@Getter
+public final class OutbreakReport {
+
+    private final Plague plague;
+    private final List<Field> outbreaks;
+    private final List<Field> placements;
+
+    /**
+     * Constructor
+     *
+     * @param plague the {@link Plague} that broke out
+     * @param outbreaks the fields with an outbreak in chain order
+     * @param placements the fields that received a plague cube in placement order
+     */
+    public OutbreakReport(final Plague plague, final List<Field> outbreaks, final List<Field> placements) {
+        this.plague = plague;
+        this.outbreaks = List.copyOf(outbreaks);
+        this.placements = List.copyOf(placements);
+    }
+
+    /**
+     * Returns all fields affected by the outbreak chain without duplicates
+     *
+     * @return the fields with an outbreak followed by the fields that only received plague cubes
+     */
+    public List<Field> getAffectedFields() {
+        final Set<Field> affectedFields = new LinkedHashSet<>(outbreaks);
+        affectedFields.addAll(placements);
+        return List.copyOf(affectedFields);
+    }
+
+    /**
+     * Returns whether an outbreak happened at all
+     *
+     * @return {@code true} if no field had an outbreak, e.g. because the outbreak marker was at its maximum level
+     */
+    public boolean isEmpty() {
+        return outbreaks.isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package de.uol.swp.common.map;
+
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.plague.PlagueCube;
+import de.uol.swp.common.plague.exception.NoPlagueCubesFoundException;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Resolves one outbreak chain on a {@link GameMap} without recursion
+ *
+ * <p>
+ *     Fields are identified by their index in the {@link MapTopology}, and the fields that already had an outbreak
+ *     are tracked in a {@link BitSet}. The chain is resolved depth first with an explicit stack of fields and the
+ *     position of the next neighbor to visit, so it visits the neighbors in ascending index order just like a
+ *     recursive resolution would, and the result only depends on the state of the game.
+ * </p>
+ *
+ * <p>
+ *     The resolution of a field stops if there are no plague cubes of the plague left, and no further outbreak starts
+ *     once the outbreak marker reached its maximum level or the game is lost.
+ * </p>
+ *
+ * @see OutbreakReport
+ */
+final class OutbreakResolver {
+
+    private final Game game;
+    private final List<Field> fields;
+    private final MapTopology topology;
+    private final Plague plague;
+    private final List<Field> infectedFields;
+
+    private final BitSet fieldsWithOutbreak;
+    private final List<Field> outbreaks;
+    private final List<Field> placements;
+    private final int[] stackOfFields;
+    private final int[] stackOfNeighborPositions;
+    private int stackSize;
+
+    /**
+     * Constructor
+     *
+     * @param game the {@link Game} to take plague cubes from and to increase the outbreak marker of
+     * @param fields the fields of the {@link GameMap} in the order of the slots of its {@link MapType}
+     * @param topology the {@link MapTopology} of the {@link MapType}
+     * @param plague the {@link Plague} that breaks out
+     * @param infectedFields list to add every field with an outbreak or a new plague cube to
+     */
+    OutbreakResolver(final Game game,
+                     final List<Field> fields,
+                     final MapTopology topology,
+                     final Plague plague,
+                     final List<Field> infectedFields) {
+        this.game = game;
+        this.fields = fields;
+        this.topology = topology;
+        this.plague = plague;
+        this.infectedFields = infectedFields;
+        this.fieldsWithOutbreak = new BitSet(topology.size());
+        this.outbreaks = new ArrayList<>();
+        this.placements = new ArrayList<>();
+        this.stackOfFields = new int[topology.size()];
+        this.stackOfNeighborPositions = new int[topology.size()];
+    }
+
+    /**
+     * Resolves the outbreak chain starting with an outbreak on the given field
+     *
+     * @param origin the {@link Field} the outbreak starts on
+     * @return {@link OutbreakReport} of the resolved chain
+     */
+    OutbreakReport resolve(final Field origin) {
+        startOutbreak(origin, topology.indexOf(origin.getCity()));
+
+        while (stackSize > 0) {
+            final int top = stackSize - 1;
+            final int[] neighbors = topology.getNeighbors(stackOfFields[top]);
+            if (stackOfNeighborPositions[top] == neighbors.length) {
+                stackSize--;
+                continue;
+            }
+
+            final int neighbor = neighbors[stackOfNeighborPositions[top]++];
+            final Field neighborField = fields.get(neighbor);
+            if (neighborField.isInfectable(plague)) {
+                if (!placePlagueCube(neighborField)) {
+                    stackSize--;
+                }
+            } else if (!fieldsWithOutbreak.get(neighbor)) {
+                startOutbreak(neighborField, neighbor);
+            }
+        }
+
+        return new OutbreakReport(plague, outbreaks, placements);
+    }
+
+    /**
+     * Starts an outbreak on the given field and pushes it onto the stack if its neighbors have to be visited
+     */
+    private void startOutbreak(final Field field, final int index) {
+        if (index >= 0 && fieldsWithOutbreak.get(index)) {
+            return;
+        }
+        if (game.getOutbreakMarker().isAtMaximumLevel()) {
+            return;
+        }
+
+        if (index >= 0) {
+            fieldsWithOutbreak.set(index);
+        }
+        outbreaks.add(field);
+        infectedFields.add(field);
+
+        game.startOutbreak();
+
+        if (game.isGameLost() || index < 0) {
+            return;
+        }
+
+        stackOfFields[stackSize] = index;
+        stackOfNeighborPositions[stackSize] = 0;
+        stackSize++;
+    }
+
+    /**
+     * Places a plague cube from the supply of the game on the given field
+     *
+     * @return {@code false} if there are no plague cubes of the plague left
+     */
+    private boolean placePlagueCube(final Field field) {
+        final PlagueCube plagueCube;
+        try {
+            plagueCube = game.getPlagueCubeOfPlague(plague);
+        } catch (NoPlagueCubesFoundException e) {
+            return false;
+        }
+        field.infectField(plagueCube, infectedFields);
+        placements.add(field);
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package de.uol.swp.common.map.response;
+
+import de.uol.swp.common.map.MapTypeDefinition;
+import de.uol.swp.common.message.response.AbstractResponseMessage;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+
+/**
+ * This class contains the definitions of all map types of the server and is sent once after the login.
+ * The definitions are registered in the {@link de.uol.swp.common.map.MapTypeCache} of the client while the message is read,
+ * so that all following messages only reference the map types by their content hash.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@AllArgsConstructor
+public class MapTypeDefinitionsResponse extends AbstractResponseMessage {
+    private ArrayList<MapTypeDefinition> definitions;
+}
@@ -1,6 +1,7 @@
 package de.uol.swp.common.marker;
 
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.List;
 
@@ -16,8 +17,11 @@ import java.util.List;
  */
 public abstract class LevelableMarker extends Marker{
     @Getter
+    @Setter
     private int level;
     private final List<Integer> levelValues;
+    @Getter
+    @Setter
     private int previousLevel;
 
     /**
@@ -1,5 +1,6 @@
 package de.uol.swp.common.message;
 
+import de.uol.swp.common.codec.SharedMessageEncoding;
 import de.uol.swp.common.message.response.ResponseMessage;
 import de.uol.swp.common.message.server_message.ServerMessage;
 
@@ -26,4 +27,26 @@ public interface MessageContext extends Serializable {
      * @param message The server message that should be sent
      */
     void writeAndFlush(ServerMessage message);
+
+    /**
+     * Send a ServerMessage that is sent to several clients
+     * <p>
+     * Implementations may use the already encoded frame of the message instead of encoding it again.
+     * By default the message is sent as usual.
+     *
+     * @param message The server message that should be sent
+     * @param encoding The encoding shared by all receivers of the message
+     */
+    default void writeAndFlush(ServerMessage message, SharedMessageEncoding encoding) {
+        writeAndFlush(message);
+    }
+
+    /**
+     * Returns the number of messages that wait to be sent, because the client does not read them fast enough
+     *
+     * @return number of waiting messages, 0 if the implementation does not queue messages
+     */
+    default int getOutboundQueueDepth() {
+        return 0;
+    }
 }
@@ -0,0 +1,172 @@
+package de.uol.swp.common.plague;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Number of {@link PlagueCube}s per {@link Plague}
+ *
+ * <p>
+ *     A plague cube carries no state besides its plague, so fields and the supply of a game only count them.
+ *     The counter stores one {@code int} per plague, indexed by the position of the plague in a small array.
+ *     Games know only a handful of plagues, so a linear search is faster than hashing.
+ *     Plagues that are not known yet are appended with a number of 0 when they are first set or incremented.
+ * </p>
+ *
+ * @see PlagueCube
+ */
+public class PlagueCubeCounter implements Serializable {
+
+    private Plague[] plagues;
+    private int[] numbers;
+
+    /**
+     * Constructor
+     *
+     * @param plagues the plagues to count, each starting with 0 plague cubes
+     */
+    public PlagueCubeCounter(final Collection<Plague> plagues) {
+        this(plagues, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param plagues the plagues to count
+     * @param number the initial number of plague cubes of every plague
+     */
+    public PlagueCubeCounter(final Collection<Plague> plagues, final int number) {
+        this.plagues = plagues.toArray(new Plague[0]);
+        this.numbers = new int[this.plagues.length];
+        Arrays.fill(numbers, number);
+    }
+
+    /**
+     * Returns whether the given plague is counted
+     *
+     * @param plague the {@link Plague} to check
+     * @return {@code true} if the plague has been counted before, even with 0 plague cubes
+     */
+    public boolean contains(final Plague plague) {
+        return indexOf(plague) >= 0;
+    }
+
+    /**
+     * Returns the number of plague cubes of the given plague
+     *
+     * @param plague the {@link Plague} to get the number of plague cubes of
+     * @return the number of plague cubes of the plague, 0 if it is not counted
+     */
+    public int get(final Plague plague) {
+        final int index = indexOf(plague);
+        return index < 0 ? 0 : numbers[index];
+    }
+
+    /**
+     * Sets the number of plague cubes of the given plague, adding the plague if it is not counted
+     *
+     * @param plague the {@link Plague} to set the number of plague cubes of
+     * @param number the new number of plague cubes
+     * @throws IllegalArgumentException if {@code number} is negative
+     */
+    public void set(final Plague plague, final int number) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Number of plague cubes must not be negative: " + number);
+        }
+        final int index = indexOfOrAdd(plague);
+        numbers[index] = number;
+    }
+
+    /**
+     * Adds the given plague with 0 plague cubes if it is not counted
+     *
+     * @param plague the {@link Plague} to add
+     */
+    public void add(final Plague plague) {
+        indexOfOrAdd(plague);
+    }
+
+    /**
+     * Adds one plague cube of the given plague, adding the plague if it is not counted
+     *
+     * @param plague the {@link Plague} of the plague cube
+     * @return the new number of plague cubes of the plague
+     */
+    public int increment(final Plague plague) {
+        final int index = indexOfOrAdd(plague);
+        return ++numbers[index];
+    }
+
+    /**
+     * Removes one plague cube of the given plague
+     *
+     * @param plague the {@link Plague} of the plague cube
+     * @return the new number of plague cubes of the plague
+     * @throws IllegalStateException if there is no plague cube of the plague
+     */
+    public int decrement(final Plague plague) {
+        final int index = indexOf(plague);
+        if (index < 0 || numbers[index] == 0) {
+            throw new IllegalStateException("No plague cubes of " + plague + " left");
+        }
+        return --numbers[index];
+    }
+
+    /**
+     * Returns the counted plagues in the order they were added
+     *
+     * @return unmodifiable {@link List} of all counted plagues
+     */
+    public List<Plague> getPlagues() {
+        return List.of(plagues);
+    }
+
+    /**
+     * Returns the number of plague cubes of every counted plague
+     *
+     * @return new {@link Map} from every counted plague to its number of plague cubes
+     */
+    public Map<Plague, Integer> toMap() {
+        final Map<Plague, Integer> map = new HashMap<>();
+        for (int i = 0; i < plagues.length; i++) {
+            map.put(plagues[i], numbers[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Returns the position of the given plague in this counter.
+     * The position of a plague does not change once it is counted, as plagues are only appended.
+     *
+     * @param plague the {@link Plague} to get the position of
+     * @return the position of the plague in {@link #getPlagues()}, -1 if it is not counted
+     */
+    public int indexOf(final Plague plague) {
+        for (int i = 0; i < plagues.length; i++) {
+            if (plagues[i] == plague) {
+                return i;
+            }
+        }
+        for (int i = 0; i < plagues.length; i++) {
+            if (plagues[i].equals(plague)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOfOrAdd(final Plague plague) {
+        final int index = indexOf(plague);
+        if (index >= 0) {
+            return index;
+        }
+        plagues = Arrays.copyOf(plagues, plagues.length + 1);
+        plagues[plagues.length - 1] = plague;
+        numbers = Arrays.copyOf(numbers, numbers.length + 1);
+        return plagues.length - 1;
+    }
+}
@@ -0,0 +1,130 @@
+package de.uol.swp.common.transport;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The Netty transports the server and the client can use.
+ * <p>
+ * The native {@link #EPOLL} transport is used on Linux if its native library can be loaded,
+ * all other platforms use the {@link #NIO} transport of the JDK.
+ * Both transports disable Nagle's algorithm, as the messages are small and latency sensitive.
+ * </p>
+ */
+public enum NettyTransport {
+
+    /**
+     * Native transport of Linux
+     */
+    EPOLL {
+        @Override
+        public EventLoopGroup createEventLoopGroup(final int threads) {
+            return new EpollEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> getServerChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getChannelClass() {
+            return EpollSocketChannel.class;
+        }
+    },
+
+    /**
+     * Transport of the JDK, available on every platform
+     */
+    NIO {
+        @Override
+        public EventLoopGroup createEventLoopGroup(final int threads) {
+            return new NioEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> getServerChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getChannelClass() {
+            return NioSocketChannel.class;
+        }
+    };
+
+    private static final Logger LOG = LogManager.getLogger(NettyTransport.class);
+
+    /**
+     * Selects the transport to use
+     *
+     * @param preferNative whether the native transport should be used if it is available
+     * @return {@link #EPOLL} if it is preferred and available, {@link #NIO} otherwise
+     */
+    public static NettyTransport select(final boolean preferNative) {
+        if (preferNative) {
+            if (Epoll.isAvailable()) {
+                return EPOLL;
+            }
+            LOG.info("Native epoll transport is not available, using NIO: {}", Epoll.unavailabilityCause().getMessage());
+        }
+        return NIO;
+    }
+
+    /**
+     * Creates an event loop group of this transport
+     *
+     * @param threads number of threads, 0 for the default of Netty (twice the number of processors)
+     * @return new event loop group
+     */
+    public abstract EventLoopGroup createEventLoopGroup(int threads);
+
+    /**
+     * Returns the class of the channels accepting connections
+     *
+     * @return server channel class of this transport
+     */
+    public abstract Class<? extends ServerChannel> getServerChannelClass();
+
+    /**
+     * Returns the class of the channels of a connection
+     *
+     * @return socket channel class of this transport
+     */
+    public abstract Class<? extends SocketChannel> getChannelClass();
+
+    /**
+     * Sets the channel class and the options of this transport on a server bootstrap
+     *
+     * @param bootstrap bootstrap of the server
+     * @return {@code bootstrap}
+     */
+    public ServerBootstrap configure(final ServerBootstrap bootstrap) {
+        return bootstrap.channel(getServerChannelClass())
+                .childOption(ChannelOption.TCP_NODELAY, true);
+    }
+
+    /**
+     * Sets the channel class and the options of this transport on a client bootstrap
+     *
+     * @param bootstrap bootstrap of the client
+     * @return {@code bootstrap}
+     */
+    public Bootstrap configure(final Bootstrap bootstrap) {
+        return bootstrap.channel(getChannelClass())
+                .option(ChannelOption.TCP_NODELAY, true);
+    }
+}
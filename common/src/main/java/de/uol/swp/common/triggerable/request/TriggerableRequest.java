@@ -1,5 +1,6 @@
 package de.uol.swp.common.triggerable.request;
 
+import de.uol.swp.common.game.request.GameRequest;
 import de.uol.swp.common.message.Message;
 import de.uol.swp.common.message.request.AbstractRequestMessage;
 import de.uol.swp.common.player.Player;
@@ -15,8 +16,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Getter
-public class TriggerableRequest extends AbstractRequestMessage {
+public class TriggerableRequest extends AbstractRequestMessage implements GameRequest {
     private final Triggerable triggerable;
     private final Message cause;
     private final Player returningPlayer;
+
+    @Override
+    public int getGameId() {
+        return triggerable.getGame().getId();
+    }
 }
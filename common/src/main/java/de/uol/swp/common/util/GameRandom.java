@@ -0,0 +1,112 @@
+package de.uol.swp.common.util;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seedable source of randomness of a game
+ * <p>
+ * Every shuffle of a deck, every random choice of an AI player and the assignment of the roles of a game
+ * draw from the {@code GameRandom} of the game, so a game can be replayed exactly from its {@link #seed}
+ * and the commands executed in it. Independent parts of a game get their own stream via {@link #split()},
+ * so that e.g. the choices of an AI player do not change the order of the decks.
+ * </p>
+ * <p>
+ * The generator is the SplitMix64 algorithm also used by {@link java.util.SplittableRandom}. Unlike it,
+ * this class is {@link Serializable} and only consists of primitive fields, so its state is sent and stored
+ * together with the game. It is not thread-safe, which is sufficient as the requests of a game are
+ * processed one after another.
+ * </p>
+ *
+ * @see java.util.SplittableRandom
+ */
+public class GameRandom implements Serializable {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    @Getter
+    private final long seed;
+    private long state;
+
+    /**
+     * Constructor
+     *
+     * @param seed the seed all random values of this stream are derived from
+     */
+    public GameRandom(final long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * Creates a {@link GameRandom} with a seed that is different on every call
+     *
+     * @return new {@link GameRandom} with a random seed
+     */
+    public static GameRandom withRandomSeed() {
+        return new GameRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Returns the next pseudorandom {@code long} value of this stream
+     *
+     * @return pseudorandom {@code long} value
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Returns a pseudorandom, uniformly distributed {@code int} value between 0 (inclusive)
+     * and the given bound (exclusive)
+     *
+     * @param bound the upper bound (exclusive), must be positive
+     * @return pseudorandom {@code int} value between 0 (inclusive) and {@code bound} (exclusive)
+     * @throws IllegalArgumentException if {@code bound} is not positive
+     */
+    public int nextInt(final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        int value = (int) (nextLong() >>> 33);
+        final int mask = bound - 1;
+        if ((bound & mask) == 0) {
+            return (int) ((bound * (long) value) >> 31);
+        }
+        for (int unbounded = value; unbounded - (value = unbounded % bound) + mask < 0; unbounded = (int) (nextLong() >>> 33)) {
+            // rejects the values of the last incomplete range to avoid a bias
+        }
+        return value;
+    }
+
+    /**
+     * Shuffles the given list with the Fisher-Yates algorithm
+     *
+     * @param list the list to shuffle
+     * @see Collections#shuffle(List, java.util.Random)
+     */
+    public void shuffle(final List<?> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            Collections.swap(list, i, nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Creates a new, independent {@link GameRandom} whose seed is the next value of this stream
+     *
+     * @return new {@link GameRandom} split off this stream
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
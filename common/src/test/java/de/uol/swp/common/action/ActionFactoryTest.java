@@ -128,6 +128,28 @@ class ActionFactoryTest {
                 .containsExactlyInAnyOrderElementsOf(expectedClasses);
     }
 
+    @Test
+    @DisplayName("Should create new instances of the same action classes on every call with the same selection")
+    void createAllGeneralActionsExcludingSomeAndIncludingSomeRoleActions_repeated() {
+        final Collection<Class<? extends GeneralAction>> excludedGeneralActions = List.of(
+                BuildResearchLaboratoryAction.class
+        );
+        final Collection<Class<? extends RoleAction>> includedRoleActions = List.of(
+                ReducedCostBuildResearchLaboratoryAction.class
+        );
+
+        final List<Action> first = factory.createAllGeneralActionsExcludingSomeAndIncludingSomeRoleActions(excludedGeneralActions, includedRoleActions);
+        final List<Action> second = factory.createAllGeneralActionsExcludingSomeAndIncludingSomeRoleActions(excludedGeneralActions, includedRoleActions);
+
+        assertThat(second)
+                .extracting(Action::getClass)
+                .containsExactlyElementsOf(first.stream().map(Action::getClass).toList());
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i))
+                    .isNotSameAs(first.get(i));
+        }
+    }
+
     @Test
     @DisplayName("Should return a set of all instantiable action classes not extending RoleAction that have a public default constructor")
     void getAllInstantiableNonRoleActionClassesWithPublicDefaultConstructor() {
@@ -0,0 +1,56 @@
+package de.uol.swp.common.card.event_card;
+
+import de.uol.swp.classindex.ClassIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reflections.Reflections;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCardFactoryTest {
+    private EventCardFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        factory = new EventCardFactory();
+    }
+
+    @Test
+    @DisplayName("Should create one card of every event card class")
+    void createEventCards() {
+        final List<EventCard> eventCards = factory.createEventCards();
+
+        assertThat(eventCards)
+                .extracting(Object::getClass)
+                .containsExactlyInAnyOrder(
+                        AQuietNightEventCard.class,
+                        AirBridgeEventCard.class,
+                        ForecastEventCard.class,
+                        GovernmentSubsidiesEventCard.class,
+                        ToughPopulationEventCard.class
+                );
+    }
+
+    @Test
+    @DisplayName("Should create new cards on every call")
+    void createEventCardsCreatesNewCards() {
+        final List<EventCard> firstEventCards = factory.createEventCards();
+        final List<EventCard> secondEventCards = factory.createEventCards();
+
+        for (final EventCard eventCard : firstEventCards) {
+            assertThat(secondEventCards).noneMatch(otherEventCard -> otherEventCard == eventCard);
+        }
+    }
+
+    @Test
+    @DisplayName("Class index should contain the same event card classes as a classpath scan")
+    void classIndexMatchesClasspathScan() {
+        final String packageName = EventCard.class.getPackageName();
+
+        assertThat(ClassIndex.getSubTypesOf(EventCard.class, packageName))
+                .containsExactlyInAnyOrderElementsOf(new Reflections(packageName).getSubTypesOf(EventCard.class));
+    }
+}
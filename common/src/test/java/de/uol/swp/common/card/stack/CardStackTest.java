@@ -0,0 +1,137 @@
+package de.uol.swp.common.card.stack;
+
+import de.uol.swp.common.SerializationTestHelper;
+import de.uol.swp.common.card.EpidemicCard;
+import de.uol.swp.common.util.GameRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CardStackTest {
+    private CardStack<EpidemicCard> cardStack;
+    private List<EpidemicCard> cards;
+
+    @BeforeEach
+    void setUp() {
+        cardStack = new CardStack<>();
+        cards = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final EpidemicCard card = new EpidemicCard();
+            cards.add(card);
+            cardStack.push(card);
+        }
+    }
+
+    @Test
+    @DisplayName("Pop should return the cards in reverse order of push")
+    void pushAndPop() {
+        for (int i = cards.size() - 1; i >= 0; i--) {
+            assertThat(cardStack.peek()).isSameAs(cards.get(i));
+            assertThat(cardStack.pop()).isSameAs(cards.get(i));
+        }
+        assertThat(cardStack).isEmpty();
+        assertThatThrownBy(cardStack::pop).isInstanceOf(EmptyStackException.class);
+        assertThatThrownBy(cardStack::peek).isInstanceOf(EmptyStackException.class);
+    }
+
+    @Test
+    @DisplayName("Cards drawn from the bottom and pushed on top should wrap around the backing array")
+    void removeFirstCard_wrapsAround() {
+        for (int i = 0; i < 50; i++) {
+            final EpidemicCard bottomCard = cardStack.removeFirstCard();
+            assertThat(bottomCard).isSameAs(cards.get(i % cards.size()));
+            cardStack.push(bottomCard);
+        }
+        assertThat(cardStack).hasSize(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            assertThat(cardStack.get(i)).isSameAs(cards.get((i + 50) % cards.size()));
+        }
+    }
+
+    @Test
+    @DisplayName("Adding a card at the bottom should keep the order of the other cards")
+    void addAtBottom() {
+        final EpidemicCard card = new EpidemicCard();
+
+        cardStack.add(0, card);
+
+        assertThat(cardStack.get(0)).isSameAs(card);
+        assertThat(cardStack.get(1)).isSameAs(cards.get(0));
+        assertThat(cardStack.peek()).isSameAs(cards.get(cards.size() - 1));
+    }
+
+    @Test
+    @DisplayName("The top cards should be returned starting with the top card")
+    void peekTopCards() {
+        final List<EpidemicCard> topCards = cardStack.peekTopCards(3);
+
+        assertThat(topCards).hasSize(3);
+        assertThat(topCards.get(0)).isSameAs(cards.get(19));
+        assertThat(topCards.get(2)).isSameAs(cards.get(17));
+        assertThat(cardStack.peekTopCards(100)).hasSize(cards.size());
+        assertThatThrownBy(() -> cardStack.peekTopCards(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("The view of the top cards should not be used after the stack was changed")
+    void peekTopCards_afterModification() {
+        final List<EpidemicCard> topCards = cardStack.peekTopCards(3);
+
+        cardStack.pop();
+
+        assertThatThrownBy(() -> topCards.get(0)).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Rearranging should put the first given card on top")
+    void rearrangeTopCards() {
+        final List<EpidemicCard> rearrangedCards = List.of(cards.get(17), cards.get(19), cards.get(18));
+
+        cardStack.rearrangeTopCards(rearrangedCards);
+
+        assertThat(cardStack.pop()).isSameAs(cards.get(17));
+        assertThat(cardStack.pop()).isSameAs(cards.get(19));
+        assertThat(cardStack.pop()).isSameAs(cards.get(18));
+        assertThat(cardStack.peek()).isSameAs(cards.get(16));
+        assertThatThrownBy(() -> new CardStack<EpidemicCard>().rearrangeTopCards(rearrangedCards))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Shuffling with the same seed should result in the same order")
+    void shuffle_sameSeed() {
+        final CardStack<EpidemicCard> otherCardStack = new CardStack<>();
+        otherCardStack.addAll(cards);
+
+        cardStack.shuffle(new GameRandom(3));
+        otherCardStack.shuffle(new GameRandom(3));
+
+        assertThat(cardStack).hasSize(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            assertThat(cardStack.get(i)).isSameAs(otherCardStack.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("A stack should be serializable after cards were drawn from the bottom")
+    void serialization() throws Exception {
+        cardStack.removeFirstCard();
+        cardStack.push(new EpidemicCard());
+
+        @SuppressWarnings("unchecked")
+        final CardStack<EpidemicCard> deserializedStack =
+                SerializationTestHelper.unpickle(SerializationTestHelper.pickle(cardStack), CardStack.class);
+
+        assertThat(deserializedStack).hasSize(cardStack.size()).isEqualTo(cardStack);
+        deserializedStack.push(new EpidemicCard());
+        assertThat(deserializedStack).hasSize(cardStack.size() + 1);
+    }
+}
@@ -0,0 +1,194 @@
+package de.uol.swp.common.codec;
+
+import de.uol.swp.common.SerializationTestHelper;
+import de.uol.swp.common.chat.request.SendUserLobbyChatMessageRequest;
+import de.uol.swp.common.chat.server_message.RetrieveAllChatMessagesServerMessage;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.delta.GameStateSnapshot;
+import de.uol.swp.common.game.server_message.RetrieveGameDeltaServerMessage;
+import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.player.AIPlayer;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.role.RoleAbility;
+import de.uol.swp.common.role.RoleCard;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.Color;
+import de.uol.swp.common.util.TestUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinarySerializerTest {
+
+    private BinarySerializer serializer;
+    private ByteBuf buffer;
+    private UserDTO user;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new BinarySerializer(BinaryTypeRegistry.getDefault());
+        buffer = Unpooled.buffer();
+        user = new UserDTO("user", "password", "user@mail.com");
+
+        final List<Player> players = new ArrayList<>();
+        players.add(new UserPlayer(user));
+        players.add(new AIPlayer("ai"));
+        players.forEach(player -> player.setRole(new RoleCard("role", new Color(1, 2, 3), new RoleAbility(new HashMap<>(), new ArrayList<>(), new ArrayList<>()))));
+        game = new Game(new LobbyDTO("lobby", user), TestUtils.createMapType(), players, List.of(), GameDifficulty.getDefault());
+        game.setId(1);
+        game.addPlayerTurn(TestUtils.createPlayerTurn(game, game.getCurrentPlayer(), 4, 2, 2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.release();
+    }
+
+    @Test
+    @DisplayName("Game should keep its state and shared references")
+    void roundTrip_game() throws IOException {
+        final Game decoded = (Game) roundTrip(game);
+
+        assertThat(decoded).isEqualTo(game);
+        assertThat(GameStateSnapshot.capture(decoded)).isEqualTo(GameStateSnapshot.capture(game));
+        assertThat(decoded.getCurrentPlayer().getCurrentField())
+                .isSameAs(decoded.getFields().stream()
+                        .filter(field -> field.getCity().equals(game.getCurrentPlayer().getCurrentField().getCity()))
+                        .findFirst()
+                        .orElseThrow());
+        assertThat(decoded.getCurrentTurn().getPlayer()).isSameAs(decoded.getCurrentPlayer());
+    }
+
+    @Test
+    @DisplayName("Game should be encoded smaller than with Java serialization")
+    void size_game() throws IOException {
+        serializer.serialize(game, buffer);
+
+        assertThat(buffer.readableBytes()).isLessThan(SerializationTestHelper.pickle(game).length / 2);
+    }
+
+    @Test
+    @DisplayName("Lobby and chat messages should be equal after decoding")
+    void roundTrip_messages() throws IOException {
+        final LobbyDTO lobby = new LobbyDTO("lobby", user);
+        final SendUserLobbyChatMessageRequest chatRequest = new SendUserLobbyChatMessageRequest(lobby, user, "hello", LocalTime.of(12, 30, 5));
+        final RetrieveAllChatMessagesServerMessage chatMessages = new RetrieveAllChatMessagesServerMessage(List.of("a", "b", "a"));
+
+        assertThat(roundTrip(lobby)).isEqualTo(lobby);
+        assertThat(roundTrip(chatRequest)).isEqualTo(chatRequest);
+        assertThat(roundTrip(chatMessages)).isEqualTo(chatMessages);
+    }
+
+    @Test
+    @DisplayName("Immutable collections should stay immutable and equal")
+    void roundTrip_immutableCollections() throws IOException {
+        final HashMap<String, Serializable> value = new HashMap<>();
+        value.put("list", (Serializable) List.of(1, 2L, "three"));
+        value.put("set", (Serializable) Set.of('a', 'b'));
+        value.put("map", (Serializable) Map.of("key", 1.5));
+
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> decoded = (Map<String, Object>) roundTrip(value);
+
+        assertThat(decoded).isEqualTo(value);
+        assertThatThrownBy(() -> ((List<?>) decoded.get("list")).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Game update with a delta should be decoded as delta message")
+    void roundTrip_writeReplace() throws IOException {
+        final Map<String, Serializable> snapshot = GameStateSnapshot.capture(game);
+        final RetrieveUpdatedGameServerMessage message = new RetrieveUpdatedGameServerMessage(game);
+        message.setDelta(GameDelta.between(1, 0, 1, snapshot, snapshot));
+
+        final Object decoded = roundTrip(message);
+
+        assertThat(decoded).isInstanceOf(RetrieveGameDeltaServerMessage.class);
+        assertThat(((RetrieveGameDeltaServerMessage) decoded).getDelta()).isEqualTo(message.getDelta());
+    }
+
+    @Test
+    @DisplayName("Objects that are not serializable should be rejected")
+    void serialize_notSerializable() {
+        final ArrayList<Object> list = new ArrayList<>();
+        list.add(new Object());
+
+        assertThatThrownBy(() -> serializer.serialize(list, buffer))
+                .isInstanceOf(NotSerializableException.class);
+    }
+
+    @Test
+    @DisplayName("Truncated input should be rejected")
+    void deserialize_truncated() throws IOException {
+        serializer.serialize(game, buffer);
+        buffer.writerIndex(buffer.writerIndex() / 2);
+
+        assertThatThrownBy(() -> serializer.deserialize(buffer))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Class names outside of the allowed packages should be rejected without loading them")
+    void deserialize_unknownClassName() {
+        buffer.writeByte(BinaryFormat.CLASS);
+        BinaryFormat.writeVarInt(buffer, BinaryFormat.NEW_TYPE);
+        BinaryFormat.writeUtf8(buffer, "java.lang.ProcessBuilder");
+
+        assertThatThrownBy(() -> serializer.deserialize(buffer))
+                .isInstanceOf(InvalidClassException.class);
+    }
+
+    @Test
+    @DisplayName("Arrays of classes outside of the allowed packages should be rejected")
+    void deserialize_unknownArrayClassName() {
+        buffer.writeByte(BinaryFormat.CLASS);
+        BinaryFormat.writeVarInt(buffer, BinaryFormat.NEW_TYPE);
+        BinaryFormat.writeUtf8(buffer, "[[Ljava.lang.ProcessBuilder;");
+
+        assertThatThrownBy(() -> serializer.deserialize(buffer))
+                .isInstanceOf(InvalidClassException.class);
+    }
+
+    @Test
+    @DisplayName("Java serialized objects of classes outside of the allowed packages should be rejected")
+    void deserialize_javaSerializedNotAllowed() throws IOException {
+        final byte[] pickled = SerializationTestHelper.pickle(new File("secret"));
+        buffer.writeByte(BinaryFormat.JAVA_SERIALIZED);
+        buffer.writeInt(pickled.length);
+        buffer.writeBytes(pickled);
+
+        assertThatThrownBy(() -> serializer.deserialize(buffer))
+                .isInstanceOf(InvalidClassException.class);
+    }
+
+    private Object roundTrip(final Serializable value) throws IOException {
+        serializer.serialize(value, buffer);
+        final Object decoded = serializer.deserialize(buffer);
+        assertThat(buffer.isReadable()).isFalse();
+        return decoded;
+    }
+}
@@ -0,0 +1,92 @@
+package de.uol.swp.common.codec;
+
+import de.uol.swp.common.MyObjectEncoder;
+import de.uol.swp.common.user.UserDTO;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodecHandshakeTest {
+
+    private final UserDTO user = new UserDTO("user", "password", "user@mail.com");
+
+    @Test
+    @DisplayName("Client and server with the same fingerprint should use the binary codec")
+    void handshake_binary() {
+        final ActiveRecorder clientRecorder = new ActiveRecorder();
+        final ActiveRecorder serverRecorder = new ActiveRecorder();
+        final EmbeddedChannel client = new EmbeddedChannel(new ClientCodecHandshakeHandler(CodecHandshake.supportedCodecs()), clientRecorder);
+        final EmbeddedChannel server = new EmbeddedChannel(new ServerCodecHandshakeHandler(CodecHandshake.supportedCodecs()), serverRecorder);
+
+        transfer(client, server);
+        transfer(server, client);
+
+        assertThat(server.pipeline().get(CodecHandshake.ENCODER_NAME)).isInstanceOf(BinaryMessageEncoder.class);
+        assertThat(client.pipeline().get(CodecHandshake.DECODER_NAME)).isInstanceOf(BinaryMessageDecoder.class);
+        assertThat(client.pipeline().get(ClientCodecHandshakeHandler.class)).isNull();
+        assertThat(server.pipeline().get(ServerCodecHandshakeHandler.class)).isNull();
+        assertThat(clientRecorder.active).isTrue();
+        assertThat(serverRecorder.active).isTrue();
+
+        client.writeOutbound(user);
+        transfer(client, server);
+        assertThat((Object) server.readInbound()).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("Different fingerprints should lead to Java serialization")
+    void handshake_differentFingerprint() {
+        final MessageCodec otherBinaryCodec = new BinaryMessageCodec(new BinaryTypeRegistry(List.of(UserDTO.class)));
+        final EmbeddedChannel client = new EmbeddedChannel(new ClientCodecHandshakeHandler(List.of(otherBinaryCodec, new JavaSerializationCodec())));
+        final EmbeddedChannel server = new EmbeddedChannel(new ServerCodecHandshakeHandler(CodecHandshake.supportedCodecs()));
+
+        transfer(client, server);
+        transfer(server, client);
+
+        assertThat(server.pipeline().get(CodecHandshake.ENCODER_NAME)).isInstanceOf(MyObjectEncoder.class);
+        assertThat(client.pipeline().get(CodecHandshake.ENCODER_NAME)).isInstanceOf(MyObjectEncoder.class);
+    }
+
+    @Test
+    @DisplayName("Clients without handshake should be served with Java serialization")
+    void handshake_legacyClient() {
+        final ActiveRecorder serverRecorder = new ActiveRecorder();
+        final EmbeddedChannel client = new EmbeddedChannel(new MyObjectEncoder());
+        final EmbeddedChannel server = new EmbeddedChannel(new ServerCodecHandshakeHandler(CodecHandshake.supportedCodecs()), serverRecorder);
+        assertThat(serverRecorder.active).isFalse();
+
+        client.writeOutbound(user);
+        transfer(client, server);
+
+        assertThat(serverRecorder.active).isTrue();
+        assertThat(server.pipeline().get(CodecHandshake.ENCODER_NAME)).isInstanceOf(MyObjectEncoder.class);
+        assertThat((Object) server.readInbound()).isEqualTo(user);
+        assertThat((Object) server.readOutbound()).isNull();
+    }
+
+    private static void transfer(final EmbeddedChannel from, final EmbeddedChannel to) {
+        ByteBuf buffer;
+        while ((buffer = from.readOutbound()) != null) {
+            to.writeInbound(buffer);
+        }
+    }
+
+    private static class ActiveRecorder extends ChannelInboundHandlerAdapter {
+
+        private boolean active;
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            active = true;
+            ctx.fireChannelActive();
+        }
+    }
+}
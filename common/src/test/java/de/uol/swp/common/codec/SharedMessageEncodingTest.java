@@ -0,0 +1,83 @@
+package de.uol.swp.common.codec;
+
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.server_message.LoginServerMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.NotSerializableException;
+import java.io.Serializable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SharedMessageEncodingTest {
+
+    private final UnpooledByteBufAllocator allocator = UnpooledByteBufAllocator.DEFAULT;
+    private final MessageCodec binaryCodec = new BinaryMessageCodec();
+    private final MessageCodec javaCodec = new JavaSerializationCodec();
+    private LoginServerMessage message;
+
+    @BeforeEach
+    void setUp() {
+        message = new LoginServerMessage(new UserDTO("user", "password", "user@mail.com"));
+    }
+
+    @Test
+    @DisplayName("Message should only be encoded once per codec")
+    void retainedFrame_savedEncodes() throws Exception {
+        final ByteBuf first;
+        final ByteBuf second;
+        final ByteBuf third;
+        try (SharedMessageEncoding encoding = new SharedMessageEncoding(message)) {
+            first = encoding.retainedFrame(binaryCodec, allocator);
+            second = encoding.retainedFrame(binaryCodec, allocator);
+            third = encoding.retainedFrame(javaCodec, allocator);
+
+            assertThat(encoding.getSavedEncodes()).isEqualTo(1);
+            assertThat(first.unwrap()).isSameAs(second.unwrap());
+        }
+
+        assertThat(first.refCnt()).isEqualTo(2);
+        first.release();
+        second.release();
+        third.release();
+        assertThat(first.refCnt()).isZero();
+        assertThat(third.refCnt()).isZero();
+    }
+
+    @Test
+    @DisplayName("Shared frame should be decoded like a frame of the encoder")
+    void retainedFrame_decodable() throws Exception {
+        for (final MessageCodec codec : new MessageCodec[]{binaryCodec, javaCodec}) {
+            final EmbeddedChannel channel = new EmbeddedChannel(codec.createDecoder());
+            try (SharedMessageEncoding encoding = new SharedMessageEncoding(message)) {
+                channel.writeInbound(encoding.retainedFrame(codec, allocator));
+            }
+
+            assertThat((Object) channel.readInbound()).isEqualTo(message);
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    @DisplayName("Frame of a message that cannot be encoded should not be cached")
+    void retainedFrame_notSerializable() throws Exception {
+        final MessageCodec failingCodec = new BinaryMessageCodec() {
+            @Override
+            public void encode(Serializable message, ByteBuf out) throws Exception {
+                throw new NotSerializableException();
+            }
+        };
+
+        try (SharedMessageEncoding encoding = new SharedMessageEncoding(message)) {
+            assertThatThrownBy(() -> encoding.retainedFrame(failingCodec, allocator))
+                    .isInstanceOf(NotSerializableException.class);
+            assertThat(encoding.getSavedEncodes()).isZero();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package de.uol.swp.common.game;
 
+import de.uol.swp.common.card.InfectionCard;
+import de.uol.swp.common.card.PlayerCard;
 import de.uol.swp.common.game.turn.PlayerTurn;
 import de.uol.swp.common.lobby.Lobby;
 import de.uol.swp.common.lobby.LobbyDTO;
@@ -20,6 +22,7 @@ import de.uol.swp.common.triggerable.Triggerable;
 import de.uol.swp.common.user.User;
 import de.uol.swp.common.user.UserDTO;
 import de.uol.swp.common.util.Color;
+import de.uol.swp.common.util.GameRandom;
 import de.uol.swp.common.util.TestUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -95,7 +98,7 @@ public class GameTest {
     @DisplayName("Game should distribute initial plague cubes correctly")
     void distributeInitialPlagueCubesTest() {
         game.getFields().forEach(field ->
-                assertThat(field.getPlagueCubes().size()).isBetween(0, 3)
+                assertThat(field.getNumberOfPlagueCubes(field.getPlague())).isBetween(0, 3)
         );
     }
 
@@ -128,7 +131,7 @@ public class GameTest {
     @Test
     @DisplayName("Should throw exception when no plague cubes are available")
     void getPlagueCubeWhenNotAvailableTest() {
-        game.getPlagueCubes().get(plague).clear();
+        game.getPlagueCubes().set(plague, 0);
         assertThatThrownBy(() -> game.getPlagueCubeOfPlague(plague))
                 .isInstanceOf(NoPlagueCubesFoundException.class);
     }
@@ -144,11 +147,9 @@ public class GameTest {
     @Test
     @DisplayName("Should add plague cube to the game")
     void addPlagueCubeTest() {
-        PlagueCube cube = new PlagueCube(plague);
-        game.addPlagueCube(cube);
-        List<PlagueCube> cubes = game.getPlagueCubes().get(plague);
-        assertThat(cubes).isNotNull();
-        Assertions.assertThat(cubes).contains(cube);
+        int numberOfPlagueCubes = game.getPlagueCubes().get(plague);
+        game.addPlagueCube(new PlagueCube(plague));
+        assertThat(game.getPlagueCubes().get(plague)).isEqualTo(numberOfPlagueCubes + 1);
     }
 
     @Test
@@ -187,6 +188,64 @@ public class GameTest {
         assertThat(game.hasAntidoteMarkerForPlague(plague)).isTrue();
     }
 
+    @Test
+    @DisplayName("Antidote markers for plagues of the map should be kept until they are cleared")
+    void antidoteMarkerForPlagueOfMapTest() {
+        final Plague plagueOfMap = game.getPlagueCubes().getPlagues().get(0);
+
+        game.addAntidoteMarker(new AntidoteMarker(plagueOfMap));
+
+        assertThat(game.hasAntidoteMarkerForPlague(plagueOfMap)).isTrue();
+        assertThat(game.hasAntidoteMarkerForPlague(new Plague("otherPlague", testPlagueColor))).isFalse();
+
+        game.clearAntidoteMarkers();
+
+        assertThat(game.hasAntidoteMarkerForPlague(plagueOfMap)).isFalse();
+        Assertions.assertThat(game.getAntidoteMarkers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return whether every plague of the game has an antidote marker")
+    void hasAntidoteMarkersForAllPlaguesTest() {
+        final MapType mapType = TestUtils.createMapType();
+        final List<Plague> plagues = new ArrayList<>(mapType.getUniquePlagues());
+        final Game gameWithPlagues = new Game(lobby, mapType, createTestPlayers(), plagues, GameDifficulty.getDefault());
+
+        for (final Plague plagueOfGame : plagues) {
+            assertThat(gameWithPlagues.hasAntidoteMarkersForAllPlagues()).isFalse();
+            gameWithPlagues.addAntidoteMarker(new AntidoteMarker(plagueOfGame));
+        }
+
+        assertThat(gameWithPlagues.hasAntidoteMarkersForAllPlagues()).isTrue();
+    }
+
+    @Test
+    @DisplayName("The number of plague cubes on the board should be the sum over all fields")
+    void getNumberOfPlagueCubesOnBoardTest() {
+        for (final Plague plagueOfMap : game.getPlagueCubes().getPlagues()) {
+            final int sumOverFields = game.getFields().stream()
+                    .mapToInt(field -> field.getNumberOfPlagueCubes(plagueOfMap))
+                    .sum();
+            assertThat(game.getNumberOfPlagueCubesOnBoard(plagueOfMap)).isEqualTo(sumOverFields);
+        }
+
+        final Field field = game.getFields().stream()
+                .filter(f -> f.isCurable(f.getPlague()))
+                .findFirst()
+                .orElseThrow();
+        final Plague plagueOfField = field.getPlague();
+        final int numberBeforeCure = game.getNumberOfPlagueCubesOnBoard(plagueOfField);
+        field.cure(plagueOfField);
+
+        assertThat(game.getNumberOfPlagueCubesOnBoard(plagueOfField)).isEqualTo(numberBeforeCure - 1);
+
+        final int numberOnFieldAfterCure = field.getNumberOfPlagueCubes(plagueOfField);
+        field.setNumberOfPlagueCubes(plagueOfField, 3);
+
+        assertThat(game.getNumberOfPlagueCubesOnBoard(plagueOfField))
+                .isEqualTo(numberBeforeCure - 1 - numberOnFieldAfterCure + 3);
+    }
+
     @Test
     @DisplayName("Should increase outbreak marker")
     void increaseOutbreakMarkerTest() {
@@ -272,4 +331,32 @@ public class GameTest {
     void requiresResearchLaboratoryMoveTest() {
         assertThat(game.requiresResearchLaboratoryMove()).isFalse();
     }
+
+    @Test
+    @DisplayName("Two games with the same seed should have the same decks")
+    void sameSeed_sameDecks() {
+        final Game first = new Game(lobby, TestUtils.createMapType(), createTestPlayers(), List.of(), GameDifficulty.getDefault(), new GameRandom(42));
+        final Game second = new Game(lobby, TestUtils.createMapType(), createTestPlayers(), List.of(), GameDifficulty.getDefault(), new GameRandom(42));
+
+        assertThat(first.getRandom().getSeed()).isEqualTo(42L);
+        Assertions.assertThat(first.getPlayerDrawStack())
+                .extracting(PlayerCard::getTitle)
+                .containsExactlyElementsOf(second.getPlayerDrawStack().stream().map(PlayerCard::getTitle).toList());
+        Assertions.assertThat(first.getInfectionDrawStack())
+                .extracting(InfectionCard::getTitle)
+                .containsExactlyElementsOf(second.getInfectionDrawStack().stream().map(InfectionCard::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Choices of the AI players should not change the stream the decks are shuffled with")
+    void aiRandom_independentOfRandom() {
+        final Game first = new Game(lobby, TestUtils.createMapType(), createTestPlayers(), List.of(), GameDifficulty.getDefault(), new GameRandom(42));
+        final Game second = new Game(lobby, TestUtils.createMapType(), createTestPlayers(), List.of(), GameDifficulty.getDefault(), new GameRandom(42));
+
+        for (int i = 0; i < 10; i++) {
+            first.getAiRandom().nextInt(10);
+        }
+
+        assertThat(first.getRandom().nextLong()).isEqualTo(second.getRandom().nextLong());
+    }
 }
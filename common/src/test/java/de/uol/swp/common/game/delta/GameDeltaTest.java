@@ -0,0 +1,169 @@
+package de.uol.swp.common.game.delta;
+
+import de.uol.swp.common.SerializationTestHelper;
+import de.uol.swp.common.card.PlayerCard;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.player.AIPlayer;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.role.RoleAbility;
+import de.uol.swp.common.role.RoleCard;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.Color;
+import de.uol.swp.common.util.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameDeltaTest {
+
+    private Game serverGame;
+    private Game clientGame;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final UserDTO user = new UserDTO("user", "password", "user@mail.com");
+        final List<Player> players = new ArrayList<>();
+        players.add(new UserPlayer(user));
+        players.add(new AIPlayer("ai"));
+        players.forEach(player -> player.setRole(new RoleCard("role", new Color(), new RoleAbility(new HashMap<>(), new ArrayList<>(), new ArrayList<>()))));
+
+        serverGame = new Game(new LobbyDTO("lobby", user), TestUtils.createMapType(), players, List.of(), GameDifficulty.getDefault());
+        serverGame.setId(1);
+        serverGame.addPlayerTurn(TestUtils.createPlayerTurn(serverGame, serverGame.getCurrentPlayer(), 4, 2, 2));
+
+        clientGame = SerializationTestHelper.unpickle(SerializationTestHelper.pickle(serverGame), Game.class);
+    }
+
+    @Test
+    @DisplayName("Delta of an unchanged game should be empty")
+    void between_unchanged() {
+        final Map<String, Serializable> snapshot = GameStateSnapshot.capture(serverGame);
+
+        final GameDelta delta = GameDelta.between(1, 0, 1, snapshot, GameStateSnapshot.capture(serverGame));
+
+        assertThat(delta.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Delta should only contain changed entries")
+    void between_onlyChangedEntries() {
+        final Map<String, Serializable> previous = GameStateSnapshot.capture(serverGame);
+        serverGame.startOutbreak();
+
+        final GameDelta delta = GameDelta.between(1, 0, 1, previous, GameStateSnapshot.capture(serverGame));
+
+        assertThat(delta.getChanges())
+                .containsOnlyKeys(GameStateKeys.OUTBREAK_MARKER_LEVEL);
+    }
+
+    @Test
+    @DisplayName("Delta between snapshots of different structure should be rejected")
+    void between_differentStructure() {
+        final Map<String, Serializable> previous = GameStateSnapshot.capture(serverGame);
+        final Map<String, Serializable> current = new HashMap<>(previous);
+        current.put("unknown", 1);
+
+        assertThatThrownBy(() -> GameDelta.between(1, 0, 1, previous, current))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Applying a delta should lead to the same state as on the server")
+    void apply() throws Exception {
+        final Map<String, Serializable> previous = GameStateSnapshot.capture(serverGame);
+        mutateServerGame();
+        final Map<String, Serializable> current = GameStateSnapshot.capture(serverGame);
+        final GameDelta delta = GameDelta.between(1, 0, 1, previous, current);
+
+        final GameDelta transferredDelta = SerializationTestHelper.unpickle(SerializationTestHelper.pickle(delta), GameDelta.class);
+        GameDeltaApplier.apply(clientGame, transferredDelta);
+
+        assertThat(clientGame.getVersion()).isEqualTo(1);
+        assertThat(GameStateSnapshot.capture(clientGame)).isEqualTo(current);
+        assertThat(clientGame.getNumberOfTurns()).isEqualTo(2);
+        assertThat(clientGame.getCurrentTurn().getPlayer()).isEqualTo(serverGame.getCurrentTurn().getPlayer());
+    }
+
+    @Test
+    @DisplayName("Delta should be a fraction of the size of the complete game")
+    void size() throws Exception {
+        final Map<String, Serializable> previous = GameStateSnapshot.capture(serverGame);
+        mutateServerGame();
+        final GameDelta delta = GameDelta.between(1, 0, 1, previous, GameStateSnapshot.capture(serverGame));
+
+        assertThat(SerializationTestHelper.pickle(delta).length * 5)
+                .isLessThan(SerializationTestHelper.pickle(serverGame).length);
+    }
+
+    @Test
+    @DisplayName("Delta based on another version should be rejected")
+    void apply_wrongBaseVersion() {
+        final GameDelta delta = GameDelta.between(1, 3, 4, GameStateSnapshot.capture(serverGame), GameStateSnapshot.capture(serverGame));
+
+        assertThatThrownBy(() -> GameDeltaApplier.apply(clientGame, delta))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Delta referencing unknown cards should be rejected")
+    void apply_unknownCard() {
+        final HashMap<String, Serializable> changes = new HashMap<>();
+        changes.put(GameStateKeys.PLAYER_DISCARD_STACK, new ArrayList<>(List.of("unknown")));
+        final GameDelta delta = new GameDelta(1, 0, 1, changes);
+
+        assertThatThrownBy(() -> GameDeltaApplier.apply(clientGame, delta))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Following deltas should be combined into one delta with the newest entries")
+    void followedBy_combinesChanges() {
+        final HashMap<String, Serializable> firstChanges = new HashMap<>(Map.of("a", 1, "b", 1));
+        final HashMap<String, Serializable> secondChanges = new HashMap<>(Map.of("b", 2, "c", 2));
+
+        final GameDelta combined = new GameDelta(1, 0, 1, firstChanges).followedBy(new GameDelta(1, 1, 2, secondChanges));
+
+        assertThat(combined.getBaseVersion()).isZero();
+        assertThat(combined.getVersion()).isEqualTo(2);
+        assertThat(combined.getChanges()).containsExactlyInAnyOrderEntriesOf(Map.of("a", 1, "b", 2, "c", 2));
+    }
+
+    @Test
+    @DisplayName("Deltas that do not follow each other should not be combined")
+    void followedBy_notFollowing() {
+        final GameDelta first = new GameDelta(1, 0, 1, new HashMap<>());
+        final GameDelta skipped = new GameDelta(1, 2, 3, new HashMap<>());
+
+        assertThatThrownBy(() -> first.followedBy(skipped))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void mutateServerGame() {
+        final Player currentPlayer = serverGame.getCurrentPlayer();
+        final Field targetField = currentPlayer.getCurrentField().getNeighborFields().get(0);
+        currentPlayer.setCurrentField(targetField);
+        targetField.infectField();
+
+        final PlayerCard drawnCard = serverGame.getPlayerDrawStack().pop();
+        currentPlayer.addHandCard(drawnCard);
+        serverGame.getInfectionDiscardStack().push(serverGame.getInfectionDrawStack().pop());
+        serverGame.startOutbreak();
+
+        serverGame.getCurrentTurn().setNumberOfActionsToDo(0);
+        serverGame.nextPlayer();
+        serverGame.addPlayerTurn(TestUtils.createPlayerTurn(serverGame, serverGame.getCurrentPlayer(), 4, 2, 2));
+    }
+}
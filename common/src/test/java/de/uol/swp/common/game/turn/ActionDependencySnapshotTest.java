@@ -0,0 +1,140 @@
+package de.uol.swp.common.game.turn;
+
+import de.uol.swp.common.action.ActionDependency;
+import de.uol.swp.common.card.CityCard;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.lobby.Lobby;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.map.research_laboratory.ResearchLaboratory;
+import de.uol.swp.common.marker.AntidoteMarker;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.user.User;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.GameRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static de.uol.swp.common.util.TestUtils.createMapType;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActionDependencySnapshotTest {
+    private Game game;
+    private Player player;
+    private Player otherPlayer;
+    private Field otherField;
+
+    @BeforeEach
+    void setUp() {
+        final User user = new UserDTO("Joerg", "333", "Joerg@mail.com");
+        final User otherUser = new UserDTO("Juergen", "333", "Juergen@mail.com");
+        final Lobby lobby = new LobbyDTO("lobby", user);
+        player = lobby.getPlayerForUser(user);
+        otherPlayer = new UserPlayer(otherUser);
+        lobby.addPlayer(otherPlayer);
+
+        final MapType mapType = createMapType();
+        game = new Game(lobby, mapType, new ArrayList<>(lobby.getPlayers()), new ArrayList<>(mapType.getUniquePlagues()), GameDifficulty.getDefault(), new GameRandom(1));
+
+        final Field startField = player.getCurrentField();
+        otherField = game.getFields().stream()
+                .filter(field -> !field.equals(startField) && !field.hasResearchLaboratory() && field.isInfectable(field.getPlague()))
+                .filter(field -> game.getPlagues().stream()
+                        .allMatch(plague -> field.getNumberOfPlagueCubes(plague) == startField.getNumberOfPlagueCubes(plague)))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should not report any changed dependency if the game did not change")
+    void getChangedDependencies_noChange() {
+        final ActionDependencySnapshot previous = new ActionDependencySnapshot(game, player, 0);
+
+        assertThat(new ActionDependencySnapshot(game, player, 0).getChangedDependencies(previous))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report the current field and the player positions if the executing player moved")
+    void getChangedDependencies_currentField() {
+        final ActionDependencySnapshot previous = new ActionDependencySnapshot(game, player, 0);
+
+        player.setCurrentField(otherField);
+
+        assertThat(new ActionDependencySnapshot(game, player, 0).getChangedDependencies(previous))
+                .containsExactlyInAnyOrder(ActionDependency.CURRENT_FIELD, ActionDependency.PLAYER_POSITIONS);
+    }
+
+    @Test
+    @DisplayName("Should report only the player positions if another player moved")
+    void getChangedDependencies_playerPositions() {
+        final ActionDependencySnapshot previous = new ActionDependencySnapshot(game, player, 0);
+
+        otherPlayer.setCurrentField(otherField);
+
+        assertThat(new ActionDependencySnapshot(game, player, 0).getChangedDependencies(previous))
+                .containsExactly(ActionDependency.PLAYER_POSITIONS);
+    }
+
+    @Test
+    @DisplayName("Should report the hand cards if a player received a card")
+    void getChangedDependencies_handCards() {
+        final ActionDependencySnapshot previous = new ActionDependencySnapshot(game, player, 0);
+
+        otherPlayer.addHandCard(new CityCard(otherField));
+
+        assertThat(new ActionDependencySnapshot(game, player, 0).getChangedDependencies(previous))
+                .containsExactly(ActionDependency.HAND_CARDS);
+    }
+
+    @Test
+    @DisplayName("Should report the research laboratories if a research laboratory was built")
+    void getChangedDependencies_researchLaboratories() {
+        final ActionDependencySnapshot previous = new ActionDependencySnapshot(game, player, 0);
+
+        otherField.buildResearchLaboratory(new ResearchLaboratory());
+
+        assertThat(new ActionDependencySnapshot(game, player, 0).getChangedDependencies(previous))
+                .containsExactly(ActionDependency.RESEARCH_LABORATORIES);
+    }
+
+    @Test
+    @DisplayName("Should report the antidote markers if an antidote was discovered")
+    void getChangedDependencies_antidoteMarkers() {
+        final ActionDependencySnapshot previous = new ActionDependencySnapshot(game, player, 0);
+
+        game.addAntidoteMarker(new AntidoteMarker(otherField.getPlague()));
+
+        assertThat(new ActionDependencySnapshot(game, player, 0).getChangedDependencies(previous))
+                .containsExactly(ActionDependency.ANTIDOTE_MARKERS);
+    }
+
+    @Test
+    @DisplayName("Should report the executed commands and the version if a command was executed")
+    void getChangedDependencies_executedCommands() {
+        final ActionDependencySnapshot previous = new ActionDependencySnapshot(game, player, 0);
+
+        game.setVersion(game.getVersion() + 1);
+
+        assertThat(new ActionDependencySnapshot(game, player, 1).getChangedDependencies(previous))
+                .containsExactlyInAnyOrder(ActionDependency.EXECUTED_COMMANDS, ActionDependency.GAME_VERSION);
+    }
+
+    @Test
+    @DisplayName("Should report the plague cubes if the current field of the executing player was infected")
+    void getChangedDependencies_plagueCubes() {
+        player.setCurrentField(otherField);
+        final ActionDependencySnapshot previous = new ActionDependencySnapshot(game, player, 0);
+
+        otherField.infectField(game.getPlagueCubeOfPlague(otherField.getPlague()), new ArrayList<>());
+
+        assertThat(new ActionDependencySnapshot(game, player, 0).getChangedDependencies(previous))
+                .containsExactly(ActionDependency.PLAGUE_CUBES);
+    }
+}
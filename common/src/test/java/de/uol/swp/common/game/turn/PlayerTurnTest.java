@@ -1,6 +1,8 @@
 package de.uol.swp.common.game.turn;
 
 import de.uol.swp.common.action.Action;
+import de.uol.swp.common.action.ActionDependency;
+import de.uol.swp.common.action.ActionFactory;
 import de.uol.swp.common.action.DiscardCardsAction;
 import de.uol.swp.common.action.simple.WaiveAction;
 import de.uol.swp.common.card.CityCard;
@@ -29,6 +31,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static de.uol.swp.common.util.TestUtils.createMapType;
@@ -219,6 +223,38 @@ class PlayerTurnTest {
         }
     }
 
+    @Test
+    @DisplayName("Should create new actions on every evaluation and only check the ones affected by a change of the game")
+    void getPossibleActions_reevaluatesAffectedActions() {
+        final ActionFactory actionFactory = mock(ActionFactory.class);
+        final AtomicInteger evaluations = new AtomicInteger();
+        when(actionFactory.createAllGeneralActionsExcludingSomeAndIncludingSomeRoleActions(any(), any()))
+                .thenAnswer(invocation -> List.of(createHandCardsAction(evaluations), new WaiveAction()));
+        final PlayerTurn playerTurn = new PlayerTurn(defaultGame, defaultPlayer, 4, 2, 2, actionFactory);
+
+        final List<Action> firstActions = playerTurn.getPossibleActions();
+        playerTurn.refreshPossibleActions();
+        final List<Action> unchangedActions = playerTurn.getPossibleActions();
+
+        assertThat(firstActions).hasSize(2);
+        assertThat(unchangedActions).hasSize(2)
+                .allSatisfy(action -> assertThat(firstActions).noneMatch(firstAction -> firstAction == action));
+        assertThat(evaluations).hasValue(1);
+
+        defaultPlayer.addHandCard(new CityCard(defaultGame.getFields().get(0)));
+        playerTurn.refreshPossibleActions();
+
+        assertThat(playerTurn.getPossibleActions()).hasSize(2);
+        assertThat(evaluations).hasValue(2);
+    }
+
+    private static Action createHandCardsAction(final AtomicInteger evaluations) {
+        final Action action = mock(Action.class);
+        when(action.getDependencies()).thenReturn(Set.of(ActionDependency.HAND_CARDS));
+        when(action.isAvailable()).thenAnswer(invocation -> evaluations.incrementAndGet() > 0);
+        return action;
+    }
+
     private void clearPlayerHandCards(Player player) {
         List<PlayerCard> handCards = new ArrayList<>(player.getHandCards());
         for(PlayerCard playerCard : handCards) {
@@ -324,18 +324,13 @@ class FieldTest {
     }
 
     @Test
-    @DisplayName("Should return all plague cubes of the given plague")
-    void getPlagueCubesOfPlague() {
-        PlagueCube plagueCube1 = new PlagueCube(plague);
-        PlagueCube plagueCube2 = new PlagueCube(plague);
-
-        field.infectField(plagueCube1, infectedFields);
-        field.infectField(plagueCube2, infectedFields);
-
-        List<PlagueCube> plagueCubes = field.getPlagueCubesOfPlague(plague);
+    @DisplayName("Should return the number of plague cubes of the given plague")
+    void getNumberOfPlagueCubes() {
+        field.infectField(new PlagueCube(plague), infectedFields);
+        field.infectField(new PlagueCube(plague), infectedFields);
 
-        assertThat(plagueCubes)
-                .containsExactlyInAnyOrder(plagueCube1, plagueCube2);
+        assertThat(field.getNumberOfPlagueCubes(plague))
+                .isEqualTo(2);
     }
 
     @Test
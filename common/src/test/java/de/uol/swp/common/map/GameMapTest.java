@@ -6,6 +6,7 @@ import de.uol.swp.common.map.exception.StartingFieldNotFoundException;
 import de.uol.swp.common.marker.OutbreakMarker;
 import de.uol.swp.common.plague.Plague;
 import de.uol.swp.common.plague.PlagueCube;
+import de.uol.swp.common.plague.PlagueCubeCounter;
 import de.uol.swp.common.util.Color;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +14,6 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -68,6 +68,8 @@ class GameMapTest {
         mapType = mock(MapType.class);
         when(mapType.getMap())
                 .thenReturn(mapSlots);
+        when(mapType.getTopology())
+                .thenAnswer(invocation -> new MapTopology(mapSlots, mapType.getStartingCity()));
 
         map = new GameMap(game, mapType);
 
@@ -298,21 +300,20 @@ class GameMapTest {
     void addPlagueCube() {
         final PlagueCube plagueCube = new PlagueCube(plague);
 
-        final Map<Plague, List<PlagueCube>> plagueCubes = Map.ofEntries(Map.entry(plague, new ArrayList<>()));
+        final PlagueCubeCounter plagueCubes = new PlagueCubeCounter(List.of(plague));
         when(game.getPlagueCubes())
                 .thenReturn(plagueCubes);
         doAnswer(invocationOnMock -> {
             final PlagueCube argument = invocationOnMock.getArgument(0);
-            plagueCubes.get(argument.getPlague()).add(argument);
+            plagueCubes.increment(argument.getPlague());
             return null;
         }).when(game).addPlagueCube(any(PlagueCube.class));
 
-        final List<PlagueCube> plagueCubesOnGame = game.getPlagueCubes().get(plague);
-        final int numberOfPlagueCubesOfPlagueOnGame = plagueCubesOnGame.size();
+        final int numberOfPlagueCubesOfPlagueOnGame = game.getPlagueCubes().get(plague);
 
         map.addPlagueCube(plagueCube);
 
-        assertThat(plagueCubesOnGame)
-                .hasSize(numberOfPlagueCubesOfPlagueOnGame + 1);
+        assertThat(plagueCubes.get(plague))
+                .isEqualTo(numberOfPlagueCubesOfPlagueOnGame + 1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package de.uol.swp.common.map;
+
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.util.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapTopologyTest {
+
+    private City city1;
+    private City city2;
+    private City city3;
+    private City city4;
+    private MapType mapType;
+
+    @BeforeEach
+    void setUp() {
+        final Plague plague = new Plague("plague", new Color(10, 10, 10));
+
+        city1 = new City("1", "");
+        city2 = new City("2", "");
+        city3 = new City("3", "");
+        city4 = new City("4", "");
+        final City unknownCity = new City("unknown", "");
+
+        mapType = new MapType("map", List.of(
+                new MapSlot(city1, List.of(city3, city2, city3), plague, 0, 0),
+                new MapSlot(city2, List.of(city1), plague, 1, 0),
+                new MapSlot(city3, List.of(city1, unknownCity), plague, 2, 0),
+                new MapSlot(city4, List.of(), plague, 3, 0)
+        ), city3);
+    }
+
+    @Test
+    @DisplayName("Cities should be found at the index of their slot")
+    void indexOf() {
+        final MapTopology topology = mapType.getTopology();
+
+        assertThat(topology.size()).isEqualTo(4);
+        assertThat(topology.indexOf(city1)).isZero();
+        assertThat(topology.indexOf(city4)).isEqualTo(3);
+        assertThat(topology.indexOf(new City("unknown", ""))).isEqualTo(-1);
+        assertThat(topology.getStartingIndex()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Neighbors should be sorted without duplicates and cities that are not on the map")
+    void getNeighbors() {
+        final MapTopology topology = mapType.getTopology();
+
+        assertThat(topology.getNeighbors(0)).containsExactly(1, 2);
+        assertThat(topology.getNeighbors(1)).containsExactly(0);
+        assertThat(topology.getNeighbors(2)).containsExactly(0);
+        assertThat(topology.getNeighbors(3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The topology should be built once per map type")
+    void getTopology_cached() {
+        assertThat(mapType.getTopology()).isSameAs(mapType.getTopology());
+    }
+}
@@ -0,0 +1,147 @@
+package de.uol.swp.common.map;
+
+import de.uol.swp.common.SerializationTestHelper;
+import de.uol.swp.common.codec.BinarySerializer;
+import de.uol.swp.common.codec.BinaryTypeRegistry;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.util.Color;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MapTypeCacheTest {
+
+    @Test
+    @DisplayName("A MapType with the same content should not replace the registered one")
+    void register_sameContent() {
+        final MapTypeCache cache = new MapTypeCache();
+        final String name = UUID.randomUUID().toString();
+        final MapType mapType = createMapType(name);
+
+        assertThat(cache.register(mapType)).isSameAs(mapType);
+        assertThat(cache.register(createMapType(name))).isSameAs(mapType);
+        assertThat(cache.get(mapType.getContentHash())).containsSame(mapType);
+        assertThat(cache.getAll()).containsExactly(mapType);
+        assertThat(cache.getReference(mapType.getMap().get(1))).isEqualTo(new MapSlotReference(mapType.getContentHash(), 1));
+    }
+
+    @Test
+    @DisplayName("Received definitions of unknown MapTypes should be rejected once definitions are rejected")
+    void registerDefinition_rejected() throws InvalidObjectException {
+        final MapTypeCache cache = new MapTypeCache();
+        final MapType mapType = cache.register(createMapType(UUID.randomUUID().toString()));
+        cache.rejectDefinitions();
+
+        assertThat(cache.registerDefinition(createMapType(mapType.getName()))).isSameAs(mapType);
+        assertThatThrownBy(() -> cache.registerDefinition(createMapType(UUID.randomUUID().toString())))
+                .isInstanceOf(InvalidObjectException.class);
+        assertThat(cache.getAll()).containsExactly(mapType);
+    }
+
+    @Test
+    @DisplayName("No more than the maximum number of MapTypes should be registered")
+    void registerDefinition_bounded() throws InvalidObjectException {
+        final MapTypeCache cache = new MapTypeCache();
+        for (int i = 0; i < MapTypeCache.MAX_MAP_TYPES; i++) {
+            cache.registerDefinition(createMapType(UUID.randomUUID().toString()));
+        }
+
+        assertThatThrownBy(() -> cache.registerDefinition(createMapType(UUID.randomUUID().toString())))
+                .isInstanceOf(InvalidObjectException.class);
+        assertThat(cache.getAll()).hasSize(MapTypeCache.MAX_MAP_TYPES);
+    }
+
+    @Test
+    @DisplayName("The content hash should depend on the content only")
+    void getContentHash() {
+        final String name = UUID.randomUUID().toString();
+        final MapType mapType = createMapType(name);
+
+        assertThat(mapType.getContentHash()).isEqualTo(createMapType(name).getContentHash());
+        assertThat(mapType.getContentHash()).isNotEqualTo(createMapType(name + "2").getContentHash());
+        assertThat(new MapTypeDefinition(mapType).toMapType().getContentHash()).isEqualTo(mapType.getContentHash());
+    }
+
+    @Test
+    @DisplayName("A registered MapType and its MapSlots should be serialized as references")
+    void serialize_registered() throws IOException, ClassNotFoundException {
+        final MapType mapType = MapTypeCache.getDefault().register(createMapType(UUID.randomUUID().toString()));
+        final ArrayList<Object> objects = new ArrayList<>(List.of(mapType, mapType.getMap().get(2)));
+
+        final byte[] registeredBytes = SerializationTestHelper.pickle(objects);
+        final byte[] inlinedBytes = SerializationTestHelper.pickle(new ArrayList<>(List.of(createMapType(mapType.getName()))));
+        final List<?> decoded = SerializationTestHelper.unpickle(registeredBytes, ArrayList.class);
+
+        assertThat(decoded.get(0)).isSameAs(mapType);
+        assertThat(decoded.get(1)).isSameAs(mapType.getMap().get(2));
+        assertThat(registeredBytes.length).isLessThan(inlinedBytes.length);
+    }
+
+    @Test
+    @DisplayName("A registered MapType should be serialized as reference by the binary codec")
+    void serialize_registered_binary() throws IOException {
+        final MapType mapType = MapTypeCache.getDefault().register(createMapType(UUID.randomUUID().toString()));
+        final BinarySerializer serializer = new BinarySerializer(BinaryTypeRegistry.getDefault());
+        final ByteBuf buffer = Unpooled.buffer();
+        try {
+            serializer.serialize(mapType, buffer);
+
+            assertThat(serializer.deserialize(buffer)).isSameAs(mapType);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    @DisplayName("A MapType that is not registered should be serialized completely")
+    void serialize_notRegistered() throws IOException, ClassNotFoundException {
+        final MapType mapType = createMapType(UUID.randomUUID().toString());
+
+        final MapType decoded = SerializationTestHelper.unpickle(SerializationTestHelper.pickle(mapType), MapType.class);
+
+        assertThat(decoded).isNotSameAs(mapType).isEqualTo(mapType);
+        assertThat(MapTypeCache.getDefault().get(mapType.getContentHash())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A received MapTypeDefinition should register its MapType")
+    void deserialize_definition() throws IOException, ClassNotFoundException {
+        final MapType mapType = createMapType(UUID.randomUUID().toString());
+
+        SerializationTestHelper.unpickle(SerializationTestHelper.pickle(new MapTypeDefinition(mapType)), MapTypeDefinition.class);
+
+        assertThat(MapTypeCache.getDefault().get(mapType.getContentHash()))
+                .hasValueSatisfying(registered -> assertThat(registered).isEqualTo(mapType));
+    }
+
+    @Test
+    @DisplayName("A reference to an unknown MapType should not be resolved")
+    void deserialize_unknownReference() throws IOException {
+        final byte[] bytes = SerializationTestHelper.pickle(new MapTypeReference(createMapType(UUID.randomUUID().toString()).getContentHash()));
+
+        assertThatThrownBy(() -> SerializationTestHelper.unpickle(bytes, MapType.class))
+                .isInstanceOf(InvalidObjectException.class);
+    }
+
+    private static MapType createMapType(final String name) {
+        final Plague plague = new Plague("Plague", new Color(10, 10, 10));
+        final City city1 = new City("City1", "City No.1");
+        final City city2 = new City("City2", "City No.2");
+        final City city3 = new City("City3", "City No.3");
+        final List<MapSlot> slots = List.of(
+                new MapSlot(city1, List.of(city2, city3), plague, 1, 1),
+                new MapSlot(city2, List.of(city1, city3), plague, 2, 2),
+                new MapSlot(city3, List.of(city1, city2), plague, 3, 3));
+        return new MapType(name, slots, city1);
+    }
+}
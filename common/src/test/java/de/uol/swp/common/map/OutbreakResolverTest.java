@@ -0,0 +1,145 @@
+package de.uol.swp.common.map;
+
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.marker.OutbreakMarker;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.plague.PlagueCube;
+import de.uol.swp.common.plague.exception.NoPlagueCubesFoundException;
+import de.uol.swp.common.util.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutbreakResolverTest {
+
+    private static final int MAX_NUMBER_OF_PLAGUE_CUBES_PER_FIELD = 3;
+
+    private Plague plague;
+    private Game game;
+    private OutbreakMarker outbreakMarker;
+    private List<Field> infectedFields;
+
+    @BeforeEach
+    void setUp() {
+        plague = new Plague("plague", new Color(10, 10, 10));
+
+        outbreakMarker = new OutbreakMarker(IntStream.rangeClosed(0, 8).boxed().toList());
+        game = mock(Game.class);
+        when(game.getOutbreakMarker()).thenAnswer(invocation -> outbreakMarker);
+        doAnswer(invocation -> {
+            outbreakMarker.increaseLevel();
+            return null;
+        }).when(game).startOutbreak();
+        when(game.getPlagueCubeOfPlague(plague)).thenAnswer(invocation -> new PlagueCube(plague));
+        when(game.getMaxNumberOfPlagueCubesPerField()).thenReturn(MAX_NUMBER_OF_PLAGUE_CUBES_PER_FIELD);
+
+        infectedFields = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Every full field of a ring should have one outbreak in depth first order")
+    void resolve_ring() {
+        final GameMap map = createRing(5);
+        map.getFields().forEach(this::fill);
+
+        final OutbreakReport report = map.startOutbreak(map.getFields().get(0), plague, infectedFields);
+
+        assertThat(report.getOutbreaks()).containsExactlyElementsOf(map.getFields());
+        assertThat(report.getPlacements()).isEmpty();
+        assertThat(infectedFields).containsExactlyElementsOf(map.getFields());
+        verify(game, times(5)).startOutbreak();
+    }
+
+    @Test
+    @DisplayName("Neighbors that are not full should receive one plague cube")
+    void resolve_placements() {
+        final GameMap map = createRing(5);
+        final List<Field> fields = map.getFields();
+        fill(fields.get(0));
+        fill(fields.get(1));
+
+        final OutbreakReport report = map.startOutbreak(fields.get(0), plague, infectedFields);
+
+        assertThat(report.getOutbreaks()).containsExactly(fields.get(0), fields.get(1));
+        assertThat(report.getPlacements()).containsExactly(fields.get(2), fields.get(4));
+        assertThat(report.getAffectedFields()).containsExactly(fields.get(0), fields.get(1), fields.get(2), fields.get(4));
+        assertThat(fields.get(2).getNumberOfPlagueCubes(plague)).isEqualTo(1);
+        assertThat(fields.get(3).getNumberOfPlagueCubes(plague)).isZero();
+    }
+
+    @Test
+    @DisplayName("No outbreak should start once the outbreak marker is at its maximum level")
+    void resolve_maximumOutbreakLevel() {
+        outbreakMarker = new OutbreakMarker(List.of(0, 1, 2));
+        final GameMap map = createRing(5);
+        map.getFields().forEach(this::fill);
+
+        final OutbreakReport report = map.startOutbreak(map.getFields().get(0), plague, infectedFields);
+
+        assertThat(report.getOutbreaks()).containsExactly(map.getFields().get(0), map.getFields().get(1));
+    }
+
+    @Test
+    @DisplayName("The resolution of a field should stop if there are no plague cubes left")
+    void resolve_noPlagueCubesLeft() {
+        when(game.getPlagueCubeOfPlague(plague)).thenThrow(new NoPlagueCubesFoundException(plague.getName()));
+        final GameMap map = createRing(5);
+        fill(map.getFields().get(0));
+
+        final OutbreakReport report = map.startOutbreak(map.getFields().get(0), plague, infectedFields);
+
+        assertThat(report.getOutbreaks()).containsExactly(map.getFields().get(0));
+        assertThat(report.getPlacements()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Long chains should be resolved without recursion")
+    void resolve_longChain() {
+        outbreakMarker = mock(OutbreakMarker.class);
+        final GameMap map = createRing(20_000);
+        map.getFields().forEach(this::fill);
+
+        final OutbreakReport report = map.startOutbreak(map.getFields().get(0), plague, infectedFields);
+
+        assertThat(report.getOutbreaks()).containsExactlyElementsOf(map.getFields());
+    }
+
+    @Test
+    @DisplayName("The outbreak callback should be called once per chain")
+    void resolve_callback() {
+        final GameMap map = createRing(5);
+        map.getFields().forEach(this::fill);
+        final List<OutbreakReport> reports = new ArrayList<>();
+        map.setOutbreakCallback((currentGame, report) -> reports.add(report));
+
+        final OutbreakReport report = map.startOutbreak(map.getFields().get(0), plague, infectedFields);
+
+        assertThat(reports).containsExactly(report);
+    }
+
+    private GameMap createRing(final int numberOfCities) {
+        final List<City> cities = IntStream.range(0, numberOfCities)
+                .mapToObj(i -> new City(String.valueOf(i), ""))
+                .toList();
+        final List<MapSlot> slots = IntStream.range(0, numberOfCities)
+                .mapToObj(i -> new MapSlot(cities.get(i),
+                        List.of(cities.get((i + 1) % numberOfCities), cities.get((i + numberOfCities - 1) % numberOfCities)),
+                        plague, i, 0))
+                .toList();
+        return new GameMap(game, new MapType("ring", slots, cities.get(0)));
+    }
+
+    private void fill(final Field field) {
+        while (field.isInfectable(plague)) {
+            field.infectField(new PlagueCube(plague), new ArrayList<>());
+        }
+    }
+}
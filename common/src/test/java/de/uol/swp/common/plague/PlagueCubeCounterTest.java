@@ -0,0 +1,77 @@
+package de.uol.swp.common.plague;
+
+import de.uol.swp.common.util.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlagueCubeCounterTest {
+
+    private Plague plague1;
+    private Plague plague2;
+    private PlagueCubeCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        plague1 = new Plague("plague1", new Color(1, 1, 1));
+        plague2 = new Plague("plague2", new Color(2, 2, 2));
+        counter = new PlagueCubeCounter(List.of(plague1, plague2), 2);
+    }
+
+    @Test
+    @DisplayName("Every plague should start with the initial number of plague cubes")
+    void get() {
+        assertThat(counter.get(plague1)).isEqualTo(2);
+        assertThat(counter.get(new Plague("plague2", new Color(0, 0, 0)))).isEqualTo(2);
+        assertThat(counter.getPlagues()).containsExactly(plague1, plague2);
+    }
+
+    @Test
+    @DisplayName("Plagues that are not counted should have no plague cubes")
+    void get_unknownPlague() {
+        final Plague unknownPlague = new Plague("unknown", new Color(3, 3, 3));
+
+        assertThat(counter.contains(unknownPlague)).isFalse();
+        assertThat(counter.get(unknownPlague)).isZero();
+    }
+
+    @Test
+    @DisplayName("Incrementing should add plagues that are not counted yet")
+    void increment() {
+        final Plague newPlague = new Plague("new", new Color(3, 3, 3));
+
+        assertThat(counter.increment(plague1)).isEqualTo(3);
+        assertThat(counter.increment(newPlague)).isEqualTo(1);
+        assertThat(counter.getPlagues()).containsExactly(plague1, plague2, newPlague);
+        assertThat(counter.toMap())
+                .containsEntry(plague1, 3)
+                .containsEntry(plague2, 2)
+                .containsEntry(newPlague, 1);
+    }
+
+    @Test
+    @DisplayName("Decrementing should fail if there are no plague cubes left")
+    void decrement() {
+        assertThat(counter.decrement(plague2)).isEqualTo(1);
+        assertThat(counter.decrement(plague2)).isZero();
+        assertThatThrownBy(() -> counter.decrement(plague2))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> counter.decrement(new Plague("unknown", new Color(3, 3, 3))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Setting a negative number of plague cubes should fail")
+    void set() {
+        counter.set(plague1, 5);
+        assertThat(counter.get(plague1)).isEqualTo(5);
+
+        assertThatThrownBy(() -> counter.set(plague1, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package de.uol.swp.common.transport;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.util.concurrent.Promise;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class NettyTransportTest {
+
+    @Test
+    @DisplayName("NIO should be used if the native transport is not preferred")
+    void select_notPreferNative() {
+        assertThat(NettyTransport.select(false)).isEqualTo(NettyTransport.NIO);
+    }
+
+    @Test
+    @DisplayName("Epoll should be used if it is preferred and available")
+    void select_preferNative() {
+        assertThat(NettyTransport.select(true)).isEqualTo(Epoll.isAvailable() ? NettyTransport.EPOLL : NettyTransport.NIO);
+    }
+
+    @ParameterizedTest
+    @EnumSource(NettyTransport.class)
+    @DisplayName("A client should be able to connect to a server with the same transport")
+    void configure_connect(final NettyTransport transport) throws InterruptedException {
+        assumeTrue(transport != NettyTransport.EPOLL || Epoll.isAvailable());
+        final EventLoopGroup group = transport.createEventLoopGroup(1);
+        try {
+            final Channel server = transport.configure(new ServerBootstrap().group(group))
+                    .childHandler(new ChannelInboundHandlerAdapter() {
+                        @Override
+                        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                            ctx.writeAndFlush(msg);
+                        }
+                    })
+                    .bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+            final Promise<Integer> echo = group.next().newPromise();
+            final Channel client = transport.configure(new Bootstrap().group(group))
+                    .handler(new SimpleChannelInboundHandler<ByteBuf>() {
+                        @Override
+                        protected void channelRead0(final ChannelHandlerContext ctx, final ByteBuf msg) {
+                            echo.trySuccess(msg.readInt());
+                        }
+                    })
+                    .connect(server.localAddress()).sync().channel();
+
+            client.writeAndFlush(client.alloc().buffer().writeInt(42));
+
+            assertThat(echo.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(echo.getNow()).isEqualTo(42);
+            assertThat(client).isInstanceOf(transport.getChannelClass());
+            assertThat(client.config().getOption(ChannelOption.TCP_NODELAY)).isTrue();
+            client.close().sync();
+            server.close().sync();
+        } finally {
+            group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        }
+    }
+}
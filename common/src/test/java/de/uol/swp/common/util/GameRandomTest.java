@@ -0,0 +1,80 @@
+package de.uol.swp.common.util;
+
+import de.uol.swp.common.SerializationTestHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameRandomTest {
+
+    @Test
+    @DisplayName("Two streams with the same seed should return the same values")
+    void sameSeed_sameValues() {
+        final GameRandom first = new GameRandom(42);
+        final GameRandom second = new GameRandom(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.nextLong()).isEqualTo(second.nextLong());
+            assertThat(first.nextInt(48)).isEqualTo(second.nextInt(48));
+        }
+        assertThat(first.getSeed()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Bounded values should lie between 0 and the bound")
+    void nextInt_withinBound() {
+        final GameRandom random = new GameRandom(7);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(random.nextInt(5)).isBetween(0, 4);
+            assertThat(random.nextInt(64)).isBetween(0, 63);
+        }
+        assertThatThrownBy(() -> random.nextInt(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Shuffling with the same seed should give the same permutation")
+    void shuffle_samePermutation() {
+        final List<Integer> first = new ArrayList<>(IntStream.range(0, 48).boxed().toList());
+        final List<Integer> second = new ArrayList<>(first);
+
+        new GameRandom(3).shuffle(first);
+        new GameRandom(3).shuffle(second);
+
+        assertThat(first)
+                .isEqualTo(second)
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 48).boxed().toList())
+                .isNotEqualTo(IntStream.range(0, 48).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("A split stream should be determined by the state of its parent")
+    void split_deterministic() {
+        final GameRandom first = new GameRandom(11);
+        final GameRandom second = new GameRandom(11);
+
+        final GameRandom firstChild = first.split();
+        final GameRandom secondChild = second.split();
+
+        assertThat(firstChild.nextLong()).isEqualTo(secondChild.nextLong());
+        assertThat(first.nextLong()).isEqualTo(second.nextLong());
+    }
+
+    @Test
+    @DisplayName("A deserialized stream should continue where the serialized one stopped")
+    void serialization_keepsState() throws Exception {
+        final GameRandom random = new GameRandom(5);
+        random.nextLong();
+
+        final GameRandom copy = SerializationTestHelper.unpickle(SerializationTestHelper.pickle(random), GameRandom.class);
+
+        assertThat(copy.getSeed()).isEqualTo(5);
+        assertThat(copy.nextLong()).isEqualTo(random.nextLong());
+    }
+}
@@ -11,6 +11,7 @@ import de.uol.swp.server.chat.ChatService;
 import de.uol.swp.server.communication.ServerHandler;
 import de.uol.swp.server.communication.netty.NettyServerHandler;
 import de.uol.swp.server.communication.netty.Server;
+import de.uol.swp.server.communication.netty.ServerConfig;
 import de.uol.swp.server.di.ServerModule;
 import de.uol.swp.server.game.GameService;
 import de.uol.swp.server.game.turn.PlayerTurnService;
@@ -27,6 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class handles the startup of the server, as well as, the creation of default
@@ -60,11 +62,18 @@ class ServerApp {
 		}
 		LOG.info("Starting Server on port {}", Optional.of(port));
 
+		long phaseStart = System.nanoTime();
 		Injector injector = Guice.createInjector(new ServerModule());
+		LOG.info("Created injector in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart));
+		phaseStart = System.nanoTime();
 		createServices(injector);
+		LOG.info("Created services in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart));
+		phaseStart = System.nanoTime();
+		int numberOfGames = injector.getInstance(GameService.class).recoverGames();
+		LOG.info("Recovered {} games in {} ms", numberOfGames, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart));
         ServerHandler serverHandler = injector.getInstance(ServerHandler.class);
         ChannelHandler channelHandler = new NettyServerHandler(serverHandler);
-        Server server = new Server(channelHandler);
+        Server server = new Server(channelHandler, injector.getInstance(ServerConfig.class));
         server.start(port);
 	}
 
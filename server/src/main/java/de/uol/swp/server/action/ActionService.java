@@ -21,6 +21,7 @@ import de.uol.swp.server.AbstractService;
 import de.uol.swp.server.card.CardService;
 import de.uol.swp.server.chat.message.SystemLobbyMessageServerInternalMessage;
 import de.uol.swp.server.game.GameManagement;
+import de.uol.swp.server.game.GameStateSynchronizer;
 import de.uol.swp.server.game.message.GameStateChangedInternalMessage;
 import de.uol.swp.server.player.PlayerManagement;
 import de.uol.swp.server.triggerable.TriggerableService;
@@ -39,6 +40,7 @@ public class ActionService extends AbstractService {
     private final GameManagement gameManagement;
     private final TriggerableService triggerableService;
     private final PlayerManagement playerManagement;
+    private final GameStateSynchronizer gameStateSynchronizer;
 
     /**
      * Constructs a new ActionService with the specified EventBus and LobbyService.
@@ -46,12 +48,13 @@ public class ActionService extends AbstractService {
      * @param bus the EventBus used throughout the server
      */
     @Inject
-    public ActionService(EventBus bus, CardService cardService, GameManagement gameManagement, TriggerableService triggerableService, PlayerManagement playerManagement) {
+    public ActionService(EventBus bus, CardService cardService, GameManagement gameManagement, TriggerableService triggerableService, PlayerManagement playerManagement, GameStateSynchronizer gameStateSynchronizer) {
         super(bus);
         this.cardService = cardService;
         this.gameManagement = gameManagement;
         this.triggerableService = triggerableService;
         this.playerManagement = playerManagement;
+        this.gameStateSynchronizer = gameStateSynchronizer;
     }
 
     /**
@@ -88,7 +91,7 @@ public class ActionService extends AbstractService {
 
         triggerableService.executeAutoTriggerables(game);
 
-        RetrieveUpdatedGameServerMessage actionServerMessage = new RetrieveUpdatedGameServerMessage(game);
+        RetrieveUpdatedGameServerMessage actionServerMessage = gameStateSynchronizer.createGameUpdateMessage(game);
         actionServerMessage.initWithMessage(request);
         post(actionServerMessage);
 
@@ -224,10 +227,7 @@ public class ActionService extends AbstractService {
             Game game =  antidoteAction.getGame();
             Game currentGame = gameManagement.getGame(game).get();
 
-            boolean allPlaguesHaveAntidotes = currentGame.getPlagues().stream()
-                    .allMatch(currentGame::hasAntidoteMarkerForPlague);
-
-            if (allPlaguesHaveAntidotes) {
+            if (currentGame.hasAntidoteMarkersForAllPlagues()) {
                 setGameWonIfAllPlaguesHaveAntidotes(currentGame);
             }
         }
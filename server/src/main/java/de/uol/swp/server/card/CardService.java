@@ -23,6 +23,7 @@ import de.uol.swp.common.game.turn.PlayerTurn;
 import de.uol.swp.common.game.turn.request.EndPlayerTurnRequest;
 import de.uol.swp.common.lobby.Lobby;
 import de.uol.swp.common.map.Field;
+import de.uol.swp.common.map.OutbreakReport;
 import de.uol.swp.common.message.Message;
 import de.uol.swp.common.message.response.AbstractGameResponse;
 import de.uol.swp.common.plague.Plague;
@@ -32,6 +33,7 @@ import de.uol.swp.common.triggerable.Triggerable;
 import de.uol.swp.server.AbstractService;
 import de.uol.swp.server.chat.message.SystemLobbyMessageServerInternalMessage;
 import de.uol.swp.server.game.GameManagement;
+import de.uol.swp.server.game.GameStateSynchronizer;
 import de.uol.swp.server.game.message.GameStateChangedInternalMessage;
 import de.uol.swp.server.lobby.LobbyService;
 import de.uol.swp.server.triggerable.TriggerableService;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class responsible for handling card-related operations on the server side.
@@ -60,6 +63,7 @@ public class CardService extends AbstractService {
     private final GameManagement gameManagement;
     private final LobbyService lobbyService;
     private final TriggerableService triggerableService;
+    private final GameStateSynchronizer gameStateSynchronizer;
 
     /**
      * Constructor
@@ -69,14 +73,16 @@ public class CardService extends AbstractService {
      * @param gameManagement the GameManagement used to manage games
      * @param lobbyService the LobbyService used to communicate with the lobby
      * @param triggerableService the {@link TriggerableService} to check if a {@link Triggerable} can be triggered
+     * @param gameStateSynchronizer the {@link GameStateSynchronizer} to create game updates with
      */
     @Inject
-    public CardService(EventBus eventBus, CardManagement cardManagement, GameManagement gameManagement, LobbyService lobbyService, TriggerableService triggerableService) {
+    public CardService(EventBus eventBus, CardManagement cardManagement, GameManagement gameManagement, LobbyService lobbyService, TriggerableService triggerableService, GameStateSynchronizer gameStateSynchronizer) {
         super(eventBus);
         this.cardManagement = cardManagement;
         this.gameManagement = gameManagement;
         this.lobbyService = lobbyService;
         this.triggerableService = triggerableService;
+        this.gameStateSynchronizer = gameStateSynchronizer;
     }
 
     /**
@@ -238,7 +244,7 @@ public class CardService extends AbstractService {
      * @param infectedFields list to track which fields got infected
      */
     private void processInfection(Game game, Field field, PlagueCube plagueCube, List<Field> infectedFields) {
-        game.getMap().setOutbreakCallback((currentGame, outbreakField) -> sendOutbreakMessage(outbreakField, currentGame));
+        game.getMap().setOutbreakCallback((currentGame, outbreakReport) -> sendOutbreakMessage(outbreakReport, currentGame));
 
         field.infectField(plagueCube, infectedFields);
     }
@@ -276,7 +282,7 @@ public class CardService extends AbstractService {
     private void sendGameUpdateMessage(Game game) {
         gameManagement.updateGame(game);
 
-        RetrieveUpdatedGameServerMessage message = new RetrieveUpdatedGameServerMessage(game);
+        RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createGameUpdateMessage(game);
         lobbyService.sendToAllInLobby(game.getLobby(), message);
     }
 
@@ -459,7 +465,7 @@ public class CardService extends AbstractService {
      */
     private void reshuffleInfectionDiscardPileOntoDrawPile(Game game) {
         CardStack<InfectionCard> discardStack = game.getInfectionDiscardStack();
-        discardStack.shuffle();
+        discardStack.shuffle(game.getRandom());
 
         for (InfectionCard card : discardStack) {
             game.getInfectionDrawStack().push(card);
@@ -468,13 +474,16 @@ public class CardService extends AbstractService {
     }
 
     /**
-     * Sends a message informing players about an outbreak in the given city.
+     * Sends one message informing players about all outbreaks of an outbreak chain.
      *
-     * @param field Field where the outbreak occurred
-     * @param game Game in which the outbreak occurred
+     * @param outbreakReport OutbreakReport listing the fields where the outbreaks occurred in chain order
+     * @param game Game in which the outbreaks occurred
      */
-    private void sendOutbreakMessage(final Field field, final Game game) {
-        String message = String.format("Ausbruch in %s!!!", field.getCity().getName());
+    private void sendOutbreakMessage(final OutbreakReport outbreakReport, final Game game) {
+        final String cityNames = outbreakReport.getOutbreaks().stream()
+                .map(field -> field.getCity().getName())
+                .collect(Collectors.joining(", "));
+        String message = String.format("Ausbruch in %s!!!", cityNames);
         sendSystemLobbyMessage(message, game.getLobby());
     }
 
@@ -6,14 +6,20 @@ import de.uol.swp.server.store.MainMemoryBasedStore;
 import lombok.Getter;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A chat store that stores chat messages in the main memory.
+ * <p>
+ * Messages are added by the threads of all clients, so the lists are copy-on-write lists,
+ * which can be iterated by the receivers of the chat history without being locked.
+ * </p>
  */
 public class MainMemoryBasedChatStore extends AbstractStore implements ChatStore, MainMemoryBasedStore {
     @Getter
-    private final List<String> chatMessages = new ArrayList<>();
-    private final Map<Lobby, List<String>> lobbyChatMessages = new HashMap<>();
+    private final List<String> chatMessages = new CopyOnWriteArrayList<>();
+    private final Map<Lobby, List<String>> lobbyChatMessages = new ConcurrentHashMap<>();
 
     @Override
     public void addChatMessage(String chatMessage) {
@@ -22,31 +28,19 @@ public class MainMemoryBasedChatStore extends AbstractStore implements ChatStore
 
     @Override
     public void addLobbyChatMessage(Lobby lobby, String chatMessage) {
-        checkLobbyName(lobby);
-        lobbyChatMessages.get(lobby).add(chatMessage);
+        getLobbyChatMessages(lobby).add(chatMessage);
     }
 
     @Override
     public List<String> getLobbyChatMessages(Lobby lobby) {
-        checkLobbyName(lobby);
-        return lobbyChatMessages.get(lobby);
+        return lobbyChatMessages.computeIfAbsent(lobby, name -> new CopyOnWriteArrayList<>());
     }
 
     @Override
     public void removeLobbyChatMessages(Lobby lobby) {
-        checkLobbyName(lobby);
         this.lobbyChatMessages.remove(lobby);
     }
 
-    /**
-     * Checks if the lobby name is already in the map and adds it if it is not.
-     *
-     * @param lobby the lobby to check
-     */
-    private void checkLobbyName(Lobby lobby) {
-        lobbyChatMessages.computeIfAbsent(lobby, name -> new ArrayList<>());
-    }
-
     @Override
     protected Set<Integer> getIds() {
         return Collections.emptySet();
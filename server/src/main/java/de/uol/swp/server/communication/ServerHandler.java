@@ -2,6 +2,8 @@ package de.uol.swp.server.communication;
 
 
 import com.google.inject.Inject;
+import de.uol.swp.common.codec.SharedMessageEncoding;
+import de.uol.swp.common.game.request.GameRequest;
 import de.uol.swp.common.message.Message;
 import de.uol.swp.common.message.MessageContext;
 import de.uol.swp.common.message.request.RequestMessage;
@@ -12,6 +14,7 @@ import de.uol.swp.common.user.Session;
 import de.uol.swp.common.user.response.LoginSuccessfulResponse;
 import de.uol.swp.common.user.server_message.LoginServerMessage;
 import de.uol.swp.common.user.server_message.LogoutServerMessage;
+import de.uol.swp.server.game.GameExecutor;
 import de.uol.swp.server.message.ClientAuthorizedMessage;
 import de.uol.swp.server.message.ClientDisconnectedMessage;
 import de.uol.swp.server.message.ServerExceptionMessage;
@@ -22,6 +25,7 @@ import org.greenrobot.eventbus.Subscribe;
 
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class handles all client/server communication
@@ -40,22 +44,34 @@ public class ServerHandler implements ServerHandlerDelegate {
     /**
      * Clients with logged in sessions
      */
-    private final Map<MessageContext, Session> activeSessions = new HashMap<>();
+    private final SessionRegistry activeSessions = new SessionRegistry();
+
+    /**
+     * Number of times a ServerMessage sent to several clients did not have to be encoded again
+     */
+    private final LongAdder savedEncodes = new LongAdder();
 
     /**
      * Event bus (injected)
      */
     private final EventBus eventBus;
 
+    /**
+     * Executor running the requests of a game one after another (injected)
+     */
+    private final GameExecutor gameExecutor;
+
     /**
      * Constructor
      *
      * @param eventBus the EventBus used throughout the entire server
+     * @param gameExecutor the executor running the requests of a game one after another
      * @see EventBus
      */
     @Inject
-    public ServerHandler(EventBus eventBus) {
+    public ServerHandler(EventBus eventBus, GameExecutor gameExecutor) {
         this.eventBus = eventBus;
+        this.gameExecutor = gameExecutor;
         eventBus.register(this);
     }
 
@@ -66,12 +82,10 @@ public class ServerHandler implements ServerHandlerDelegate {
         }
         final Optional<MessageContext> messageContext = msg.getMessageContext();
         if (messageContext.isPresent()) {
-            try {
-                checkIfMessageNeedsAuthorization(messageContext.get(), msg);
-                eventBus.post(msg);
-            } catch (Exception e) {
-                LOG.error("ServerException {} {}", e.getClass().getName(), e.getMessage());
-                sendToClient(messageContext.get(), new ExceptionResponseMessage(e.getMessage()));
+            if (msg instanceof GameRequest gameRequest) {
+                gameExecutor.execute(gameRequest.getGameId(), () -> post(messageContext.get(), msg));
+            } else {
+                post(messageContext.get(), msg);
             }
         }else{
             if (LOG.isErrorEnabled()) {
@@ -80,6 +94,24 @@ public class ServerHandler implements ServerHandlerDelegate {
         }
     }
 
+    /**
+     * Posts a request of a client on the EventBus
+     * <p>
+     * If the request can not be processed, the client gets an ExceptionResponseMessage.
+     *
+     * @param ctx the MessageContext of the client that sent the request
+     * @param msg the request to post
+     */
+    private void post(MessageContext ctx, RequestMessage msg) {
+        try {
+            checkIfMessageNeedsAuthorization(ctx, msg);
+            eventBus.post(msg);
+        } catch (Exception e) {
+            LOG.error("ServerException {} {}", e.getClass().getName(), e.getMessage());
+            sendToClient(ctx, new ExceptionResponseMessage(e.getMessage()));
+        }
+    }
+
     /**
      * Helper method that check if a Message has the required authorization
      *
@@ -122,13 +154,11 @@ public class ServerHandler implements ServerHandlerDelegate {
     @Override
     public void clientDisconnected(MessageContext ctx) {
         LOG.debug("Client disconnected");
-        Session session = this.activeSessions.get(ctx);
-        if (session != null) {
+        activeSessions.remove(ctx).ifPresent(session -> {
             ClientDisconnectedMessage msg = new ClientDisconnectedMessage();
             msg.setSession(session);
             eventBus.post(msg);
-            removeSession(ctx);
-        }
+        });
         connectedClients.remove(ctx);
     }
 
@@ -245,8 +275,7 @@ public class ServerHandler implements ServerHandlerDelegate {
      * @return Optional containing the Session if found
      */
     private Optional<Session> getSession(MessageContext ctx) {
-        Session session = activeSessions.get(ctx);
-        return session != null ? Optional.of(session) : Optional.empty();
+        return activeSessions.getSession(ctx);
     }
 
     /**
@@ -277,12 +306,7 @@ public class ServerHandler implements ServerHandlerDelegate {
      * @return Optional containing MessageContext if there is one
      */
     private Optional<MessageContext> getCtx(Session session) {
-        for (Map.Entry<MessageContext, Session> e : activeSessions.entrySet()) {
-            if (e.getValue().equals(session)) {
-                return Optional.of(e.getKey());
-            }
-        }
-        return Optional.empty();
+        return activeSessions.getContext(session);
     }
 
     /**
@@ -294,12 +318,7 @@ public class ServerHandler implements ServerHandlerDelegate {
      * @return List of MessageContexts for the given sessions
      */
     private List<MessageContext> getCtx(List<Session> receiver) {
-        List<MessageContext> ctxs = new ArrayList<>();
-        receiver.forEach(r -> {
-            Optional<MessageContext> s = getCtx(r);
-            s.ifPresent(ctxs::add);
-        });
-        return ctxs;
+        return activeSessions.getContexts(receiver);
     }
 
     /**
@@ -331,21 +350,60 @@ public class ServerHandler implements ServerHandlerDelegate {
 
     /**
      * Sends a ServerMessage to multiple users specified by a list of MessageContexts
+     * <p>
+     * The message is encoded only once per codec in use and the encoded frame is shared by all receivers.
      *
      * @param sendTo List of MessageContexts to send the message to
      * @param msg message to send
      * @see de.uol.swp.common.message.MessageContext
      * @see ServerMessage
+     * @see SharedMessageEncoding
      */
     private void sendToMany(List<MessageContext> sendTo, ServerMessage msg) {
-        for (MessageContext client : sendTo) {
-            try {
-                client.writeAndFlush(msg);
-            } catch (Exception e) {
-                LOG.warn(e);
+        try (SharedMessageEncoding encoding = new SharedMessageEncoding(msg)) {
+            for (MessageContext client : sendTo) {
+                try {
+                    client.writeAndFlush(msg, encoding);
+                } catch (Exception e) {
+                    LOG.warn(e);
+                }
             }
+            savedEncodes.add(encoding.getSavedEncodes());
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Saved {} encodes of server messages so far", savedEncodes.sum());
         }
     }
 
+    /**
+     * Returns how often a ServerMessage sent to several clients did not have to be encoded again,
+     * because the encoded frame of another receiver was reused.
+     *
+     * @return number of saved encodes since the start of the server
+     */
+    public long getSavedEncodes() {
+        return savedEncodes.sum();
+    }
+
+    /**
+     * Returns the number of messages waiting to be sent to each connected client
+     *
+     * @return map of the connected clients to the number of their waiting messages
+     */
+    public Map<MessageContext, Integer> getOutboundQueueDepths() {
+        final Map<MessageContext, Integer> queueDepths = new HashMap<>();
+        connectedClients.forEach(client -> queueDepths.put(client, client.getOutboundQueueDepth()));
+        return queueDepths;
+    }
+
+    /**
+     * Returns the registry of the logged in sessions, e.g. to read its lookup metrics
+     *
+     * @return the registry of the logged in sessions
+     */
+    public SessionRegistry getSessionRegistry() {
+        return activeSessions;
+    }
+
 
 }
@@ -0,0 +1,153 @@
+package de.uol.swp.server.communication;
+
+import de.uol.swp.common.message.MessageContext;
+import de.uol.swp.common.user.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of the sessions of logged in clients
+ * <p>
+ * Keeps a session and the MessageContext of its client in both directions, so that the session of
+ * a context and the context of a session are found in constant time. Lookups are lock free and may be
+ * done by any thread. Changes are serialized, so both directions are always changed together.
+ *
+ * @see de.uol.swp.server.communication.ServerHandler
+ */
+public class SessionRegistry {
+
+    private final Map<MessageContext, Session> sessionsByContext = new ConcurrentHashMap<>();
+    private final Map<Session, MessageContext> contextsBySession = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+
+    /**
+     * Registers the session of a client
+     * <p>
+     * A previous session of the context and a previous context of the session are replaced.
+     *
+     * @param ctx The MessageContext of the client
+     * @param session The session of the client
+     */
+    public void put(MessageContext ctx, Session session) {
+        synchronized (writeLock) {
+            final Session previousSession = sessionsByContext.put(ctx, session);
+            if (previousSession != null && !previousSession.equals(session)) {
+                contextsBySession.remove(previousSession, ctx);
+            }
+            final MessageContext previousContext = contextsBySession.put(session, ctx);
+            if (previousContext != null && !previousContext.equals(ctx)) {
+                sessionsByContext.remove(previousContext, session);
+            }
+        }
+    }
+
+    /**
+     * Removes the session of a client in both directions
+     *
+     * @param ctx The MessageContext of the client
+     * @return Optional containing the removed session, if the client was logged in
+     */
+    public Optional<Session> remove(MessageContext ctx) {
+        synchronized (writeLock) {
+            final Session session = sessionsByContext.remove(ctx);
+            if (session != null) {
+                contextsBySession.remove(session, ctx);
+            }
+            return Optional.ofNullable(session);
+        }
+    }
+
+    /**
+     * Gets the session of a client
+     *
+     * @param ctx The MessageContext of the client
+     * @return Optional containing the session if the client is logged in
+     */
+    public Optional<Session> getSession(MessageContext ctx) {
+        final long start = System.nanoTime();
+        final Session session = sessionsByContext.get(ctx);
+        record(start, session != null);
+        return Optional.ofNullable(session);
+    }
+
+    /**
+     * Gets the MessageContext of a session
+     *
+     * @param session The session to search
+     * @return Optional containing the MessageContext if the session is logged in
+     */
+    public Optional<MessageContext> getContext(Session session) {
+        final long start = System.nanoTime();
+        final MessageContext ctx = contextsBySession.get(session);
+        record(start, ctx != null);
+        return Optional.ofNullable(ctx);
+    }
+
+    /**
+     * Gets the MessageContexts of several sessions
+     *
+     * @param sessions The sessions to search
+     * @return List of the MessageContexts of the logged in sessions, in the order of {@code sessions}
+     */
+    public List<MessageContext> getContexts(List<Session> sessions) {
+        final List<MessageContext> contexts = new ArrayList<>(sessions.size());
+        for (Session session : sessions) {
+            getContext(session).ifPresent(contexts::add);
+        }
+        return contexts;
+    }
+
+    /**
+     * Returns the number of registered sessions
+     *
+     * @return number of logged in clients
+     */
+    public int size() {
+        return sessionsByContext.size();
+    }
+
+    /**
+     * Returns the number of lookups in either direction since the start of the server
+     *
+     * @return number of lookups
+     */
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no entry
+     *
+     * @return number of lookups without result
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the average time of a lookup
+     *
+     * @return average time of a lookup in nanoseconds, 0 if there was no lookup yet
+     */
+    public double getAverageLookupNanos() {
+        final long numberOfLookups = lookups.sum();
+        return numberOfLookups == 0 ? 0 : (double) lookupNanos.sum() / numberOfLookups;
+    }
+
+    private void record(long start, boolean hit) {
+        lookupNanos.add(System.nanoTime() - start);
+        lookups.increment();
+        if (!hit) {
+            misses.increment();
+        }
+    }
+}
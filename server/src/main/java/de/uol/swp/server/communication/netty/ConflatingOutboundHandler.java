@@ -0,0 +1,238 @@
+package de.uol.swp.server.communication.netty;
+
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Queues the outbound messages of a client while its channel is not writable.
+ * <p>
+ * Netty marks a channel as not writable once more bytes than the high water mark wait to be sent,
+ * e.g. because the client reads slowly. Instead of growing the outbound buffer, further messages are
+ * queued here until the channel drops below the low water mark. Queued updates of the same game are
+ * conflated: only the newest update is kept, with the deltas of the skipped updates merged into it.
+ * A queued complete game that is not encoded yet is kept instead of the deltas written after it,
+ * as it is encoded with their changes.
+ * All other messages are sent in the order they were written.
+ * </p>
+ * <p>
+ * The handler is only used on the event loop of its channel. The metrics may be read by any thread.
+ * </p>
+ *
+ * @see ServerConfig
+ */
+class ConflatingOutboundHandler extends ChannelDuplexHandler {
+
+    private final Queue<PendingWrite> queue = new ArrayDeque<>();
+    private final Map<Integer, PendingWrite> queuedUpdatesByGame = new HashMap<>();
+
+    private volatile int queueDepth;
+    private volatile long conflatedMessages;
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (queue.isEmpty() && ctx.channel().isWritable()) {
+            ctx.write(unwrap(msg), promise);
+            return;
+        }
+        enqueue(msg, promise);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (ctx.channel().isWritable()) {
+            drain(ctx, false);
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        drain(ctx, true);
+        ctx.close(promise);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        discardQueue();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        discardQueue();
+    }
+
+    /**
+     * Returns the number of messages waiting in the queue
+     *
+     * @return number of queued messages
+     */
+    int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Returns the number of game updates that were merged into a newer update instead of being sent
+     *
+     * @return number of conflated messages
+     */
+    long getConflatedMessages() {
+        return conflatedMessages;
+    }
+
+    private void enqueue(final Object msg, final ChannelPromise promise) {
+        final RetrieveUpdatedGameServerMessage update = gameUpdateOf(msg);
+        PendingWrite write = new PendingWrite(msg, update, promise);
+        if (update != null) {
+            final int gameId = gameIdOf(update);
+            final PendingWrite queuedUpdate = queuedUpdatesByGame.get(gameId);
+            final RetrieveUpdatedGameServerMessage conflated = queuedUpdate == null ? null : conflate(queuedUpdate, update);
+            if (queuedUpdate != null && conflated == queuedUpdate.update) {
+                // the queued update already contains the newer one, it stays queued and completes both writes
+                ReferenceCountUtil.release(unwrap(msg));
+                queuedUpdate.promises.add(promise);
+                conflatedMessages++;
+                return;
+            }
+            if (conflated != null) {
+                queuedUpdate.supersede();
+                final Object message = conflated == update ? msg : conflated;
+                if (message != msg) {
+                    ReferenceCountUtil.release(unwrap(msg));
+                }
+                write = new PendingWrite(message, conflated, promise);
+                write.promises.addAll(0, queuedUpdate.promises);
+                queueDepth--;
+                conflatedMessages++;
+            }
+            queuedUpdatesByGame.put(gameId, write);
+        }
+        queue.add(write);
+        queueDepth++;
+    }
+
+    /**
+     * Merges two updates of the same game.
+     *
+     * @param older the queued update
+     * @param newer the update written after it
+     * @return the update replacing both at the end of the queue, the update of {@code older} if it stays queued
+     * in place of both, {@code null} if both have to be sent
+     */
+    private static RetrieveUpdatedGameServerMessage conflate(final PendingWrite older,
+                                                             final RetrieveUpdatedGameServerMessage newer) {
+        final GameDelta olderDelta = older.update.getDelta();
+        final GameDelta newerDelta = newer.getDelta();
+        if (newerDelta == null) {
+            return newer;
+        }
+        if (olderDelta == null) {
+            // a complete game is only encoded when it is written and then already contains the newer changes,
+            // but an encoded frame holds the game as it was when the older update was sent
+            return older.message instanceof EncodedServerMessage ? null : older.update;
+        }
+        if (olderDelta.getVersion() != newerDelta.getBaseVersion()) {
+            return null;
+        }
+        final RetrieveUpdatedGameServerMessage merged = new RetrieveUpdatedGameServerMessage(newer.getGame());
+        merged.setDelta(olderDelta.followedBy(newerDelta));
+        return merged;
+    }
+
+    private void drain(final ChannelHandlerContext ctx, final boolean force) {
+        boolean written = false;
+        PendingWrite write;
+        while ((force || ctx.channel().isWritable()) && (write = queue.poll()) != null) {
+            if (write.superseded) {
+                continue;
+            }
+            queueDepth--;
+            if (write.update != null) {
+                queuedUpdatesByGame.remove(gameIdOf(write.update), write);
+            }
+            ctx.write(unwrap(write.message), write.promise(ctx));
+            written = true;
+        }
+        if (written) {
+            ctx.flush();
+        }
+    }
+
+    private void discardQueue() {
+        PendingWrite write;
+        while ((write = queue.poll()) != null) {
+            if (!write.superseded) {
+                ReferenceCountUtil.release(unwrap(write.message));
+                write.promises.forEach(promise -> promise.tryFailure(new ClosedChannelException()));
+            }
+        }
+        queuedUpdatesByGame.clear();
+        queueDepth = 0;
+    }
+
+    private static Object unwrap(final Object msg) {
+        return msg instanceof EncodedServerMessage encoded ? encoded.frame() : msg;
+    }
+
+    private static RetrieveUpdatedGameServerMessage gameUpdateOf(final Object msg) {
+        final Object message = msg instanceof EncodedServerMessage encoded ? encoded.message() : msg;
+        return message instanceof RetrieveUpdatedGameServerMessage update ? update : null;
+    }
+
+    private static int gameIdOf(final RetrieveUpdatedGameServerMessage update) {
+        return update.getDelta() != null ? update.getDelta().getGameId() : update.getGame().getId();
+    }
+
+    /**
+     * A queued message with the promises of all writes it stands for
+     */
+    private static final class PendingWrite {
+
+        private final Object message;
+        private final RetrieveUpdatedGameServerMessage update;
+        private final List<ChannelPromise> promises = new ArrayList<>(1);
+        private boolean superseded;
+
+        private PendingWrite(final Object message, final RetrieveUpdatedGameServerMessage update, final ChannelPromise promise) {
+            this.message = message;
+            this.update = update;
+            this.promises.add(promise);
+        }
+
+        /**
+         * Marks this write as replaced by a conflated update and releases its frame.
+         * The promises are taken over by the replacing write.
+         */
+        private void supersede() {
+            superseded = true;
+            ReferenceCountUtil.release(unwrap(message));
+        }
+
+        private ChannelPromise promise(final ChannelHandlerContext ctx) {
+            if (promises.size() == 1) {
+                return promises.get(0);
+            }
+            final ChannelPromise combined = ctx.newPromise();
+            combined.addListener(future -> promises.forEach(promise -> {
+                if (future.isSuccess()) {
+                    promise.trySuccess();
+                } else {
+                    promise.tryFailure(future.cause());
+                }
+            }));
+            return combined;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package de.uol.swp.server.communication.netty;
+
+import de.uol.swp.common.message.server_message.ServerMessage;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A ServerMessage together with its already encoded frame.
+ * <p>
+ * Written instead of the bare frame, so that the {@link ConflatingOutboundHandler} still knows
+ * which message a queued frame belongs to. The handler passes only the frame on to the encoder.
+ * </p>
+ *
+ * @param message the message the frame was encoded from
+ * @param frame   the encoded frame, released once it was written or discarded
+ */
+record EncodedServerMessage(ServerMessage message, ByteBuf frame) {
+}
@@ -1,9 +1,13 @@
 package de.uol.swp.server.communication.netty;
 
+import de.uol.swp.common.codec.CodecHandshake;
+import de.uol.swp.common.codec.MessageCodec;
+import de.uol.swp.common.codec.SharedMessageEncoding;
 import de.uol.swp.common.message.MessageContext;
 import de.uol.swp.common.message.response.ResponseMessage;
 import de.uol.swp.common.message.server_message.ServerMessage;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.EncoderException;
 
 import java.util.Objects;
 
@@ -45,6 +49,34 @@ class NettyMessageContext implements MessageContext {
         ctx.writeAndFlush(message);
     }
 
+    /**
+     * Writes the frame of the message shared by all receivers, if the codec of the channel is known.
+     * The encoder of the channel passes the already encoded frame through. The frame is written together
+     * with the message, so that the {@link ConflatingOutboundHandler} can conflate it if the client is slow.
+     *
+     * @param message The server message that should be sent
+     * @param encoding The encoding shared by all receivers of the message
+     */
+    @Override
+    public void writeAndFlush(ServerMessage message, SharedMessageEncoding encoding) {
+        final MessageCodec codec = ctx.channel().attr(CodecHandshake.CODEC).get();
+        if (codec == null) {
+            ctx.writeAndFlush(message);
+            return;
+        }
+        try {
+            ctx.writeAndFlush(new EncodedServerMessage(message, encoding.retainedFrame(codec, ctx.alloc())));
+        } catch (Exception e) {
+            throw new EncoderException(e);
+        }
+    }
+
+    @Override
+    public int getOutboundQueueDepth() {
+        final ConflatingOutboundHandler handler = ctx.pipeline().get(ConflatingOutboundHandler.class);
+        return handler == null ? 0 : handler.getQueueDepth();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,34 +1,44 @@
 package de.uol.swp.server.communication.netty;
 
-import de.uol.swp.common.MyObjectDecoder;
-import de.uol.swp.common.MyObjectEncoder;
+import de.uol.swp.common.codec.CodecHandshake;
+import de.uol.swp.common.codec.ServerCodecHandshakeHandler;
+import de.uol.swp.common.transport.NettyTransport;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.serialization.ClassResolvers;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class handles opening a port clients can connect to.
  */
 public class Server {
 
+    private static final Logger LOG = LogManager.getLogger(Server.class);
+
     private final ChannelHandler serverHandler;
+    private final ServerConfig config;
 
     /**
      * Constructor
      * Creates a new Server Object
+     * @param serverHandler the handler of the messages of all clients
+     * @param config the configuration of the network layer
      * @see io.netty.channel.ChannelHandler
      * @see de.uol.swp.server.communication.ServerHandler
      */
-    public Server(ChannelHandler serverHandler) {
+    public Server(ChannelHandler serverHandler, ServerConfig config) {
         this.serverHandler = serverHandler;
+        this.config = config;
     }
 
     /**
@@ -39,22 +49,33 @@ public class Server {
      * @see InetSocketAddress
      */
     public void start(int port) throws InterruptedException {
-        EventLoopGroup bossGroup = new NioEventLoopGroup(1);
-        EventLoopGroup workerGroup = new NioEventLoopGroup();
+        final long start = System.nanoTime();
+        NettyTransport transport = NettyTransport.select(config.isNativeTransport());
+        LOG.info("Using {} transport", transport);
+        EventLoopGroup bossGroup = transport.createEventLoopGroup(config.getBossThreads());
+        EventLoopGroup workerGroup = transport.createEventLoopGroup(config.getWorkerThreads());
         try {
             ServerBootstrap b = new ServerBootstrap();
-            b.group(bossGroup, workerGroup).channel(NioServerSocketChannel.class)
-                    .localAddress(new InetSocketAddress(port)).childHandler(new ChannelInitializer<SocketChannel>() {
+            transport.configure(b.group(bossGroup, workerGroup))
+                    .localAddress(new InetSocketAddress(port))
+                    .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
+                            new WriteBufferWaterMark(config.getOutboundLowWaterMark(), config.getOutboundHighWaterMark()))
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
 
                 @Override
                 protected void initChannel(SocketChannel ch) {
-                    ch.pipeline().addLast(new MyObjectEncoder());
-                    ch.pipeline().addLast(new MyObjectDecoder(ClassResolvers.cacheDisabled(null)));
+                    // the messages written while a request is read are flushed once at the end of the read cycle,
+                    // flushes from other threads are merged into a single flush on the event loop
+                    ch.pipeline().addLast(new FlushConsolidationHandler(config.getFlushConsolidationThreshold(), true));
+                    // the encoder and decoder of the agreed codec are added by the handshake handler
+                    ch.pipeline().addLast(new ServerCodecHandshakeHandler(CodecHandshake.supportedCodecs()));
+                    ch.pipeline().addLast(new ConflatingOutboundHandler());
                     ch.pipeline().addLast(serverHandler);
                 }
 
             });
             ChannelFuture f = b.bind().sync();
+            LOG.info("Server listening on port {} after {} ms", port, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             f.channel().closeFuture().sync();
         } finally {
             bossGroup.shutdownGracefully().sync();
@@ -0,0 +1,83 @@
+package de.uol.swp.server.communication.netty;
+
+import com.google.inject.Inject;
+import de.uol.swp.common.env.EnvReader;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import lombok.Getter;
+
+/**
+ * Configuration of the network layer of the server.
+ * All values are optional and fall back to a default if they are not set in the environment.
+ */
+@Getter
+public class ServerConfig {
+
+    public static final String OUTBOUND_LOW_WATER_MARK = "OUTBOUND_LOW_WATER_MARK";
+    public static final String OUTBOUND_HIGH_WATER_MARK = "OUTBOUND_HIGH_WATER_MARK";
+    public static final String FLUSH_CONSOLIDATION_THRESHOLD = "FLUSH_CONSOLIDATION_THRESHOLD";
+    public static final String NATIVE_TRANSPORT = "NATIVE_TRANSPORT";
+    public static final String BOSS_THREADS = "BOSS_THREADS";
+    public static final String WORKER_THREADS = "WORKER_THREADS";
+
+    public static final int DEFAULT_OUTBOUND_LOW_WATER_MARK = 32 * 1024;
+    public static final int DEFAULT_OUTBOUND_HIGH_WATER_MARK = 64 * 1024;
+    public static final int DEFAULT_FLUSH_CONSOLIDATION_THRESHOLD = FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES;
+    public static final int DEFAULT_BOSS_THREADS = 1;
+    public static final int DEFAULT_WORKER_THREADS = 0;
+
+    /**
+     * Number of bytes waiting to be sent to a client below which its channel is writable again
+     */
+    private final int outboundLowWaterMark;
+
+    /**
+     * Number of bytes waiting to be sent to a client above which further messages are queued and conflated
+     */
+    private final int outboundHighWaterMark;
+
+    /**
+     * Number of consolidated flushes after which the messages to a client are flushed before the end of the read cycle
+     */
+    private final int flushConsolidationThreshold;
+
+    /**
+     * Whether the native epoll transport is used if it is available
+     */
+    private final boolean nativeTransport;
+
+    /**
+     * Number of threads accepting connections
+     */
+    private final int bossThreads;
+
+    /**
+     * Number of threads handling the connections, 0 for the default of Netty (twice the number of processors)
+     */
+    private final int workerThreads;
+
+    /**
+     * Constructor for the ServerConfig
+     *
+     * @param envReader the reader of the environment
+     * @throws IllegalArgumentException if the low water mark is greater than the high water mark
+     *                                  or the flush consolidation threshold or a number of threads is invalid
+     */
+    @Inject
+    public ServerConfig(final EnvReader envReader) {
+        this.outboundLowWaterMark = envReader.readInt(OUTBOUND_LOW_WATER_MARK, DEFAULT_OUTBOUND_LOW_WATER_MARK);
+        this.outboundHighWaterMark = envReader.readInt(OUTBOUND_HIGH_WATER_MARK, DEFAULT_OUTBOUND_HIGH_WATER_MARK);
+        if (outboundLowWaterMark < 0 || outboundLowWaterMark > outboundHighWaterMark) {
+            throw new IllegalArgumentException("Invalid outbound water marks " + outboundLowWaterMark + " and " + outboundHighWaterMark);
+        }
+        this.flushConsolidationThreshold = envReader.readInt(FLUSH_CONSOLIDATION_THRESHOLD, DEFAULT_FLUSH_CONSOLIDATION_THRESHOLD);
+        if (flushConsolidationThreshold <= 0) {
+            throw new IllegalArgumentException("Invalid flush consolidation threshold " + flushConsolidationThreshold);
+        }
+        this.nativeTransport = envReader.readBoolean(NATIVE_TRANSPORT, true);
+        this.bossThreads = envReader.readInt(BOSS_THREADS, DEFAULT_BOSS_THREADS);
+        this.workerThreads = envReader.readInt(WORKER_THREADS, DEFAULT_WORKER_THREADS);
+        if (bossThreads <= 0 || workerThreads < 0) {
+            throw new IllegalArgumentException("Invalid number of threads " + bossThreads + " and " + workerThreads);
+        }
+    }
+}
@@ -7,19 +7,21 @@ import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Optional;
 
 /**
  * This class is responsible for the connection to the database.
  * It uses the HikariCP connection pool.
+ * <p>
+ * The driver prepares parameterized statements on the server and caches up to {@value #PREPARED_STATEMENT_CACHE_SIZE}
+ * of them per pooled connection, so a statement that was prepared once on a connection is not prepared again.
+ * </p>
  */
-@SuppressWarnings("SqlSourceToSinkFlow")
 @Singleton
 public class DataSource {
 
+    static final int PREPARED_STATEMENT_CACHE_SIZE = 250;
+
     private final HikariDataSource ds;
 
     @Inject
@@ -28,6 +30,9 @@ public class DataSource {
         hikariConfig.setJdbcUrl(config.getUrl());
         hikariConfig.setUsername(config.getUsername());
         hikariConfig.setPassword(config.getPassword());
+        hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
+        hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+        hikariConfig.addDataSourceProperty("prepStmtCacheSize", String.valueOf(PREPARED_STATEMENT_CACHE_SIZE));
         this.ds = new HikariDataSource(hikariConfig);
     }
 
@@ -42,30 +47,65 @@ public class DataSource {
     }
 
     /**
-     * Returns a ResultSet from a given query.
+     * Runs the given work on a connection of the pool, which is returned to the pool afterwards.
+     * <p>
+     * The statements and result sets of the work are used while the connection is still open,
+     * so they have to be closed by the work before it returns.
+     * </p>
      *
-     * @param query The query to be executed
-     * @return ResultSet from the query
+     * @param work the work to run
+     * @param <T>  the type of the result of the work
+     * @return the result of the work
+     * @throws SQLException if a database access error occurs
      */
-    public Optional<ResultSet> getResultSet(final String query) {
-        try (Connection connection = getConnection();
-                PreparedStatement statement = connection.prepareStatement(query)) {
-            return Optional.of(statement.executeQuery());
-        } catch (SQLException e) {
-            return Optional.empty();
+    public <T> T withConnection(ConnectionWork<T> work) throws SQLException {
+        try (Connection connection = getConnection()) {
+            return work.execute(connection);
         }
     }
 
     /**
-     * Executes a given query.
+     * Runs the given work in a single transaction, which is committed if the work succeeds and rolled back otherwise.
      *
-     * @param query The query to be executed
+     * @param work the work to run
+     * @param <T>  the type of the result of the work
+     * @return the result of the work
      * @throws SQLException if a database access error occurs
+     * @see #withConnection(ConnectionWork)
      */
-    public void executeQuery(String query) throws SQLException {
-        try (Connection connection = getConnection();
-                PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.executeUpdate();
-        }
+    public <T> T inTransaction(ConnectionWork<T> work) throws SQLException {
+        return withConnection(connection -> {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                final T result = work.execute(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    /**
+     * Work done on a connection of the pool
+     *
+     * @param <T> the type of the result of the work
+     * @see #withConnection(ConnectionWork)
+     */
+    @FunctionalInterface
+    public interface ConnectionWork<T> {
+
+        /**
+         * Does the work on the given connection
+         *
+         * @param connection the connection, which must not be closed by the work
+         * @return the result of the work
+         * @throws SQLException if a database access error occurs
+         */
+        T execute(Connection connection) throws SQLException;
     }
 }
\ No newline at end of file
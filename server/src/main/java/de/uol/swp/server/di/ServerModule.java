@@ -6,12 +6,14 @@ import de.uol.swp.common.env.EnvReader;
 import de.uol.swp.server.card.CardManagement;
 import de.uol.swp.server.database.DataSourceConfig;
 import de.uol.swp.server.store.AbstractStore;
+import de.uol.swp.server.store.FileBasedStore;
 import de.uol.swp.server.util.ServerAvailabilityChecker;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.greenrobot.eventbus.EventBus;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Module that provides classes needed by the Server.
@@ -43,9 +45,13 @@ public class ServerModule extends AbstractModule {
     private void bindStores() {
         boolean isDatabaseAvailable = isDatabaseAvailable();
         LOG.info("Database connection: {}", isDatabaseAvailable);
+        boolean fileBasedStoresAreEnabled = !isDatabaseAvailable && isFileStoreDirectoryConfigured();
+        LOG.info("File based stores: {}", fileBasedStoresAreEnabled);
 
+        final long start = System.nanoTime();
         @SuppressWarnings("rawtypes")
-        final Map<Class, AbstractStore> stores = AbstractStore.createStores(isDatabaseAvailable);
+        final Map<Class, AbstractStore> stores = AbstractStore.createStores(isDatabaseAvailable, fileBasedStoresAreEnabled);
+        LOG.info("Created {} stores in {} ms", stores.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         stores.forEach((key, value) -> bind(key).toInstance(value));
     }
 
@@ -66,4 +72,16 @@ public class ServerModule extends AbstractModule {
         int timeoutMs = envReader.readInt(TIMEOUT_MS);
         return ServerAvailabilityChecker.isServerAvailable(dbHost, dbPort, timeoutMs);
     }
+
+    /**
+     * Checks if a directory for the file based stores is configured.
+     *
+     * @return {@code true} if the environment variable {@value FileBasedStore#FILE_STORE_DIRECTORY} is set,
+     *         {@code false} otherwise.
+     * @see FileBasedStore
+     */
+    private boolean isFileStoreDirectoryConfigured() {
+        final String fileStoreDirectory = envReader.readString(FileBasedStore.FILE_STORE_DIRECTORY);
+        return fileStoreDirectory != null && !fileStoreDirectory.isBlank();
+    }
 }
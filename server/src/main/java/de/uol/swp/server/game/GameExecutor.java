@@ -0,0 +1,203 @@
+package de.uol.swp.server.game;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes all tasks that change a {@link de.uol.swp.common.game.Game} one after another.
+ * <p>
+ * Every game has its own lane with a mailbox of tasks. A lane runs on one thread of a shared pool
+ * at a time, so the tasks of a game never run concurrently and need no locks, while the lanes of
+ * different games run in parallel on all cores. Tasks submitted from within the lane of the same game,
+ * e.g. requests posted while handling another request, are run immediately as before.
+ * </p>
+ *
+ * @see de.uol.swp.common.game.request.GameRequest
+ */
+@Singleton
+public class GameExecutor {
+
+    private static final Logger LOG = LogManager.getLogger(GameExecutor.class);
+
+    /**
+     * Maximum number of tasks a lane runs before it gives its thread to the lanes of other games
+     */
+    static final int TASKS_PER_TURN = 64;
+
+    private static final ThreadLocal<Lane> CURRENT_LANE = new ThreadLocal<>();
+
+    private final Map<Integer, Lane> lanes = new ConcurrentHashMap<>();
+    private final Executor executor;
+
+    /**
+     * Constructor
+     * <p>
+     * Creates a pool with one thread per available processor.
+     */
+    @Inject
+    public GameExecutor() {
+        this(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new LaneThreadFactory()));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param executor the {@link Executor} the lanes run on
+     */
+    public GameExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Executes a task in the lane of the given game
+     * <p>
+     * If the current thread already runs the lane of the game, the task is run immediately.
+     * Otherwise it is run after all tasks submitted to the lane before.
+     *
+     * @param gameId id of the game the task belongs to
+     * @param task   the task to execute
+     */
+    public void execute(final int gameId, final Runnable task) {
+        if (isInLane(gameId)) {
+            task.run();
+            return;
+        }
+        final Lane lane = lanes.compute(gameId, (id, existingLane) -> (existingLane != null ? existingLane : new Lane(id)).enqueue(task));
+        lane.schedule();
+    }
+
+    /**
+     * Checks if the current thread runs the lane of the given game
+     *
+     * @param gameId id of the game
+     * @return true if called from a task of the given game, false otherwise
+     */
+    public boolean isInLane(final int gameId) {
+        final Lane lane = CURRENT_LANE.get();
+        return lane != null && lane.gameId == gameId;
+    }
+
+    /**
+     * Retires the lane of a game that was deleted.
+     * <p>
+     * The lane is removed after all tasks submitted to it before have run, so a lane created later
+     * for the same id never runs in parallel to them.
+     *
+     * @param gameId id of the deleted game
+     */
+    public void removeGame(final int gameId) {
+        final Lane lane = lanes.computeIfPresent(gameId, (id, existingLane) -> existingLane.retiring ? existingLane : existingLane.enqueueRetirement());
+        if (lane != null) {
+            lane.schedule();
+        }
+    }
+
+    /**
+     * Returns the number of games that currently have a lane
+     *
+     * @return number of lanes
+     */
+    public int getNumberOfLanes() {
+        return lanes.size();
+    }
+
+    /**
+     * The mailbox of one game
+     */
+    private final class Lane implements Runnable {
+
+        private final int gameId;
+        private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /**
+         * Whether the retirement of this lane is in its mailbox. Only accessed while computing the entry of the lane.
+         */
+        private boolean retiring;
+
+        private Lane(final int gameId) {
+            this.gameId = gameId;
+        }
+
+        /**
+         * Adds a task to the mailbox. Only called while the map of lanes holds the lane of this game,
+         * so no task is added after the lane was retired.
+         */
+        private Lane enqueue(final Runnable task) {
+            mailbox.add(task);
+            return this;
+        }
+
+        private Lane enqueueRetirement() {
+            retiring = true;
+            return enqueue(this::retire);
+        }
+
+        /**
+         * Removes this lane if no task was submitted after the retirement, otherwise retires it again after them
+         */
+        private void retire() {
+            lanes.computeIfPresent(gameId, (id, lane) -> {
+                if (lane != this) {
+                    return lane;
+                }
+                return mailbox.isEmpty() ? null : enqueueRetirement();
+            });
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            final Lane previousLane = CURRENT_LANE.get();
+            CURRENT_LANE.set(this);
+            try {
+                Runnable task;
+                for (int i = 0; i < TASKS_PER_TURN && (task = mailbox.poll()) != null; i++) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        LOG.error("Task of game {} failed", gameId, e);
+                    }
+                }
+            } finally {
+                CURRENT_LANE.set(previousLane);
+                scheduled.set(false);
+            }
+            if (!mailbox.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Creates the daemon threads of the shared pool
+     */
+    private static final class LaneThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "game-lane-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
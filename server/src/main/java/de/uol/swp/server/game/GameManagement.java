@@ -5,20 +5,28 @@ import de.uol.swp.common.card.PlayerCard;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.GameDifficulty;
 import de.uol.swp.common.game.GameEndReason;
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
 import de.uol.swp.common.lobby.Lobby;
 import de.uol.swp.common.lobby.LobbyStatus;
 import de.uol.swp.common.map.MapType;
 import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.util.GameRandom;
 import de.uol.swp.server.game.store.GameStore;
 import de.uol.swp.server.game.turn.PlayerTurnManagement;
+import de.uol.swp.server.game.turn.store.TurnHistoryStore;
 import de.uol.swp.server.lobby.LobbyManagement;
 import de.uol.swp.server.role.RoleManagement;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -27,28 +35,56 @@ import java.util.stream.Stream;
 @Setter(onMethod = @__(@Inject))
 @RequiredArgsConstructor(onConstructor = @__(@Inject))
 public class GameManagement {
+    private static final Logger LOG = LogManager.getLogger(GameManagement.class);
+
     private LobbyManagement lobbyManagement;
     private PlayerTurnManagement playerTurnManagement;
     private RoleManagement roleManagement;
     private final GameStore gameStore;
+    private final TurnHistoryStore turnHistoryStore;
 
 
     /**
-     * Creates a game
+     * Creates a game with a random seed
      *
      * @param lobby    The lobby from which the game is to be created
      * @param mapType  The mapType of the game
      * @param plagues  The plagues of the game
      * @param difficulty The difficulty level of the game, determines the number of epidemic cards
      * @return The created game
+     * @see #createGame(Lobby, MapType, List, GameDifficulty, long)
      */
     public Game createGame(Lobby lobby, MapType mapType, List<Plague> plagues, GameDifficulty difficulty) {
+        return createGame(lobby, mapType, plagues, difficulty, GameRandom.withRandomSeed().getSeed());
+    }
+
+    /**
+     * Creates a game whose roles, turn order and decks are derived from the given seed
+     * <p>
+     * The roles are assigned with a stream split off the {@link GameRandom} of the game before the players are put
+     * in turn order and the decks are shuffled, so a game created with the same seed from the same lobby is identical.
+     *
+     * @param lobby    The lobby from which the game is to be created
+     * @param mapType  The mapType of the game
+     * @param plagues  The plagues of the game
+     * @param difficulty The difficulty level of the game, determines the number of epidemic cards
+     * @param seed     The seed of the {@link GameRandom} of the game
+     * @return The created game
+     */
+    public Game createGame(Lobby lobby, MapType mapType, List<Plague> plagues, GameDifficulty difficulty, long seed) {
+        final long start = System.nanoTime();
         lobbyManagement.updateLobbyStatus(lobby, LobbyStatus.RUNNING);
-        roleManagement.assignRolesToPlayers(lobby);
+        final GameRandom random = new GameRandom(seed);
+        roleManagement.assignRolesToPlayers(lobby, random.split());
 
-        Game newGame = new Game(lobby, mapType, new ArrayList<>(lobby.getPlayers()),
-                plagues, difficulty);
+        final List<Player> players = lobby.getPlayers().stream()
+                .sorted(Comparator.comparing(Player::getName))
+                .collect(Collectors.toList());
+        random.shuffle(players);
+
+        Game newGame = new Game(lobby, mapType, players, plagues, difficulty, random);
         newGame.addPlayerTurn(playerTurnManagement.createPlayerTurn(newGame));
+        LOG.info("Created game of lobby {} in {} ms", lobby.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         return newGame;
     }
 
@@ -98,6 +134,39 @@ public class GameManagement {
      */
     public void removeGame(Game game) {
         this.gameStore.removeGame(game);
+        this.turnHistoryStore.removeTurnRecords(game.getId());
+    }
+
+    /**
+     * Appends the record of a completed turn to the turn history of the given game.
+     *
+     * @param game The game the turn belongs to
+     * @param turnRecord The record of the completed turn
+     */
+    public void addTurnRecord(Game game, PlayerTurnRecord turnRecord) {
+        this.turnHistoryStore.addTurnRecord(game.getId(), turnRecord);
+    }
+
+    /**
+     * Returns a page of the turn history of the game with the given id.
+     *
+     * @param gameId The id of the game
+     * @param offset The index of the first record to return
+     * @param limit The maximum number of records to return
+     * @return {@link List} of at most {@code limit} records in order of the turns
+     */
+    public List<PlayerTurnRecord> findTurnRecords(int gameId, int offset, int limit) {
+        return this.turnHistoryStore.getTurnRecords(gameId, offset, limit);
+    }
+
+    /**
+     * Returns the number of completed turns of the game with the given id.
+     *
+     * @param gameId The id of the game
+     * @return The number of records in the turn history of the game
+     */
+    public int getNumberOfTurnRecords(int gameId) {
+        return this.turnHistoryStore.getNumberOfTurnRecords(gameId);
     }
 
     /**
@@ -6,6 +6,7 @@ import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.GameEndReason;
 import de.uol.swp.common.game.request.CreateGameRequest;
 import de.uol.swp.common.game.request.LeaveGameRequest;
+import de.uol.swp.common.game.request.RetrieveFullGameRequest;
 import de.uol.swp.common.game.server_message.CreateGameServerMessage;
 import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
 import de.uol.swp.common.lobby.Lobby;
@@ -14,6 +15,7 @@ import de.uol.swp.common.lobby.request.UpdateLobbyStatusRequest;
 import de.uol.swp.common.message.server_message.ServerMessage;
 import de.uol.swp.common.player.AIPlayer;
 import de.uol.swp.common.player.Player;
+import de.uol.swp.common.player.UserPlayer;
 import de.uol.swp.common.user.Session;
 import de.uol.swp.common.user.request.LogoutRequest;
 import de.uol.swp.server.AbstractService;
@@ -22,12 +24,17 @@ import de.uol.swp.server.communication.AISession;
 import de.uol.swp.server.game.message.GameStateChangedInternalMessage;
 import de.uol.swp.server.lobby.LobbyService;
 import de.uol.swp.server.player.PlayerManagement;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.greenrobot.eventbus.EventBus;
 import org.greenrobot.eventbus.Subscribe;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -36,22 +43,34 @@ import java.util.stream.Collectors;
 @Singleton
 public class GameService extends AbstractService {
 
+    private static final Logger LOG = LogManager.getLogger(GameService.class);
+
+    /**
+     * Minutes the users of a recovered game have to log in again before the game expires
+     */
+    static final long RECOVERY_GRACE_PERIOD_MINUTES = 10;
+
     private final GameManagement gameManagement;
     private final LobbyService lobbyService;
     private final PlayerManagement playerManagement;
+    private final GameStateSynchronizer gameStateSynchronizer;
+    private final GameExecutor gameExecutor;
 
     /**
      * Constructor
      *
      * @param eventBus The EventBus set in ServerModule
+     * @param gameExecutor The executor running the requests of a game one after another
      * @see de.uol.swp.server.di.ServerModule
      */
     @Inject
-    public GameService(EventBus eventBus, GameManagement gameManagement, LobbyService lobbyService, PlayerManagement playerManagement) {
+    public GameService(EventBus eventBus, GameManagement gameManagement, LobbyService lobbyService, PlayerManagement playerManagement, GameStateSynchronizer gameStateSynchronizer, GameExecutor gameExecutor) {
         super(eventBus);
         this.gameManagement = gameManagement;
         this.lobbyService = lobbyService;
         this.playerManagement = playerManagement;
+        this.gameStateSynchronizer = gameStateSynchronizer;
+        this.gameExecutor = gameExecutor;
     }
 
     /**
@@ -65,20 +84,72 @@ public class GameService extends AbstractService {
         final Game game = gameManagement.createGame(createGameRequest.getLobby(), createGameRequest.getMapType(), createGameRequest.getPlagues(), createGameRequest.getDifficulty());
         gameManagement.addGame(game);
 
-        final Set<Player> players = createGameRequest.getLobby().getPlayers();
-        final Set<AIPlayer> aiPlayers = getAIPlayersForGame(players);
-
-        for (AIPlayer aiPlayer : aiPlayers) {
-            Session newAiPlayerSession = AISession.createAISession(aiPlayer);
-            playerManagement.addAIPlayerSession(aiPlayer, newAiPlayerSession);
-        }
+        addAIPlayerSessions(createGameRequest.getLobby().getPlayers());
 
+        gameStateSynchronizer.registerGame(game);
         final CreateGameServerMessage response = new CreateGameServerMessage(game);
 
         response.initWithMessage(createGameRequest);
         lobbyService.sendToAllInLobby(createGameRequest.getLobby(), response);
     }
 
+    /**
+     * Recovers the {@link Game}s restored by the game store after a restart of the server.
+     * <p>
+     * The changes journaled after the snapshots of the {@link Game}s were taken are replayed,
+     * and every changed {@link Game} is updated so that a new snapshot of it is written.
+     * The {@link Lobby} of every {@link Game} is restored and its {@link AIPlayer}s get new sessions.
+     * </p>
+     * <p>
+     * The sessions of the users did not survive the restart. Every recovered {@link Game} none of whose users
+     * logged in again within {@value #RECOVERY_GRACE_PERIOD_MINUTES} minutes can no longer be reached,
+     * so it is deleted together with its {@link Lobby}.
+     * </p>
+     *
+     * @return the number of recovered {@link Game}s
+     * @see GameStateSynchronizer#recoverGames(java.util.Collection)
+     * @see LobbyService#restoreLobby(Lobby)
+     */
+    public int recoverGames() {
+        final List<Game> games = gameManagement.findAllGames();
+        gameStateSynchronizer.recoverGames(games).forEach(gameManagement::updateGame);
+        for (final Game game : games) {
+            lobbyService.restoreLobby(game.getLobby());
+            addAIPlayerSessions(game.getLobby().getPlayers());
+        }
+
+        if (!games.isEmpty()) {
+            final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "recovered-game-expiry");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.schedule(() -> {
+                games.forEach(game -> gameExecutor.execute(game.getId(), () -> expireUnreachableGame(game)));
+                scheduler.shutdown();
+            }, RECOVERY_GRACE_PERIOD_MINUTES, TimeUnit.MINUTES);
+        }
+        return games.size();
+    }
+
+    /**
+     * Deletes a recovered {@link Game} and its {@link Lobby} if none of its users is logged in
+     *
+     * @param game the recovered {@link Game}
+     */
+    void expireUnreachableGame(final Game game) {
+        if (gameManagement.getGame(game).filter(storedGame -> storedGame == game).isEmpty()) {
+            return;
+        }
+        final boolean reachable = game.getLobby().getPlayers().stream()
+                .filter(UserPlayer.class::isInstance)
+                .anyMatch(player -> playerManagement.findSession(player).isPresent());
+        if (!reachable) {
+            LOG.info("Deleting the recovered game with id {}, none of its users logged in again", game.getId());
+            deleteGameAndLobby(game);
+        }
+    }
+
     /**
      * Creates a {@link RetrieveUpdatedGameServerMessage} with given {@link Game} and
      * sends it to all players within the associated {@link Lobby}.
@@ -90,10 +161,45 @@ public class GameService extends AbstractService {
     public void sendGameUpdate(final Game game) {
         gameManagement.updateGame(game);
 
-        final RetrieveUpdatedGameServerMessage retrieveUpdatedGameServerMessage = new RetrieveUpdatedGameServerMessage(game);
+        final RetrieveUpdatedGameServerMessage retrieveUpdatedGameServerMessage = gameStateSynchronizer.createGameUpdateMessage(game);
         lobbyService.sendToAllInLobby(game.getLobby(), retrieveUpdatedGameServerMessage);
     }
 
+    /**
+     * Handles a request of a client whose local copy of a {@link Game} is out of sync.
+     * Sends the complete {@link Game} to the requesting client only.
+     *
+     * @param retrieveFullGameRequest the request containing the id of the {@link Game}
+     * @see GameStateSynchronizer#createFullGameMessage(Game)
+     */
+    @Subscribe
+    public void onRetrieveFullGameRequest(final RetrieveFullGameRequest retrieveFullGameRequest) {
+        final Optional<Session> session = retrieveFullGameRequest.getSession();
+        if (session.isEmpty()) {
+            return;
+        }
+        gameManagement.findAllGames().stream()
+                .filter(game -> game.getId() == retrieveFullGameRequest.getGameId())
+                .findFirst()
+                .ifPresent(game -> {
+                    final RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createFullGameMessage(game);
+                    message.setReceiver(List.of(session.get()));
+                    post(message);
+                });
+    }
+
+    /**
+     * Creates a session for every AI player of a game
+     *
+     * @param players The players in the game
+     */
+    private void addAIPlayerSessions(Set<Player> players) {
+        for (AIPlayer aiPlayer : getAIPlayersForGame(players)) {
+            Session newAiPlayerSession = AISession.createAISession(aiPlayer);
+            playerManagement.addAIPlayerSession(aiPlayer, newAiPlayerSession);
+        }
+    }
+
     /**
      * Returns the AI players for a game
      *
@@ -128,7 +234,7 @@ public class GameService extends AbstractService {
             if (userPlayer != null) {
                 final LeaveGameRequest leaveGameRequest = new LeaveGameRequest(game, userPlayer);
                 leaveGameRequest.initWithMessage(logoutRequest);
-                onLeaveGameRequest(leaveGameRequest);
+                gameExecutor.execute(game.getId(), () -> onLeaveGameRequest(leaveGameRequest));
             }
         }
     }
@@ -192,6 +298,8 @@ public class GameService extends AbstractService {
                 game.getLobby())
         );
         gameManagement.removeGame(game);
+        gameStateSynchronizer.unregisterGame(game);
+        gameExecutor.removeGame(game.getId());
         lobbyService.deleteLobby(game.getLobby());
     }
 }
\ No newline at end of file
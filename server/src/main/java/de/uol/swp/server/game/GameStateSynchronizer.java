@@ -0,0 +1,155 @@
+package de.uol.swp.server.game;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.delta.GameStateSnapshot;
+import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
+import de.uol.swp.server.game.journal.GameJournal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the state of every {@link Game} that was last sent to the clients.
+ * <p>
+ * Every update increases the version of the {@link Game}. If the clients already know the previous
+ * version, the created {@link RetrieveUpdatedGameServerMessage} gets a {@link GameDelta} attached,
+ * so that only the changed entries are sent instead of the complete {@link Game}.
+ * </p>
+ * <p>
+ * Every update is appended to the {@link GameJournal}, so the games can be recovered after a crash.
+ * </p>
+ *
+ * @see GameStateSnapshot
+ * @see GameDelta
+ * @see GameJournal
+ */
+@Singleton
+public class GameStateSynchronizer {
+
+    private final Map<Integer, SynchronizedState> synchronizedStates = new ConcurrentHashMap<>();
+    private final GameJournal journal;
+
+    /**
+     * Constructor
+     * <p>
+     * Creates a {@link GameStateSynchronizer} that journals nothing.
+     */
+    public GameStateSynchronizer() {
+        this(GameJournal.disabled());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param journal {@link GameJournal} every update is appended to
+     */
+    @Inject
+    public GameStateSynchronizer(final GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Registers the current state of the given {@link Game} as known by all clients,
+     * e.g. after the complete {@link Game} was sent on creation.
+     *
+     * @param game {@link Game} whose complete state was sent to the clients
+     */
+    public void registerGame(final Game game) {
+        synchronizedStates.put(game.getId(), new SynchronizedState(game.getVersion(), GameStateSnapshot.capture(game)));
+    }
+
+    /**
+     * Removes the state of the given {@link Game} once it was removed and appends its removal to the {@link GameJournal},
+     * so that its changes are not replayed on a new {@link Game} with the same id.
+     *
+     * @param game {@link Game} to forget the state of
+     * @see GameJournal#appendRemoval(int, long)
+     */
+    public void unregisterGame(final Game game) {
+        synchronizedStates.remove(game.getId());
+        journal.appendRemoval(game.getId(), game.getVersion());
+    }
+
+    /**
+     * Creates a {@link RetrieveUpdatedGameServerMessage} for the next version of the given {@link Game}.
+     * <p>
+     * A {@link GameDelta} is attached if a previous state of the {@link Game} is known and
+     * both states share the same structure, i.e. no players left the {@link Game}.
+     * Otherwise, a {@link GameDelta} containing the complete state is appended to the {@link GameJournal}.
+     * </p>
+     *
+     * @param game {@link Game} to create the update of
+     * @return {@link RetrieveUpdatedGameServerMessage} with the new version of {@code game}
+     */
+    public RetrieveUpdatedGameServerMessage createGameUpdateMessage(final Game game) {
+        final RetrieveUpdatedGameServerMessage message = new RetrieveUpdatedGameServerMessage(game);
+        final SynchronizedState state = synchronizedStates.compute(game.getId(), (id, previous) -> {
+            final Map<String, Serializable> snapshot = GameStateSnapshot.capture(game);
+            final long version = (previous == null ? game.getVersion() : previous.getVersion()) + 1;
+            game.setVersion(version);
+
+            if (previous != null && previous.getSnapshot().keySet().equals(snapshot.keySet())) {
+                message.setDelta(GameDelta.between(id, previous.getVersion(), version, previous.getSnapshot(), snapshot));
+            }
+            return new SynchronizedState(version, snapshot);
+        });
+
+        if (journal.isEnabled()) {
+            final GameDelta delta = message.getDelta() != null ? message.getDelta() :
+                    new GameDelta(game.getId(), state.getVersion() - 1, state.getVersion(), new HashMap<>(state.getSnapshot()));
+            journal.append(delta);
+        }
+        return message;
+    }
+
+    /**
+     * Recovers the given {@link Game}s after a restart of the server.
+     * <p>
+     * Replays the {@link GameJournal} on top of the given {@link Game}s and registers their resulting states,
+     * so that the next updates are sent and journaled as {@link GameDelta}s again.
+     * </p>
+     *
+     * @param games {@link Game}s restored from their snapshots
+     * @return {@link Game}s changed by the {@link GameJournal}
+     * @see GameJournal#replay(Collection)
+     */
+    public Set<Game> recoverGames(final Collection<Game> games) {
+        final Set<Game> changedGames = journal.replay(games);
+        games.forEach(this::registerGame);
+        return changedGames;
+    }
+
+    /**
+     * Creates a {@link RetrieveUpdatedGameServerMessage} with the complete given {@link Game}
+     * in the version that was last sent to the clients.
+     *
+     * @param game {@link Game} to send completely
+     * @return {@link RetrieveUpdatedGameServerMessage} without a {@link GameDelta}
+     */
+    public RetrieveUpdatedGameServerMessage createFullGameMessage(final Game game) {
+        final SynchronizedState state = synchronizedStates.get(game.getId());
+        if (state != null) {
+            game.setVersion(state.getVersion());
+        }
+        return new RetrieveUpdatedGameServerMessage(game);
+    }
+
+    /**
+     * State of a {@link Game} as it was last sent to the clients.
+     */
+    @AllArgsConstructor
+    @Getter
+    private static class SynchronizedState {
+        private final long version;
+        private final Map<String, Serializable> snapshot;
+    }
+}
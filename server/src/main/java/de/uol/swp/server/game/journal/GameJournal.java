@@ -0,0 +1,592 @@
+package de.uol.swp.server.game.journal;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import de.uol.swp.common.codec.BinarySerializer;
+import de.uol.swp.common.codec.BinaryTypeRegistry;
+import de.uol.swp.common.env.EnvReader;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.delta.GameDeltaApplier;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of every change of every {@link Game}, used to recover the games after a crash.
+ * <p>
+ * Every change that is sent to the clients is appended as the {@link GameDelta} between the previous and the new
+ * version of the {@link Game}. As the entries of a {@link GameDelta} are absolute values, replaying the journal on top
+ * of a snapshot that already contains some of the changes leads to the same state.
+ * </p>
+ * <p>
+ * The journal is split into segments of {@value #DEFAULT_SEGMENT_SIZE} bytes in the directory named by the environment
+ * variable {@value #GAME_JOURNAL_DIRECTORY}. Every segment is mapped into memory, so appending a record is a copy into
+ * the page cache that survives a crash of the server. A single background thread forces the written pages to the disk
+ * every {@value #SYNC_INTERVAL_MS} ms, so all records appended in the meantime share one sync.
+ * </p>
+ * <p>
+ * When a {@link Game} is removed, a removal record is appended. The ids of the games start over after a restart of
+ * the server, so the changes of a game before its last removal belong to another game with the same id and are
+ * never replayed.
+ * </p>
+ * <p>
+ * If the snapshots of the games are tracked, see {@link #trackSnapshots()}, a segment is only deleted on rotation once
+ * every game changed in it has a snapshot written at or beyond its last version in that segment. Segments are deleted
+ * oldest first, so a removal record is never deleted before the changes it hides. Without snapshots nothing can be
+ * replayed, so only the newest {@value #RETAINED_SEGMENTS} segments are kept.
+ * </p>
+ * <p>
+ * A segment starts with {@value #MAGIC} and the fingerprint of the {@link BinaryTypeRegistry}, followed by records of
+ * the length, the CRC32 checksum and the payload. The payload consists of the kind of the record, the id and
+ * the version of the game and, for a change, the encoded {@link GameDelta}. The unused rest of a segment is
+ * filled with zeros, so a record of length 0 marks its end.
+ * </p>
+ *
+ * @see GameDelta
+ * @see de.uol.swp.server.game.store.SnapshotBasedGameStore
+ */
+@Singleton
+public class GameJournal {
+
+    private static final Logger LOG = LogManager.getLogger(GameJournal.class);
+
+    public static final String GAME_JOURNAL_DIRECTORY = "GAME_JOURNAL_DIRECTORY";
+
+    /**
+     * Size of a segment in bytes
+     */
+    static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Milliseconds between two syncs of the background thread
+     */
+    static final long SYNC_INTERVAL_MS = 10;
+
+    /**
+     * Number of segments kept on rotation if the snapshots of the games are not tracked
+     */
+    static final int RETAINED_SEGMENTS = 8;
+
+    static final int MAGIC = 0x53575048;
+    static final int SEGMENT_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+    static final int PAYLOAD_HEADER_SIZE = Byte.BYTES + Integer.BYTES + Long.BYTES;
+
+    private static final byte CHANGE = 0;
+    private static final byte REMOVAL = 1;
+
+    private static final String FILE_PREFIX = "journal-";
+    private static final String FILE_SUFFIX = ".log";
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final BinaryTypeRegistry registry = BinaryTypeRegistry.getDefault();
+    private final BinarySerializer serializer = new BinarySerializer(registry);
+    private final AtomicBoolean syncerStarted = new AtomicBoolean();
+
+    private MappedByteBuffer segment;
+    private long sequence = -1;
+    private boolean dirty;
+    private boolean snapshotsTracked;
+
+    /**
+     * Versions the snapshots of the games have to reach before a segment can be deleted, by sequence of the segment
+     */
+    private final Map<Long, Map<Integer, Long>> requiredVersions = new HashMap<>();
+
+    /**
+     * Version of the latest snapshot written of every game
+     */
+    private final Map<Integer, Long> writtenVersions = new HashMap<>();
+
+    /**
+     * Record of the journal
+     *
+     * @param gameId  the id of the game
+     * @param version the version of the game after the change or when it was removed
+     * @param removal {@code true} if the game was removed
+     * @param delta   the change of the game, {@code null} if the game was removed or the change was not decoded
+     */
+    record Entry(int gameId, long version, boolean removal, GameDelta delta) {
+    }
+
+    /**
+     * Constructor
+     * <p>
+     * Writes the journal to the directory named by the environment variable {@value #GAME_JOURNAL_DIRECTORY}.
+     * If it is not set, nothing is journaled.
+     *
+     * @param envReader the reader of the environment
+     */
+    @Inject
+    public GameJournal(EnvReader envReader) {
+        this(toDirectory(envReader.readString(GAME_JOURNAL_DIRECTORY)), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param directory   the directory of the segments, created with the first segment, {@code null} to journal nothing
+     * @param segmentSize the size of a segment in bytes
+     */
+    public GameJournal(Path directory, int segmentSize) {
+        if (segmentSize <= SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size " + segmentSize + " is too small");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Creates a journal that journals nothing
+     *
+     * @return disabled journal
+     */
+    public static GameJournal disabled() {
+        return new GameJournal(null, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Returns {@code true} if changes are written to the journal
+     *
+     * @return {@code true} if a directory is configured, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Appends the given change of a game to the journal.
+     * <p>
+     * The change is encoded on the calling thread, only copying it into the current segment is synchronized.
+     * It is written to the disk with the next sync.
+     * </p>
+     *
+     * @param delta the change of a game
+     */
+    public void append(GameDelta delta) {
+        if (!isEnabled()) {
+            return;
+        }
+        final byte[] record;
+        try {
+            record = encode(delta);
+        } catch (IOException e) {
+            LOG.error("Could not encode the change of the game with id {}", delta.getGameId(), e);
+            return;
+        }
+        appendRecord(record, delta.getGameId(), delta.getVersion(), false);
+    }
+
+    /**
+     * Appends the removal of a game to the journal.
+     * <p>
+     * The changes of the game appended before are no longer replayed, even if a new game gets the same id
+     * after a restart of the server. They no longer keep their segments from being deleted either.
+     * </p>
+     *
+     * @param gameId  the id of the removed game
+     * @param version the version of the game when it was removed
+     */
+    public void appendRemoval(int gameId, long version) {
+        if (!isEnabled()) {
+            return;
+        }
+        appendRecord(encodeHeader(REMOVAL, gameId, version).array(), gameId, version, true);
+    }
+
+    /**
+     * Starts tracking the snapshots of the games, so that a segment is kept until the snapshots of all games
+     * changed in it are written.
+     * <p>
+     * Called by the game store writing the snapshots, before it reports them with {@link #snapshotsWritten(Map)}.
+     * </p>
+     */
+    public synchronized void trackSnapshots() {
+        snapshotsTracked = true;
+    }
+
+    /**
+     * Records that snapshots of the given games were written, so that the segments covered by them
+     * can be deleted on the next rotation.
+     *
+     * @param versions the versions of the written snapshots by the ids of their games
+     */
+    public synchronized void snapshotsWritten(Map<Integer, Long> versions) {
+        if (!isEnabled()) {
+            return;
+        }
+        versions.forEach((gameId, version) -> writtenVersions.merge(gameId, version, Math::max));
+    }
+
+    /**
+     * Forces all records appended so far to the disk.
+     * <p>
+     * Called by the background thread. Calling it directly is only needed to make sure that all records are
+     * written, e.g. before the server shuts down. Appending is not blocked while the pages are forced.
+     * </p>
+     */
+    public void sync() {
+        final MappedByteBuffer segmentToSync;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            segmentToSync = segment;
+        }
+        try {
+            segmentToSync.force();
+        } catch (RuntimeException e) {
+            LOG.error("Could not sync the journal", e);
+        }
+    }
+
+    /**
+     * Replays the journal on top of the given games.
+     * <p>
+     * The changes of a game are applied in the order they were appended, starting with the first change based on the
+     * version of the game. Changes of other games, older changes and changes appended before the last removal of
+     * a game with the same id are skipped. If a change is missing or cannot be applied, the remaining changes of its
+     * game are skipped, so the game stays in the last consistent state.
+     * </p>
+     * <p>
+     * The segments written before are kept until the given games have snapshots at or beyond the versions
+     * replayed from them. Changes of all other games can no longer be replayed and do not keep their segments.
+     * </p>
+     *
+     * @param games the games restored from their snapshots
+     * @return the games that were changed
+     */
+    public Set<Game> replay(Collection<Game> games) {
+        final Set<Game> changedGames = new HashSet<>();
+        if (!isEnabled() || games.isEmpty()) {
+            return changedGames;
+        }
+        final Map<Integer, Game> restoredGames = new HashMap<>();
+        games.forEach(game -> restoredGames.put(game.getId(), game));
+        final Map<Integer, Game> gamesById = new HashMap<>(restoredGames);
+        final Map<Long, Map<Integer, Long>> replayedVersions = new HashMap<>();
+
+        int numberOfChanges = 0;
+        try {
+            final List<Path> files = listSegments();
+            final Map<Integer, Long> lastRemovals = findLastRemovals(files);
+
+            long position = 0;
+            for (final Path file : files) {
+                final long segmentSequence = getSequence(file);
+                for (final Entry entry : readSegment(file)) {
+                    final long entryPosition = position++;
+                    final Game game = gamesById.get(entry.gameId());
+                    if (entry.removal() || game == null || entryPosition < lastRemovals.getOrDefault(entry.gameId(), -1L)) {
+                        continue;
+                    }
+                    replayedVersions.computeIfAbsent(segmentSequence, key -> new HashMap<>())
+                            .merge(entry.gameId(), entry.version(), Math::max);
+                    final GameDelta delta = entry.delta();
+                    if (delta.getVersion() <= game.getVersion()) {
+                        continue;
+                    }
+                    if (!delta.isApplicableTo(game.getVersion())) {
+                        LOG.warn("Change {} -> {} of game {} is missing, skipping its remaining changes",
+                                game.getVersion(), delta.getBaseVersion(), game.getId());
+                        gamesById.remove(game.getId());
+                        continue;
+                    }
+                    try {
+                        GameDeltaApplier.apply(game, delta);
+                        changedGames.add(game);
+                        numberOfChanges++;
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        LOG.warn("Could not replay change {} -> {} of game {}, skipping its remaining changes: {}",
+                                delta.getBaseVersion(), delta.getVersion(), game.getId(), e.getMessage());
+                        gamesById.remove(game.getId());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Could not read the journal", e);
+        }
+
+        synchronized (this) {
+            replayedVersions.forEach((segmentSequence, versions) -> {
+                final Map<Integer, Long> required = requiredVersions.computeIfAbsent(segmentSequence, key -> new HashMap<>());
+                versions.forEach((gameId, version) ->
+                        required.merge(gameId, Math.min(version, restoredGames.get(gameId).getVersion()), Math::max));
+            });
+        }
+        LOG.info("Replayed {} changes of {} games", numberOfChanges, changedGames.size());
+        return changedGames;
+    }
+
+    /**
+     * Reads all records of the given segment up to its end or its first damaged record
+     *
+     * @param file the segment
+     * @return the records in the segment in the order they were appended
+     * @throws IOException if the segment cannot be read
+     */
+    List<Entry> readSegment(Path file) throws IOException {
+        return readSegment(file, true);
+    }
+
+    /**
+     * Reads all records of the given segment up to its end or its first damaged record
+     *
+     * @param file          the segment
+     * @param decodeChanges {@code true} to decode the changes, {@code false} to only read their game ids and versions
+     * @return the records in the segment in the order they were appended
+     * @throws IOException if the segment cannot be read
+     */
+    private List<Entry> readSegment(Path file, boolean decodeChanges) throws IOException {
+        final List<Entry> entries = new ArrayList<>();
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < SEGMENT_HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getLong() != registry.getFingerprint()) {
+            LOG.warn("Skipping segment {}, it was written by another version of the server", file.getFileName());
+            return entries;
+        }
+        final CRC32 checksum = new CRC32();
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            final int length = buffer.getInt();
+            final int expectedChecksum = buffer.getInt();
+            if (length == 0) {
+                break;
+            }
+            if (length < PAYLOAD_HEADER_SIZE || length > buffer.remaining()) {
+                LOG.warn("Segment {} ends with a damaged record", file.getFileName());
+                break;
+            }
+            final byte[] record = new byte[length];
+            buffer.get(record);
+            checksum.reset();
+            checksum.update(record);
+            if ((int) checksum.getValue() != expectedChecksum) {
+                LOG.warn("Segment {} ends with a damaged record", file.getFileName());
+                break;
+            }
+            final ByteBuffer payload = ByteBuffer.wrap(record);
+            final boolean removal = payload.get() == REMOVAL;
+            final int gameId = payload.getInt();
+            final long version = payload.getLong();
+            final GameDelta delta = removal || !decodeChanges ? null : decode(record);
+            entries.add(new Entry(gameId, version, removal, delta));
+        }
+        return entries;
+    }
+
+    /**
+     * Finds the position of the last removal record of every game, counting the records of all segments
+     *
+     * @param files the segments, oldest first
+     * @return the position of the last removal by the id of the removed game
+     * @throws IOException if a segment cannot be read
+     */
+    private Map<Integer, Long> findLastRemovals(List<Path> files) throws IOException {
+        final Map<Integer, Long> lastRemovals = new HashMap<>();
+        long position = 0;
+        for (final Path file : files) {
+            for (final Entry entry : readSegment(file, false)) {
+                if (entry.removal()) {
+                    lastRemovals.put(entry.gameId(), position);
+                }
+                position++;
+            }
+        }
+        return lastRemovals;
+    }
+
+    /**
+     * Lists all segments in the order they were written
+     *
+     * @return the segments, oldest first
+     * @throws IOException if the directory cannot be read
+     */
+    List<Path> listSegments() throws IOException {
+        final List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            files.forEach(segments::add);
+        }
+        // the sequence numbers are zero padded, so the names sort like the numbers
+        segments.sort(Comparator.comparing(file -> file.getFileName().toString()));
+        return segments;
+    }
+
+    /**
+     * Copies the given record into the current segment and keeps track of the versions its segment is needed for
+     *
+     * @param record  the payload of the record
+     * @param gameId  the id of the game
+     * @param version the version of the game
+     * @param removal {@code true} if the record is the removal of the game
+     */
+    private void appendRecord(byte[] record, int gameId, long version, boolean removal) {
+        final CRC32 checksum = new CRC32();
+        checksum.update(record);
+
+        synchronized (this) {
+            try {
+                if (segment == null || segment.remaining() < RECORD_HEADER_SIZE + record.length) {
+                    openNextSegment(record.length);
+                }
+                segment.putInt(record.length);
+                segment.putInt((int) checksum.getValue());
+                segment.put(record);
+                dirty = true;
+            } catch (IOException e) {
+                LOG.error("Could not journal the {} of the game with id {}", removal ? "removal" : "change", gameId, e);
+                return;
+            }
+            if (removal) {
+                requiredVersions.values().forEach(required -> required.remove(gameId));
+                writtenVersions.remove(gameId);
+            } else {
+                requiredVersions.computeIfAbsent(sequence, key -> new HashMap<>()).merge(gameId, version, Math::max);
+            }
+        }
+        startSyncer();
+    }
+
+    /**
+     * Forces the current segment to the disk, maps the next one and deletes the segments no longer retained
+     *
+     * @param recordLength the length of the record that has to fit into the next segment
+     * @throws IOException if the next segment cannot be created
+     */
+    private void openNextSegment(int recordLength) throws IOException {
+        if (SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE + recordLength > segmentSize) {
+            throw new IOException("Record of " + recordLength + " bytes does not fit into a segment");
+        }
+        if (segment != null) {
+            segment.force();
+        } else {
+            Files.createDirectories(directory);
+            final List<Path> segments = listSegments();
+            sequence = segments.isEmpty() ? -1 : getSequence(segments.get(segments.size() - 1));
+        }
+        sequence++;
+
+        final Path file = directory.resolve(String.format("%s%019d%s", FILE_PREFIX, sequence, FILE_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segment.putInt(MAGIC);
+        segment.putLong(registry.getFingerprint());
+
+        deleteCoveredSegments();
+    }
+
+    /**
+     * Deletes the oldest segments up to the first one that is still needed to recover a game
+     *
+     * @throws IOException if a segment cannot be deleted
+     */
+    private void deleteCoveredSegments() throws IOException {
+        final List<Path> segments = listSegments();
+        for (int i = 0; i < segments.size() - 1; i++) {
+            final long segmentSequence = getSequence(segments.get(i));
+            final boolean covered = snapshotsTracked ? isCoveredBySnapshots(segmentSequence) : i < segments.size() - RETAINED_SEGMENTS;
+            if (!covered) {
+                return;
+            }
+            Files.deleteIfExists(segments.get(i));
+            requiredVersions.remove(segmentSequence);
+        }
+    }
+
+    /**
+     * Checks if every game changed in the given segment has a snapshot at or beyond its last version in it
+     *
+     * @param segmentSequence the sequence of the segment
+     * @return {@code true} if the segment is no longer needed to recover a game
+     */
+    private boolean isCoveredBySnapshots(long segmentSequence) {
+        final Map<Integer, Long> required = requiredVersions.get(segmentSequence);
+        return required == null || required.entrySet().stream()
+                .allMatch(entry -> writtenVersions.getOrDefault(entry.getKey(), -1L) >= entry.getValue());
+    }
+
+    private long getSequence(Path file) throws IOException {
+        final String fileName = file.getFileName().toString();
+        try {
+            return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Segment " + fileName + " is not named after a sequence number", e);
+        }
+    }
+
+    private byte[] encode(GameDelta delta) throws IOException {
+        final ByteBuf buffer = Unpooled.buffer(INITIAL_BUFFER_SIZE);
+        try {
+            buffer.writeBytes(encodeHeader(CHANGE, delta.getGameId(), delta.getVersion()).flip());
+            serializer.serialize(delta, buffer);
+            return ByteBufUtil.getBytes(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static ByteBuffer encodeHeader(byte kind, int gameId, long version) {
+        return ByteBuffer.allocate(PAYLOAD_HEADER_SIZE).put(kind).putInt(gameId).putLong(version);
+    }
+
+    private GameDelta decode(byte[] record) throws IOException {
+        final ByteBuf buffer = Unpooled.wrappedBuffer(record, PAYLOAD_HEADER_SIZE, record.length - PAYLOAD_HEADER_SIZE);
+        final Object delta;
+        try {
+            delta = serializer.deserialize(buffer);
+        } finally {
+            buffer.release();
+        }
+        if (!(delta instanceof GameDelta)) {
+            throw new InvalidObjectException("Record does not contain a change of a game");
+        }
+        return (GameDelta) delta;
+    }
+
+    /**
+     * Starts the background thread syncing the journal and registers the sync on shutdown, if not done yet
+     */
+    private void startSyncer() {
+        if (!syncerStarted.compareAndSet(false, true)) {
+            return;
+        }
+        final ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "game-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, SYNC_INTERVAL_MS, SYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::sync, "game-journal-flush"));
+    }
+
+    private static Path toDirectory(String directory) {
+        return directory == null || directory.isBlank() ? null : Path.of(directory);
+    }
+}
@@ -0,0 +1,106 @@
+package de.uol.swp.server.game.store;
+
+import com.google.inject.Inject;
+import de.uol.swp.server.database.DataSource;
+import de.uol.swp.server.store.DatabaseStore;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A game store that writes the snapshots of the games to the database.
+ * <p>
+ * The snapshots are stored in the table {@value #TABLE}, which is created if it does not exist.
+ * Every batch of the background writer is written in a single transaction with one batched statement
+ * for the changed games and one for the removed games.
+ * </p>
+ *
+ * @see SnapshotBasedGameStore
+ */
+public class DatabaseBasedGameStore extends SnapshotBasedGameStore implements DatabaseStore {
+
+    public static final String TABLE = "game_snapshots";
+    public static final String GAME_ID = "game_id";
+    public static final String VERSION = "version";
+    public static final String SNAPSHOT = "snapshot";
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+            GAME_ID + " INT PRIMARY KEY, " +
+            VERSION + " BIGINT NOT NULL, " +
+            SNAPSHOT + " MEDIUMBLOB NOT NULL, " +
+            "saved TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP)";
+    private static final String SELECT_SNAPSHOTS = "SELECT " + GAME_ID + ", " + VERSION + ", " + SNAPSHOT + " FROM " + TABLE;
+    private static final String UPSERT_SNAPSHOT = "INSERT INTO " + TABLE + " (" + GAME_ID + ", " + VERSION + ", " + SNAPSHOT + ") VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " + VERSION + " = VALUES(" + VERSION + "), " + SNAPSHOT + " = VALUES(" + SNAPSHOT + ")";
+    private static final String DELETE_SNAPSHOT = "DELETE FROM " + TABLE + " WHERE " + GAME_ID + " = ?";
+
+    private DataSource dataSource;
+
+    /**
+     * Sets the data source, creates the table of the snapshots if needed and restores the games
+     *
+     * @param dataSource the data source of the database
+     */
+    @Inject
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+        restoreGames();
+    }
+
+    @Override
+    protected List<GameSnapshot> readSnapshots() throws IOException {
+        try {
+            return dataSource.withConnection(connection -> {
+                try (PreparedStatement createTable = connection.prepareStatement(CREATE_TABLE)) {
+                    createTable.executeUpdate();
+                }
+                final List<GameSnapshot> snapshots = new ArrayList<>();
+                try (PreparedStatement select = connection.prepareStatement(SELECT_SNAPSHOTS);
+                     ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        snapshots.add(new GameSnapshot(resultSet.getInt(GAME_ID), resultSet.getLong(VERSION), resultSet.getBytes(SNAPSHOT)));
+                    }
+                }
+                return snapshots;
+            });
+        } catch (SQLException e) {
+            throw new IOException("Could not read the snapshots", e);
+        }
+    }
+
+    @Override
+    protected void writeSnapshots(List<GameSnapshot> snapshots, Set<Integer> removedGameIds) throws IOException {
+        try {
+            dataSource.inTransaction(connection -> {
+                if (!snapshots.isEmpty()) {
+                    try (PreparedStatement upsert = connection.prepareStatement(UPSERT_SNAPSHOT)) {
+                        for (final GameSnapshot snapshot : snapshots) {
+                            upsert.setInt(1, snapshot.gameId());
+                            upsert.setLong(2, snapshot.version());
+                            upsert.setBytes(3, snapshot.data());
+                            upsert.addBatch();
+                        }
+                        upsert.executeBatch();
+                    }
+                }
+                if (!removedGameIds.isEmpty()) {
+                    try (PreparedStatement delete = connection.prepareStatement(DELETE_SNAPSHOT)) {
+                        for (final Integer gameId : removedGameIds) {
+                            delete.setInt(1, gameId);
+                            delete.addBatch();
+                        }
+                        delete.executeBatch();
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new IOException("Could not write the snapshots", e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package de.uol.swp.server.game.store;
+
+import com.google.inject.Inject;
+import de.uol.swp.common.env.EnvReader;
+import de.uol.swp.server.store.FileBasedStore;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A game store that writes the snapshots of the games to files, for local runs without a database.
+ * <p>
+ * Every game has its own file {@code game-<id>.snapshot} in the directory named by the environment variable
+ * {@value FileBasedStore#FILE_STORE_DIRECTORY}. A snapshot is written to a temporary file first, which then
+ * replaces the previous snapshot, so a crash while writing never leaves a damaged snapshot behind.
+ * </p>
+ *
+ * @see SnapshotBasedGameStore
+ */
+public class FileBasedGameStore extends SnapshotBasedGameStore implements FileBasedStore {
+
+    private static final String FILE_PREFIX = "game-";
+    private static final String FILE_SUFFIX = ".snapshot";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private Path directory;
+
+    /**
+     * Sets the directory of the snapshots to the one named in the environment and restores the games
+     *
+     * @param envReader the reader of the environment
+     * @see #setDirectory(Path)
+     */
+    @Inject
+    public void setEnvReader(EnvReader envReader) {
+        setDirectory(Path.of(envReader.readString(FILE_STORE_DIRECTORY)));
+    }
+
+    /**
+     * Sets the directory of the snapshots and restores the games from the snapshots in it
+     *
+     * @param directory the directory of the snapshots, created when the first snapshot is written
+     */
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+        restoreGames();
+    }
+
+    @Override
+    protected List<GameSnapshot> readSnapshots() throws IOException {
+        final List<GameSnapshot> snapshots = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return snapshots;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (final Path file : files) {
+                snapshots.add(readSnapshot(file));
+            }
+        }
+        return snapshots;
+    }
+
+    @Override
+    protected void writeSnapshots(List<GameSnapshot> snapshots, Set<Integer> removedGameIds) throws IOException {
+        Files.createDirectories(directory);
+        for (final GameSnapshot snapshot : snapshots) {
+            final Path file = getFile(snapshot.gameId());
+            final Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+            try (OutputStream out = Files.newOutputStream(temporaryFile);
+                 DataOutputStream dataOut = new DataOutputStream(out)) {
+                dataOut.writeLong(snapshot.version());
+                dataOut.write(snapshot.data());
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        for (final Integer gameId : removedGameIds) {
+            Files.deleteIfExists(getFile(gameId));
+        }
+    }
+
+    /**
+     * Reads the snapshot in the given file
+     *
+     * @param file the file named after the id of the game
+     * @return the snapshot in the file
+     * @throws IOException if the file cannot be read or its name contains no id
+     */
+    private GameSnapshot readSnapshot(Path file) throws IOException {
+        final String fileName = file.getFileName().toString();
+        final int gameId;
+        try {
+            gameId = Integer.parseInt(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Snapshot file " + fileName + " is not named after a game id", e);
+        }
+        try (InputStream in = Files.newInputStream(file);
+             DataInputStream dataIn = new DataInputStream(in)) {
+            final long version = dataIn.readLong();
+            return new GameSnapshot(gameId, version, dataIn.readAllBytes());
+        }
+    }
+
+    private Path getFile(int gameId) {
+        return directory.resolve(FILE_PREFIX + gameId + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,12 @@
+package de.uol.swp.server.game.store;
+
+/**
+ * Compressed snapshot of a game as written by a {@link SnapshotBasedGameStore}
+ *
+ * @param gameId  the id of the game
+ * @param version the version of the game when the snapshot was taken
+ * @param data    the compressed content of the snapshot
+ * @see de.uol.swp.common.game.Game#getVersion()
+ */
+public record GameSnapshot(int gameId, long version, byte[] data) {
+}
@@ -0,0 +1,188 @@
+package de.uol.swp.server.game.store;
+
+import de.uol.swp.common.codec.BinarySerializer;
+import de.uol.swp.common.codec.BinaryTypeRegistry;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.map.MapTypeCache;
+import de.uol.swp.common.map.MapTypeDefinition;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Converts games into the snapshots written by a {@link SnapshotBasedGameStore}.
+ * <p>
+ * A snapshot consists of the fingerprint of the {@link BinaryTypeRegistry}, the {@link MapTypeDefinition} of the
+ * map type of the game if it is registered in the {@link MapTypeCache} and the game itself, all in the compact
+ * format of the {@link BinarySerializer}. A registered map type is only referenced by its content hash in the game,
+ * so its definition registers it again on restore, even before the services of the server registered it.
+ * The encoded definitions are cached per content hash, as all games on the same map type share them.
+ * </p>
+ * <p>
+ * Encoding only touches memory and is done by the thread changing the game. Compressing the snapshot with
+ * {@link Deflater} is left to the writer of the store.
+ * </p>
+ */
+final class GameSnapshotCodec {
+
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private final BinaryTypeRegistry registry;
+    private final BinarySerializer serializer;
+    private final Map<Long, byte[]> encodedMapTypeDefinitions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     * <p>
+     * Uses the default {@link BinaryTypeRegistry}.
+     */
+    GameSnapshotCodec() {
+        this(BinaryTypeRegistry.getDefault());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param registry registry of the type ids the snapshots are written with
+     */
+    GameSnapshotCodec(final BinaryTypeRegistry registry) {
+        this.registry = registry;
+        this.serializer = new BinarySerializer(registry);
+    }
+
+    /**
+     * Encodes the given game without compressing it
+     *
+     * @param game the game to encode
+     * @return uncompressed snapshot of {@code game}
+     * @throws IOException if the game contains an object that is not serializable
+     */
+    byte[] encode(final Game game) throws IOException {
+        final ByteBuf buffer = Unpooled.buffer(INITIAL_BUFFER_SIZE);
+        try {
+            buffer.writeLong(registry.getFingerprint());
+            final MapType mapType = game.getMap().getType();
+            final boolean mapTypeIsRegistered = MapTypeCache.getDefault().get(mapType.getContentHash())
+                    .filter(registeredMapType -> registeredMapType == mapType)
+                    .isPresent();
+            buffer.writeBoolean(mapTypeIsRegistered);
+            if (mapTypeIsRegistered) {
+                buffer.writeBytes(getEncodedMapTypeDefinition(mapType));
+            }
+            serializer.serialize(game, buffer);
+            return ByteBufUtil.getBytes(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Compresses a snapshot returned by {@link #encode(Game)}
+     *
+     * @param snapshot the uncompressed snapshot
+     * @return compressed snapshot
+     */
+    byte[] compress(final byte[] snapshot) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(snapshot);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(snapshot.length / 2 + 16);
+            final byte[] chunk = new byte[INITIAL_BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Restores a game from a compressed snapshot
+     *
+     * @param compressedSnapshot the snapshot as returned by {@link #compress(byte[])}
+     * @return the restored game
+     * @throws IncompatibleSnapshotException if the snapshot was written with other classes
+     * @throws IOException if the snapshot is damaged
+     */
+    Game decode(final byte[] compressedSnapshot) throws IOException {
+        final ByteBuf buffer = Unpooled.wrappedBuffer(decompress(compressedSnapshot));
+        try {
+            if (buffer.readLong() != registry.getFingerprint()) {
+                throw new IncompatibleSnapshotException();
+            }
+            if (buffer.readBoolean()) {
+                serializer.deserialize(buffer);
+            }
+            final Object game = serializer.deserialize(buffer);
+            if (!(game instanceof Game)) {
+                throw new InvalidObjectException("Snapshot does not contain a game");
+            }
+            return (Game) game;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private byte[] decompress(final byte[] compressedSnapshot) throws IOException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressedSnapshot);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(compressedSnapshot.length * 4);
+            final byte[] chunk = new byte[INITIAL_BUFFER_SIZE];
+            while (!inflater.finished()) {
+                final int length = inflater.inflate(chunk);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new InvalidObjectException("Snapshot is truncated");
+                }
+                out.write(chunk, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new InvalidObjectException("Snapshot is damaged: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private byte[] getEncodedMapTypeDefinition(final MapType mapType) throws IOException {
+        final byte[] encodedDefinition = encodedMapTypeDefinitions.get(mapType.getContentHash());
+        if (encodedDefinition != null) {
+            return encodedDefinition;
+        }
+        final ByteBuf buffer = Unpooled.buffer(INITIAL_BUFFER_SIZE);
+        try {
+            serializer.serialize(new MapTypeDefinition(mapType), buffer);
+            final byte[] newEncodedDefinition = ByteBufUtil.getBytes(buffer);
+            encodedMapTypeDefinitions.putIfAbsent(mapType.getContentHash(), newEncodedDefinition);
+            return newEncodedDefinition;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Thrown if a snapshot was written with another fingerprint of the {@link BinaryTypeRegistry},
+     * i.e. by a version of the server with other classes
+     */
+    static final class IncompatibleSnapshotException extends InvalidObjectException {
+
+        /**
+         * Constructor
+         */
+        IncompatibleSnapshotException() {
+            super("Snapshot was written with other classes");
+        }
+    }
+}
@@ -5,26 +5,33 @@ import de.uol.swp.server.store.AbstractStore;
 import de.uol.swp.server.store.MainMemoryBasedStore;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A game store that stores games in the main memory.
+ * <p>
+ * The games are stored in a concurrent map, as the games are processed in parallel.
+ * Adding, updating and removing a game are single atomic operations on that map.
+ * </p>
  */
 public class MainMemoryBasedGameStore extends AbstractStore implements GameStore, MainMemoryBasedStore {
-    private final Map<Integer, Game> games = new HashMap<>();
+    private final Map<Integer, Game> games = new ConcurrentHashMap<>();
 
     @Override
     public void addGame(Game game) {
         if (doesGameExist(game)) {
             throw new IllegalArgumentException("Game with id " + game.getId() + " already exists");
         }
-        game.setId(generateUniqueId());
-        games.put(game.getId(), game);
+        do {
+            game.setId(generateUniqueId());
+        } while (games.putIfAbsent(game.getId(), game) != null);
     }
 
     @Override
     public void updateGame(Game game) {
-        throwGameNotFoundException(game);
-        games.put(game.getId(), game);
+        if (games.computeIfPresent(game.getId(), (id, storedGame) -> game) == null) {
+            throw gameNotFoundException(game);
+        }
     }
 
     @Override
@@ -34,8 +41,9 @@ public class MainMemoryBasedGameStore extends AbstractStore implements GameStore
 
     @Override
     public void removeGame(Game game) {
-        throwGameNotFoundException(game);
-        games.remove(game.getId());
+        if (games.remove(game.getId()) == null) {
+            throw gameNotFoundException(game);
+        }
     }
 
     @Override
@@ -58,13 +66,12 @@ public class MainMemoryBasedGameStore extends AbstractStore implements GameStore
     }
 
     /**
-     * Throws an exception if a game does not exist.
+     * Creates the exception thrown if a game does not exist.
      *
-     * @param game The game to be checked
+     * @param game The game that was not found
+     * @return exception to throw
      */
-    private void throwGameNotFoundException(Game game) {
-        if (!doesGameExist(game)) {
-            throw new IllegalArgumentException("Game with id " + game.getId() + " does not exist");
-        }
+    private IllegalArgumentException gameNotFoundException(Game game) {
+        return new IllegalArgumentException("Game with id " + game.getId() + " does not exist");
     }
 }
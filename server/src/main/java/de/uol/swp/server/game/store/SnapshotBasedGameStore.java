@@ -0,0 +1,265 @@
+package de.uol.swp.server.game.store;
+
+import com.google.inject.Inject;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.server.game.journal.GameJournal;
+import de.uol.swp.server.store.AbstractStore;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A game store that keeps the games in the main memory and writes a snapshot of every changed game behind.
+ * <p>
+ * The games are stored in a concurrent map just like in the {@link MainMemoryBasedGameStore}, so reading a game never
+ * waits for a write. Adding or updating a game encodes it on the calling thread, which is the lane of the game,
+ * so the snapshot is consistent without locking the game. The encoded snapshot replaces an older snapshot of the
+ * same game that was not written yet.
+ * </p>
+ * <p>
+ * A single background writer compresses the pending snapshots and writes them in one batch every
+ * {@value #WRITE_INTERVAL_MS} ms and once more when the server shuts down, so the request path never waits for I/O.
+ * If a batch cannot be written, its snapshots are kept for the next batch unless they were replaced in the meantime.
+ * </p>
+ * <p>
+ * The versions of the snapshots restored and written are reported to the {@link GameJournal}, which keeps its segments
+ * until they are covered by snapshots.
+ * </p>
+ */
+public abstract class SnapshotBasedGameStore extends AbstractStore implements GameStore {
+
+    private static final Logger LOG = LogManager.getLogger(SnapshotBasedGameStore.class);
+
+    /**
+     * Milliseconds between two batches of the background writer
+     */
+    static final long WRITE_INTERVAL_MS = 500;
+
+    private final Map<Integer, Game> games = new ConcurrentHashMap<>();
+    private final Map<Integer, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    private final GameSnapshotCodec codec = new GameSnapshotCodec();
+    private final Object writeLock = new Object();
+    private final AtomicBoolean writerStarted = new AtomicBoolean();
+
+    private GameJournal journal = GameJournal.disabled();
+
+    /**
+     * Snapshot of a game waiting to be written
+     *
+     * @param version  the version of the game when the snapshot was taken
+     * @param snapshot the uncompressed snapshot, {@code null} if the game was removed
+     */
+    private record PendingWrite(long version, byte[] snapshot) {
+    }
+
+    /**
+     * Sets the journal the versions of the snapshots are reported to
+     *
+     * @param journal the journal of the changes of the games
+     * @see GameJournal#trackSnapshots()
+     */
+    @Inject
+    public void setGameJournal(GameJournal journal) {
+        this.journal = journal;
+        journal.trackSnapshots();
+        journal.snapshotsWritten(getVersions(games.values()));
+    }
+
+    @Override
+    public void addGame(Game game) {
+        if (games.containsKey(game.getId())) {
+            throw new IllegalArgumentException("Game with id " + game.getId() + " already exists");
+        }
+        do {
+            game.setId(generateUniqueId());
+        } while (games.putIfAbsent(game.getId(), game) != null);
+        scheduleSnapshot(game);
+    }
+
+    @Override
+    public void updateGame(Game game) {
+        if (games.computeIfPresent(game.getId(), (id, storedGame) -> game) == null) {
+            throw gameNotFoundException(game);
+        }
+        scheduleSnapshot(game);
+    }
+
+    @Override
+    public Optional<Game> getGame(Game game) {
+        return Optional.ofNullable(games.get(game.getId()));
+    }
+
+    @Override
+    public void removeGame(Game game) {
+        if (games.remove(game.getId()) == null) {
+            throw gameNotFoundException(game);
+        }
+        pendingWrites.put(game.getId(), new PendingWrite(game.getVersion(), null));
+        startWriter();
+    }
+
+    @Override
+    public List<Game> getAllGames() {
+        return new ArrayList<>(games.values());
+    }
+
+    @Override
+    public Set<Integer> getIds() {
+        return games.keySet();
+    }
+
+    /**
+     * Writes all pending snapshots in one batch and waits until they are written.
+     * <p>
+     * Called by the background writer. Calling it directly is only needed to make sure that all changes
+     * are written, e.g. before the store is no longer used.
+     * </p>
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            final Map<Integer, PendingWrite> batch = new HashMap<>();
+            for (final Integer gameId : pendingWrites.keySet()) {
+                final PendingWrite pendingWrite = pendingWrites.remove(gameId);
+                if (pendingWrite != null) {
+                    batch.put(gameId, pendingWrite);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            final List<GameSnapshot> snapshots = new ArrayList<>();
+            final Set<Integer> removedGameIds = new HashSet<>();
+            final Map<Integer, Long> writtenVersions = new HashMap<>();
+            batch.forEach((gameId, pendingWrite) -> {
+                if (pendingWrite.snapshot() == null) {
+                    removedGameIds.add(gameId);
+                } else {
+                    snapshots.add(new GameSnapshot(gameId, pendingWrite.version(), codec.compress(pendingWrite.snapshot())));
+                    writtenVersions.put(gameId, pendingWrite.version());
+                }
+            });
+
+            try {
+                writeSnapshots(snapshots, removedGameIds);
+                journal.snapshotsWritten(writtenVersions);
+            } catch (IOException | RuntimeException e) {
+                LOG.error("Could not write the snapshots of {} games, retrying with the next batch", batch.size(), e);
+                batch.forEach(pendingWrites::putIfAbsent);
+            }
+        }
+    }
+
+    /**
+     * Restores all games from the snapshots written before.
+     * <p>
+     * Has to be called by the subclass once the snapshots can be read. Snapshots that cannot be restored,
+     * e.g. because they were written by another version of the server, are skipped. Skipping snapshots of
+     * another version is logged as an error, as these games are lost and their snapshots are overwritten
+     * by the next games with the same ids.
+     * </p>
+     */
+    protected void restoreGames() {
+        final List<GameSnapshot> snapshots;
+        try {
+            snapshots = readSnapshots();
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Could not read the snapshots of the games", e);
+            return;
+        }
+        final List<Integer> incompatibleGameIds = new ArrayList<>();
+        for (final GameSnapshot snapshot : snapshots) {
+            try {
+                final Game game = codec.decode(snapshot.data());
+                game.setId(snapshot.gameId());
+                games.put(snapshot.gameId(), game);
+            } catch (GameSnapshotCodec.IncompatibleSnapshotException e) {
+                incompatibleGameIds.add(snapshot.gameId());
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Could not restore the game with id {}: {}", snapshot.gameId(), e.getMessage());
+            }
+        }
+        if (!incompatibleGameIds.isEmpty()) {
+            LOG.error("Discarded the snapshots of {} of {} games with ids {}, they were written by another version of the server",
+                    incompatibleGameIds.size(), snapshots.size(), incompatibleGameIds);
+        }
+        LOG.info("Restored {} of {} games", games.size(), snapshots.size());
+        journal.snapshotsWritten(getVersions(games.values()));
+    }
+
+    /**
+     * Reads all snapshots written by {@link #writeSnapshots(List, Set)}
+     *
+     * @return the latest snapshot of every game that was not removed
+     * @throws IOException if the snapshots cannot be read
+     */
+    protected abstract List<GameSnapshot> readSnapshots() throws IOException;
+
+    /**
+     * Writes a batch of snapshots, replacing the previous snapshots of the same games
+     *
+     * @param snapshots      the snapshots to write, at most one per game
+     * @param removedGameIds the ids of the games whose snapshots are deleted
+     * @throws IOException if the batch cannot be written
+     */
+    protected abstract void writeSnapshots(List<GameSnapshot> snapshots, Set<Integer> removedGameIds) throws IOException;
+
+    /**
+     * Encodes the given game and schedules its snapshot to be written
+     *
+     * @param game the game that was added or updated
+     */
+    private void scheduleSnapshot(Game game) {
+        try {
+            pendingWrites.put(game.getId(), new PendingWrite(game.getVersion(), codec.encode(game)));
+            startWriter();
+        } catch (IOException e) {
+            LOG.error("Could not take a snapshot of the game with id {}", game.getId(), e);
+        }
+    }
+
+    /**
+     * Starts the background writer and registers the flush on shutdown, if not done yet
+     */
+    private void startWriter() {
+        if (!writerStarted.compareAndSet(false, true)) {
+            return;
+        }
+        final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "game-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flush, WRITE_INTERVAL_MS, WRITE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "game-snapshot-flush"));
+    }
+
+    /**
+     * Returns the versions of the given games
+     *
+     * @param games the games
+     * @return the versions by the ids of the games
+     */
+    private static Map<Integer, Long> getVersions(Collection<Game> games) {
+        final Map<Integer, Long> versions = new HashMap<>();
+        games.forEach(game -> versions.put(game.getId(), game.getVersion()));
+        return versions;
+    }
+
+    /**
+     * Creates the exception thrown if a game does not exist.
+     *
+     * @param game The game that was not found
+     * @return exception to throw
+     */
+    private IllegalArgumentException gameNotFoundException(Game game) {
+        return new IllegalArgumentException("Game with id " + game.getId() + " does not exist");
+    }
+}
@@ -2,8 +2,11 @@ package de.uol.swp.server.game.turn;
 
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
 import de.uol.swp.common.player.Player;
 
+import java.util.Optional;
+
 /**
  * Management class for {@link PlayerTurn}.
  * All service logic for it is encapsulated here.
@@ -37,13 +40,21 @@ public class PlayerTurnManagement {
      * Creates a new {@link PlayerTurn} for given {@link Game}
      * by first increases the index of the current {@link Player}
      * and then creating a {@link PlayerTurn}.
+     * <p>
+     * The {@link Game} only keeps the new turn, so the completed turn is returned as a {@link PlayerTurnRecord}.
+     * </p>
      *
      * @param game {@link Game} to start a new {@link PlayerTurn} for
+     * @return {@link PlayerTurnRecord} of the completed turn, empty if the game had no turn yet
      * @see Game#nextPlayer()
      * @see #createPlayerTurn(Game)
      */
-    public void startNewPlayerTurn(final Game game) {
+    public Optional<PlayerTurnRecord> startNewPlayerTurn(final Game game) {
+        final Optional<PlayerTurnRecord> completedTurn = game.getNumberOfTurns() > 0 ?
+                Optional.of(PlayerTurnRecord.of(game.getNumberOfTurns(), game.getCurrentTurn())) :
+                Optional.empty();
         game.nextPlayer();
         game.addPlayerTurn(createPlayerTurn(game));
+        return completedTurn;
     }
 }
@@ -5,16 +5,22 @@ import com.google.inject.Singleton;
 import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
 import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
 import de.uol.swp.common.game.turn.request.EndPlayerTurnRequest;
+import de.uol.swp.common.game.turn.request.RetrieveTurnHistoryRequest;
+import de.uol.swp.common.game.turn.response.RetrieveTurnHistoryResponse;
 import de.uol.swp.common.lobby.Lobby;
 import de.uol.swp.server.AbstractService;
 import de.uol.swp.server.game.GameManagement;
+import de.uol.swp.server.game.GameStateSynchronizer;
 import de.uol.swp.server.lobby.LobbyService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.greenrobot.eventbus.EventBus;
 import org.greenrobot.eventbus.Subscribe;
 
+import java.util.List;
+
 /**
  * Service for player turns
  *
@@ -26,6 +32,7 @@ public class PlayerTurnService extends AbstractService {
     private final PlayerTurnManagement playerTurnManagement;
     private final GameManagement gameManagement;
     private final LobbyService lobbyService;
+    private final GameStateSynchronizer gameStateSynchronizer;
     private static final Logger LOG = LogManager.getLogger(PlayerTurnService.class);
 
     /**
@@ -35,13 +42,15 @@ public class PlayerTurnService extends AbstractService {
      * @param playerTurnManagement the management for player turns
      * @param gameManagement the management for games
      * @param lobbyService the service for lobbies
+     * @param gameStateSynchronizer the synchronizer to create game updates with
      */
     @Inject
-    public PlayerTurnService(EventBus bus, PlayerTurnManagement playerTurnManagement, GameManagement gameManagement, LobbyService lobbyService) {
+    public PlayerTurnService(EventBus bus, PlayerTurnManagement playerTurnManagement, GameManagement gameManagement, LobbyService lobbyService, GameStateSynchronizer gameStateSynchronizer) {
         super(bus);
         this.playerTurnManagement = playerTurnManagement;
         this.gameManagement = gameManagement;
         this.lobbyService = lobbyService;
+        this.gameStateSynchronizer = gameStateSynchronizer;
     }
 
     /**
@@ -59,14 +68,40 @@ public class PlayerTurnService extends AbstractService {
                 return;
             }
 
-            playerTurnManagement.startNewPlayerTurn(currentGame);
+            playerTurnManagement.startNewPlayerTurn(currentGame)
+                    .ifPresent(turnRecord -> gameManagement.addTurnRecord(currentGame, turnRecord));
             gameManagement.updateGame(currentGame);
 
-            RetrieveUpdatedGameServerMessage message = new RetrieveUpdatedGameServerMessage(currentGame);
+            RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createGameUpdateMessage(currentGame);
             Lobby currentLobby = currentGame.getLobby();
             lobbyService.sendToAllInLobby(currentLobby, message);
         } catch (IllegalArgumentException e) {
             LOG.info(e.getMessage());
         }
     }
+
+    /**
+     * Handles a {@link RetrieveTurnHistoryRequest} from a client.
+     * This sends back the requested page of the completed turns of the game to the client.
+     *
+     * @param request the request to retrieve the turn history
+     * @see PlayerTurnRecord
+     */
+    @Subscribe
+    public void onRetrieveTurnHistoryRequest(RetrieveTurnHistoryRequest request) {
+        try {
+            final int gameId = request.getGameId();
+            final List<PlayerTurnRecord> turnRecords = gameManagement.findTurnRecords(gameId, request.getOffset(), request.getLimit());
+            final RetrieveTurnHistoryResponse response = new RetrieveTurnHistoryResponse(
+                    gameId,
+                    request.getOffset(),
+                    gameManagement.getNumberOfTurnRecords(gameId),
+                    turnRecords
+            );
+            response.initWithMessage(request);
+            post(response);
+        } catch (IllegalArgumentException e) {
+            LOG.info(e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package de.uol.swp.server.game.turn.store;
+
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
+import de.uol.swp.server.store.AbstractStore;
+import de.uol.swp.server.store.MainMemoryBasedStore;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A turn history store that stores the records in the main memory.
+ * <p>
+ * The histories are stored in a concurrent map, as the games are processed in parallel.
+ * The history of a single game is only appended to by the thread of that game, but read by others,
+ * so every history is synchronized on itself.
+ * </p>
+ */
+public class MainMemoryBasedTurnHistoryStore extends AbstractStore implements TurnHistoryStore, MainMemoryBasedStore {
+    private final Map<Integer, List<PlayerTurnRecord>> histories = new ConcurrentHashMap<>();
+
+    @Override
+    public void addTurnRecord(int gameId, PlayerTurnRecord turnRecord) {
+        final List<PlayerTurnRecord> history = histories.computeIfAbsent(gameId, id -> new ArrayList<>());
+        synchronized (history) {
+            history.add(turnRecord);
+        }
+    }
+
+    @Override
+    public List<PlayerTurnRecord> getTurnRecords(int gameId, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must not be negative");
+        }
+        final List<PlayerTurnRecord> history = histories.get(gameId);
+        if (history == null) {
+            return List.of();
+        }
+        synchronized (history) {
+            final int fromIndex = Math.min(offset, history.size());
+            final int toIndex = (int) Math.min((long) fromIndex + limit, history.size());
+            return List.copyOf(history.subList(fromIndex, toIndex));
+        }
+    }
+
+    @Override
+    public int getNumberOfTurnRecords(int gameId) {
+        final List<PlayerTurnRecord> history = histories.get(gameId);
+        if (history == null) {
+            return 0;
+        }
+        synchronized (history) {
+            return history.size();
+        }
+    }
+
+    @Override
+    public void removeTurnRecords(int gameId) {
+        histories.remove(gameId);
+    }
+
+    @Override
+    public Set<Integer> getIds() {
+        return histories.keySet();
+    }
+}
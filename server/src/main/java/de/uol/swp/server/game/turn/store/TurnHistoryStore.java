@@ -0,0 +1,52 @@
+package de.uol.swp.server.game.turn.store;
+
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
+import de.uol.swp.server.store.ContentStore;
+
+import java.util.List;
+
+/**
+ * A store for the completed turns of games.
+ * <p>
+ * A {@link de.uol.swp.common.game.Game} only keeps its current turn,
+ * the records of its completed turns are kept here by the id of the game.
+ * </p>
+ *
+ * @see PlayerTurnRecord
+ */
+public interface TurnHistoryStore extends ContentStore {
+
+    /**
+     * Appends the record of a completed turn to the history of the game with the given id.
+     *
+     * @param gameId The id of the game the turn belongs to
+     * @param turnRecord The record of the completed turn
+     */
+    void addTurnRecord(int gameId, PlayerTurnRecord turnRecord);
+
+    /**
+     * Returns a page of the history of the game with the given id.
+     *
+     * @param gameId The id of the game
+     * @param offset The index of the first record to return
+     * @param limit The maximum number of records to return
+     * @return {@link List} of at most {@code limit} records in order of the turns, empty if the game has no history
+     * @throws IllegalArgumentException if {@code offset} or {@code limit} is negative
+     */
+    List<PlayerTurnRecord> getTurnRecords(int gameId, int offset, int limit);
+
+    /**
+     * Returns the number of completed turns of the game with the given id.
+     *
+     * @param gameId The id of the game
+     * @return The number of stored records of the game
+     */
+    int getNumberOfTurnRecords(int gameId);
+
+    /**
+     * Removes the history of the game with the given id.
+     *
+     * @param gameId The id of the game
+     */
+    void removeTurnRecords(int gameId);
+}
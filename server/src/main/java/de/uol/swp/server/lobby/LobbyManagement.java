@@ -34,6 +34,16 @@ public class LobbyManagement {
        return this.lobbyStore.addLobby(lobby);
     }
 
+    /**
+     * Adds the lobby of a game restored after a restart of the server again
+     *
+     * @param lobby the lobby to restore, keeping its id
+     * @throws IllegalArgumentException the id of the lobby is already taken
+     */
+    public void restoreLobby(Lobby lobby) {
+        this.lobbyStore.restoreLobby(lobby);
+    }
+
     /**
      * Deletes lobby with requested name
      *
@@ -430,6 +430,16 @@ public class LobbyService extends AbstractService {
         }
     }
 
+    /**
+     * Adds the lobby of a game restored after a restart of the server to the lobby management system again
+     *
+     * @param lobby The lobby of the restored game
+     * @see LobbyManagement#restoreLobby(Lobby)
+     */
+    public void restoreLobby(Lobby lobby) {
+        lobbyManagement.restoreLobby(lobby);
+    }
+
     /**
      * Deletes a lobby from the lobby management system
      *
@@ -22,6 +22,14 @@ public interface LobbyStore extends ContentStore {
      */
     Lobby addLobby(Lobby lobby);
 
+    /**
+     * Adds a lobby that existed before the server was restarted to the store, keeping its ID.
+     *
+     * @param lobby the lobby to restore
+     * @throws IllegalArgumentException if the ID of the lobby is already taken
+     */
+    void restoreLobby(Lobby lobby);
+
     /**
      * Removes a lobby from the store.
      *
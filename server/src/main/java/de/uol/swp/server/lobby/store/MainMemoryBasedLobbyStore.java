@@ -5,13 +5,18 @@ import de.uol.swp.server.store.AbstractStore;
 import de.uol.swp.server.store.MainMemoryBasedStore;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A lobby store that stores lobbies in the main memory.
+ * <p>
+ * The lobbies are stored in a concurrent map, as they are accessed by the threads of several clients and games.
+ * Adding, updating and removing a lobby are single atomic operations on that map.
+ * </p>
  */
 public class MainMemoryBasedLobbyStore extends AbstractStore implements LobbyStore, MainMemoryBasedStore {
 
-    private final Map<Integer, Lobby> lobbies = new HashMap<>();
+    private final Map<Integer, Lobby> lobbies = new ConcurrentHashMap<>();
 
 
     @Override
@@ -19,12 +24,20 @@ public class MainMemoryBasedLobbyStore extends AbstractStore implements LobbySto
         if (doesLobbyExist(lobby)) {
             throw new IllegalArgumentException("Lobby " + lobby + " already exists!");
         }
-        lobby.setId(generateUniqueId());
-        lobbies.put(lobby.getId(), lobby);
+        do {
+            lobby.setId(generateUniqueId());
+        } while (lobbies.putIfAbsent(lobby.getId(), lobby) != null);
 
         return lobby;
     }
 
+    @Override
+    public void restoreLobby(Lobby lobby) {
+        if (lobbies.putIfAbsent(lobby.getId(), lobby) != null) {
+            throw new IllegalArgumentException("Lobby " + lobby + " already exists!");
+        }
+    }
+
     @Override
     public void removeLobby(Lobby lobby) {
         lobbies.remove(lobby.getId());
@@ -42,12 +55,13 @@ public class MainMemoryBasedLobbyStore extends AbstractStore implements LobbySto
 
     @Override
     public void updateLobby(Lobby lobby) {
-        throwLobbyNotFoundException(lobby);
-        lobbies.put(lobby.getId(), lobby);
+        if (lobbies.computeIfPresent(lobby.getId(), (id, storedLobby) -> lobby) == null) {
+            throw new IllegalArgumentException("Lobby " + lobby + " not found!");
+        }
     }
 
     /**
-     * Throws an exception if the lobby does not exist.
+     * Checks if a lobby exists.
      *
      * @param lobby the lobby to check
      */
@@ -55,17 +69,6 @@ public class MainMemoryBasedLobbyStore extends AbstractStore implements LobbySto
         return lobbies.containsKey(lobby.getId());
     }
 
-    /**
-     * Throws an exception if the lobby does not exist.
-     *
-     * @param lobby the lobby to check
-     */
-    private void throwLobbyNotFoundException(Lobby lobby) {
-        if (!doesLobbyExist(lobby)) {
-            throw new IllegalArgumentException("Lobby " + lobby + " not found!");
-        }
-    }
-
     @Override
     protected Set<Integer> getIds() {
         return lobbies.keySet();
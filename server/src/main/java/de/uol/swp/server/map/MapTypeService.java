@@ -1,21 +1,33 @@
 package de.uol.swp.server.map;
 
 import com.google.inject.Singleton;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.map.MapTypeCache;
+import de.uol.swp.common.map.MapTypeDefinition;
 import de.uol.swp.common.map.request.RetrieveOriginalGameMapTypeRequest;
+import de.uol.swp.common.map.response.MapTypeDefinitionsResponse;
 import de.uol.swp.common.map.response.RetrieveOriginalGameMapTypeResponse;
 import de.uol.swp.server.AbstractService;
+import de.uol.swp.server.message.ClientAuthorizedMessage;
 import jakarta.inject.Inject;
 import org.greenrobot.eventbus.EventBus;
 import org.greenrobot.eventbus.Subscribe;
 
+import java.util.ArrayList;
+
 /**
  * Handles the mapType requests sent by the client
+ * <p>
+ * The map types of the server are registered in the {@link MapTypeCache} and sent to every client once after the login,
+ * so that all further messages only reference them by their content hash. Definitions sent by clients are not registered.
  *
  * @see de.uol.swp.common.map.MapType
  */
 @Singleton
 public class MapTypeService extends AbstractService {
 
+    private final MapType originalGameMapType;
+
     /**
      * Constructor
      *
@@ -24,6 +36,22 @@ public class MapTypeService extends AbstractService {
     @Inject
     public MapTypeService(EventBus bus) {
         super(bus);
+        this.originalGameMapType = MapTypeCache.getDefault().register(OriginalGameMapType.getMapType());
+        MapTypeCache.getDefault().rejectDefinitions();
+    }
+
+    /**
+     * Sends the definitions of all registered map types to a client that just logged in.
+     *
+     * @param message the message of the successful login
+     */
+    @Subscribe
+    public void onClientAuthorizedMessage(ClientAuthorizedMessage message) {
+        final ArrayList<MapTypeDefinition> definitions = new ArrayList<>();
+        MapTypeCache.getDefault().getAll().forEach(mapType -> definitions.add(new MapTypeDefinition(mapType)));
+        final MapTypeDefinitionsResponse response = new MapTypeDefinitionsResponse(definitions);
+        response.initWithMessage(message);
+        post(response);
     }
 
     /**
@@ -34,7 +62,7 @@ public class MapTypeService extends AbstractService {
      */
     @Subscribe
     public void onRetrieveOriginalGameMapTypeRequest(RetrieveOriginalGameMapTypeRequest request) {
-        RetrieveOriginalGameMapTypeResponse response = new RetrieveOriginalGameMapTypeResponse(OriginalGameMapType.getMapType());
+        RetrieveOriginalGameMapTypeResponse response = new RetrieveOriginalGameMapTypeResponse(originalGameMapType);
         response.initWithMessage(request);
         post(response);
     }
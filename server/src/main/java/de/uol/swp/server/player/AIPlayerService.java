@@ -26,14 +26,15 @@ import de.uol.swp.common.player.server_message.SendMessageByPlayerServerMessage;
 import de.uol.swp.common.triggerable.server_message.TriggerableServerMessage;
 import de.uol.swp.common.user.Session;
 import de.uol.swp.server.AbstractService;
+import de.uol.swp.server.game.GameExecutor;
 import de.uol.swp.server.game.GameService;
 import org.greenrobot.eventbus.EventBus;
 import org.greenrobot.eventbus.Subscribe;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -50,6 +51,7 @@ public class AIPlayerService extends AbstractService {
     public static final int AI_PLAYER_SCHEDULER_DELAY = 2;
 
     private final GameService gameService;
+    private final GameExecutor gameExecutor;
     private final ScheduledExecutorService scheduler;
     private final Map<Game, Player> scheduledPlayerExecutions;
 
@@ -58,13 +60,15 @@ public class AIPlayerService extends AbstractService {
      *
      * @param bus          The event bus
      * @param gameService  The game service
+     * @param gameExecutor The executor the turns of the AI players are processed on
      */
     @Inject
-    public AIPlayerService(EventBus bus, GameService gameService) {
+    public AIPlayerService(EventBus bus, GameService gameService, GameExecutor gameExecutor) {
         super(bus);
         this.gameService = gameService;
+        this.gameExecutor = gameExecutor;
         this.scheduler = Executors.newScheduledThreadPool(SCHEDULER_CORE_POOL_SIZE);
-        this.scheduledPlayerExecutions = new HashMap<>();
+        this.scheduledPlayerExecutions = new ConcurrentHashMap<>();
     }
 
     /**
@@ -132,7 +136,7 @@ public class AIPlayerService extends AbstractService {
             final Player currentPlayer = game.getCurrentPlayer();
             final List<PlayerCard> currentPlayerHandCards = currentPlayer.getHandCards();
 
-            final int randomIndex = getRandomIndexOffList(currentPlayerHandCards);
+            final int randomIndex = getRandomIndexOffList(game, currentPlayerHandCards);
 
             final DiscardPlayerCardRequest<PlayerCard> discardPlayerCardRequest = new DiscardPlayerCardRequest<>(game, currentPlayer, currentPlayerHandCards.get(randomIndex));
 
@@ -209,17 +213,22 @@ public class AIPlayerService extends AbstractService {
     }
 
     /**
-     * Returns a random index of a list
+     * Returns a random index of a list drawn from the stream of the AI players of the game
      *
+     * @param game The game the AI player is playing
      * @param list The list
      * @return The random index
+     * @see Game#getAiRandom()
      */
-    private <T> int getRandomIndexOffList(List<T> list) {
-        return (int) (Math.random() * list.size());
+    private <T> int getRandomIndexOffList(Game game, List<T> list) {
+        return game.getAiRandom().nextInt(list.size());
     }
 
     /**
      * Schedules the AI player turn process
+     * <p>
+     * The turn is processed in the lane of the game, so it does not run concurrently
+     * with requests of the other players.
      *
      * @param game The current game
      */
@@ -238,7 +247,7 @@ public class AIPlayerService extends AbstractService {
         }
 
         scheduler.schedule(
-                () -> handleAIPlayerTurnProcess(game, currentTurn, currentPlayer),
+                () -> gameExecutor.execute(game.getId(), () -> handleAIPlayerTurnProcess(game, currentTurn, currentPlayer)),
                 AI_PLAYER_SCHEDULER_DELAY,
                 TimeUnit.SECONDS
         );
@@ -280,7 +289,7 @@ public class AIPlayerService extends AbstractService {
 
         final Field currentField = currentPlayer.getCurrentField();
         final List<Field> neighborFields = currentField.getNeighborFields();
-        final int randomIndex = getRandomIndexOffList(neighborFields);
+        final int randomIndex = getRandomIndexOffList(game, neighborFields);
 
         final CarAction carAction = createAIPlayerCarAction(neighborFields, randomIndex, currentPlayer, game);
         final ActionRequest request = new ActionRequest(game, carAction);
@@ -19,6 +19,7 @@ import de.uol.swp.common.role.RoleAbility;
 import de.uol.swp.common.role.RoleCard;
 import de.uol.swp.common.role.RoleColors;
 import de.uol.swp.common.triggerable.CurePlagueAutoTriggerable;
+import de.uol.swp.common.util.GameRandom;
 import lombok.Getter;
 
 import java.util.*;
@@ -101,14 +102,19 @@ public class RoleManagement {
     /**
      * Assigns roles to players in a lobby.
      * <p>
-     * This method iterates through all players in the given lobby and assigns
+     * This method iterates through all players in the given lobby ordered by their names and assigns
      * a random, available role to each player who doesn't already have a role.
+     * The roles are drawn from the given source of randomness, so the assignment can be replayed from its seed.
      *
      * @param lobby The lobby whose players should be assigned roles.
+     * @param random The source of randomness of the game created from the lobby.
      */
-    public void assignRolesToPlayers(final Lobby lobby) {
-        final Set<Player> players = lobby.getPlayers();
+    public void assignRolesToPlayers(final Lobby lobby, final GameRandom random) {
+        final List<Player> players = lobby.getPlayers().stream()
+                .sorted(Comparator.comparing(Player::getName))
+                .toList();
         final List<RoleCard> availableRolesList = getAvailableRoles(players);
+        random.shuffle(availableRolesList);
         for (final Player player : players) {
             if (player.getRole() == null) {
                 final RoleCard roleCard = availableRolesList.remove(0);
@@ -122,20 +128,19 @@ public class RoleManagement {
      * <p>
      * This method first identifies all roles that are already in use,
      * filters these out from the total set of all roles, and
-     * returns a randomly shuffled list of the remaining roles.
+     * returns the remaining roles ordered by their names.
      *
      * @param players The collection of players for which to determine available roles.
-     * @return A shuffled list of RoleCard objects representing the available roles.
+     * @return A list of RoleCard objects representing the available roles, ordered by their names.
      */
     public List<RoleCard> getAvailableRoles(final Collection<Player> players) {
         final List<RoleCard> usedRoles = players.stream()
                 .map(Player::getRole)
                 .toList();
         final Set<RoleCard> allRoles = getAllRoles();
-        final List<RoleCard> availableRolesList = allRoles.stream()
+        return allRoles.stream()
                 .filter(role -> !usedRoles.contains(role))
+                .sorted(Comparator.comparing(RoleCard::getName))
                 .collect(Collectors.toList());
-        Collections.shuffle(availableRolesList);
-        return availableRolesList;
     }
 }
@@ -0,0 +1,407 @@
+package de.uol.swp.server.simulation;
+
+import de.uol.swp.common.action.Action;
+import de.uol.swp.common.action.advanced.discover_antidote.DiscoverAntidoteAction;
+import de.uol.swp.common.action.simple.WaiveAction;
+import de.uol.swp.common.card.EpidemicCard;
+import de.uol.swp.common.card.InfectionCard;
+import de.uol.swp.common.card.PlayerCard;
+import de.uol.swp.common.card.stack.CardStack;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.game.GameEndReason;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.lobby.Lobby;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.plague.exception.NoPlagueCubesFoundException;
+import de.uol.swp.common.player.AIPlayer;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.triggerable.AutoTriggerable;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.GameRandom;
+import de.uol.swp.server.card.CardManagement;
+import de.uol.swp.server.game.turn.PlayerTurnManagement;
+import de.uol.swp.server.map.OriginalGameMapType;
+import de.uol.swp.server.role.RoleManagement;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Runs complete games in-process, without the {@link org.greenrobot.eventbus.EventBus} and without networking
+ *
+ * <p>
+ *     The simulator plays the same turn flow as the server services:
+ *     the action phase of {@link de.uol.swp.server.action.ActionService} including auto triggerables and the win check,
+ *     the player card draw phase with epidemics of {@link de.uol.swp.server.card.CardService},
+ *     the infection card draw phase and the start of the next turn of {@link de.uol.swp.server.game.turn.PlayerTurnService}.
+ *     Manual triggerables, i.e. event cards, are not played. All decisions of the players are made by a {@link SimulationStrategy}.
+ * </p>
+ *
+ * <p>
+ *     Every game gets its own seed, from which the random generator for the decisions of the {@link SimulationStrategy}
+ *     is created. Batches of games are run in parallel on a {@link ForkJoinPool}.
+ * </p>
+ *
+ * @see SimulationStrategy
+ * @see SimulationReport
+ */
+@Getter
+public class GameSimulator {
+    public static final int DEFAULT_MAX_NUMBER_OF_TURNS = 1000;
+
+    private final MapType mapType;
+    private final List<Plague> plagues;
+    private final GameDifficulty difficulty;
+    private final int numberOfPlayers;
+    private final SimulationStrategy strategy;
+    private final int maxNumberOfTurns;
+    private final CardManagement cardManagement;
+    private final PlayerTurnManagement playerTurnManagement;
+
+    /**
+     * Constructor
+     *
+     * @param mapType the {@link MapType} all games are played on
+     * @param plagues the plagues of all games
+     * @param difficulty the {@link GameDifficulty} of all games
+     * @param numberOfPlayers the number of players of every game
+     * @param strategy the {@link SimulationStrategy} making the decisions of all players
+     * @param maxNumberOfTurns the number of turns after which a game is stopped without result
+     */
+    public GameSimulator(final MapType mapType,
+                         final List<Plague> plagues,
+                         final GameDifficulty difficulty,
+                         final int numberOfPlayers,
+                         final SimulationStrategy strategy,
+                         final int maxNumberOfTurns) {
+        this.mapType = mapType;
+        this.plagues = List.copyOf(plagues);
+        this.difficulty = difficulty;
+        this.numberOfPlayers = numberOfPlayers;
+        this.strategy = strategy;
+        this.maxNumberOfTurns = maxNumberOfTurns;
+        this.cardManagement = new CardManagement();
+        this.playerTurnManagement = new PlayerTurnManagement();
+    }
+
+    /**
+     * Creates a {@link GameSimulator} for games on the original map with a {@link RandomSimulationStrategy}
+     *
+     * @param numberOfPlayers the number of players of every game
+     * @param difficulty the {@link GameDifficulty} of all games
+     * @return new {@link GameSimulator}
+     * @see OriginalGameMapType#getMapType()
+     */
+    public static GameSimulator forOriginalMap(final int numberOfPlayers, final GameDifficulty difficulty) {
+        final MapType mapType = OriginalGameMapType.getMapType();
+        return new GameSimulator(
+                mapType,
+                new ArrayList<>(mapType.getUniquePlagues()),
+                difficulty,
+                numberOfPlayers,
+                new RandomSimulationStrategy(),
+                DEFAULT_MAX_NUMBER_OF_TURNS
+        );
+    }
+
+    /**
+     * Simulates the given number of games in parallel on the common {@link ForkJoinPool}
+     *
+     * @param numberOfGames the number of games to simulate
+     * @param seed the seed the seeds of all games are derived from
+     * @return {@link SimulationReport} of all games
+     * @see #simulate(int, long, ForkJoinPool)
+     */
+    public SimulationReport simulate(final int numberOfGames, final long seed) {
+        return simulate(numberOfGames, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simulates the given number of games in parallel on the given {@link ForkJoinPool}
+     *
+     * <p>
+     *     The seeds of the games are derived from the given seed before any game starts,
+     *     so the results do not depend on the number of threads.
+     * </p>
+     *
+     * @param numberOfGames the number of games to simulate
+     * @param seed the seed the seeds of all games are derived from
+     * @param pool the {@link ForkJoinPool} to run the games on
+     * @return {@link SimulationReport} of all games in the order of their seeds
+     */
+    public SimulationReport simulate(final int numberOfGames, final long seed, final ForkJoinPool pool) {
+        final long[] seeds = new SplittableRandom(seed).longs(numberOfGames).toArray();
+
+        final long start = System.nanoTime();
+        final List<SimulationResult> results = pool.submit(() -> Arrays.stream(seeds)
+                        .parallel()
+                        .mapToObj(this::simulate)
+                        .toList())
+                .join();
+        return new SimulationReport(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Simulates one game until it is won, lost or reaches {@link #maxNumberOfTurns}
+     *
+     * @param seed the seed of the {@link GameRandom} of the game
+     * @return {@link SimulationResult} of the game
+     */
+    public SimulationResult simulate(final long seed) {
+        final GameRandom gameRandom = new GameRandom(seed);
+        final Game game = createGame(gameRandom);
+        final GameRandom random = gameRandom.split();
+
+        while (!isOver(game) && game.getNumberOfTurns() <= maxNumberOfTurns) {
+            playTurn(game, random);
+            if (!isOver(game)) {
+                playerTurnManagement.startNewPlayerTurn(game);
+            }
+        }
+
+        return new SimulationResult(
+                seed,
+                game.isGameWon(),
+                game.isGameLost(),
+                game.getNumberOfTurns(),
+                isOver(game) ? determineGameEndReason(game) : null
+        );
+    }
+
+    /**
+     * Creates a started game with one user and AI players
+     *
+     * <p>
+     *     Every game gets its own roles and plagues, as both are changed during a game.
+     *     Like {@link de.uol.swp.server.game.GameManagement#createGame(Lobby, MapType, List, GameDifficulty, long)},
+     *     the roles are assigned with a stream split off the given {@link GameRandom} and the decks are shuffled with it.
+     * </p>
+     *
+     * @param random the {@link GameRandom} of the game
+     * @return new {@link Game} with its first {@link PlayerTurn}
+     */
+    private Game createGame(final GameRandom random) {
+        final Lobby lobby = new LobbyDTO("simulation", new UserDTO("simulation", "", ""));
+        for (int i = 1; i < numberOfPlayers; i++) {
+            lobby.addPlayer(new AIPlayer("ai" + i));
+        }
+        new RoleManagement().assignRolesToPlayers(lobby, random.split());
+
+        final List<Plague> plaguesOfGame = plagues.stream()
+                .map(plague -> new Plague(plague.getName(), plague.getColor()))
+                .toList();
+        final List<Player> players = lobby.getPlayers().stream()
+                .sorted(Comparator.comparing(Player::getName))
+                .collect(Collectors.toList());
+        random.shuffle(players);
+        final Game game = new Game(lobby, mapType, players, new ArrayList<>(plaguesOfGame), difficulty, random);
+        game.addPlayerTurn(playerTurnManagement.createPlayerTurn(game));
+        return game;
+    }
+
+    /**
+     * Plays the action phase, the player card draw phase and the infection card draw phase of the current turn
+     */
+    private void playTurn(final Game game, final GameRandom random) {
+        final PlayerTurn playerTurn = game.getCurrentTurn();
+
+        while (playerTurn.isActionExecutable()) {
+            executeAction(game, playerTurn, random);
+        }
+        while (playerTurn.isPlayerCardDrawExecutable()) {
+            drawPlayerCard(game, playerTurn, random);
+        }
+        while (playerTurn.isInfectionCardDrawExecutable()) {
+            drawInfectionCard(game, playerTurn);
+        }
+    }
+
+    /**
+     * Executes the action chosen by the {@link #strategy} and the auto triggerables, then checks for a win
+     *
+     * <p>
+     *     If the {@link #strategy} waives, a {@link WaiveAction} is executed.
+     * </p>
+     */
+    private void executeAction(final Game game, final PlayerTurn playerTurn, final GameRandom random) {
+        Action action = strategy.chooseAction(playerTurn, random);
+        if (action == null) {
+            action = playerTurn.findActionOfType(WaiveAction.class).orElse(null);
+        }
+        if (action == null) {
+            playerTurn.setNumberOfActionsToDo(0);
+            return;
+        }
+
+        playerTurn.executeCommand(action);
+        executeAutoTriggerables(game, playerTurn);
+
+        if (action instanceof DiscoverAntidoteAction && game.hasAntidoteMarkersForAllPlagues()) {
+            game.setGameWon(true);
+            playerTurn.setNumberOfActionsToDo(0);
+        }
+
+        discardExcessHandCards(game, random);
+    }
+
+    /**
+     * Triggers all auto triggerables of the current turn
+     *
+     * @see de.uol.swp.server.triggerable.TriggerableService#executeAutoTriggerables(Game)
+     */
+    private void executeAutoTriggerables(final Game game, final PlayerTurn playerTurn) {
+        while (playerTurn.hasNextAutoTriggerable()) {
+            final AutoTriggerable autoTriggerable = playerTurn.getNextAutoTriggerable();
+            autoTriggerable.initWithGame(game);
+            if (autoTriggerable.isTriggered()) {
+                autoTriggerable.trigger();
+            }
+        }
+        playerTurn.resetAutoTriggerables();
+    }
+
+    /**
+     * Draws one player card and triggers an epidemic if it is an {@link EpidemicCard}
+     *
+     * <p>
+     *     The game is lost once the player draw stack is empty.
+     * </p>
+     */
+    private void drawPlayerCard(final Game game, final PlayerTurn playerTurn, final GameRandom random) {
+        final CardStack<PlayerCard> playerDrawStack = game.getPlayerDrawStack();
+        if (playerDrawStack.isEmpty()) {
+            game.setGameLost(true);
+            return;
+        }
+
+        final PlayerCard playerCard = playerDrawStack.pop();
+        if (playerCard instanceof EpidemicCard) {
+            triggerEpidemic(game);
+            cardManagement.discardPlayerCard(game, playerCard);
+        } else {
+            playerTurn.getPlayer().addHandCard(playerCard);
+        }
+
+        playerTurn.reduceNumberOfPlayerCardsToDraw();
+        playerTurn.createTriggerables();
+        discardExcessHandCards(game, random);
+
+        if (playerDrawStack.isEmpty()) {
+            game.setGameLost(true);
+        }
+    }
+
+    /**
+     * Increases the infection level, infects the field of the bottom infection card three times
+     * and puts the shuffled infection discard stack on top of the infection draw stack
+     */
+    private void triggerEpidemic(final Game game) {
+        game.increaseInfectionLevel();
+
+        final InfectionCard bottomCard = cardManagement.drawInfectionCardFromTheBottom(game);
+        final Field field = bottomCard.getAssociatedField();
+        if (!game.hasAntidoteMarkerForPlague(field.getPlague())) {
+            for (int i = 0; i < Game.EPIDEMIC_CARD_DRAW_NUMBER_OF_INFECTIONS && !game.isGameLost(); i++) {
+                infectField(game, field);
+            }
+        }
+        cardManagement.discardInfectionCard(game, bottomCard);
+
+        putInfectionDiscardStackOnDrawStack(game);
+    }
+
+    /**
+     * Draws one infection card and infects its field unless there is an antidote for its plague
+     *
+     * <p>
+     *     If the infection draw stack is empty, the infection discard stack is shuffled and used as draw stack.
+     * </p>
+     */
+    private void drawInfectionCard(final Game game, final PlayerTurn playerTurn) {
+        if (game.getInfectionDrawStack().isEmpty()) {
+            putInfectionDiscardStackOnDrawStack(game);
+        }
+
+        final InfectionCard infectionCard = cardManagement.drawInfectionCardFromTheTop(game);
+        playerTurn.reduceNumberOfInfectionCardsToDraw();
+        cardManagement.discardInfectionCard(game, infectionCard);
+
+        final Field field = infectionCard.getAssociatedField();
+        if (!game.hasAntidoteMarkerForPlague(field.getPlague())) {
+            infectField(game, field);
+        }
+    }
+
+    /**
+     * Infects the given field with one plague cube of its plague and records the infected fields in the current turn.
+     * The game is lost if there are no plague cubes of the plague left.
+     */
+    private void infectField(final Game game, final Field field) {
+        final List<Field> infectedFields = new ArrayList<>();
+        try {
+            field.infectField(game.getPlagueCubeOfPlague(field.getPlague()), infectedFields);
+        } catch (final NoPlagueCubesFoundException e) {
+            game.setGameLost(true);
+        }
+        game.getCurrentTurn().getInfectedFieldsInTurn().add(infectedFields);
+    }
+
+    /**
+     * Shuffles the infection discard stack and puts it on top of the infection draw stack
+     */
+    private void putInfectionDiscardStackOnDrawStack(final Game game) {
+        final CardStack<InfectionCard> discardStack = game.getInfectionDiscardStack();
+        discardStack.shuffle(game.getRandom());
+        for (final InfectionCard card : discardStack) {
+            game.getInfectionDrawStack().push(card);
+        }
+        discardStack.clear();
+    }
+
+    /**
+     * Lets every player with more hand cards than allowed discard hand cards chosen by the {@link #strategy}
+     */
+    private void discardExcessHandCards(final Game game, final GameRandom random) {
+        for (final Player player : game.getPlayersInTurnOrder()) {
+            while (player.getHandCards().size() > game.getMaxHandCards()) {
+                final PlayerCard playerCard = strategy.chooseHandCardToDiscard(player, random);
+                player.removeHandCard(playerCard);
+                cardManagement.discardPlayerCard(game, playerCard);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the game is won or lost
+     */
+    private static boolean isOver(final Game game) {
+        return game.isGameWon() || game.isGameLost();
+    }
+
+    /**
+     * Determines the reason the given game ended in the same order as
+     * {@link de.uol.swp.server.game.GameManagement#determineGameEndReason(Game)}
+     */
+    private static GameEndReason determineGameEndReason(final Game game) {
+        if (game.isGameWon()) {
+            return GameEndReason.ALL_ANTIDOTES_DISCOVERED;
+        }
+        if (game.getPlayerDrawStack().isEmpty()) {
+            return GameEndReason.NO_PLAYER_CARDS_LEFT;
+        }
+        if (game.getOutbreakMarker().isAtMaximumLevel()) {
+            return GameEndReason.MAX_OUTBREAKS_REACHED;
+        }
+        return GameEndReason.NO_PLAGUE_CUBES_LEFT;
+    }
+}
@@ -0,0 +1,155 @@
+package de.uol.swp.server.simulation;
+
+import de.uol.swp.common.action.Action;
+import de.uol.swp.common.action.advanced.build_research_laboratory.BuildResearchLaboratoryAction;
+import de.uol.swp.common.action.advanced.cure_plague.CurePlagueAction;
+import de.uol.swp.common.action.advanced.discover_antidote.DiscoverAntidoteAction;
+import de.uol.swp.common.action.advanced.transfer_card.ShareKnowledgeAction;
+import de.uol.swp.common.action.simple.MoveAction;
+import de.uol.swp.common.action.simple.MoveAllyAction;
+import de.uol.swp.common.action.simple.WaiveAction;
+import de.uol.swp.common.card.CityCard;
+import de.uol.swp.common.card.PlayerCard;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.map.Field;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.util.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SimulationStrategy} that plays randomly, but always discovers an antidote or cures a plague if it can
+ *
+ * <p>
+ *     All other actions, their targets and discarded hand cards are chosen uniformly at random.
+ *     {@link WaiveAction} is only chosen if no other action is possible.
+ * </p>
+ */
+public class RandomSimulationStrategy implements SimulationStrategy {
+
+    @Override
+    public Action chooseAction(final PlayerTurn playerTurn, final GameRandom random) {
+        final List<Action> possibleActions = playerTurn.getPossibleActions();
+
+        for (final Action action : possibleActions) {
+            if (action instanceof DiscoverAntidoteAction discoverAntidoteAction && prepareDiscoverAntidoteAction(discoverAntidoteAction)) {
+                return action;
+            }
+        }
+        for (final Action action : possibleActions) {
+            if (action instanceof CurePlagueAction curePlagueAction && prepareCurePlagueAction(curePlagueAction, random)) {
+                return action;
+            }
+        }
+
+        final List<Action> otherActions = new ArrayList<>(possibleActions.stream()
+                .filter(action -> !(action instanceof WaiveAction))
+                .toList());
+        while (!otherActions.isEmpty()) {
+            final Action action = otherActions.remove(random.nextInt(otherActions.size()));
+            if (prepareAction(action, random) && action.isExecutable()) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public PlayerCard chooseHandCardToDiscard(final Player player, final GameRandom random) {
+        final List<PlayerCard> handCards = player.getHandCards();
+        return handCards.get(random.nextInt(handCards.size()));
+    }
+
+    /**
+     * Fills in the targets of the given {@link Action} and approves it if it requires an approval
+     *
+     * @return {@code false} if the {@link Action} has no valid target
+     */
+    private boolean prepareAction(final Action action, final GameRandom random) {
+        if (action instanceof MoveAction moveAction) {
+            return prepareMoveAction(moveAction, random);
+        } else if (action instanceof BuildResearchLaboratoryAction buildResearchLaboratoryAction) {
+            return prepareBuildResearchLaboratoryAction(buildResearchLaboratoryAction, random);
+        } else if (action instanceof ShareKnowledgeAction shareKnowledgeAction) {
+            return prepareShareKnowledgeAction(shareKnowledgeAction, random);
+        } else if (action instanceof CurePlagueAction curePlagueAction) {
+            return prepareCurePlagueAction(curePlagueAction, random);
+        } else if (action instanceof DiscoverAntidoteAction discoverAntidoteAction) {
+            return prepareDiscoverAntidoteAction(discoverAntidoteAction);
+        }
+        return true;
+    }
+
+    private boolean prepareMoveAction(final MoveAction moveAction, final GameRandom random) {
+        final List<Field> availableFields = moveAction.getAvailableFields();
+        if (availableFields.isEmpty()) {
+            return false;
+        }
+        moveAction.setTargetField(availableFields.get(random.nextInt(availableFields.size())));
+        if (moveAction instanceof MoveAllyAction moveAllyAction) {
+            moveAllyAction.approve();
+        }
+        return true;
+    }
+
+    private boolean prepareBuildResearchLaboratoryAction(final BuildResearchLaboratoryAction action, final GameRandom random) {
+        final Game game = action.getGame();
+        if (!game.requiresResearchLaboratoryMove()) {
+            return true;
+        }
+        final List<Field> fieldsWithResearchLaboratory = game.getFields().stream()
+                .filter(Field::hasResearchLaboratory)
+                .toList();
+        if (fieldsWithResearchLaboratory.isEmpty()) {
+            return false;
+        }
+        action.setResearchLaboratoryOriginField(fieldsWithResearchLaboratory.get(random.nextInt(fieldsWithResearchLaboratory.size())));
+        return true;
+    }
+
+    private boolean prepareShareKnowledgeAction(final ShareKnowledgeAction action, final GameRandom random) {
+        final List<Map.Entry<Player, List<CityCard>>> targets = new ArrayList<>(action.getTargetPlayersWithAvailableCardsAssociation().entrySet());
+        if (targets.isEmpty()) {
+            return false;
+        }
+        targets.sort(Map.Entry.comparingByKey((first, second) -> first.getName().compareTo(second.getName())));
+        final Map.Entry<Player, List<CityCard>> target = targets.get(random.nextInt(targets.size()));
+        final List<CityCard> cards = target.getValue();
+        action.setTargetPlayer(target.getKey());
+        action.setTransferredCard(cards.get(random.nextInt(cards.size())));
+        action.approve();
+        return true;
+    }
+
+    private boolean prepareCurePlagueAction(final CurePlagueAction action, final GameRandom random) {
+        final Field currentField = action.getExecutingPlayer().getCurrentField();
+        final List<Plague> curablePlagues = action.getGame().getPlagues().stream()
+                .filter(currentField::isCurable)
+                .toList();
+        if (curablePlagues.isEmpty()) {
+            return false;
+        }
+        action.setPlague(curablePlagues.get(random.nextInt(curablePlagues.size())));
+        return true;
+    }
+
+    private boolean prepareDiscoverAntidoteAction(final DiscoverAntidoteAction action) {
+        final Game game = action.getGame();
+        for (final Plague plague : action.getAvailablePlagues()) {
+            if (!game.hasAntidoteMarkerForPlague(plague)) {
+                if (action.getDiscardedCards().isEmpty()) {
+                    action.setPlague(plague);
+                    action.getDiscardableCardsForPlague(plague).stream()
+                            .limit(action.getRequiredAmountOfDiscardedCards())
+                            .forEach(action::addDiscardedCard);
+                }
+                return action.isExecutable();
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,92 @@
+package de.uol.swp.server.simulation;
+
+import de.uol.swp.common.game.GameEndReason;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of a batch of games run by the {@link GameSimulator} together with the time it took
+ *
+ * @see GameSimulator#simulate(int, long, java.util.concurrent.ForkJoinPool)
+ */
+@Getter
+public class SimulationReport {
+    private final List<SimulationResult> results;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor
+     *
+     * @param results the results of all games in the order of their seeds
+     * @param elapsedNanos the time all games took in nanoseconds
+     */
+    public SimulationReport(final List<SimulationResult> results, final long elapsedNanos) {
+        this.results = List.copyOf(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the number of simulated games
+     */
+    public int getNumberOfGames() {
+        return results.size();
+    }
+
+    /**
+     * @return the number of games the players won
+     */
+    public long getNumberOfWonGames() {
+        return results.stream().filter(SimulationResult::isWon).count();
+    }
+
+    /**
+     * @return the number of games the players lost
+     */
+    public long getNumberOfLostGames() {
+        return results.stream().filter(SimulationResult::isLost).count();
+    }
+
+    /**
+     * @return the average number of turns of all games
+     */
+    public double getAverageNumberOfTurns() {
+        return results.stream().mapToInt(SimulationResult::getNumberOfTurns).average().orElse(0);
+    }
+
+    /**
+     * @return the number of games that ended for each {@link GameEndReason}
+     */
+    public Map<GameEndReason, Long> getNumberOfGamesPerEndReason() {
+        final Map<GameEndReason, Long> numberOfGamesPerEndReason = new EnumMap<>(GameEndReason.class);
+        for (final SimulationResult result : results) {
+            result.findEndReason().ifPresent(endReason -> numberOfGamesPerEndReason.merge(endReason, 1L, Long::sum));
+        }
+        return numberOfGamesPerEndReason;
+    }
+
+    /**
+     * @return the number of games simulated per second of wall clock time
+     */
+    public double getGamesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return results.size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games (%d won, %d lost) in %.2f s, %.1f games/s, %.1f turns on average, end reasons: %s",
+                getNumberOfGames(),
+                getNumberOfWonGames(),
+                getNumberOfLostGames(),
+                elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1),
+                getGamesPerSecond(),
+                getAverageNumberOfTurns(),
+                getNumberOfGamesPerEndReason());
+    }
+}
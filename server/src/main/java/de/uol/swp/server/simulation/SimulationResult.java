@@ -0,0 +1,31 @@
+package de.uol.swp.server.simulation;
+
+import de.uol.swp.common.game.GameEndReason;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Result of one game run by the {@link GameSimulator}
+ *
+ * @see SimulationReport
+ */
+@Getter
+@AllArgsConstructor
+public class SimulationResult {
+    private final long seed;
+    private final boolean won;
+    private final boolean lost;
+    private final int numberOfTurns;
+    private final GameEndReason endReason;
+
+    /**
+     * Returns the reason the game ended
+     *
+     * @return {@link Optional} of the {@link GameEndReason}, empty if the game reached the maximum number of turns
+     */
+    public Optional<GameEndReason> findEndReason() {
+        return Optional.ofNullable(endReason);
+    }
+}
@@ -0,0 +1,39 @@
+package de.uol.swp.server.simulation;
+
+import de.uol.swp.common.action.Action;
+import de.uol.swp.common.card.PlayerCard;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.util.GameRandom;
+
+/**
+ * Decides the moves of all players of a game run by the {@link GameSimulator}
+ *
+ * <p>
+ *     All decisions must only depend on the game state and the given random generator,
+ *     so that a simulated game can be repeated with the same seed.
+ * </p>
+ *
+ * @see GameSimulator
+ * @see RandomSimulationStrategy
+ */
+public interface SimulationStrategy {
+
+    /**
+     * Chooses the next action of the player of the given {@link PlayerTurn} and fills in all of its targets
+     *
+     * @param playerTurn the current {@link PlayerTurn} in its action phase
+     * @param random the random generator of the simulated game
+     * @return an executable {@link Action}, or {@code null} to waive the remaining actions of the turn
+     */
+    Action chooseAction(PlayerTurn playerTurn, GameRandom random);
+
+    /**
+     * Chooses the hand card the given {@link Player} discards because they have too many hand cards
+     *
+     * @param player the {@link Player} that has to discard a hand card
+     * @param random the random generator of the simulated game
+     * @return one of the hand cards of {@code player}
+     */
+    PlayerCard chooseHandCardToDiscard(Player player, GameRandom random);
+}
@@ -1,10 +1,11 @@
 package de.uol.swp.server.store;
 
 
-import org.reflections.Reflections;
+import de.uol.swp.classindex.ClassIndex;
 
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -15,26 +16,36 @@ import java.util.stream.Collectors;
  * and database-based, based on the application context. It uses reflection to dynamically locate and instantiate
  * the appropriate store implementations.
  * </p>
+ * <p>
+ * The store interfaces and implementations are looked up in the {@link ClassIndex} of {@link ContentStore},
+ * which is written at compile time, so creating the stores does not scan the classpath.
+ * </p>
  */
 @SuppressWarnings("rawtypes")
 public abstract class AbstractStore {
-    private final Random random = new Random();
+    private static final int FIRST_ID = 1;
+
+    private final AtomicInteger nextId = new AtomicInteger(FIRST_ID);
 
     /**
      * Creates all stores that are available
      * <p>
+     * For every store interface a {@link DatabaseStore} is preferred if a database is available,
+     * then a {@link FileBasedStore} if file based stores are enabled and a {@link MainMemoryBasedStore} otherwise.
+     * </p>
      *
      * @param databaseIsAvailable boolean indicating if a database is available
+     * @param fileBasedStoresAreEnabled boolean indicating if a directory for file based stores is configured
      * @return Map containing all stores
      */
 
-    public static Map<Class, AbstractStore> createStores(boolean databaseIsAvailable) {
+    public static Map<Class, AbstractStore> createStores(boolean databaseIsAvailable, boolean fileBasedStoresAreEnabled) {
         Map<Class, AbstractStore> storeMap = new HashMap<>();
 
         Set<Class<? extends ContentStore>> storeInterfaces = getSubStores(ContentStore.class, getServerPackagePath(), subType -> Modifier.isInterface(subType.getModifiers()));
 
         storeInterfaces.forEach(storeInterface -> {
-            Optional<Class<AbstractStore>> subTypes = getStore(storeInterface, databaseIsAvailable);
+            Optional<Class<AbstractStore>> subTypes = getStore(storeInterface, databaseIsAvailable, fileBasedStoresAreEnabled);
             subTypes.ifPresent(store -> storeMap.put(storeInterface, createStoreInstance(store)));
         });
 
@@ -47,12 +58,14 @@ public abstract class AbstractStore {
      *
      * @param storeInterface      the interface of the store
      * @param databaseIsAvailable boolean indicating if a database is available
+     * @param fileBasedStoresAreEnabled boolean indicating if a directory for file based stores is configured
      * @return the store that should be used
      */
-    private static Optional<Class<AbstractStore>> getStore(Class<? extends ContentStore> storeInterface, boolean databaseIsAvailable) {
+    private static Optional<Class<AbstractStore>> getStore(Class<? extends ContentStore> storeInterface, boolean databaseIsAvailable, boolean fileBasedStoresAreEnabled) {
         Set<Class<? extends ContentStore>> subTypes = getSubStores(storeInterface, storeInterface.getPackageName(), subType -> !Modifier.isAbstract(subType.getModifiers()));
 
         return findFirstMatchingStore(subTypes, subtype -> isDatabaseStore(subtype) && databaseIsAvailable)
+                .or(() -> findFirstMatchingStore(subTypes, subtype -> isFileBasedStore(subtype) && fileBasedStoresAreEnabled))
                 .or(() -> findFirstMatchingStore(subTypes, AbstractStore::isMainMemoryBasedStore));
     }
 
@@ -75,6 +88,8 @@ public abstract class AbstractStore {
     /**
      * Returns all sub stores of a given store type
      * <p>
+     * As only {@link ContentStore} is indexed, the sub stores are the indexed stores assignable to {@code storeType}.
+     * </p>
      *
      * @param storeType   the store type
      * @param packagePath the package path to search in
@@ -84,8 +99,8 @@ public abstract class AbstractStore {
      * @return the set of sub stores
      */
     private static <T, U extends T> Set<Class<? extends U>> getSubStores(final Class<? extends T> storeType, final String packagePath, Predicate<Class<U>> filter) {
-        Reflections reflections = new Reflections(packagePath);
-        return reflections.getSubTypesOf(storeType).stream()
+        return ClassIndex.getSubTypesOf(ContentStore.class, packagePath).stream()
+                .filter(subType -> storeType.isAssignableFrom(subType) && subType != storeType)
                 .map(subType -> (Class<U>) subType)
                 .filter(filter)
                 .collect(Collectors.toSet());
@@ -112,6 +127,17 @@ public abstract class AbstractStore {
         return MainMemoryBasedStore.class.isAssignableFrom(subType);
     }
 
+    /**
+     * Checks if the given subType is a file based store.
+     * <p>
+     *
+     * @param subType the class to check
+     * @return true if the subType is a file based store, false otherwise
+     */
+    private static boolean isFileBasedStore(Class<? extends ContentStore> subType) {
+        return FileBasedStore.class.isAssignableFrom(subType);
+    }
+
     /**
      * Checks if the given subType is a database store.
      * <p>
@@ -139,15 +165,19 @@ public abstract class AbstractStore {
 
     /**
      * Generates a unique ID.
+     * <p>
+     * The ids are taken from an atomic sequence starting at {@value #FIRST_ID}, so concurrent calls never return
+     * the same id and no lock is needed. Ids already in use, e.g. set explicitly before an object was added,
+     * are skipped. After {@link Integer#MAX_VALUE} the sequence starts over.
+     * </p>
      *
      * @return A unique ID
      */
     protected int generateUniqueId() {
-        Set<Integer> ids = getIds();
+        final Set<Integer> ids = getIds();
         int uniqueId;
-
         do {
-            uniqueId = this.random.nextInt(100000);
+            uniqueId = nextId.getAndUpdate(id -> id == Integer.MAX_VALUE ? FIRST_ID : id + 1);
         } while (ids.contains(uniqueId));
         return uniqueId;
     }
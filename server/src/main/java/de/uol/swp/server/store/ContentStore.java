@@ -1,7 +1,14 @@
 package de.uol.swp.server.store;
 
+import de.uol.swp.classindex.IndexSubclasses;
+
 /**
  * Interface for the content store.
+ * <p>
+ * The store interfaces and their implementations are written to the class index at compile time,
+ * so that {@link AbstractStore#createStores(boolean, boolean)} does not scan the classpath.
+ * </p>
  */
+@IndexSubclasses
 public interface ContentStore {
 }
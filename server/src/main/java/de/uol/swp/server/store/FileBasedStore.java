@@ -0,0 +1,16 @@
+package de.uol.swp.server.store;
+
+/**
+ * Interface for all FileBasedStores
+ * <p>
+ * A FileBasedStore is used instead of a {@link MainMemoryBasedStore} if no database is available
+ * and the environment variable {@value #FILE_STORE_DIRECTORY} names the directory to store the files in.
+ * </p>
+ */
+public interface FileBasedStore {
+
+    /**
+     * Key of the environment variable containing the directory of the file based stores
+     */
+    String FILE_STORE_DIRECTORY = "FILE_STORE_DIRECTORY";
+}
@@ -1,5 +1,7 @@
 package de.uol.swp.server.user.store;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 import de.uol.swp.common.user.User;
 import de.uol.swp.common.user.UserDTO;
@@ -7,11 +9,14 @@ import de.uol.swp.server.database.DataSource;
 import de.uol.swp.server.store.AbstractStore;
 import de.uol.swp.server.store.DatabaseStore;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * A database-based implementation of the {@link UserStore} interface for managing user data.
@@ -20,12 +25,65 @@ import java.util.*;
  * and retrieving user information. It uses the {@link DataSource} for database interactions and
  * translates database rows into user objects.
  * </p>
+ * <p>
+ * All statements are parameterized, so the driver prepares each of them once per pooled connection and
+ * reuses it afterwards. Users read, created or updated are kept in a bounded cache of the {@value #CACHE_SIZE}
+ * most recently used users, so repeated lookups and logins do not query the database. The cache is updated
+ * whenever a user is created, updated or removed through this store. Cached users expire after
+ * {@value #CACHE_EXPIRY_MINUTES} minutes, so changes made to the database by others are picked up.
+ * </p>
+ * <p>
+ * Every change of a user counts up its version. A user read from the database is only cached if no other user is
+ * cached under its name yet and its version did not change while it was read, so a read that raced with a change
+ * never replaces the changed user in the cache.
+ * </p>
+ *
+ * @implNote This store will never return the password of a user!
  */
 public class DatabaseBasedUserStore extends AbstractStore implements UserStore, DatabaseStore {
 
+    public static final String TABLE = "users";
     public static final String USERNAME = "username";
     public static final String PASSWORD = "password";
     public static final String EMAIL = "email";
+    public static final String REGISTERED = "registered";
+
+    /**
+     * Maximum number of users in the cache
+     */
+    static final int CACHE_SIZE = 1024;
+
+    /**
+     * Minutes after which a cached user is read from the database again
+     */
+    static final long CACHE_EXPIRY_MINUTES = 10;
+
+    /**
+     * Number of versions the users are spread over, users whose names share a version are changed together
+     */
+    private static final int VERSION_STRIPES = 64;
+
+    private static final String COLUMNS = USERNAME + ", " + PASSWORD + ", " + EMAIL;
+    private static final String SELECT_USER = "SELECT " + COLUMNS + " FROM " + TABLE + " WHERE " + USERNAME + " = ?";
+    private static final String SELECT_USER_WITH_PASSWORD = SELECT_USER + " AND " + PASSWORD + " = ?";
+    private static final String SELECT_ALL_USERS = "SELECT " + COLUMNS + " FROM " + TABLE;
+    private static final String INSERT_USER = "INSERT INTO " + TABLE + " (" + COLUMNS + ", " + REGISTERED + ") VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_USER = "UPDATE " + TABLE + " SET " + PASSWORD + " = ?, " + EMAIL + " = ? WHERE " + USERNAME + " = ?";
+    private static final String DELETE_USER = "DELETE FROM " + TABLE + " WHERE " + USERNAME + " = ?";
+
+    /**
+     * Users including their passwords by their usernames
+     */
+    private final Cache<String, User> cache = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .expireAfterWrite(CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Versions of the users, counted up whenever a user is created, updated or removed
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
     private DataSource dataSource;
 
     @Inject
@@ -35,79 +93,106 @@ public class DatabaseBasedUserStore extends AbstractStore implements UserStore,
 
     @Override
     public Optional<User> findUser(String username, String password) {
-        String query = "SELECT * FROM users WHERE "+ USERNAME +" = '" + username + "' AND " + PASSWORD + " = '" + password + "'";
-        return getOneUserByQuery(query);
+        final User cachedUser = cache.getIfPresent(username);
+        if (cachedUser != null && Objects.equals(cachedUser.getPassword(), password)) {
+            return Optional.of(cachedUser.getWithoutPassword());
+        }
+        return selectUser(SELECT_USER_WITH_PASSWORD, username, password);
     }
 
     @Override
     public Optional<User> findUser(String username) {
-        String query = "SELECT * FROM users WHERE " + USERNAME + " = '" + username + "'";
-        return getOneUserByQuery(query);
+        final User cachedUser = cache.getIfPresent(username);
+        if (cachedUser != null) {
+            return Optional.of(cachedUser.getWithoutPassword());
+        }
+        return selectUser(SELECT_USER, username);
     }
 
     @Override
     public User createUser(String username, String password, String eMail) {
-        String query = "INSERT INTO users (" + USERNAME + ", " + PASSWORD + ", " + EMAIL + ", registered ) VALUES ('" + username + "', '" + password + "', '" + eMail + "', '" + getLocalDateTime() + "')";
         try {
-            this.dataSource.executeQuery(query);
+            dataSource.withConnection(connection -> {
+                try (PreparedStatement insert = connection.prepareStatement(INSERT_USER)) {
+                    insert.setString(1, username);
+                    insert.setString(2, password);
+                    insert.setString(3, eMail);
+                    insert.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+                    return insert.executeUpdate();
+                }
+            });
         } catch (SQLException e) {
             throw new IllegalArgumentException(e);
         }
-        return this.findUser(username).orElse(null);
+        final User user = new UserDTO(username, password, eMail);
+        putIntoCache(user);
+        return user.getWithoutPassword();
     }
 
     @Override
     public User updateUser(String username, String password, String eMail) {
-        String query = "UPDATE users SET " + PASSWORD + " = '" + password + "', " + EMAIL + " = '" + eMail + "' WHERE " + USERNAME + "= '" + username + "'";
+        final int updatedRows;
         try {
-            this.dataSource.executeQuery(query);
+            updatedRows = dataSource.withConnection(connection -> {
+                try (PreparedStatement update = connection.prepareStatement(UPDATE_USER)) {
+                    update.setString(1, password);
+                    update.setString(2, eMail);
+                    update.setString(3, username);
+                    return update.executeUpdate();
+                }
+            });
         } catch (SQLException e) {
+            invalidate(username);
             throw new IllegalArgumentException(e);
         }
-        return this.findUser(username).orElse(null);
+        if (updatedRows == 0) {
+            invalidate(username);
+            return null;
+        }
+        final User user = new UserDTO(username, password, eMail);
+        putIntoCache(user);
+        return user.getWithoutPassword();
     }
 
     @Override
     public void removeUser(String username) {
-        String sql = "DELETE FROM users WHERE " + USERNAME + " = '" + username + "'";
         try {
-            this.dataSource.executeQuery(sql);
+            dataSource.withConnection(connection -> {
+                try (PreparedStatement delete = connection.prepareStatement(DELETE_USER)) {
+                    delete.setString(1, username);
+                    return delete.executeUpdate();
+                }
+            });
         } catch (SQLException e) {
             throw new IllegalArgumentException(e);
+        } finally {
+            invalidate(username);
         }
     }
 
     @Override
     public List<User> getAllUsers() {
-        List<User> users = new ArrayList<>();
-        String query = "SELECT * FROM users";
         try {
-            ResultSet resultSet = this.dataSource.getResultSet(query).orElse(null);
-            while (resultSet != null && resultSet.next()) {
-                User newUser = getUserFromResultSet(resultSet);
-                users.add(newUser);
-            }
+            return dataSource.withConnection(connection -> {
+                final List<User> users = new ArrayList<>();
+                try (PreparedStatement select = connection.prepareStatement(SELECT_ALL_USERS);
+                     ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        users.add(getUserFromResultSet(resultSet).getWithoutPassword());
+                    }
+                }
+                return users;
+            });
         } catch (SQLException e) {
             throw new IllegalArgumentException(e);
         }
-
-        return users;
-    }
-
-    /**
-     * Returns the current date and time as a formatted string in the format "yyyy-MM-dd HH:mm:ss".
-     *
-     * @return the current date and time as a formatted string
-     */
-    private String getLocalDateTime() {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
     }
 
     /**
      * Returns a user object from a given ResultSet.
      *
      * @param resultSet the ResultSet to get the user from
-     * @return the user object
+     * @return the user object including its password
      * @throws SQLException if a database access error occurs
      */
     private User getUserFromResultSet(ResultSet resultSet) throws SQLException {
@@ -115,25 +200,71 @@ public class DatabaseBasedUserStore extends AbstractStore implements UserStore,
                 resultSet.getString(USERNAME),
                 resultSet.getString(PASSWORD),
                 resultSet.getString(EMAIL)
-        ).getWithoutPassword();
+        );
     }
 
     /**
-     * Returns a user object from a given query.
+     * Selects a single user with the given query and puts it into the cache, unless the user was changed meanwhile.
      *
-     * @param query the query to get the user from
-     * @return the user object
+     * @param query      the query with one parameter per value
+     * @param parameters the values of the parameters, starting with the username
+     * @return the user object without its password
      */
-    private Optional<User> getOneUserByQuery(String query) {
+    private Optional<User> selectUser(String query, String... parameters) {
+        final String username = parameters[0];
+        final long version = versions.get(getVersionIndex(username));
+        final Optional<User> user;
         try {
-            ResultSet resultSet = this.dataSource.getResultSet(query).orElse(null);
-            if (resultSet != null && resultSet.next()) {
-                return Optional.of(getUserFromResultSet(resultSet));
-            }
-        } catch (SQLException e ) {
+            user = dataSource.withConnection(connection -> {
+                try (PreparedStatement select = connection.prepareStatement(query)) {
+                    for (int i = 0; i < parameters.length; i++) {
+                        select.setString(i + 1, parameters[i]);
+                    }
+                    try (ResultSet resultSet = select.executeQuery()) {
+                        return resultSet.next() ? Optional.of(getUserFromResultSet(resultSet)) : Optional.<User>empty();
+                    }
+                }
+            });
+        } catch (SQLException e) {
             throw new IllegalArgumentException(e);
         }
-        return Optional.empty();
+        user.ifPresent(foundUser -> cache.asMap().compute(username, (name, cachedUser) ->
+                cachedUser == null && versions.get(getVersionIndex(name)) == version ? foundUser : cachedUser));
+        return user.map(User::getWithoutPassword);
+    }
+
+    /**
+     * Puts a created or updated user into the cache and counts up its version
+     *
+     * @param user the user including its password
+     */
+    private void putIntoCache(User user) {
+        cache.asMap().compute(user.getUsername(), (name, cachedUser) -> {
+            versions.incrementAndGet(getVersionIndex(name));
+            return user;
+        });
+    }
+
+    /**
+     * Removes a user from the cache and counts up its version
+     *
+     * @param username the name of the user
+     */
+    private void invalidate(String username) {
+        cache.asMap().compute(username, (name, cachedUser) -> {
+            versions.incrementAndGet(getVersionIndex(name));
+            return null;
+        });
+    }
+
+    /**
+     * Returns the index of the version of a user
+     *
+     * @param username the name of the user
+     * @return the index in {@link #versions}
+     */
+    private static int getVersionIndex(String username) {
+        return Math.floorMod(username.hashCode(), VERSION_STRIPES);
     }
 
     @Override
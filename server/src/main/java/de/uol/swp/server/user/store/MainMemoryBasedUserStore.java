@@ -7,6 +7,7 @@ import de.uol.swp.server.store.AbstractStore;
 import de.uol.swp.server.store.MainMemoryBasedStore;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is a user store.
@@ -22,10 +23,13 @@ import java.util.*;
  */
 public class MainMemoryBasedUserStore extends AbstractStore implements UserStore, MainMemoryBasedStore {
 
-    private final Map<String, User> users = new HashMap<>();
+    private final Map<String, User> users = new ConcurrentHashMap<>();
 
     @Override
     public Optional<User> findUser(String username, String password) {
+        if (username == null) {
+            return Optional.empty();
+        }
         User usr = users.get(username);
         if (usr != null && Objects.equals(usr.getPassword(),password)) {
             return Optional.of(usr.getWithoutPassword());
@@ -35,6 +39,9 @@ public class MainMemoryBasedUserStore extends AbstractStore implements UserStore
 
     @Override
     public Optional<User> findUser(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
         User usr = users.get(username);
         if (usr != null) {
             return Optional.of(usr.getWithoutPassword());
@@ -59,7 +66,9 @@ public class MainMemoryBasedUserStore extends AbstractStore implements UserStore
 
     @Override
     public void removeUser(String username) {
-        users.remove(username);
+        if (username != null) {
+            users.remove(username);
+        }
     }
 
     @Override
@@ -24,6 +24,7 @@ import de.uol.swp.server.EventBusBasedTest;
 import de.uol.swp.server.card.CardService;
 import de.uol.swp.server.communication.UUIDSession;
 import de.uol.swp.server.game.GameManagement;
+import de.uol.swp.server.game.GameStateSynchronizer;
 import de.uol.swp.server.player.PlayerManagement;
 import de.uol.swp.server.triggerable.TriggerableService;
 import org.greenrobot.eventbus.EventBus;
@@ -51,6 +52,7 @@ public class ActionServiceTest extends EventBusBasedTest {
     private GameManagement gameManagement;
     private TriggerableService triggerableService;
     private PlayerManagement playerManagement;
+    private GameStateSynchronizer gameStateSynchronizer;
 
     private Game game;
     private UserPlayer userPlayer1;
@@ -64,7 +66,11 @@ public class ActionServiceTest extends EventBusBasedTest {
         playerManagement = mock();
         EventBus eventBus = getBus();
 
-        actionService = new ActionService(eventBus, cardService, gameManagement, triggerableService, playerManagement);
+        gameStateSynchronizer = mock();
+        when(gameStateSynchronizer.createGameUpdateMessage(any()))
+                .thenAnswer(invocation -> new RetrieveUpdatedGameServerMessage(invocation.getArgument(0)));
+
+        actionService = new ActionService(eventBus, cardService, gameManagement, triggerableService, playerManagement, gameStateSynchronizer);
 
         final User user = new UserDTO("user", "pass", "");
         final User user2 = new UserDTO("user1", "pass", "");
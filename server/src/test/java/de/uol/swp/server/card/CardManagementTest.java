@@ -16,6 +16,7 @@ import de.uol.swp.server.game.GameManagement;
 import de.uol.swp.server.game.store.MainMemoryBasedGameStore;
 import de.uol.swp.server.lobby.LobbyManagement;
 import de.uol.swp.server.game.turn.PlayerTurnManagement;
+import de.uol.swp.server.game.turn.store.MainMemoryBasedTurnHistoryStore;
 import de.uol.swp.server.role.RoleManagement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -53,7 +54,7 @@ class CardManagementTest {
         roleManagement = mock(RoleManagement.class);
         cardManagement = new CardManagement();
 
-        gameManagement = new GameManagement(new MainMemoryBasedGameStore());
+        gameManagement = new GameManagement(new MainMemoryBasedGameStore(), new MainMemoryBasedTurnHistoryStore());
         gameManagement.setLobbyManagement(lobbyManagement);
         gameManagement.setPlayerTurnManagement(playerTurnManagement);
         gameManagement.setRoleManagement(roleManagement);
@@ -37,9 +37,11 @@ import de.uol.swp.common.user.Session;
 import de.uol.swp.common.user.User;
 import de.uol.swp.common.user.UserDTO;
 import de.uol.swp.common.util.Color;
+import de.uol.swp.common.util.GameRandom;
 import de.uol.swp.server.EventBusBasedTest;
 import de.uol.swp.server.communication.UUIDSession;
 import de.uol.swp.server.game.GameManagement;
+import de.uol.swp.server.game.GameStateSynchronizer;
 import de.uol.swp.server.game.turn.PlayerTurnManagement;
 import de.uol.swp.server.lobby.LobbyService;
 import de.uol.swp.server.triggerable.TriggerableService;
@@ -69,6 +71,7 @@ public class CardServiceTest extends EventBusBasedTest {
     private GameManagement gameManagement;
     private LobbyService lobbyService;
     private TriggerableService triggerableService;
+    private GameStateSynchronizer gameStateSynchronizer;
     private PlayerTurnManagement playerTurnManagement;
     private Game game;
     private MapType mapType;
@@ -100,7 +103,10 @@ public class CardServiceTest extends EventBusBasedTest {
         triggerableService = mock();
         responses = new ArrayList<>();
         EventBus eventBus = getBus();
-        cardService = new CardService(eventBus, cardManagement, gameManagement, lobbyService, triggerableService);
+        gameStateSynchronizer = mock();
+        when(gameStateSynchronizer.createGameUpdateMessage(any()))
+                .thenAnswer(invocation -> new RetrieveUpdatedGameServerMessage(invocation.getArgument(0)));
+        cardService = new CardService(eventBus, cardManagement, gameManagement, lobbyService, triggerableService, gameStateSynchronizer);
         difficulty = GameDifficulty.getDefault();
         User user = new UserDTO("Test", "Test", "Test@test.de");
         User user2 = new UserDTO("TestZwei", "Test", "Test@test.de");
@@ -431,6 +437,7 @@ public class CardServiceTest extends EventBusBasedTest {
         when(mockGame.getMap()).thenReturn(mockMap);
         when(mockGame.getInfectionDiscardStack()).thenReturn(discardStack);
         when(mockGame.getInfectionDrawStack()).thenReturn(drawStack);
+        when(mockGame.getRandom()).thenReturn(new GameRandom(1));
 
         when(cardManagement.drawInfectionCardFromTheBottom(mockGame)).thenReturn(mockBottomCard);
         when(mockBottomCard.getAssociatedField()).thenReturn(mockField);
@@ -573,7 +580,7 @@ public class CardServiceTest extends EventBusBasedTest {
         inOrder.verify(mockGame).increaseInfectionLevel();
         inOrder.verify(cardManagement).drawInfectionCardFromTheBottom(mockGame);
         inOrder.verify(mockField, atLeast(1)).infectField(any(), any());
-        inOrder.verify(discardStack).shuffle();
+        inOrder.verify(discardStack).shuffle(any());
 
         verify(mockGame, atLeast(1)).getInfectionDrawStack();
         verify(discardStack).clear();
@@ -0,0 +1,104 @@
+package de.uol.swp.server.communication;
+
+import de.uol.swp.common.codec.BinaryMessageCodec;
+import de.uol.swp.common.codec.SharedMessageEncoding;
+import de.uol.swp.common.message.MessageContext;
+import de.uol.swp.common.message.response.ResponseMessage;
+import de.uol.swp.common.message.server_message.ServerMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.server_message.LoginServerMessage;
+import de.uol.swp.server.game.GameExecutor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.greenrobot.eventbus.EventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerHandlerTest {
+
+    private EventBus eventBus;
+    private ServerHandler serverHandler;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new EventBus();
+        serverHandler = new ServerHandler(eventBus, new GameExecutor(Runnable::run));
+    }
+
+    @Test
+    @DisplayName("Broadcast should be encoded once and shared by all clients")
+    void onServerMessage_encodedOnce() {
+        final List<EncodingMessageContext> clients = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final EncodingMessageContext client = new EncodingMessageContext();
+            clients.add(client);
+            serverHandler.newClientConnected(client);
+        }
+
+        eventBus.post(new LoginServerMessage(new UserDTO("user", "password", "user@mail.com")));
+
+        assertThat(serverHandler.getSavedEncodes()).isEqualTo(3);
+        assertThat(clients).allSatisfy(client -> {
+            assertThat(client.frames).hasSize(1);
+            assertThat(client.frames.get(0).unwrap()).isSameAs(clients.get(0).frames.get(0).unwrap());
+        });
+        clients.forEach(client -> client.frames.forEach(ByteBuf::release));
+        assertThat(clients.get(0).frames.get(0).refCnt()).isZero();
+    }
+
+    @Test
+    @DisplayName("Broadcast should still reach other clients if one of them fails")
+    void onServerMessage_failingClient() {
+        final EncodingMessageContext client = new EncodingMessageContext();
+        serverHandler.newClientConnected(new FailingMessageContext());
+        serverHandler.newClientConnected(client);
+
+        eventBus.post(new LoginServerMessage(new UserDTO("user", "password", "user@mail.com")));
+
+        assertThat(client.frames).hasSize(1);
+        client.frames.forEach(ByteBuf::release);
+    }
+
+    private static class EncodingMessageContext implements MessageContext {
+
+        private final transient List<ByteBuf> frames = new ArrayList<>();
+
+        @Override
+        public void writeAndFlush(ResponseMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void writeAndFlush(ServerMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void writeAndFlush(ServerMessage message, SharedMessageEncoding encoding) {
+            try {
+                frames.add(encoding.retainedFrame(new BinaryMessageCodec(), UnpooledByteBufAllocator.DEFAULT));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class FailingMessageContext implements MessageContext {
+
+        @Override
+        public void writeAndFlush(ResponseMessage message) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public void writeAndFlush(ServerMessage message) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package de.uol.swp.server.communication;
+
+import de.uol.swp.common.message.MessageContext;
+import de.uol.swp.common.message.response.ResponseMessage;
+import de.uol.swp.common.message.server_message.ServerMessage;
+import de.uol.swp.common.user.Session;
+import de.uol.swp.common.user.UserDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionRegistryTest {
+
+    private static final int THREADS = 8;
+    private static final int SESSIONS_PER_THREAD = 1000;
+
+    private SessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SessionRegistry();
+    }
+
+    @Test
+    @DisplayName("Session and context should be found in both directions")
+    void put_bothDirections() {
+        final MessageContext ctx = new FakeMessageContext();
+        final Session session = createSession("user");
+
+        registry.put(ctx, session);
+
+        assertThat(registry.getSession(ctx)).contains(session);
+        assertThat(registry.getContext(session)).contains(ctx);
+        assertThat(registry.getLookups()).isEqualTo(2);
+        assertThat(registry.getMisses()).isZero();
+    }
+
+    @Test
+    @DisplayName("Removing a context should remove its session in both directions")
+    void remove_bothDirections() {
+        final MessageContext ctx = new FakeMessageContext();
+        final Session session = createSession("user");
+        registry.put(ctx, session);
+
+        assertThat(registry.remove(ctx)).contains(session);
+
+        assertThat(registry.getSession(ctx)).isEmpty();
+        assertThat(registry.getContext(session)).isEmpty();
+        assertThat(registry.remove(ctx)).isEmpty();
+        assertThat(registry.size()).isZero();
+        assertThat(registry.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Registering a session on a new context should replace the old context")
+    void put_replacesContext() {
+        final MessageContext oldCtx = new FakeMessageContext();
+        final MessageContext newCtx = new FakeMessageContext();
+        final Session session = createSession("user");
+        registry.put(oldCtx, session);
+
+        registry.put(newCtx, session);
+
+        assertThat(registry.getContext(session)).contains(newCtx);
+        assertThat(registry.getSession(oldCtx)).isEmpty();
+        assertThat(registry.remove(oldCtx)).isEmpty();
+        assertThat(registry.getContext(session)).contains(newCtx);
+    }
+
+    @Test
+    @DisplayName("Contexts of several sessions should skip sessions that are not logged in")
+    void getContexts_skipsUnknownSessions() {
+        final MessageContext ctx = new FakeMessageContext();
+        final Session session = createSession("user");
+        registry.put(ctx, session);
+
+        final List<MessageContext> contexts = registry.getContexts(List.of(createSession("other"), session));
+
+        assertThat(contexts).containsExactly(ctx);
+    }
+
+    @Test
+    @DisplayName("Concurrent logins, lookups and disconnects of thousands of sessions should stay consistent")
+    void concurrentAccess_staysConsistent() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<List<FakeMessageContext>>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            results.add(executor.submit(() -> {
+                start.await();
+                final List<FakeMessageContext> remaining = new ArrayList<>();
+                for (int i = 0; i < SESSIONS_PER_THREAD; i++) {
+                    final FakeMessageContext ctx = new FakeMessageContext();
+                    final Session session = createSession("user" + thread + "_" + i);
+                    ctx.session = session;
+                    registry.put(ctx, session);
+                    assertThat(registry.getContext(session)).contains(ctx);
+                    assertThat(registry.getSession(ctx)).contains(session);
+                    if (i % 2 == 0) {
+                        assertThat(registry.remove(ctx)).contains(session);
+                        assertThat(registry.getContext(session)).isEmpty();
+                    } else {
+                        remaining.add(ctx);
+                    }
+                }
+                return remaining;
+            }));
+        }
+        start.countDown();
+
+        final List<FakeMessageContext> remaining = new ArrayList<>();
+        for (Future<List<FakeMessageContext>> result : results) {
+            remaining.addAll(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(registry.size()).isEqualTo(THREADS * SESSIONS_PER_THREAD / 2);
+        assertThat(remaining).allSatisfy(ctx -> {
+            final Optional<Session> session = registry.getSession(ctx);
+            assertThat(session).contains(ctx.session);
+            assertThat(registry.getContext(ctx.session)).contains(ctx);
+        });
+        assertThat(registry.getMisses()).isEqualTo(THREADS * SESSIONS_PER_THREAD / 2);
+        assertThat(registry.getLookups()).isEqualTo(THREADS * SESSIONS_PER_THREAD * 2L
+                + THREADS * SESSIONS_PER_THREAD / 2 + 2L * remaining.size());
+        assertThat(registry.getAverageLookupNanos()).isNotNegative();
+    }
+
+    private static Session createSession(String name) {
+        return UUIDSession.create(new UserDTO(name, "password", name + "@mail.com"));
+    }
+
+    private static class FakeMessageContext implements MessageContext {
+
+        private transient Session session;
+
+        @Override
+        public void writeAndFlush(ResponseMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void writeAndFlush(ServerMessage message) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
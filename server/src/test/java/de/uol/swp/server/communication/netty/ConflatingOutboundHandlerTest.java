@@ -0,0 +1,181 @@
+package de.uol.swp.server.communication.netty;
+
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.user.server_message.LoginServerMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConflatingOutboundHandlerTest {
+
+    private ConflatingOutboundHandler handler;
+    private EmbeddedChannel channel;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ConflatingOutboundHandler();
+        channel = new EmbeddedChannel(handler);
+        game = mock(Game.class);
+        when(game.getId()).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("Messages should be passed through while the channel is writable")
+    void write_writable() {
+        final LoginServerMessage message = createLoginMessage("user");
+
+        channel.writeAndFlush(message);
+
+        assertThat((Object) channel.readOutbound()).isSameAs(message);
+        assertThat(handler.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Game updates should be conflated while other messages keep their order")
+    void write_notWritable_conflatesGameUpdates() {
+        setWritable(false);
+        final LoginServerMessage first = createLoginMessage("first");
+        final LoginServerMessage second = createLoginMessage("second");
+
+        final ChannelFuture firstUpdate = channel.writeAndFlush(createDeltaUpdate(0, 1, Map.of("a", 1, "b", 1)));
+        channel.writeAndFlush(first);
+        final ChannelFuture secondUpdate = channel.writeAndFlush(createDeltaUpdate(1, 2, Map.of("b", 2)));
+        channel.writeAndFlush(second);
+
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(handler.getQueueDepth()).isEqualTo(3);
+        assertThat(handler.getConflatedMessages()).isEqualTo(1);
+
+        setWritable(true);
+
+        assertThat((Object) channel.readOutbound()).isSameAs(first);
+        final RetrieveUpdatedGameServerMessage update = channel.readOutbound();
+        assertThat(update.getDelta().getBaseVersion()).isZero();
+        assertThat(update.getDelta().getVersion()).isEqualTo(2);
+        assertThat(update.getDelta().getChanges()).containsExactlyInAnyOrderEntriesOf(Map.of("a", 1, "b", 2));
+        assertThat((Object) channel.readOutbound()).isSameAs(second);
+        assertThat(handler.getQueueDepth()).isZero();
+        assertThat(firstUpdate.isSuccess()).isTrue();
+        assertThat(secondUpdate.isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("A complete game should replace queued deltas of the same game")
+    void write_notWritable_completeGameReplacesDeltas() {
+        setWritable(false);
+        final RetrieveUpdatedGameServerMessage completeGame = new RetrieveUpdatedGameServerMessage(game);
+
+        channel.writeAndFlush(createDeltaUpdate(0, 1, Map.of("a", 1)));
+        channel.writeAndFlush(completeGame);
+        channel.writeAndFlush(createDeltaUpdate(1, 2, Map.of("a", 2)));
+        setWritable(true);
+
+        assertThat((Object) channel.readOutbound()).isSameAs(completeGame);
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    @DisplayName("A complete game should replace queued encoded deltas, deltas encoded after it are still sent")
+    void write_notWritable_encodedCompleteGameReplacesDeltas() {
+        setWritable(false);
+        final ByteBuf conflatedFrame = Unpooled.buffer().writeInt(1);
+        final ByteBuf completeGameFrame = Unpooled.buffer().writeInt(2);
+        final ByteBuf laterDeltaFrame = Unpooled.buffer().writeInt(3);
+
+        channel.writeAndFlush(new EncodedServerMessage(createDeltaUpdate(0, 1, Map.of("a", 1)), conflatedFrame));
+        final ChannelFuture completeGame = channel.writeAndFlush(new EncodedServerMessage(new RetrieveUpdatedGameServerMessage(game), completeGameFrame));
+        final ChannelFuture laterDelta = channel.writeAndFlush(new EncodedServerMessage(createDeltaUpdate(1, 2, Map.of("a", 2)), laterDeltaFrame));
+        setWritable(true);
+
+        assertThat(conflatedFrame.refCnt()).isZero();
+        final ByteBuf firstWritten = channel.readOutbound();
+        final ByteBuf secondWritten = channel.readOutbound();
+        assertThat(firstWritten).isSameAs(completeGameFrame);
+        assertThat(secondWritten).isSameAs(laterDeltaFrame);
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(completeGameFrame.refCnt()).isEqualTo(1);
+        assertThat(laterDeltaFrame.refCnt()).isEqualTo(1);
+        assertThat(completeGame.isSuccess()).isTrue();
+        assertThat(laterDelta.isSuccess()).isTrue();
+        firstWritten.release();
+        secondWritten.release();
+    }
+
+    @Test
+    @DisplayName("A queued complete game should stay queued and the frame of a later delta should be released")
+    void write_notWritable_completeGameKeepsQueuedPosition() {
+        setWritable(false);
+        final RetrieveUpdatedGameServerMessage completeGame = new RetrieveUpdatedGameServerMessage(game);
+        final ByteBuf laterDeltaFrame = Unpooled.buffer().writeInt(1);
+
+        final ChannelFuture completeGameWrite = channel.writeAndFlush(completeGame);
+        final ChannelFuture laterDelta = channel.writeAndFlush(new EncodedServerMessage(createDeltaUpdate(1, 2, Map.of("a", 2)), laterDeltaFrame));
+
+        assertThat(laterDeltaFrame.refCnt()).isZero();
+        assertThat(handler.getQueueDepth()).isEqualTo(1);
+        setWritable(true);
+
+        assertThat((Object) channel.readOutbound()).isSameAs(completeGame);
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(completeGameWrite.isSuccess()).isTrue();
+        assertThat(laterDelta.isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Encoded frames of conflated and discarded messages should be released")
+    void write_notWritable_releasesFrames() {
+        setWritable(false);
+        final ByteBuf conflatedFrame = Unpooled.buffer().writeInt(1);
+        final ByteBuf discardedFrame = Unpooled.buffer().writeInt(2);
+
+        channel.writeAndFlush(new EncodedServerMessage(createDeltaUpdate(0, 1, Map.of("a", 1)), conflatedFrame));
+        channel.writeAndFlush(new EncodedServerMessage(createDeltaUpdate(1, 2, Map.of("a", 2)), discardedFrame));
+        channel.pipeline().remove(handler);
+
+        assertThat(conflatedFrame.refCnt()).isZero();
+        assertThat(discardedFrame.refCnt()).isZero();
+    }
+
+    @Test
+    @DisplayName("Frames should be written instead of their messages")
+    void write_encodedMessage_writesFrame() {
+        final ByteBuf frame = Unpooled.buffer().writeInt(1);
+
+        channel.writeAndFlush(new EncodedServerMessage(createLoginMessage("user"), frame));
+
+        final ByteBuf written = channel.readOutbound();
+        assertThat(written).isSameAs(frame);
+        written.release();
+    }
+
+    private void setWritable(final boolean writable) {
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+        channel.runPendingTasks();
+    }
+
+    private RetrieveUpdatedGameServerMessage createDeltaUpdate(final long baseVersion, final long version, final Map<String, Serializable> changes) {
+        final RetrieveUpdatedGameServerMessage message = new RetrieveUpdatedGameServerMessage(game);
+        message.setDelta(new GameDelta(1, baseVersion, version, new HashMap<>(changes)));
+        return message;
+    }
+
+    private static LoginServerMessage createLoginMessage(final String name) {
+        return new LoginServerMessage(new UserDTO(name, "password", name + "@mail.com"));
+    }
+}
@@ -0,0 +1,74 @@
+package de.uol.swp.server.communication.netty;
+
+import de.uol.swp.common.env.EnvReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServerConfigTest {
+
+    @Test
+    @DisplayName("Values that are not set should fall back to their defaults")
+    void constructor_defaults() {
+        final ServerConfig config = new ServerConfig(createEnvReader(Map.of()));
+
+        assertThat(config.getOutboundLowWaterMark()).isEqualTo(ServerConfig.DEFAULT_OUTBOUND_LOW_WATER_MARK);
+        assertThat(config.getOutboundHighWaterMark()).isEqualTo(ServerConfig.DEFAULT_OUTBOUND_HIGH_WATER_MARK);
+        assertThat(config.getFlushConsolidationThreshold()).isEqualTo(ServerConfig.DEFAULT_FLUSH_CONSOLIDATION_THRESHOLD);
+        assertThat(config.isNativeTransport()).isTrue();
+        assertThat(config.getBossThreads()).isEqualTo(ServerConfig.DEFAULT_BOSS_THREADS);
+        assertThat(config.getWorkerThreads()).isEqualTo(ServerConfig.DEFAULT_WORKER_THREADS);
+    }
+
+    @Test
+    @DisplayName("Values should be read from the environment")
+    void constructor_values() {
+        final ServerConfig config = new ServerConfig(createEnvReader(Map.of(
+                ServerConfig.OUTBOUND_LOW_WATER_MARK, "1024",
+                ServerConfig.OUTBOUND_HIGH_WATER_MARK, "2048",
+                ServerConfig.FLUSH_CONSOLIDATION_THRESHOLD, "16",
+                ServerConfig.NATIVE_TRANSPORT, "false",
+                ServerConfig.BOSS_THREADS, "2",
+                ServerConfig.WORKER_THREADS, "8")));
+
+        assertThat(config.getOutboundLowWaterMark()).isEqualTo(1024);
+        assertThat(config.getOutboundHighWaterMark()).isEqualTo(2048);
+        assertThat(config.getFlushConsolidationThreshold()).isEqualTo(16);
+        assertThat(config.isNativeTransport()).isFalse();
+        assertThat(config.getBossThreads()).isEqualTo(2);
+        assertThat(config.getWorkerThreads()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Invalid values should be rejected")
+    void constructor_invalidValues() {
+        assertThatThrownBy(() -> new ServerConfig(createEnvReader(Map.of(
+                ServerConfig.OUTBOUND_LOW_WATER_MARK, "4096",
+                ServerConfig.OUTBOUND_HIGH_WATER_MARK, "2048"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ServerConfig(createEnvReader(Map.of(ServerConfig.FLUSH_CONSOLIDATION_THRESHOLD, "0"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ServerConfig(createEnvReader(Map.of(ServerConfig.BOSS_THREADS, "0"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ServerConfig(createEnvReader(Map.of(ServerConfig.WORKER_THREADS, "-1"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static EnvReader createEnvReader(final Map<String, String> values) {
+        return new EnvReader() {
+            @Override
+            public String readString(final String key) {
+                return values.get(key);
+            }
+
+            @Override
+            public int readInt(final String key) {
+                return Integer.parseInt(values.get(key));
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+package de.uol.swp.server.game;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameExecutorTest {
+
+    private static final int GAMES = 4;
+    private static final int TASKS_PER_GAME = 2000;
+
+    private ExecutorService pool;
+    private GameExecutor gameExecutor;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+        gameExecutor = new GameExecutor(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Tasks of a game should run one after another in the order they were submitted")
+    void execute_sequentialPerGame() throws InterruptedException {
+        final List<List<Integer>> orders = new ArrayList<>();
+        final AtomicInteger[] running = new AtomicInteger[GAMES];
+        final AtomicInteger overlaps = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(GAMES * TASKS_PER_GAME);
+        for (int game = 0; game < GAMES; game++) {
+            orders.add(Collections.synchronizedList(new ArrayList<>()));
+            running[game] = new AtomicInteger();
+        }
+
+        for (int i = 0; i < TASKS_PER_GAME; i++) {
+            for (int game = 0; game < GAMES; game++) {
+                final int gameId = game;
+                final int task = i;
+                gameExecutor.execute(gameId, () -> {
+                    if (running[gameId].incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    orders.get(gameId).add(task);
+                    running[gameId].decrementAndGet();
+                    done.countDown();
+                });
+            }
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(overlaps).hasValue(0);
+        assertThat(orders).allSatisfy(order -> assertThat(order).isSorted().hasSize(TASKS_PER_GAME));
+    }
+
+    @Test
+    @DisplayName("Lanes of different games should run in parallel")
+    void execute_parallelAcrossGames() throws InterruptedException {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final CountDownLatch done = new CountDownLatch(2);
+
+        for (int gameId = 0; gameId < 2; gameId++) {
+            gameExecutor.execute(gameId, () -> {
+                bothStarted.countDown();
+                try {
+                    if (bothStarted.await(10, TimeUnit.SECONDS)) {
+                        done.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Tasks submitted from the lane of the same game should run immediately")
+    void execute_reentrant() throws InterruptedException {
+        final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(1);
+
+        gameExecutor.execute(1, () -> {
+            calls.add("outer start");
+            assertThat(gameExecutor.isInLane(1)).isTrue();
+            gameExecutor.execute(1, () -> calls.add("inner"));
+            calls.add("outer end");
+            done.countDown();
+        });
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).containsExactly("outer start", "inner", "outer end");
+        assertThat(gameExecutor.isInLane(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("A failing task should not stop the lane")
+    void execute_failingTask() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(1);
+
+        gameExecutor.execute(1, () -> {
+            throw new IllegalStateException("failed");
+        });
+        gameExecutor.execute(1, done::countDown);
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Removing a game should remove its lane")
+    void removeGame() {
+        final GameExecutor directExecutor = new GameExecutor(Runnable::run);
+        directExecutor.execute(1, () -> {});
+        directExecutor.execute(2, () -> {});
+
+        directExecutor.removeGame(1);
+
+        assertThat(directExecutor.getNumberOfLanes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Removing a game should retire its lane after the tasks submitted before")
+    void removeGame_afterQueuedTasks() throws InterruptedException {
+        final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+
+        gameExecutor.execute(1, () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            calls.add("blocking");
+        });
+        gameExecutor.execute(1, () -> {
+            if (running.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            calls.add("queued");
+            running.decrementAndGet();
+        });
+        gameExecutor.removeGame(1);
+        gameExecutor.execute(1, () -> {
+            if (running.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            calls.add("new");
+            running.decrementAndGet();
+            done.countDown();
+        });
+        release.countDown();
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).containsExactly("blocking", "queued", "new");
+        assertThat(overlaps).hasValue(0);
+    }
+}
@@ -17,6 +17,7 @@ import de.uol.swp.common.user.UserDTO;
 import de.uol.swp.server.game.store.GameStore;
 import de.uol.swp.server.game.store.MainMemoryBasedGameStore;
 import de.uol.swp.server.game.turn.PlayerTurnManagement;
+import de.uol.swp.server.game.turn.store.TurnHistoryStore;
 import de.uol.swp.server.lobby.LobbyManagement;
 import de.uol.swp.server.role.RoleManagement;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,7 +57,7 @@ public class GameManagementTest {
         roleManagement = mock(RoleManagement.class);
         gameStore = mock(MainMemoryBasedGameStore.class);
 
-        gameManagement = new GameManagement(gameStore);
+        gameManagement = new GameManagement(gameStore, mock(TurnHistoryStore.class));
         gameManagement.setLobbyManagement(lobbyManagement);
         gameManagement.setPlayerTurnManagement(playerTurnManagement);
         gameManagement.setRoleManagement(roleManagement);
@@ -209,7 +210,7 @@ public class GameManagementTest {
     @DisplayName("Determines that the game has no plague cubes")
     void determineGameEndReasonNoPlagueCubesTest() {
         Game game = createGame();
-        game.getPlagueCubes().clear();
+        game.getPlagueCubes().getPlagues().forEach(plague -> game.getPlagueCubes().set(plague, 0));
 
         GameEndReason result = gameManagement.determineGameEndReason(game);
         assertThat(result).isEqualTo(GameEndReason.NO_PLAGUE_CUBES_LEFT);
@@ -12,6 +12,7 @@ import de.uol.swp.common.lobby.LobbyDTO;
 import de.uol.swp.common.map.MapType;
 import de.uol.swp.common.plague.Plague;
 import de.uol.swp.common.player.AIPlayer;
+import de.uol.swp.common.user.Session;
 import de.uol.swp.common.user.User;
 import de.uol.swp.common.user.UserDTO;
 import de.uol.swp.common.user.request.LogoutRequest;
@@ -59,7 +60,7 @@ public class GameServiceTest extends EventBusBasedTest {
         final EventBus eventBus = getBus();
         difficulty = GameDifficulty.getDefault();
 
-        gameService = new GameService(eventBus, gameManagement, lobbyService, playerManagement);
+        gameService = new GameService(eventBus, gameManagement, lobbyService, playerManagement, new GameStateSynchronizer(), new GameExecutor(Runnable::run));
 
         user = new UserDTO("user", "pass", "");
         lobby = new LobbyDTO("lobby", user);
@@ -199,4 +200,51 @@ public class GameServiceTest extends EventBusBasedTest {
         assertThat(game.isGameLost())
                 .isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should restore the lobbies and AI player sessions of recovered games")
+    void recoverGames() {
+        when(gameManagement.findAllGames())
+                .thenReturn(List.of(game));
+
+        assertThat(gameService.recoverGames())
+                .isEqualTo(1);
+
+        verify(lobbyService, times(1))
+                .restoreLobby(lobby);
+        verify(playerManagement, times(1))
+                .addAIPlayerSession(eq(aiPlayer), any(AISession.class));
+    }
+
+    @Test
+    @DisplayName("Should delete a recovered game and its lobby if none of its users logged in again")
+    void expireUnreachableGame() {
+        when(gameManagement.getGame(game))
+                .thenReturn(Optional.of(game));
+        when(playerManagement.findSession(any()))
+                .thenReturn(Optional.empty());
+
+        gameService.expireUnreachableGame(game);
+
+        verify(gameManagement, times(1))
+                .removeGame(game);
+        verify(lobbyService, times(1))
+                .deleteLobby(lobby);
+    }
+
+    @Test
+    @DisplayName("Should keep a recovered game if one of its users logged in again")
+    void expireUnreachableGame_userLoggedIn() {
+        when(gameManagement.getGame(game))
+                .thenReturn(Optional.of(game));
+        when(playerManagement.findSession(lobby.getPlayerForUser(user)))
+                .thenReturn(Optional.of(mock(Session.class)));
+
+        gameService.expireUnreachableGame(game);
+
+        verify(gameManagement, never())
+                .removeGame(game);
+        verify(lobbyService, never())
+                .deleteLobby(lobby);
+    }
+}
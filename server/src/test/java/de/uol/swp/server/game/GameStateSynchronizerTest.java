@@ -0,0 +1,166 @@
+package de.uol.swp.server.game;
+
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.game.server_message.RetrieveGameDeltaServerMessage;
+import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.player.AIPlayer;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.role.RoleAbility;
+import de.uol.swp.common.role.RoleCard;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.Color;
+import de.uol.swp.server.game.journal.GameJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static de.uol.swp.server.util.TestUtils.createMapType;
+import static de.uol.swp.server.util.TestUtils.createPlayerTurn;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class GameStateSynchronizerTest {
+
+    private GameStateSynchronizer gameStateSynchronizer;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        gameStateSynchronizer = new GameStateSynchronizer();
+
+        final UserDTO user = new UserDTO("user", "password", "");
+        final List<Player> players = new ArrayList<>();
+        players.add(new UserPlayer(user));
+        players.add(new AIPlayer("ai"));
+        players.forEach(player -> player.setRole(new RoleCard("role", new Color(), new RoleAbility(new HashMap<>(), new ArrayList<>(), new ArrayList<>()))));
+
+        game = new Game(new LobbyDTO("lobby", user), createMapType(), players, List.of(), GameDifficulty.getDefault());
+        game.setId(42);
+        game.addPlayerTurn(createPlayerTurn(game, game.getCurrentPlayer(), 4, 2, 2));
+    }
+
+    @Test
+    @DisplayName("Update of an unregistered game should contain the complete game")
+    void createGameUpdateMessage_unregistered() {
+        final RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createGameUpdateMessage(game);
+
+        assertThat(message.getGame()).isSameAs(game);
+        assertThat(message.getDelta()).isNull();
+        assertThat(game.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Update of a registered game should contain a delta to the previous version")
+    void createGameUpdateMessage_registered() {
+        gameStateSynchronizer.registerGame(game);
+        game.startOutbreak();
+
+        final RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createGameUpdateMessage(game);
+
+        assertThat(message.getGame()).isSameAs(game);
+        assertThat(message.getDelta()).isNotNull();
+        assertThat(message.getDelta().getGameId()).isEqualTo(42);
+        assertThat(message.getDelta().getBaseVersion()).isZero();
+        assertThat(message.getDelta().getVersion()).isEqualTo(1);
+        assertThat(message.getDelta().getChanges()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Update with a delta should only be serialized as delta")
+    void createGameUpdateMessage_serializedAsDelta() throws Exception {
+        gameStateSynchronizer.registerGame(game);
+        game.startOutbreak();
+
+        final RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createGameUpdateMessage(game);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final Object received = in.readObject();
+            assertThat(received).isInstanceOf(RetrieveGameDeltaServerMessage.class);
+            assertThat(((RetrieveGameDeltaServerMessage) received).getDelta()).isEqualTo(message.getDelta());
+        }
+    }
+
+    @Test
+    @DisplayName("Unregistered game should be sent completely again")
+    void unregisterGame() {
+        gameStateSynchronizer.registerGame(game);
+        gameStateSynchronizer.unregisterGame(game);
+
+        final RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createGameUpdateMessage(game);
+
+        assertThat(message.getDelta()).isNull();
+    }
+
+    @Test
+    @DisplayName("Full game message should keep the last synchronized version")
+    void createFullGameMessage() {
+        gameStateSynchronizer.registerGame(game);
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        game.setVersion(7);
+
+        final RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createFullGameMessage(game);
+
+        assertThat(message.getDelta()).isNull();
+        assertThat(message.getGame().getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Delta of an update should be appended to the journal")
+    void createGameUpdateMessage_journaled() {
+        final GameJournal journal = mock(GameJournal.class);
+        when(journal.isEnabled()).thenReturn(true);
+        gameStateSynchronizer = new GameStateSynchronizer(journal);
+        gameStateSynchronizer.registerGame(game);
+        game.startOutbreak();
+
+        final RetrieveUpdatedGameServerMessage message = gameStateSynchronizer.createGameUpdateMessage(game);
+
+        verify(journal).append(message.getDelta());
+    }
+
+    @Test
+    @DisplayName("Update of an unregistered game should be journaled with its complete state")
+    void createGameUpdateMessage_unregisteredJournaled() {
+        final GameJournal journal = mock(GameJournal.class);
+        when(journal.isEnabled()).thenReturn(true);
+        gameStateSynchronizer = new GameStateSynchronizer(journal);
+
+        gameStateSynchronizer.createGameUpdateMessage(game);
+
+        final ArgumentCaptor<GameDelta> delta = ArgumentCaptor.forClass(GameDelta.class);
+        verify(journal).append(delta.capture());
+        assertThat(delta.getValue().getBaseVersion()).isZero();
+        assertThat(delta.getValue().getVersion()).isEqualTo(1);
+        assertThat(delta.getValue().getChanges()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Recovered games should be replayed and registered")
+    void recoverGames() {
+        final GameJournal journal = mock(GameJournal.class);
+        when(journal.replay(List.of(game))).thenReturn(Set.of(game));
+        gameStateSynchronizer = new GameStateSynchronizer(journal);
+
+        assertThat(gameStateSynchronizer.recoverGames(List.of(game))).containsExactly(game);
+        assertThat(gameStateSynchronizer.createGameUpdateMessage(game).getDelta()).isNotNull();
+    }
+}
@@ -0,0 +1,223 @@
+package de.uol.swp.server.game.journal;
+
+import de.uol.swp.common.codec.BinarySerializer;
+import de.uol.swp.common.codec.BinaryTypeRegistry;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.game.delta.GameDelta;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.player.AIPlayer;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.role.RoleAbility;
+import de.uol.swp.common.role.RoleCard;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.Color;
+import de.uol.swp.server.game.GameStateSynchronizer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static de.uol.swp.server.util.TestUtils.createMapType;
+import static de.uol.swp.server.util.TestUtils.createPlayerTurn;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    private GameJournal journal;
+    private GameStateSynchronizer gameStateSynchronizer;
+    private Game game;
+    private Game restoredGame;
+
+    @BeforeEach
+    void setUp() {
+        journal = new GameJournal(directory, SEGMENT_SIZE);
+        gameStateSynchronizer = new GameStateSynchronizer(journal);
+
+        final UserDTO user = new UserDTO("user", "password", "");
+        final List<Player> players = new ArrayList<>();
+        players.add(new UserPlayer(user));
+        players.add(new AIPlayer("ai"));
+        players.forEach(player -> player.setRole(new RoleCard("role", new Color(), new RoleAbility(new HashMap<>(), new ArrayList<>(), new ArrayList<>()))));
+
+        game = new Game(new LobbyDTO("lobby", user), createMapType(), players, List.of(), GameDifficulty.getDefault());
+        game.setId(42);
+        game.addPlayerTurn(createPlayerTurn(game, game.getCurrentPlayer(), 4, 2, 2));
+        gameStateSynchronizer.registerGame(game);
+        restoredGame = copy(game);
+    }
+
+    @Test
+    @DisplayName("Changes appended to the journal are replayed on top of the game")
+    void replay() {
+        game.startOutbreak();
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        game.setIndexOfCurrentPlayer(1);
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        journal.sync();
+
+        final GameJournal restoredJournal = new GameJournal(directory, SEGMENT_SIZE);
+
+        assertThat(restoredJournal.replay(List.of(restoredGame))).containsExactly(restoredGame);
+        assertThat(restoredGame.getVersion()).isEqualTo(2);
+        assertThat(restoredGame.getOutbreakMarker().getLevel()).isEqualTo(game.getOutbreakMarker().getLevel());
+        assertThat(restoredGame.getIndexOfCurrentPlayer()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Changes already contained in the snapshot are skipped")
+    void replaySkipsOlderChanges() {
+        game.startOutbreak();
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        restoredGame = copy(game);
+        game.setIndexOfCurrentPlayer(1);
+        gameStateSynchronizer.createGameUpdateMessage(game);
+
+        journal.replay(List.of(restoredGame));
+
+        assertThat(restoredGame.getVersion()).isEqualTo(2);
+        assertThat(restoredGame.getIndexOfCurrentPlayer()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Changes of a game after a missing change are skipped")
+    void replayStopsAtMissingChange() {
+        journal.append(new GameDelta(game.getId(), 1, 2, new HashMap<>(Map.of("unknown", 1))));
+
+        assertThat(journal.replay(List.of(restoredGame))).isEmpty();
+        assertThat(restoredGame.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("Changes of unknown games are skipped")
+    void replaySkipsUnknownGames() {
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        restoredGame.setId(7);
+
+        assertThat(journal.replay(List.of(restoredGame))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Changes of a removed game are not replayed on a new game with the same id")
+    void replaySkipsChangesOfRemovedGame() {
+        game.startOutbreak();
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        game.setIndexOfCurrentPlayer(1);
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        gameStateSynchronizer.unregisterGame(game);
+
+        final Game newGame = copy(restoredGame);
+        gameStateSynchronizer.registerGame(newGame);
+        restoredGame = copy(newGame);
+        newGame.setIndexOfCurrentPlayer(1);
+        gameStateSynchronizer.createGameUpdateMessage(newGame);
+        journal.sync();
+
+        final GameJournal restoredJournal = new GameJournal(directory, SEGMENT_SIZE);
+
+        assertThat(restoredJournal.replay(List.of(restoredGame))).containsExactly(restoredGame);
+        assertThat(restoredGame.getId()).isEqualTo(game.getId());
+        assertThat(restoredGame.getVersion()).isEqualTo(1);
+        assertThat(restoredGame.getOutbreakMarker().getLevel()).isEqualTo(newGame.getOutbreakMarker().getLevel());
+        assertThat(restoredGame.getIndexOfCurrentPlayer()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A damaged record ends the segment")
+    void replayStopsAtDamagedRecord() throws IOException {
+        game.startOutbreak();
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        game.setIndexOfCurrentPlayer(1);
+        gameStateSynchronizer.createGameUpdateMessage(game);
+        journal.sync();
+
+        final Path segment = journal.listSegments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer lengthOfFirstRecord = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(lengthOfFirstRecord, GameJournal.SEGMENT_HEADER_SIZE);
+            final long positionInSecondRecord = GameJournal.SEGMENT_HEADER_SIZE + 2L * GameJournal.RECORD_HEADER_SIZE + lengthOfFirstRecord.flip().getInt();
+            final ByteBuffer damagedByte = ByteBuffer.allocate(1);
+            channel.read(damagedByte, positionInSecondRecord);
+            damagedByte.put(0, (byte) ~damagedByte.get(0));
+            channel.write(damagedByte.rewind(), positionInSecondRecord);
+        }
+
+        assertThat(journal.readSegment(segment)).hasSize(1);
+        journal.replay(List.of(restoredGame));
+        assertThat(restoredGame.getVersion()).isEqualTo(1);
+        assertThat(restoredGame.getIndexOfCurrentPlayer()).isZero();
+    }
+
+    @Test
+    @DisplayName("Segments are rotated when they are full and only the newest ones are kept without snapshots")
+    void rotateSegments() throws IOException {
+        for (int i = 0; i < 200; i++) {
+            game.setIndexOfCurrentPlayer(i % 2);
+            gameStateSynchronizer.createGameUpdateMessage(game);
+        }
+
+        final List<Path> segments = journal.listSegments();
+        assertThat(segments).hasSizeLessThanOrEqualTo(GameJournal.RETAINED_SEGMENTS).hasSizeGreaterThan(1);
+        assertThat(segments.get(segments.size() - 1).getFileName().toString()).isGreaterThan(segments.get(0).getFileName().toString());
+    }
+
+    @Test
+    @DisplayName("Segments are kept until the snapshots of their games are written")
+    void keepSegmentsUntilSnapshotsAreWritten() throws IOException {
+        journal.trackSnapshots();
+        for (int i = 0; i < 1000; i++) {
+            game.setIndexOfCurrentPlayer(i % 2);
+            gameStateSynchronizer.createGameUpdateMessage(game);
+        }
+        assertThat(journal.listSegments()).hasSizeGreaterThan(GameJournal.RETAINED_SEGMENTS);
+
+        journal.snapshotsWritten(Map.of(game.getId(), game.getVersion()));
+        for (int i = 0; i < 100; i++) {
+            game.setIndexOfCurrentPlayer(i % 2);
+            gameStateSynchronizer.createGameUpdateMessage(game);
+        }
+
+        assertThat(journal.listSegments()).hasSizeLessThan(GameJournal.RETAINED_SEGMENTS);
+    }
+
+    @Test
+    @DisplayName("A disabled journal neither writes nor replays anything")
+    void disabled() {
+        final GameJournal disabledJournal = GameJournal.disabled();
+        disabledJournal.append(new GameDelta(game.getId(), 0, 1, new HashMap<>()));
+
+        assertThat(disabledJournal.isEnabled()).isFalse();
+        assertThat(disabledJournal.replay(List.of(restoredGame))).isEmpty();
+    }
+
+    private static Game copy(Game game) {
+        final BinarySerializer serializer = new BinarySerializer(BinaryTypeRegistry.getDefault());
+        final ByteBuf buffer = Unpooled.buffer();
+        try {
+            serializer.serialize(game, buffer);
+            return (Game) serializer.deserialize(buffer);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            buffer.release();
+        }
+    }
+}
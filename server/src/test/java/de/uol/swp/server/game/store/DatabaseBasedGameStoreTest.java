@@ -0,0 +1,123 @@
+package de.uol.swp.server.game.store;
+
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.lobby.Lobby;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.user.User;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.Color;
+import de.uol.swp.server.database.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.uol.swp.server.util.TestUtils.createMapType;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DatabaseBasedGameStoreTest {
+
+    private DatabaseBasedGameStore gameStore;
+    private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private Game game;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        resultSet = mock(ResultSet.class);
+        when(dataSource.withConnection(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, DataSource.ConnectionWork.class).execute(connection));
+        when(dataSource.inTransaction(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, DataSource.ConnectionWork.class).execute(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        gameStore = new DatabaseBasedGameStore();
+        gameStore.setDataSource(dataSource);
+
+        final User user = new UserDTO("Test", "Test", "Test@test.de");
+        final User secondUser = new UserDTO("Test2", "Test2", "Test2@test.de");
+        final Lobby lobby = new LobbyDTO("Test", user);
+        lobby.addPlayer(new UserPlayer(secondUser));
+        final List<Plague> plagues = List.of(new Plague("plague", new Color(1, 2, 3)));
+        game = new Game(lobby, createMapType(), new ArrayList<>(lobby.getPlayers()), plagues, GameDifficulty.getDefault());
+    }
+
+    @Test
+    @DisplayName("The table is created when the data source is set")
+    void createTable() throws SQLException {
+        verify(connection).prepareStatement(startsWith("CREATE TABLE IF NOT EXISTS " + DatabaseBasedGameStore.TABLE));
+        assertThat(gameStore.getAllGames()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Changed games are written as one batch in a transaction")
+    void flushWritesBatch() throws SQLException {
+        gameStore.addGame(game);
+        game.setVersion(3);
+        gameStore.updateGame(game);
+
+        gameStore.flush();
+
+        verify(dataSource).inTransaction(any());
+        verify(statement).setInt(1, game.getId());
+        verify(statement).setLong(2, 3L);
+        verify(statement).setBytes(eq(3), any(byte[].class));
+        verify(statement).addBatch();
+        verify(statement).executeBatch();
+    }
+
+    @Test
+    @DisplayName("Nothing is written if no game changed")
+    void flushWithoutChanges() throws SQLException {
+        gameStore.flush();
+
+        verify(dataSource, never()).inTransaction(any());
+    }
+
+    @Test
+    @DisplayName("A batch that could not be written is written with the next batch")
+    void failedBatchIsRetried() throws SQLException {
+        gameStore.addGame(game);
+        when(statement.executeBatch()).thenThrow(new SQLException("connection lost")).thenReturn(new int[]{1});
+
+        gameStore.flush();
+        gameStore.flush();
+
+        verify(statement, times(2)).executeBatch();
+    }
+
+    @Test
+    @DisplayName("Games written before are restored")
+    void restoreGames() throws IOException, SQLException {
+        final GameSnapshotCodec codec = new GameSnapshotCodec();
+        game.setId(42);
+        final byte[] snapshot = codec.compress(codec.encode(game));
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt(DatabaseBasedGameStore.GAME_ID)).thenReturn(42);
+        when(resultSet.getLong(DatabaseBasedGameStore.VERSION)).thenReturn(0L);
+        when(resultSet.getBytes(DatabaseBasedGameStore.SNAPSHOT)).thenReturn(snapshot);
+
+        final DatabaseBasedGameStore restoringStore = new DatabaseBasedGameStore();
+        restoringStore.setDataSource(dataSource);
+
+        assertThat(restoringStore.getAllGames()).containsExactly(game);
+    }
+}
@@ -0,0 +1,147 @@
+package de.uol.swp.server.game.store;
+
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.lobby.Lobby;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.map.MapTypeCache;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.user.User;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.Color;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.uol.swp.server.util.TestUtils.createMapType;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileBasedGameStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private FileBasedGameStore gameStore;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        gameStore = new FileBasedGameStore();
+        gameStore.setDirectory(directory);
+        game = createGame(createMapType());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // nothing is left for the background writer to write into the deleted directory
+        gameStore.flush();
+    }
+
+    @Test
+    @DisplayName("Snapshots are only written by the writer, not when a game is added")
+    void addGameDoesNotWrite() throws IOException {
+        gameStore.addGame(game);
+
+        assertThat(gameStore.getGame(game)).contains(game);
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("A game added and flushed is restored by a new store on the same directory")
+    void restoreAddedGame() {
+        gameStore.addGame(game);
+        gameStore.flush();
+
+        final List<Game> restoredGames = restoreGames();
+
+        assertThat(restoredGames).hasSize(1);
+        final Game restoredGame = restoredGames.get(0);
+        assertThat(restoredGame).isNotSameAs(game).isEqualTo(game);
+        assertThat(restoredGame.getLobby().getName()).isEqualTo(game.getLobby().getName());
+        assertThat(restoredGame.getMap().getFields()).hasSameSizeAs(game.getMap().getFields());
+    }
+
+    @Test
+    @DisplayName("The latest update of a game is restored")
+    void restoreUpdatedGame() {
+        gameStore.addGame(game);
+        gameStore.flush();
+        game.setVersion(7);
+        game.setIndexOfCurrentPlayer(1);
+        gameStore.updateGame(game);
+        gameStore.flush();
+
+        final Game restoredGame = restoreGames().get(0);
+
+        assertThat(restoredGame.getVersion()).isEqualTo(7);
+        assertThat(restoredGame.getIndexOfCurrentPlayer()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A removed game is not restored")
+    void removedGameIsNotRestored() {
+        gameStore.addGame(game);
+        gameStore.flush();
+        gameStore.removeGame(game);
+        gameStore.flush();
+
+        assertThat(restoreGames()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A game on a registered map type is restored with its map type")
+    void restoreGameOnRegisteredMapType() {
+        final MapType mapType = MapTypeCache.getDefault().register(createMapType());
+        final Game gameOnRegisteredMapType = createGame(mapType);
+        gameStore.addGame(gameOnRegisteredMapType);
+        gameStore.flush();
+
+        final Game restoredGame = restoreGames().get(0);
+
+        assertThat(restoredGame.getMap().getType().getContentHash()).isEqualTo(mapType.getContentHash());
+    }
+
+    @Test
+    @DisplayName("Restored games keep their ids, so new games get other ids")
+    void restoredIdsAreNotReused() {
+        gameStore.addGame(game);
+        gameStore.flush();
+        final FileBasedGameStore restoringStore = new FileBasedGameStore();
+        restoringStore.setDirectory(directory);
+
+        final Game newGame = createGame(createMapType());
+        restoringStore.addGame(newGame);
+
+        assertThat(newGame.getId()).isNotEqualTo(game.getId());
+        assertThat(restoringStore.getAllGames()).hasSize(2);
+        restoringStore.flush();
+    }
+
+    private List<Game> restoreGames() {
+        final FileBasedGameStore restoringStore = new FileBasedGameStore();
+        restoringStore.setDirectory(directory);
+        return restoringStore.getAllGames();
+    }
+
+    private static Game createGame(final MapType mapType) {
+        final User user = new UserDTO("Test", "Test", "Test@test.de");
+        final User user2 = new UserDTO("Test2", "Test", "Test@test.de");
+        final Lobby lobby = new LobbyDTO("Test", user);
+        lobby.addPlayer(new UserPlayer(user));
+        lobby.addPlayer(new UserPlayer(user2));
+        final List<Plague> plagues = List.of(new Plague("plague", new Color(1, 2, 3)));
+        return new Game(lobby, mapType, new ArrayList<>(lobby.getPlayers()), plagues, GameDifficulty.getDefault());
+    }
+}
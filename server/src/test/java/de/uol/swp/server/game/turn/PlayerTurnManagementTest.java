@@ -17,6 +17,7 @@ import de.uol.swp.common.plague.Plague;
 import de.uol.swp.common.player.AIPlayer;
 import de.uol.swp.common.player.Player;
 import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
 import de.uol.swp.common.role.RoleAbility;
 import de.uol.swp.common.role.RoleCard;
 import de.uol.swp.common.user.User;
@@ -148,4 +149,21 @@ class PlayerTurnManagementTest {
                     .isEqualTo(expected);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Starting a new PlayerTurn should only keep the new turn and return a record of the completed one")
+    void startNewPlayerTurn_returnsRecordOfCompletedTurn() {
+        assertThat(playerTurnManagement.startNewPlayerTurn(game)).isEmpty();
+        final PlayerTurn completedTurn = game.getCurrentTurn();
+
+        final Optional<PlayerTurnRecord> turnRecord = playerTurnManagement.startNewPlayerTurn(game);
+
+        assertThat(turnRecord).isPresent();
+        assertThat(turnRecord.get().getTurnNumber()).isEqualTo(1);
+        assertThat(turnRecord.get().getPlayerName()).isEqualTo(completedTurn.getPlayer().getName());
+        assertThat(turnRecord.get().getRoleName()).isEqualTo(completedTurn.getPlayer().getRole().getName());
+        assertThat(turnRecord.get().getExecutedCommands()).isEmpty();
+        assertThat(game.getNumberOfTurns()).isEqualTo(2);
+        assertThat(game.getCurrentTurn()).isNotSameAs(completedTurn);
+    }
+}
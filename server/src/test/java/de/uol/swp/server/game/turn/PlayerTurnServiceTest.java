@@ -4,13 +4,21 @@ import de.uol.swp.common.game.Game;
 import de.uol.swp.common.game.server_message.RetrieveUpdatedGameServerMessage;
 import de.uol.swp.common.lobby.Lobby;
 import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
 import de.uol.swp.common.game.turn.request.EndPlayerTurnRequest;
+import de.uol.swp.common.game.turn.request.RetrieveTurnHistoryRequest;
+import de.uol.swp.common.game.turn.response.RetrieveTurnHistoryResponse;
 import de.uol.swp.server.game.GameManagement;
+import de.uol.swp.server.game.GameStateSynchronizer;
 import de.uol.swp.server.lobby.LobbyService;
 import org.greenrobot.eventbus.EventBus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -19,16 +27,21 @@ class PlayerTurnServiceTest {
     private PlayerTurnManagement playerTurnManagement;
     private GameManagement gameManagement;
     private LobbyService lobbyService;
+    private GameStateSynchronizer gameStateSynchronizer;
+    private EventBus bus;
 
     private PlayerTurnService playerTurnService;
 
     @BeforeEach
     void setUp() {
-        EventBus bus = mock(EventBus.class);
+        bus = mock(EventBus.class);
         playerTurnManagement = mock(PlayerTurnManagement.class);
         gameManagement = mock(GameManagement.class);
         lobbyService = mock(LobbyService.class);
-        playerTurnService = new PlayerTurnService(bus, playerTurnManagement, gameManagement, lobbyService);
+        gameStateSynchronizer = mock();
+        when(gameStateSynchronizer.createGameUpdateMessage(any()))
+                .thenAnswer(invocation -> new RetrieveUpdatedGameServerMessage(invocation.getArgument(0)));
+        playerTurnService = new PlayerTurnService(bus, playerTurnManagement, gameManagement, lobbyService, gameStateSynchronizer);
     }
 
     @Test
@@ -49,4 +62,36 @@ class PlayerTurnServiceTest {
         verify(gameManagement, times(1)).updateGame(game);
         verify(lobbyService, times(1)).sendToAllInLobby(eq(lobby), any(RetrieveUpdatedGameServerMessage.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("The completed turn should be added to the turn history")
+    void onEndPlayerTurnRequest_addsTurnRecord() {
+        Game game = mock(Game.class);
+        when(game.getLobby()).thenReturn(new LobbyDTO("TestLobby", null));
+        PlayerTurnRecord turnRecord = new PlayerTurnRecord(1, "player", "role", List.of(), List.of());
+        when(playerTurnManagement.startNewPlayerTurn(game)).thenReturn(Optional.of(turnRecord));
+
+        playerTurnService.onEndPlayerTurnRequest(new EndPlayerTurnRequest(game));
+
+        verify(gameManagement).addTurnRecord(game, turnRecord);
+    }
+
+    @Test
+    @DisplayName("Retrieve turn history request")
+    void onRetrieveTurnHistoryRequest() {
+        List<PlayerTurnRecord> turnRecords = List.of(new PlayerTurnRecord(3, "player", "role", List.of("CarAction"), List.of()));
+        when(gameManagement.findTurnRecords(7, 2, 1)).thenReturn(turnRecords);
+        when(gameManagement.getNumberOfTurnRecords(7)).thenReturn(4);
+
+        playerTurnService.onRetrieveTurnHistoryRequest(new RetrieveTurnHistoryRequest(7, 2, 1));
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(bus).post(captor.capture());
+        assertThat(captor.getValue()).isInstanceOf(RetrieveTurnHistoryResponse.class);
+        RetrieveTurnHistoryResponse response = (RetrieveTurnHistoryResponse) captor.getValue();
+        assertThat(response.getGameId()).isEqualTo(7);
+        assertThat(response.getOffset()).isEqualTo(2);
+        assertThat(response.getNumberOfCompletedTurns()).isEqualTo(4);
+        assertThat(response.getTurnRecords()).isEqualTo(turnRecords);
+    }
+}
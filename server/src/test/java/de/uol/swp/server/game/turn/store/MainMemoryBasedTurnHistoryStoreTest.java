@@ -0,0 +1,68 @@
+package de.uol.swp.server.game.turn.store;
+
+import de.uol.swp.common.game.turn.PlayerTurnRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MainMemoryBasedTurnHistoryStoreTest {
+
+    private TurnHistoryStore turnHistoryStore;
+
+    @BeforeEach
+    void setUp() {
+        this.turnHistoryStore = new MainMemoryBasedTurnHistoryStore();
+        for (int i = 1; i <= 5; i++) {
+            turnHistoryStore.addTurnRecord(1, createTurnRecord(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Records should be returned page by page in order of the turns")
+    void getTurnRecords() {
+        assertThat(turnHistoryStore.getTurnRecords(1, 0, 2))
+                .extracting(PlayerTurnRecord::getTurnNumber)
+                .containsExactly(1, 2);
+        assertThat(turnHistoryStore.getTurnRecords(1, 4, 2))
+                .extracting(PlayerTurnRecord::getTurnNumber)
+                .containsExactly(5);
+        assertThat(turnHistoryStore.getTurnRecords(1, 10, 2)).isEmpty();
+        assertThat(turnHistoryStore.getNumberOfTurnRecords(1)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("A game without completed turns should have an empty history")
+    void getTurnRecords_unknownGame() {
+        assertThat(turnHistoryStore.getTurnRecords(2, 0, 10)).isEmpty();
+        assertThat(turnHistoryStore.getNumberOfTurnRecords(2)).isZero();
+    }
+
+    @Test
+    @DisplayName("A negative offset or limit should throw an exception")
+    void getTurnRecords_negativeOffset() {
+        assertThatThrownBy(() -> turnHistoryStore.getTurnRecords(1, -1, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> turnHistoryStore.getTurnRecords(1, 0, -2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Removing the history of a game should not affect other games")
+    void removeTurnRecords() {
+        turnHistoryStore.addTurnRecord(2, createTurnRecord(1));
+
+        turnHistoryStore.removeTurnRecords(1);
+
+        assertThat(turnHistoryStore.getNumberOfTurnRecords(1)).isZero();
+        assertThat(turnHistoryStore.getNumberOfTurnRecords(2)).isEqualTo(1);
+    }
+
+    private PlayerTurnRecord createTurnRecord(final int turnNumber) {
+        return new PlayerTurnRecord(turnNumber, "player" + turnNumber, "role", List.of("CarAction"), List.of("Bremen"));
+    }
+}
@@ -45,6 +45,18 @@ class MainMemoryBasedLobbyStoreTest {
         assertThatThrownBy(() -> lobbyStore.addLobby(defaultLobby)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    @DisplayName("A restored lobby keeps its id, so new lobbies get other ids")
+    void restoreLobby() {
+        defaultLobby.setId(1);
+        lobbyStore.restoreLobby(defaultLobby);
+        lobbyStore.addLobby(defaultLobby2);
+
+        assertThat(lobbyStore.getLobby(1)).contains(defaultLobby);
+        assertThat(defaultLobby2.getId()).isNotEqualTo(1);
+        assertThatThrownBy(() -> lobbyStore.restoreLobby(defaultLobby)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("Remove an existing lobby successfully")
     void removeLobby() {
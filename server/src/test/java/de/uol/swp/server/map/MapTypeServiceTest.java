@@ -1,8 +1,13 @@
 package de.uol.swp.server.map;
 
+import de.uol.swp.common.map.MapTypeCache;
+import de.uol.swp.common.map.MapTypeDefinition;
 import de.uol.swp.common.map.request.RetrieveOriginalGameMapTypeRequest;
+import de.uol.swp.common.map.response.MapTypeDefinitionsResponse;
 import de.uol.swp.common.map.response.RetrieveOriginalGameMapTypeResponse;
+import de.uol.swp.common.user.UserDTO;
 import de.uol.swp.server.EventBusBasedTest;
+import de.uol.swp.server.message.ClientAuthorizedMessage;
 import org.greenrobot.eventbus.EventBus;
 import org.greenrobot.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,10 +32,28 @@ public class MapTypeServiceTest extends EventBusBasedTest {
 
         assertThat(this.event)
                 .isInstanceOf(RetrieveOriginalGameMapTypeResponse.class);
+        assertThat(((RetrieveOriginalGameMapTypeResponse) this.event).getMapType())
+                .isSameAs(MapTypeCache.getDefault().get(OriginalGameMapType.getMapType().getContentHash()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should send the definitions of all map types to a client that logged in")
+    void onClientAuthorizedMessageTest() throws InterruptedException {
+        postAndWait(new ClientAuthorizedMessage(new UserDTO("user", "password", "user@mail.com")));
+
+        assertThat(this.event).isInstanceOf(MapTypeDefinitionsResponse.class);
+        assertThat(((MapTypeDefinitionsResponse) this.event).getDefinitions())
+                .extracting(MapTypeDefinition::getContentHash)
+                .contains(OriginalGameMapType.getMapType().getContentHash());
     }
 
     @Subscribe
     public void onEvent(RetrieveOriginalGameMapTypeResponse retrieveOriginalGameMapTypeResponse) {
         handleEvent(retrieveOriginalGameMapTypeResponse);
     }
+
+    @Subscribe
+    public void onEvent(MapTypeDefinitionsResponse mapTypeDefinitionsResponse) {
+        handleEvent(mapTypeDefinitionsResponse);
+    }
 }
@@ -19,7 +19,9 @@ import de.uol.swp.common.triggerable.request.TriggerableRequest;
 import de.uol.swp.common.triggerable.server_message.TriggerableServerMessage;
 import de.uol.swp.common.user.Session;
 import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.common.util.GameRandom;
 import de.uol.swp.server.EventBusBasedTest;
+import de.uol.swp.server.game.GameExecutor;
 import de.uol.swp.server.game.GameService;
 import org.greenrobot.eventbus.EventBus;
 import org.greenrobot.eventbus.Subscribe;
@@ -50,7 +52,7 @@ public class AIPlayerServiceTest extends EventBusBasedTest {
         gameService = mock(GameService.class);
         final EventBus eventBus = getBus();
 
-        aiPlayerService = new AIPlayerService(eventBus, gameService);
+        aiPlayerService = new AIPlayerService(eventBus, gameService, new GameExecutor(Runnable::run));
     }
 
     @Test
@@ -97,6 +99,7 @@ public class AIPlayerServiceTest extends EventBusBasedTest {
 
         when(aiPlayer.getCurrentField()).thenReturn(currentField);
         when(currentField.getNeighborFields()).thenReturn(List.of(targetField));
+        when(game.getAiRandom()).thenReturn(new GameRandom(1));
 
         aiPlayerService.handleAIPlayerActionPhase(game, aiPlayer);
 
@@ -231,6 +234,7 @@ public class AIPlayerServiceTest extends EventBusBasedTest {
         when(game.getCurrentPlayer()).thenReturn(aiPlayer);
         when(playerTurn.getPlayer()).thenReturn(aiPlayer);
         when(aiPlayer.getHandCards()).thenReturn(List.of(card));
+        when(game.getAiRandom()).thenReturn(new GameRandom(1));
 
         ReleaseToDiscardPlayerCardResponse message = new ReleaseToDiscardPlayerCardResponse(game);
         post(message);
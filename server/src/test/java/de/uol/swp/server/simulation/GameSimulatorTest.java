@@ -0,0 +1,151 @@
+package de.uol.swp.server.simulation;
+
+import de.uol.swp.common.action.Action;
+import de.uol.swp.common.card.PlayerCard;
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.game.turn.PlayerTurn;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.marker.AntidoteMarker;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.Player;
+import de.uol.swp.common.util.GameRandom;
+import de.uol.swp.server.map.OriginalGameMapType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameSimulatorTest {
+    private GameSimulator gameSimulator;
+
+    @BeforeEach
+    void setUp() {
+        gameSimulator = GameSimulator.forOriginalMap(4, GameDifficulty.getDefault());
+    }
+
+    @Test
+    @DisplayName("A simulated game should end with a result and the matching game end reason")
+    void simulate_singleGame() {
+        final SimulationResult result = gameSimulator.simulate(42L);
+
+        assertThat(result.getSeed()).isEqualTo(42L);
+        assertThat(result.isWon() || result.isLost()).isTrue();
+        assertThat(result.isWon()).isNotEqualTo(result.isLost());
+        assertThat(result.getEndReason()).isNotNull();
+        assertThat(result.getNumberOfTurns()).isPositive();
+    }
+
+    @Test
+    @DisplayName("A batch of simulated games should be counted consistently in the report")
+    void simulate_batch() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final SimulationReport report = gameSimulator.simulate(20, 7L, pool);
+
+            assertThat(report.getNumberOfGames()).isEqualTo(20);
+            assertThat(report.getNumberOfWonGames() + report.getNumberOfLostGames()).isEqualTo(20L);
+            assertThat(report.getNumberOfGamesPerEndReason().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(20L);
+            assertThat(report.getResults())
+                    .extracting(SimulationResult::getSeed)
+                    .doesNotHaveDuplicates();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("The seeds of the games of a batch should only depend on the seed of the batch")
+    void simulate_batchSeeds() {
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            final SimulationReport first = gameSimulator.simulate(5, 7L);
+            final SimulationReport second = gameSimulator.simulate(5, 7L, pool);
+
+            assertThat(first.getResults())
+                    .extracting(SimulationResult::getSeed)
+                    .containsExactlyElementsOf(second.getResults().stream().map(SimulationResult::getSeed).toList());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Two games with the same seed should be played the same way")
+    void simulate_sameSeed() {
+        final SimulationResult first = gameSimulator.simulate(1234L);
+        final SimulationResult second = gameSimulator.simulate(1234L);
+
+        assertThat(second.isWon()).isEqualTo(first.isWon());
+        assertThat(second.getNumberOfTurns()).isEqualTo(first.getNumberOfTurns());
+        assertThat(second.getEndReason()).isEqualTo(first.getEndReason());
+    }
+
+    @Test
+    @DisplayName("The board aggregates of a game should match full scans of the board during randomized simulated games")
+    void simulate_boardAggregatesMatchFullScans() {
+        final MapType mapType = OriginalGameMapType.getMapType();
+        final AggregateCheckingStrategy strategy = new AggregateCheckingStrategy(new RandomSimulationStrategy());
+        final GameSimulator checkingSimulator = new GameSimulator(
+                mapType,
+                new ArrayList<>(mapType.getUniquePlagues()),
+                GameDifficulty.getDefault(),
+                4,
+                strategy,
+                GameSimulator.DEFAULT_MAX_NUMBER_OF_TURNS
+        );
+
+        for (long seed = 0; seed < 10; seed++) {
+            checkingSimulator.simulate(seed);
+        }
+
+        assertThat(strategy.numberOfChecks).isPositive();
+    }
+
+    /**
+     * Strategy that compares the aggregates of the game against full scans of the board before every action
+     */
+    private static class AggregateCheckingStrategy implements SimulationStrategy {
+        private final SimulationStrategy strategy;
+        private int numberOfChecks;
+
+        private AggregateCheckingStrategy(final SimulationStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        @Override
+        public Action chooseAction(final PlayerTurn playerTurn, final GameRandom random) {
+            final Action action = strategy.chooseAction(playerTurn, random);
+            if (action != null && action.getGame() != null) {
+                checkAggregates(action.getGame());
+            }
+            return action;
+        }
+
+        @Override
+        public PlayerCard chooseHandCardToDiscard(final Player player, final GameRandom random) {
+            return strategy.chooseHandCardToDiscard(player, random);
+        }
+
+        private void checkAggregates(final Game game) {
+            for (final Plague plague : game.getPlagueCubes().getPlagues()) {
+                final int sumOverFields = game.getFields().stream()
+                        .mapToInt(field -> field.getNumberOfPlagueCubes(plague))
+                        .sum();
+                final boolean hasAntidoteMarker = game.getAntidoteMarkers().stream()
+                        .map(AntidoteMarker::getPlague)
+                        .anyMatch(plague::equals);
+
+                assertThat(game.getNumberOfPlagueCubesOnBoard(plague)).isEqualTo(sumOverFields);
+                assertThat(game.hasAntidoteMarkerForPlague(plague)).isEqualTo(hasAntidoteMarker);
+            }
+            assertThat(game.hasAntidoteMarkersForAllPlagues())
+                    .isEqualTo(game.getPlagues().stream().allMatch(game::hasAntidoteMarkerForPlague));
+            numberOfChecks++;
+        }
+    }
+}
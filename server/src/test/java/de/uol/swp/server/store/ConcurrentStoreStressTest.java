@@ -0,0 +1,157 @@
+package de.uol.swp.server.store;
+
+import de.uol.swp.common.game.Game;
+import de.uol.swp.common.game.GameDifficulty;
+import de.uol.swp.common.lobby.Lobby;
+import de.uol.swp.common.lobby.LobbyDTO;
+import de.uol.swp.common.map.MapType;
+import de.uol.swp.common.plague.Plague;
+import de.uol.swp.common.player.UserPlayer;
+import de.uol.swp.common.user.User;
+import de.uol.swp.common.user.UserDTO;
+import de.uol.swp.server.chat.store.MainMemoryBasedChatStore;
+import de.uol.swp.server.game.store.MainMemoryBasedGameStore;
+import de.uol.swp.server.lobby.store.MainMemoryBasedLobbyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import static de.uol.swp.server.util.TestUtils.createMapType;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ConcurrentStoreStressTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 1000;
+
+    private final User user = new UserDTO("user", "password", "user@mail.com");
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Lobbies added concurrently should all get different ids and none should be lost")
+    void addLobby_concurrently() throws Exception {
+        final MainMemoryBasedLobbyStore lobbyStore = new MainMemoryBasedLobbyStore();
+        final List<List<Lobby>> lobbiesPerThread = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            final List<Lobby> lobbies = new ArrayList<>();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                lobbies.add(new LobbyDTO("lobby" + thread + "-" + i, user));
+            }
+            lobbiesPerThread.add(lobbies);
+        }
+
+        runConcurrently(thread -> lobbiesPerThread.get(thread).forEach(lobbyStore::addLobby));
+
+        final List<Lobby> allLobbies = lobbyStore.getAllLobbies();
+        assertThat(allLobbies).hasSize(THREADS * OPERATIONS_PER_THREAD);
+        assertThat(allLobbies)
+                .extracting(Lobby::getId)
+                .doesNotHaveDuplicates();
+        for (final List<Lobby> lobbies : lobbiesPerThread) {
+            for (final Lobby lobby : lobbies) {
+                assertThat(lobbyStore.getLobby(lobby.getId())).containsSame(lobby);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Games added, updated and removed concurrently should neither collide nor be lost")
+    void addUpdateAndRemoveGame_concurrently() throws Exception {
+        final MainMemoryBasedGameStore gameStore = new MainMemoryBasedGameStore();
+        final int gamesPerThread = 20;
+        final List<List<Game>> gamesPerThreadList = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            final List<Game> games = new ArrayList<>();
+            for (int i = 0; i < gamesPerThread; i++) {
+                games.add(createGame());
+            }
+            gamesPerThreadList.add(games);
+        }
+
+        runConcurrently(thread -> {
+            for (final Game game : gamesPerThreadList.get(thread)) {
+                gameStore.addGame(game);
+                gameStore.updateGame(game);
+            }
+        });
+
+        assertThat(gameStore.getAllGames()).hasSize(THREADS * gamesPerThread);
+        assertThat(gameStore.getIds()).hasSize(THREADS * gamesPerThread);
+
+        runConcurrently(thread -> gamesPerThreadList.get(thread).forEach(gameStore::removeGame));
+
+        assertThat(gameStore.getAllGames()).isEmpty();
+        final Game removedGame = gamesPerThreadList.get(0).get(0);
+        assertThatThrownBy(() -> gameStore.updateGame(removedGame)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Chat messages added concurrently should not be lost")
+    void addChatMessage_concurrently() throws Exception {
+        final MainMemoryBasedChatStore chatStore = new MainMemoryBasedChatStore();
+        final Lobby lobby = new LobbyDTO("lobby", user);
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                chatStore.addChatMessage(thread + ": " + i);
+                chatStore.addLobbyChatMessage(lobby, thread + ": " + i);
+            }
+        });
+
+        assertThat(chatStore.getChatMessages()).hasSize(THREADS * OPERATIONS_PER_THREAD);
+        assertThat(chatStore.getLobbyChatMessages(lobby)).hasSize(THREADS * OPERATIONS_PER_THREAD);
+    }
+
+    /**
+     * Runs the given operation on all threads at once and waits for all of them to finish.
+     * Exceptions and failed assertions of the threads are rethrown.
+     *
+     * @param operation operation that gets the index of its thread
+     */
+    private void runConcurrently(final IntConsumer operation) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            final int threadIndex = thread;
+            futures.add(pool.submit(() -> {
+                start.await();
+                operation.accept(threadIndex);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private Game createGame() {
+        final Lobby lobby = new LobbyDTO("gameLobby", user);
+        lobby.addPlayer(new UserPlayer(user));
+        lobby.addPlayer(new UserPlayer(new UserDTO("user2", "password", "user2@mail.com")));
+        final MapType mapType = createMapType();
+        final List<Plague> plagues = List.of(mock(Plague.class));
+        return new Game(lobby, mapType, new ArrayList<>(lobby.getPlayers()), plagues, GameDifficulty.getDefault());
+    }
+}
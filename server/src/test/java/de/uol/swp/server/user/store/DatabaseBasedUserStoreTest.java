@@ -7,13 +7,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 class DatabaseBasedUserStoreTest {
@@ -21,12 +26,20 @@ class DatabaseBasedUserStoreTest {
     private DatabaseBasedUserStore userStore;
     private ResultSet resultSet;
     private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement statement;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws SQLException {
         dataSource = mock(DataSource.class);
-        userStore = new DatabaseBasedUserStore();
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
         resultSet = mock(ResultSet.class);
+        when(dataSource.withConnection(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, DataSource.ConnectionWork.class).execute(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        userStore = new DatabaseBasedUserStore();
         userStore.setDataSource(dataSource);
 
     }
@@ -37,7 +50,6 @@ class DatabaseBasedUserStoreTest {
         String username = "test";
         String password = "test";
 
-        when(dataSource.getResultSet(anyString())).thenReturn(Optional.of(resultSet));
         when(resultSet.next()).thenReturn(true);
         when(resultSet.getString("username")).thenReturn(username);
         when(resultSet.getString("password")).thenReturn(password);
@@ -47,6 +59,9 @@ class DatabaseBasedUserStoreTest {
 
         assertThat(user).isPresent();
         assertThat(user.get().getUsername()).isEqualTo(username);
+        assertThat(user.get().getPassword()).isEmpty();
+        verify(statement).setString(1, username);
+        verify(statement).setString(2, password);
     }
 
     @Test
@@ -55,7 +70,6 @@ class DatabaseBasedUserStoreTest {
         String username = "test";
         String password = "test";
 
-        when(dataSource.getResultSet(anyString())).thenReturn(Optional.of(resultSet));
         when(resultSet.next()).thenReturn(true);
         when(resultSet.getString("username")).thenReturn(username);
         when(resultSet.getString("password")).thenReturn(password);
@@ -65,6 +79,82 @@ class DatabaseBasedUserStoreTest {
 
         assertThat(user).isPresent();
         assertThat(user.get().getUsername()).isEqualTo(username);
+        verify(statement).setString(1, username);
+    }
+
+    @Test
+    @DisplayName("A user that was found once is found again without querying the database")
+    void findUserCached() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString("username")).thenReturn("test");
+        when(resultSet.getString("password")).thenReturn("hash");
+        when(resultSet.getString("email")).thenReturn("test@example.com");
+
+        userStore.findUser("test");
+        Optional<User> user = userStore.findUser("test");
+        Optional<User> loggedInUser = userStore.findUser("test", "hash");
+
+        assertThat(user).isPresent();
+        assertThat(loggedInUser).isPresent();
+        verify(statement, times(1)).executeQuery();
+    }
+
+    @Test
+    @DisplayName("A cached user with another password is looked up in the database")
+    void findUserWithOtherPassword() throws SQLException {
+        userStore.createUser("test", "hash", "test@example.com");
+        when(resultSet.next()).thenReturn(false);
+
+        Optional<User> user = userStore.findUser("test", "wrong");
+
+        assertThat(user).isEmpty();
+        verify(statement).executeQuery();
+    }
+
+    @Test
+    @DisplayName("A user read before a concurrent update does not replace the updated user in the cache")
+    void findUserDuringUpdate() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString("username")).thenReturn("test");
+        when(resultSet.getString("password")).thenReturn("old");
+        when(resultSet.getString("email")).thenReturn("old@example.com");
+        when(statement.executeUpdate()).thenReturn(1);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            userStore.updateUser("test", "new", "new@example.com");
+            return resultSet;
+        });
+
+        userStore.findUser("test");
+
+        assertThat(userStore.findUser("test").map(User::getEMail)).contains("new@example.com");
+        assertThat(userStore.findUser("test", "new")).isPresent();
+        verify(statement, times(1)).executeQuery();
+    }
+
+    @Test
+    @DisplayName("A user read before a concurrent removal is not cached")
+    void findUserDuringRemoval() throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("username")).thenReturn("test");
+        when(resultSet.getString("password")).thenReturn("test");
+        when(resultSet.getString("email")).thenReturn("test@example.com");
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            userStore.removeUser("test");
+            return resultSet;
+        });
+
+        userStore.findUser("test");
+
+        assertThat(userStore.findUser("test")).isEmpty();
+        verify(statement, times(2)).executeQuery();
+    }
+
+    @Test
+    @DisplayName("A user that does not exist is not found")
+    void findUnknownUser() throws SQLException {
+        when(resultSet.next()).thenReturn(false);
+
+        assertThat(userStore.findUser("unknown")).isEmpty();
     }
 
     @Test
@@ -74,19 +164,28 @@ class DatabaseBasedUserStoreTest {
         String password = "test";
         String email = "test@example.com";
 
-
-        doNothing().when(dataSource).executeQuery(anyString());
-        when(dataSource.getResultSet(anyString())).thenReturn(Optional.of(resultSet));
-        when(resultSet.next()).thenReturn(true);
-        when(resultSet.getString("username")).thenReturn(username);
-        when(resultSet.getString("password")).thenReturn(password);
-        when(resultSet.getString("email")).thenReturn(email);
+        when(statement.executeUpdate()).thenReturn(1);
 
         User user = userStore.createUser(username, password, email);
 
-        verify(dataSource, times(1)).executeQuery(anyString());
+        verify(connection).prepareStatement(startsWith("INSERT"));
+        verify(statement, never()).executeQuery();
         assertThat(user).isNotNull();
         assertThat(user.getUsername()).isEqualTo(username);
+        assertThat(user.getEMail()).isEqualTo(email);
+        assertThat(userStore.findUser(username, password)).contains(user);
+        verify(statement, never()).executeQuery();
+    }
+
+    @Test
+    @DisplayName("A user that cannot be created is not cached")
+    void createUserFails() throws SQLException {
+        when(statement.executeUpdate()).thenThrow(new SQLException("duplicate"));
+
+        assertThatThrownBy(() -> userStore.createUser("test", "test", "test@example.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+        when(resultSet.next()).thenReturn(false);
+        assertThat(userStore.findUser("test")).isEmpty();
     }
 
     @Test
@@ -96,18 +195,26 @@ class DatabaseBasedUserStoreTest {
         String password = "test";
         String email = "test@example.com";
 
-        doNothing().when(dataSource).executeQuery(anyString());
-        when(dataSource.getResultSet(anyString())).thenReturn(Optional.of(resultSet));
-        when(resultSet.next()).thenReturn(true);
-        when(resultSet.getString("username")).thenReturn(username);
-        when(resultSet.getString("password")).thenReturn(password);
-        when(resultSet.getString("email")).thenReturn(email);
+        userStore.createUser(username, "old", "old@example.com");
+        when(statement.executeUpdate()).thenReturn(1);
 
         User user = userStore.updateUser(username, password, email);
 
-        verify(dataSource, times(1)).executeQuery(anyString());
+        verify(connection).prepareStatement(startsWith("UPDATE"));
+        verify(statement, never()).executeQuery();
         assertThat(user).isNotNull();
         assertThat(user.getUsername()).isEqualTo(username);
+        assertThat(userStore.findUser(username).map(User::getEMail)).contains(email);
+        assertThat(userStore.findUser(username, password)).isPresent();
+        verify(statement, never()).executeQuery();
+    }
+
+    @Test
+    @DisplayName("Updating a user that does not exist returns null")
+    void updateUnknownUser() throws SQLException {
+        when(statement.executeUpdate()).thenReturn(0);
+
+        assertThat(userStore.updateUser("unknown", "test", "test@example.com")).isNull();
     }
 
     @Test
@@ -115,12 +222,14 @@ class DatabaseBasedUserStoreTest {
     void removeUser() throws SQLException {
         String username = "test";
 
-        doNothing().when(dataSource).executeQuery(anyString());
-
+        userStore.createUser(username, "test", "test@example.com");
+        clearInvocations(statement);
         userStore.removeUser(username);
 
-        verify(dataSource, times(1)).executeQuery(anyString());
-
+        verify(connection).prepareStatement(startsWith("DELETE"));
+        verify(statement).setString(1, username);
+        when(resultSet.next()).thenReturn(false);
+        assertThat(userStore.findUser(username)).isEmpty();
     }
 
     @Test
@@ -131,7 +240,6 @@ class DatabaseBasedUserStoreTest {
         String email = "test@example.com";
         User user = new UserDTO(username, password, email);
 
-        when(dataSource.getResultSet(anyString())).thenReturn(Optional.of(resultSet));
         when(resultSet.next()).thenReturn(true).thenReturn(false);
         when(resultSet.getString("username")).thenReturn(username);
         when(resultSet.getString("password")).thenReturn(password);
@@ -141,4 +249,4 @@ class DatabaseBasedUserStoreTest {
         assertThat(userList).contains(user);
 
     }
-}
\ No newline at end of file
+}
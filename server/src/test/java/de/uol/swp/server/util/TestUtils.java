@@ -64,6 +64,7 @@ public class TestUtils {
                                               final int numberOfActionsToDo,
                                               final int numberOfPlayerCardsToDraw,
                                               final int numberOfInfectionCardsToDraw) {
+        initializePlayerTurn();
         try (MockedConstruction<ActionFactory> mockActionFactory = Mockito.mockConstruction(ActionFactory.class, (mock, context) -> {
             when(mock.createAllGeneralActionsExcludingSomeAndIncludingSomeRoleActions(any(), any()))
                     .thenReturn(List.of());
@@ -71,4 +72,16 @@ public class TestUtils {
             return new PlayerTurn(game, player, numberOfActionsToDo, numberOfPlayerCardsToDraw, numberOfInfectionCardsToDraw);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Initializes {@link PlayerTurn} outside of a mocked construction of {@link ActionFactory},
+     * so that its static {@link ActionFactory} is never a mock, no matter which test runs first
+     */
+    private static void initializePlayerTurn() {
+        try {
+            Class.forName(PlayerTurn.class.getName(), true, PlayerTurn.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}